@@ -0,0 +1,40 @@
+package co.edu.uniandes.dse.asesorando.config;
+
+import java.net.URI;
+import java.util.UUID;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.ehcache.xml.XmlConfiguration;
+
+import lombok.experimental.Delegate;
+
+/**
+ * CacheManager JCache que usa Hibernate para la caché de segundo nivel. Las
+ * regiones y sus límites se definen en ehcache.xml.
+ *
+ * Hibernate crea una instancia por SessionFactory (propiedad
+ * hibernate.javax.cache.cache_manager) y la cierra junto con ella. Cada
+ * instancia se registra con una URI propia, de modo que dos contextos de
+ * Spring en la misma JVM (por ejemplo, en las pruebas) no comparten entradas
+ * ni se cierran la caché entre sí.
+ *
+ * @author Daniel-VergaraM
+ */
+public class CatalogoCacheManager implements CacheManager {
+
+    private static final String CONFIGURACION = "/ehcache.xml";
+
+    @Delegate
+    private final CacheManager delegado;
+
+    public CatalogoCacheManager() {
+        EhcacheCachingProvider proveedor = (EhcacheCachingProvider) Caching
+                .getCachingProvider(EhcacheCachingProvider.class.getName());
+        XmlConfiguration configuracion = new XmlConfiguration(getClass().getResource(CONFIGURACION),
+                getClass().getClassLoader());
+        delegado = proveedor.getCacheManager(URI.create("urn:asesorando:" + UUID.randomUUID()), configuracion);
+    }
+}
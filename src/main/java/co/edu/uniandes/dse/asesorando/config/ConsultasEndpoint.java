@@ -0,0 +1,38 @@
+package co.edu.uniandes.dse.asesorando.config;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import co.edu.uniandes.dse.asesorando.config.FiltroConsultas.EstadisticasEndpoint;
+
+/**
+ * /actuator/consultas: sentencias SQL, entidades y colecciones cargadas por
+ * endpoint, empezando por los que tuvieron la solicitud con más sentencias.
+ * Un DELETE reinicia los conteos.
+ *
+ * @author Daniel-VergaraM
+ */
+@Component
+@Endpoint(id = "consultas")
+public class ConsultasEndpoint {
+
+    private final FiltroConsultas filtroConsultas;
+
+    public ConsultasEndpoint(FiltroConsultas filtroConsultas) {
+        this.filtroConsultas = filtroConsultas;
+    }
+
+    @ReadOperation
+    public List<EstadisticasEndpoint> estadisticas() {
+        return filtroConsultas.estadisticas();
+    }
+
+    @DeleteOperation
+    public void reiniciar() {
+        filtroConsultas.reiniciar();
+    }
+}
@@ -0,0 +1,125 @@
+package co.edu.uniandes.dse.asesorando.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Lo que hizo Hibernate durante la solicitud HTTP que atiende el hilo actual:
+ * sentencias SQL, entidades cargadas, cargas de colecciones perezosas (un
+ * lote que trae varias colecciones cuenta una vez) y cuántas veces se repitió
+ * cada forma de sentencia.
+ *
+ * La forma es la sentencia sin literales y con las listas IN de cualquier
+ * tamaño como una sola, así que las consultas de un N+1 (la misma consulta
+ * con otro id) cuentan como la misma forma.
+ *
+ * Lo inicia y lo termina FiltroConsultas; fuera de una solicitud no se cuenta
+ * nada.
+ *
+ * @author Daniel-VergaraM
+ */
+public final class ConsultasSolicitud {
+
+    private static final ThreadLocal<ConsultasSolicitud> ACTUAL = new ThreadLocal<>();
+
+    private static final Pattern LISTA_PARAMETROS = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)*\\s*\\)");
+
+    private static final Pattern LITERALES = Pattern.compile("'(?:[^']|'')*'|\\b\\d+(?:\\.\\d+)?\\b");
+
+    private static final Pattern ESPACIOS = Pattern.compile("\\s+");
+
+    private int sentencias;
+
+    private int entidades;
+
+    private int colecciones;
+
+    private final Map<String, Integer> formas = new HashMap<>();
+
+    // Solo se guardan las sentencias cuando se pide, para mostrarlas en las pruebas
+    private final List<String> ejecutadas;
+
+    private ConsultasSolicitud(boolean guardarSentencias) {
+        ejecutadas = guardarSentencias ? new ArrayList<>() : null;
+    }
+
+    static ConsultasSolicitud iniciar() {
+        return iniciar(false);
+    }
+
+    /**
+     * @param guardarSentencias si se guarda el texto de cada sentencia
+     */
+    static ConsultasSolicitud iniciar(boolean guardarSentencias) {
+        ConsultasSolicitud consultas = new ConsultasSolicitud(guardarSentencias);
+        ACTUAL.set(consultas);
+        return consultas;
+    }
+
+    static void terminar() {
+        ACTUAL.remove();
+    }
+
+    static void sentencia(String sql) {
+        ConsultasSolicitud consultas = ACTUAL.get();
+        if (consultas != null) {
+            consultas.sentencias++;
+            consultas.formas.merge(forma(sql), 1, Integer::sum);
+            if (consultas.ejecutadas != null) {
+                consultas.ejecutadas.add(sql);
+            }
+        }
+    }
+
+    static void entidadCargada() {
+        ConsultasSolicitud consultas = ACTUAL.get();
+        if (consultas != null) {
+            consultas.entidades++;
+        }
+    }
+
+    static void coleccionCargada() {
+        ConsultasSolicitud consultas = ACTUAL.get();
+        if (consultas != null) {
+            consultas.colecciones++;
+        }
+    }
+
+    static String forma(String sql) {
+        String forma = LITERALES.matcher(sql).replaceAll("?");
+        forma = LISTA_PARAMETROS.matcher(forma).replaceAll("(?)");
+        return ESPACIOS.matcher(forma).replaceAll(" ").strip();
+    }
+
+    /**
+     * @return las sentencias ejecutadas en orden, vacía si no se pidió
+     * guardarlas
+     */
+    List<String> ejecutadas() {
+        return ejecutadas == null ? List.of() : List.copyOf(ejecutadas);
+    }
+
+    /**
+     * @param uri dirección de la solicitud
+     * @return el resumen de lo contado hasta ahora
+     */
+    Resumen resumen(String uri) {
+        Map.Entry<String, Integer> masRepetida = formas.entrySet().stream()
+                .max(Map.Entry.comparingByValue()).orElse(null);
+        return new Resumen(uri, sentencias, entidades, colecciones,
+                masRepetida == null ? null : masRepetida.getKey(),
+                masRepetida == null ? 0 : masRepetida.getValue());
+    }
+
+    /**
+     * Conteos de una solicitud
+     *
+     * @param repeticiones veces que se ejecutó la forma más repetida
+     */
+    public record Resumen(String uri, int sentencias, int entidades, int colecciones, String formaMasRepetida,
+            int repeticiones) {
+    }
+}
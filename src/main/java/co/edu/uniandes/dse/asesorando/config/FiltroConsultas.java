@@ -0,0 +1,141 @@
+package co.edu.uniandes.dse.asesorando.config;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import co.edu.uniandes.dse.asesorando.config.ConsultasSolicitud.Resumen;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cuenta las sentencias SQL, entidades cargadas y colecciones inicializadas
+ * de cada solicitud HTTP, incluidas las que se cargan al escribir la respuesta
+ * con open-in-view, y las acumula por endpoint (método y ruta del
+ * controlador). Las solicitudes en las que una misma forma de sentencia se
+ * repite más de asesorando.consultas.umbral-repeticiones veces se marcan como
+ * posibles N+1 y se registran en el log.
+ *
+ * El resumen se consulta en /actuator/consultas (ver ConsultasEndpoint).
+ *
+ * @author Daniel-VergaraM
+ */
+@Slf4j
+@Component
+public class FiltroConsultas extends OncePerRequestFilter {
+
+    private static final String SIN_RUTA = "(sin controlador)";
+
+    private final int umbralRepeticiones;
+
+    private final Map<String, Acumulado> porEndpoint = new ConcurrentHashMap<>();
+
+    public FiltroConsultas(EntityManagerFactory entityManagerFactory,
+            @Value("${asesorando.consultas.umbral-repeticiones:10}") int umbralRepeticiones) {
+        this.umbralRepeticiones = umbralRepeticiones;
+        EventListenerRegistry registro = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registro.appendListeners(EventType.POST_LOAD,
+                (PostLoadEventListener) event -> ConsultasSolicitud.entidadCargada());
+        registro.appendListeners(EventType.INIT_COLLECTION,
+                (InitializeCollectionEventListener) event -> ConsultasSolicitud.coleccionCargada());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        ConsultasSolicitud consultas = ConsultasSolicitud.iniciar();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ConsultasSolicitud.terminar();
+            registrar(request, consultas.resumen(request.getRequestURI()));
+        }
+    }
+
+    private void registrar(HttpServletRequest request, Resumen resumen) {
+        Object ruta = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = request.getMethod() + " " + (ruta == null ? SIN_RUTA : ruta);
+        boolean marcada = resumen.repeticiones() > umbralRepeticiones;
+        if (marcada) {
+            log.warn("Posible N+1 en {}: la misma sentencia se ejecutó {} veces ({} en total): {}", endpoint,
+                    resumen.repeticiones(), resumen.sentencias(), resumen.formaMasRepetida());
+        }
+        porEndpoint.computeIfAbsent(endpoint, e -> new Acumulado()).agregar(resumen, marcada);
+    }
+
+    /**
+     * @return las estadísticas de cada endpoint, del que tuvo la solicitud con
+     * más sentencias al que tuvo la de menos
+     */
+    public List<EstadisticasEndpoint> estadisticas() {
+        return porEndpoint.entrySet().stream()
+                .map(entrada -> entrada.getValue().estadisticas(entrada.getKey()))
+                .sorted(Comparator.comparingInt((EstadisticasEndpoint e) -> e.peor().sentencias()).reversed())
+                .toList();
+    }
+
+    /**
+     * Olvida lo acumulado
+     */
+    public void reiniciar() {
+        porEndpoint.clear();
+    }
+
+    /**
+     * Lo acumulado de un endpoint
+     *
+     * @param marcadas solicitudes con una sentencia repetida más del umbral
+     * @param peor la solicitud con más sentencias
+     */
+    public record EstadisticasEndpoint(String endpoint, long solicitudes, double sentenciasPromedio,
+            double entidadesPromedio, double coleccionesPromedio, long marcadas, Resumen peor) {
+    }
+
+    private static final class Acumulado {
+
+        private long solicitudes;
+
+        private long sentencias;
+
+        private long entidades;
+
+        private long colecciones;
+
+        private long marcadas;
+
+        private Resumen peor;
+
+        synchronized void agregar(Resumen resumen, boolean marcada) {
+            solicitudes++;
+            sentencias += resumen.sentencias();
+            entidades += resumen.entidades();
+            colecciones += resumen.colecciones();
+            marcadas += marcada ? 1 : 0;
+            if (peor == null || resumen.sentencias() > peor.sentencias()) {
+                peor = resumen;
+            }
+        }
+
+        synchronized EstadisticasEndpoint estadisticas(String endpoint) {
+            return new EstadisticasEndpoint(endpoint, solicitudes, (double) sentencias / solicitudes,
+                    (double) entidades / solicitudes, (double) colecciones / solicitudes, marcadas, peor);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package co.edu.uniandes.dse.asesorando.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Cuenta cada sentencia SQL que prepara Hibernate en la solicitud actual (ver
+ * ConsultasSolicitud). No modifica la sentencia.
+ *
+ * Se registra con la propiedad hibernate.session_factory.statement_inspector.
+ *
+ * @author Daniel-VergaraM
+ */
+public class InspectorConsultas implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        ConsultasSolicitud.sentencia(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,123 @@
+package co.edu.uniandes.dse.asesorando.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+
+/**
+ * Mantiene al día la caché de TematicaEntity.profesores.
+ *
+ * La relación profesor-temática la escribe ProfesorEntity.tematicas; el lado
+ * de la temática es inverso y Hibernate no invalida su caché cuando solo
+ * cambia el otro lado (agregar una temática a un profesor, reemplazar sus
+ * temáticas o eliminar al profesor). Este listener saca de la caché las
+ * colecciones de las temáticas afectadas al escribir la relación y otra vez
+ * al terminar la transacción, para que una lectura concurrente no deje
+ * guardada la versión anterior.
+ *
+ * Se registra con la propiedad hibernate.integrator_provider.
+ *
+ * @author Daniel-VergaraM
+ */
+public class InvalidadorCacheTematicas implements IntegratorProvider, Integrator,
+        PostCollectionRecreateEventListener, PostCollectionUpdateEventListener, PostCollectionRemoveEventListener {
+
+    private static final String ROL_TEMATICAS = ProfesorEntity.class.getName() + ".tematicas";
+
+    private static final String ROL_PROFESORES = TematicaEntity.class.getName() + ".profesores";
+
+    @Override
+    public List<Integrator> getIntegrators() {
+        return List.of(this);
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+            SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry registro = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registro.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registro.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registro.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // Los listeners se descartan junto con la SessionFactory
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        invalidar(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        invalidar(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        invalidar(event);
+    }
+
+    private void invalidar(AbstractCollectionEvent event) {
+        PersistentCollection<?> coleccion = event.getCollection();
+        if (!ROL_TEMATICAS.equals(coleccion.getRole())) {
+            return;
+        }
+        CacheImplementor cache = event.getSession().getFactory().getCache();
+        Set<Long> tematicas = tematicasAfectadas(coleccion);
+        Runnable desalojar = tematicas == null
+                ? () -> cache.evictCollectionData(ROL_PROFESORES)
+                : () -> tematicas.forEach(id -> cache.evictCollectionData(ROL_PROFESORES, id));
+        desalojar.run();
+        event.getSession().getActionQueue().registerProcess((exito, sesion) -> desalojar.run());
+    }
+
+    /**
+     * Ids de las temáticas que estaban o quedaron en la colección, o null si
+     * la colección no se llegó a cargar y no se sabe cuáles eran.
+     */
+    private Set<Long> tematicasAfectadas(PersistentCollection<?> coleccion) {
+        if (!coleccion.wasInitialized()) {
+            return null;
+        }
+        Set<Long> ids = new HashSet<>();
+        agregarIds(ids, (Collection<?>) coleccion);
+        if (coleccion.getStoredSnapshot() instanceof Collection<?> anterior) {
+            agregarIds(ids, anterior);
+        }
+        return ids;
+    }
+
+    private static void agregarIds(Set<Long> ids, Collection<?> tematicas) {
+        for (Object tematica : new ArrayList<>(tematicas)) {
+            if (tematica instanceof TematicaEntity entidad && entidad.getId() != null) {
+                ids.add(entidad.getId());
+            }
+        }
+    }
+}
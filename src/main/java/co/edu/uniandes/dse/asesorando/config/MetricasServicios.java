@@ -0,0 +1,106 @@
+package co.edu.uniandes.dse.asesorando.config;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Mide cada llamada a un método público de los servicios:
+ * <ul>
+ * <li>{@value #TIEMPOS}: duración, con etiquetas {@code class},
+ * {@code method} y {@code exception} ({@code none} si terminó bien)</li>
+ * <li>{@value #ERRORES}: llamadas que lanzaron una excepción, por tipo
+ * (EntityNotFoundException, IllegalOperationException, ...)</li>
+ * <li>{@value #RESULTADOS}: cuántos elementos devolvieron los métodos que
+ * retornan listas o páginas</li>
+ * </ul>
+ *
+ * Las llamadas a los repositorios las mide Spring Data
+ * ({@code spring.data.repository.invocations}). Los percentiles de ambas se
+ * configuran en application.properties y se publican como
+ * {@code {nombre}.percentile} con la etiqueta {@code phi}, por ejemplo
+ * /actuator/metrics/asesorando.servicios.percentile?tag=phi:0.95&tag=method:getProfesores
+ *
+ * Se aplica antes que los reintentos y la transacción, así que el tiempo
+ * incluye todos los intentos y la confirmación.
+ *
+ * @author Daniel-VergaraM
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class MetricasServicios {
+
+    public static final String TIEMPOS = "asesorando.servicios";
+
+    public static final String ERRORES = "asesorando.servicios.errores";
+
+    public static final String RESULTADOS = "asesorando.servicios.resultados";
+
+    private static final String SIN_EXCEPCION = "none";
+
+    private final MeterRegistry registro;
+
+    // Etiquetas class y method por método, para no armarlas en cada llamada
+    private final Map<String, Tags> etiquetas = new ConcurrentHashMap<>();
+
+    public MetricasServicios(MeterRegistry registro) {
+        this.registro = registro;
+    }
+
+    @Around("within(co.edu.uniandes.dse.asesorando.services..*) && execution(public * *(..))")
+    public Object medir(ProceedingJoinPoint llamada) throws Throwable {
+        Tags metodo = etiquetas.computeIfAbsent(llamada.getSignature().toLongString(), firma -> Tags.of(
+                "class", ClassUtils.getUserClass(llamada.getTarget()).getSimpleName(),
+                "method", llamada.getSignature().getName()));
+        Timer.Sample inicio = Timer.start(registro);
+        String excepcion = SIN_EXCEPCION;
+        try {
+            Object resultado = llamada.proceed();
+            long tamano = tamano(resultado);
+            if (tamano >= 0) {
+                DistributionSummary.builder(RESULTADOS).baseUnit("elementos").tags(metodo).register(registro)
+                        .record(tamano);
+            }
+            return resultado;
+        } catch (Throwable e) {
+            excepcion = e.getClass().getSimpleName();
+            Counter.builder(ERRORES).tags(metodo).tag("exception", excepcion).register(registro).increment();
+            throw e;
+        } finally {
+            inicio.stop(Timer.builder(TIEMPOS).tags(metodo).tag("exception", excepcion).register(registro));
+        }
+    }
+
+    /**
+     * @param resultado lo que devolvió el método
+     * @return el número de elementos, o -1 si no es una lista ni una página
+     */
+    private static long tamano(Object resultado) {
+        if (resultado instanceof Collection<?> coleccion) {
+            return coleccion.size();
+        }
+        if (resultado instanceof Map<?, ?> mapa) {
+            return mapa.size();
+        }
+        if (resultado instanceof Slice<?> pagina) {
+            return pagina.getNumberOfElements();
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,16 @@
+package co.edu.uniandes.dse.asesorando.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.annotation.EnableRetry;
+
+/**
+ * Activa los reintentos de los métodos marcados con
+ * ReintentarSiHayConflicto. El reintento envuelve a la transacción, así que
+ * cada intento corre en una transacción nueva.
+ *
+ * @author Daniel-VergaraM
+ */
+@Configuration
+@EnableRetry
+public class ReintentosConfig {
+}
@@ -0,0 +1,15 @@
+package co.edu.uniandes.dse.asesorando.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Activa los métodos marcados con Scheduled, como el recálculo nocturno de
+ * las calificaciones de los profesores.
+ *
+ * @author Daniel-VergaraM
+ */
+@Configuration
+@EnableScheduling
+public class TareasProgramadasConfig {
+}
@@ -26,8 +26,6 @@ package co.edu.uniandes.dse.asesorando.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
@@ -36,6 +34,7 @@ import co.edu.uniandes.dse.asesorando.dto.AsesoriaDetail;
 import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.mappers.DetalleMapper;
 import co.edu.uniandes.dse.asesorando.services.AsesoriaCalendarioService;
 
 /**
@@ -52,7 +51,7 @@ public class AsesoriaCalendarioController {
 
 
     @Autowired
-    private ModelMapper modelMapper;
+    private DetalleMapper detalleMapper;
 
     /**
      * Obtiene todas las asesorías asociadas a un calendario específico.
@@ -65,7 +64,7 @@ public class AsesoriaCalendarioController {
     @ResponseStatus(code = HttpStatus.OK)
     public List<AsesoriaDetail> listarAsesoriasDeCalendario(@PathVariable Long calendarioId) throws EntityNotFoundException {
         List<AsesoriaEntity> asesorias = asesoriaCalendarioService.getAsesoriasByCalendarioId(calendarioId);
-        return modelMapper.map(asesorias, new TypeToken<List<AsesoriaDetail>>() {}.getType());
+        return detalleMapper.toAsesoriaDetailList(asesorias);
     }
     
 
@@ -83,7 +82,7 @@ public class AsesoriaCalendarioController {
     public AsesoriaDetail crearAsesoriaEnCalendario(@PathVariable Long calendarioId, @PathVariable Long asesoriaId)
             throws EntityNotFoundException, IllegalOperationException {
         AsesoriaEntity asesorias = asesoriaCalendarioService.crearAsesoriaEnCalendario(calendarioId, asesoriaId);
-        return modelMapper.map(asesorias, AsesoriaDetail.class);
+        return detalleMapper.toAsesoriaDetail(asesorias);
     }
 
    /**
@@ -100,7 +99,7 @@ public class AsesoriaCalendarioController {
     @ResponseStatus(code = HttpStatus.OK)
     public AsesoriaDetail actualizarAsesoriaEnCalendario(@PathVariable Long calendarioId, @PathVariable Long asesoriaId) throws EntityNotFoundException, IllegalOperationException {
         AsesoriaEntity asesorias = asesoriaCalendarioService.updateAsesoriaInCalendario(calendarioId, asesoriaId);
-        return modelMapper.map(asesorias, AsesoriaDetail.class);
+        return detalleMapper.toAsesoriaDetail(asesorias);
     }
 
     /**
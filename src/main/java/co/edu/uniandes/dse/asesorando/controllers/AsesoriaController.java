@@ -28,9 +28,8 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -45,10 +44,12 @@ import org.springframework.web.bind.annotation.RestController;
 
 import co.edu.uniandes.dse.asesorando.dto.AsesoriaDTO;
 import co.edu.uniandes.dse.asesorando.dto.AsesoriaDetail;
-import co.edu.uniandes.dse.asesorando.dto.ProfesorDTO;
+import co.edu.uniandes.dse.asesorando.dto.PaginaDTO;
 import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.mappers.AsesoriaMapper;
+import co.edu.uniandes.dse.asesorando.mappers.DetalleMapper;
 import co.edu.uniandes.dse.asesorando.services.AsesoriaService;
 
 /**
@@ -64,7 +65,10 @@ public class AsesoriaController {
     private AsesoriaService asesoriaService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private AsesoriaMapper asesoriaMapper;
+
+    @Autowired
+    private DetalleMapper detalleMapper;
 
     /**
      * Busca y devuelve todas las asesorías registradas en la aplicación.
@@ -76,7 +80,23 @@ public class AsesoriaController {
     @ResponseStatus(code = HttpStatus.OK)
     public List<AsesoriaDTO> findAll() {
         List<AsesoriaEntity> asesorias = asesoriaService.getAllAsesorias();
-        return modelMapper.map(asesorias, new TypeToken<List<AsesoriaDTO>>() {}.getType());
+        return asesoriaMapper.toDtoList(asesorias);
+    }
+
+    /**
+     * Devuelve una página de asesorías ordenada por ID.
+     *
+     * @param cursor Cursor opaco devuelto como {@code next} por la página anterior.
+     * @param limit  Cantidad máxima de asesorías de la página.
+     * @return Página de asesorías con el cursor de la siguiente.
+     */
+    @GetMapping("/pagina")
+    @ResponseStatus(code = HttpStatus.OK)
+    public PaginaDTO<AsesoriaDTO> findPage(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Paginacion.LIMITE_POR_DEFECTO) int limit) throws IllegalOperationException {
+        Slice<AsesoriaEntity> asesorias = asesoriaService.getAsesorias(Paginacion.decodificarCursor(cursor),
+                Paginacion.validarLimite(limit));
+        return Paginacion.aPagina(asesorias, asesoriaMapper::toDto);
     }
 
     @GetMapping("/filtrar")
@@ -84,10 +104,13 @@ public class AsesoriaController {
     public List<AsesoriaDTO> filtrarAsesorias(
         @RequestParam(required = false) String area,
         @RequestParam(required = false) Long profesorId,
-        @RequestParam(required = false) String tipo) throws IllegalOperationException {
+        @RequestParam(required = false) String tipo,
+        @RequestParam(required = false) Boolean completada,
+        @RequestParam(required = false) String tematica,
+        @RequestParam(required = false) String duracion) throws IllegalOperationException {
 
-        List<AsesoriaEntity> asesorias = asesoriaService.filtrarAsesorias(profesorId, tipo, area);
-        return modelMapper.map(asesorias, new TypeToken<List<AsesoriaDTO>>() {}.getType());
+        List<AsesoriaEntity> asesorias = asesoriaService.filtrarAsesorias(profesorId, tipo, area, completada, tematica, duracion);
+        return asesoriaMapper.toDtoList(asesorias);
     }
 
 
@@ -101,7 +124,7 @@ public class AsesoriaController {
     @ResponseStatus(code = HttpStatus.OK)
     public AsesoriaDTO findOne(@PathVariable Long id) throws IllegalOperationException {
         AsesoriaEntity asesorias =  asesoriaService.getAsesoriaEntity(id);
-            return modelMapper.map(asesorias, AsesoriaDTO.class);
+            return asesoriaMapper.toDto(asesorias);
         }
     
 
@@ -116,7 +139,7 @@ public class AsesoriaController {
     @ResponseStatus(code = HttpStatus.OK)
     public List<AsesoriaDTO> findByArea(@PathVariable String area) throws IllegalOperationException {
         List<AsesoriaEntity> asesorias = asesoriaService.getAsesoriasByArea(area);
-        return modelMapper.map(asesorias, new TypeToken<List<AsesoriaDTO>>() {}.getType());
+        return asesoriaMapper.toDtoList(asesorias);
     }
 
         /**
@@ -134,7 +157,7 @@ public class AsesoriaController {
     }
 
     List<AsesoriaEntity> asesorias = asesoriaService.getAsesoriasByCompletada(estado, asesoriaId);
-    return modelMapper.map(Optional.ofNullable(asesorias).orElse(Collections.emptyList()), new TypeToken<List<AsesoriaDTO>>() {}.getType());
+    return asesoriaMapper.toDtoList(Optional.ofNullable(asesorias).orElse(Collections.emptyList()));
 }
 
     
@@ -148,12 +171,9 @@ public class AsesoriaController {
     @PostMapping
     @ResponseStatus(code = HttpStatus.CREATED)
 public AsesoriaDetail create(@RequestBody AsesoriaDTO asesoria) throws IllegalOperationException {
-    AsesoriaEntity entidad = modelMapper.map(asesoria, AsesoriaEntity.class);
+    AsesoriaEntity entidad = asesoriaMapper.toEntity(asesoria);
     AsesoriaEntity creada = asesoriaService.createAsesoria(entidad, asesoria.getProfesorId());
-    AsesoriaDetail detalle = modelMapper.map(creada, AsesoriaDetail.class);
-    ProfesorDTO profDto = modelMapper.map(creada.getProfesor(), ProfesorDTO.class);
-    detalle.getProfesor().add(profDto);
-    return detalle;
+    return detalleMapper.toAsesoriaDetail(creada);
 }
 
     /**
@@ -167,8 +187,8 @@ public AsesoriaDetail create(@RequestBody AsesoriaDTO asesoria) throws IllegalOp
     @ResponseStatus(code = HttpStatus.OK)
     public AsesoriaDTO update(@PathVariable Long id, @RequestBody AsesoriaDTO asesoria)
             throws EntityNotFoundException, IllegalOperationException {
-        AsesoriaEntity asesorias = asesoriaService.updateAsesoriaEntity(id, modelMapper.map(asesoria, AsesoriaEntity.class));
-        return modelMapper.map(asesorias, AsesoriaDTO.class);
+        AsesoriaEntity asesorias = asesoriaService.updateAsesoriaEntity(id, asesoriaMapper.toEntity(asesoria));
+        return asesoriaMapper.toDto(asesorias);
     }
 
     /**
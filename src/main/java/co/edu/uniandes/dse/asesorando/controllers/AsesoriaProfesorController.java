@@ -28,8 +28,6 @@ import java.util.List;
 
 import javax.validation.Valid;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -45,6 +43,7 @@ import org.springframework.web.bind.annotation.RestController;
 import co.edu.uniandes.dse.asesorando.dto.AsesoriaDetail;
 import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.mappers.DetalleMapper;
 import co.edu.uniandes.dse.asesorando.services.AsesoriaProfesorService;
 
 /**
@@ -59,7 +58,7 @@ public class AsesoriaProfesorController {
     @Autowired
     private AsesoriaProfesorService asesoriaProfesorService;
     @Autowired
-    private ModelMapper modelMapper;
+    private DetalleMapper detalleMapper;
 
     /**
      * Obtiene todas las asesorías de un profesor específico.
@@ -72,7 +71,7 @@ public class AsesoriaProfesorController {
     @ResponseStatus(code = HttpStatus.OK)
     public List<AsesoriaDetail> listarAsesoriasDeProfesor(@PathVariable Long profesorId) throws EntityNotFoundException {
         List<AsesoriaEntity> asesorias =asesoriaProfesorService.listarAsesoriasDeProfesor(profesorId);
-        return modelMapper.map(asesorias, new TypeToken<List<AsesoriaDetail>>() {}.getType());
+        return detalleMapper.toAsesoriaDetailList(asesorias);
         
     }
         
@@ -91,7 +90,7 @@ public class AsesoriaProfesorController {
     public AsesoriaDetail crearAsesoriaParaProfesor(@PathVariable Long profesorId, @Valid @RequestBody AsesoriaEntity asesoria)
             throws EntityNotFoundException {
         AsesoriaEntity asesorias = asesoriaProfesorService.crearAsesoriaParaProfesor(profesorId, asesoria.getId());
-        return modelMapper.map(asesorias, AsesoriaDetail.class);
+        return detalleMapper.toAsesoriaDetail(asesorias);
     }
 
     /**
@@ -108,7 +107,7 @@ public class AsesoriaProfesorController {
     public AsesoriaDetail actualizarAsesoriaDeProfesor(@PathVariable Long profesorId, @PathVariable Long asesoriaId,
             @Valid @RequestBody AsesoriaEntity asesoria) throws EntityNotFoundException {
         AsesoriaEntity asesorias = asesoriaProfesorService.actualizarAsesoriaDeProfesor(profesorId, asesoriaId, asesoria);
-        return modelMapper.map(asesorias, AsesoriaDetail.class);
+        return detalleMapper.toAsesoriaDetail(asesorias);
     }
 
     /**
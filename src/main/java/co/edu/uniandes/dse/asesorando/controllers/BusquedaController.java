@@ -0,0 +1,48 @@
+package co.edu.uniandes.dse.asesorando.controllers;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import co.edu.uniandes.dse.asesorando.dto.PaginaDTO;
+import co.edu.uniandes.dse.asesorando.dto.ResultadoBusquedaDTO;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.services.BusquedaService;
+import co.edu.uniandes.dse.asesorando.services.IndiceTexto.Resultado;
+
+@RestController
+@RequestMapping("/buscar")
+public class BusquedaController {
+
+    @Autowired
+    private BusquedaService busquedaService;
+
+    /**
+     * Busca texto libre, como "cálculo integral", en profesores, tematicas y
+     * asesorias. No distingue mayúsculas, tildes ni plurales regulares y
+     * ordena los resultados de más a menos relevante.
+     *
+     * @param q el texto a buscar.
+     * @param tipo PROFESOR, TEMATICA o ASESORIA para buscar solo entre ellos.
+     * @param cursor Cursor opaco devuelto como {@code next} por la página anterior.
+     * @param limit Cantidad máxima de resultados de la página.
+     * @return la página de resultados.
+     * @throws IllegalOperationException si la consulta está vacía o el tipo, el
+     * cursor o el límite no son válidos.
+     */
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public PaginaDTO<ResultadoBusquedaDTO> buscar(@RequestParam(required = false) String q,
+            @RequestParam(required = false) String tipo, @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Paginacion.LIMITE_POR_DEFECTO) int limit) throws IllegalOperationException {
+        int desde = Paginacion.decodificarPosicion(cursor);
+        Slice<Resultado> resultados = busquedaService.buscar(q, tipo, desde, Paginacion.validarLimite(limit));
+        return Paginacion.aPaginaPorPosicion(resultados, desde, resultado -> new ResultadoBusquedaDTO(
+                resultado.clave().tipo(), resultado.clave().id(), resultado.titulo(), resultado.puntaje()));
+    }
+}
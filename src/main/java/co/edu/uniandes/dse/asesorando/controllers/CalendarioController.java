@@ -2,8 +2,6 @@ package co.edu.uniandes.dse.asesorando.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,15 +11,24 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import co.edu.uniandes.dse.asesorando.dto.CalendarioDTO;
 import co.edu.uniandes.dse.asesorando.dto.CalendarioDetailDTO;
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
 import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.mappers.CalendarioMapper;
+import co.edu.uniandes.dse.asesorando.dto.CamposSolicitados;
+import co.edu.uniandes.dse.asesorando.mappers.DetalleMapper;
 import co.edu.uniandes.dse.asesorando.services.CalendarioService;
+import co.edu.uniandes.dse.asesorando.services.VersionesColecciones;
 
 @RestController
 @RequestMapping("/calendars")
@@ -31,21 +38,39 @@ public class CalendarioController {
     private CalendarioService calendarioService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private CalendarioMapper calendarioMapper;
+
+    @Autowired
+    private DetalleMapper detalleMapper;
+
+    @Autowired
+    private VersionesColecciones versionesColecciones;
 
     @GetMapping
     @ResponseStatus(code = HttpStatus.OK)
-    public List<CalendarioDetailDTO> findAll() {
-        List<CalendarioEntity> calendars = calendarioService.getCalendarios();
-        return modelMapper.map(calendars, new TypeToken<List<CalendarioDetailDTO>>() {
-        }.getType());
+    public List<CalendarioDetailDTO> findAll(@RequestParam(name = CamposSolicitados.PARAMETRO, required = false) String fields) {
+        CamposSolicitados campos = CamposSolicitados.de(fields);
+        List<CalendarioEntity> calendars = calendarioService.getCalendarios(campos);
+        return detalleMapper.toCalendarioDetailList(calendars, campos);
     }
 
+    /**
+     * El detalle incluye los profesores, asesorias y reservas del calendario,
+     * así que el ETag cambia cuando cambia cualquiera de ellos. Si coincide
+     * con If-None-Match responde 304 consultando solo las versiones. Con
+     * {@code fields} solo se cargan las colecciones pedidas.
+     */
     @GetMapping(value = "/{id}")
-    @ResponseStatus(code = HttpStatus.OK)
-    public CalendarioDetailDTO findOne(@PathVariable Long id) throws EntityNotFoundException {
-        CalendarioEntity calendarioEntity = calendarioService.getCalendario(id);
-        return modelMapper.map(calendarioEntity, CalendarioDetailDTO.class);
+    // Sin @ResponseStatus, que reemplazaría el 304 de checkNotModified
+    public CalendarioDetailDTO findOne(@PathVariable Long id, WebRequest request,
+            @RequestParam(name = CamposSolicitados.PARAMETRO, required = false) String fields) throws EntityNotFoundException {
+        if (request.checkNotModified(versionesColecciones.etag(CalendarioEntity.class, ProfesorEntity.class,
+                AsesoriaEntity.class, ReservaEntity.class))) {
+            return null;
+        }
+        CamposSolicitados campos = CamposSolicitados.de(fields);
+        CalendarioEntity calendarioEntity = calendarioService.getCalendario(id, campos);
+        return detalleMapper.toCalendarioDetail(calendarioEntity, campos);
 
     }
 
@@ -53,8 +78,8 @@ public class CalendarioController {
     @ResponseStatus(code = HttpStatus.CREATED)
     public CalendarioDTO create(@RequestBody CalendarioDTO calendarioDTO) throws IllegalOperationException {
         CalendarioEntity calendarioEntity = calendarioService
-                .createCalendario(modelMapper.map(calendarioDTO, CalendarioEntity.class));
-        return modelMapper.map(calendarioEntity, CalendarioDTO.class);
+                .createCalendario(calendarioMapper.toEntity(calendarioDTO));
+        return calendarioMapper.toDto(calendarioEntity);
     }
 
     @PutMapping(value = "/{id}")
@@ -62,8 +87,8 @@ public class CalendarioController {
     public CalendarioDTO update(@PathVariable Long id, @RequestBody CalendarioDTO calendarioDTO)
             throws IllegalOperationException {
         CalendarioEntity calendarioEntity = calendarioService
-                .updateCalendario(modelMapper.map(calendarioDTO, CalendarioEntity.class));
-        return modelMapper.map(calendarioEntity, CalendarioDTO.class);
+                .updateCalendario(calendarioMapper.toEntity(calendarioDTO));
+        return calendarioMapper.toDto(calendarioEntity);
     }
 
     @DeleteMapping(value = "/{id}")
@@ -77,8 +102,8 @@ public class CalendarioController {
     public CalendarioDetailDTO findByFechaInicio(@RequestBody CalendarioDTO calendarioDTO)
             throws IllegalOperationException {
         CalendarioEntity calendarioEntity = calendarioService
-                .getCalendarioByFechaInicio(modelMapper.map(calendarioDTO, CalendarioEntity.class).getFechaInicio());
-        return modelMapper.map(calendarioEntity, CalendarioDetailDTO.class);
+                .getCalendarioByFechaInicio(calendarioDTO.getFechaInicio());
+        return detalleMapper.toCalendarioDetail(calendarioEntity);
     }
 
     @PostMapping(value = "/fechaFin")
@@ -86,8 +111,8 @@ public class CalendarioController {
     public CalendarioDetailDTO findByFechaFin(@RequestBody CalendarioDTO calendarioDTO)
             throws IllegalOperationException {
         CalendarioEntity calendarioEntity = calendarioService
-                .getCalendarioByFechaFin(modelMapper.map(calendarioDTO, CalendarioEntity.class).getFechaFin());
-        return modelMapper.map(calendarioEntity, CalendarioDetailDTO.class);
+                .getCalendarioByFechaFin(calendarioDTO.getFechaFin());
+        return detalleMapper.toCalendarioDetail(calendarioEntity);
     }
 
     @GetMapping(value = "/fechaInicio/menor/{fechaInicio}")
@@ -95,9 +120,8 @@ public class CalendarioController {
     public List<CalendarioDetailDTO> findByFechaInicioLessThan(@RequestBody CalendarioDTO calendarioDTO)
             throws EntityNotFoundException {
         List<CalendarioEntity> calendars = calendarioService.getCalendarioByFechaInicioLessThan(
-                modelMapper.map(calendarioDTO, CalendarioEntity.class).getFechaInicio());
-        return modelMapper.map(calendars, new TypeToken<List<CalendarioDetailDTO>>() {
-        }.getType());
+                calendarioDTO.getFechaInicio());
+        return detalleMapper.toCalendarioDetailList(calendars);
     }
 
     @GetMapping(value = "/fechaInicio/entre/{fechaInicio}/{fechaFin}")
@@ -105,9 +129,7 @@ public class CalendarioController {
     public List<CalendarioDetailDTO> findByFechaInicioBetween(@RequestBody CalendarioDTO startDateDTO,
             @RequestBody CalendarioDTO calendarioDTO) throws EntityNotFoundException {
         List<CalendarioEntity> calendars = calendarioService.getCalendarioByFechaInicioBetween(
-                modelMapper.map(calendarioDTO, CalendarioEntity.class).getFechaInicio(),
-                modelMapper.map(calendarioDTO, CalendarioEntity.class).getFechaFin());
-        return modelMapper.map(calendars, new TypeToken<List<CalendarioDetailDTO>>() {
-        }.getType());
+                calendarioDTO.getFechaInicio(), calendarioDTO.getFechaFin());
+        return detalleMapper.toCalendarioDetailList(calendars);
     }
 }
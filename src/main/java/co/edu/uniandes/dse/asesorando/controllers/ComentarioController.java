@@ -2,9 +2,8 @@ package co.edu.uniandes.dse.asesorando.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -13,12 +12,16 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import co.edu.uniandes.dse.asesorando.dto.ComentarioDTO;
+import co.edu.uniandes.dse.asesorando.dto.PaginaDTO;
 import co.edu.uniandes.dse.asesorando.entities.ComentarioEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.mappers.ComentarioMapper;
 import co.edu.uniandes.dse.asesorando.services.ComentarioService;
 
 
@@ -31,7 +34,7 @@ public class ComentarioController {
     private ComentarioService comentarioService;
     
     @Autowired
-    private ModelMapper modelMapper;
+    private ComentarioMapper comentarioMapper;
 
 
 
@@ -47,13 +50,28 @@ public class ComentarioController {
 
         List<ComentarioEntity> comentarios = comentarioService.getComentarios();
 
-        return modelMapper.map(comentarios, new TypeToken<List<ComentarioDTO>>() {
-		}.getType());    
+        return comentarioMapper.toDtoList(comentarios);    
 
     }
 
 
 
+    /**
+	 * Busca y devuelve una página de comentarios ordenada por id.
+	 *
+	 * @param cursor Cursor opaco devuelto como {@code next} por la página anterior.
+	 * @param limit  Cantidad máxima de comentarios de la página.
+	 * @return JSON {@link PaginaDTO} - Los comentarios de la página y el cursor de la siguiente.
+	 */
+	@GetMapping(value = "/pagina")
+	@ResponseStatus(code = HttpStatus.OK)
+	public PaginaDTO<ComentarioDTO> findPage(@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = Paginacion.LIMITE_POR_DEFECTO) int limit) throws IllegalOperationException {
+		Slice<ComentarioEntity> comentarios = comentarioService.getComentarios(Paginacion.decodificarCursor(cursor),
+				Paginacion.validarLimite(limit));
+		return Paginacion.aPagina(comentarios, comentarioMapper::toDto);
+	}
+
     /**
 	 * Busca el comentario con el id asociado recibido en la URL y lo devuelve.
 	 *
@@ -65,7 +83,7 @@ public class ComentarioController {
 	@ResponseStatus(code = HttpStatus.OK)
 	public ComentarioDTO findOne(@PathVariable Long id) throws EntityNotFoundException {
 		ComentarioEntity comentarioEntity = comentarioService.leerComentario(id);
-		return modelMapper.map(comentarioEntity, ComentarioDTO.class);
+		return comentarioMapper.toDto(comentarioEntity);
 	}
     
 
@@ -82,8 +100,8 @@ public class ComentarioController {
 	@PostMapping
 	@ResponseStatus(code = HttpStatus.CREATED)
 	public ComentarioDTO create(@RequestBody ComentarioDTO comentarioDTO) throws EntityNotFoundException {
-		ComentarioEntity comentarioEntity = comentarioService.crearComentario(modelMapper.map(comentarioDTO, ComentarioEntity.class));
-		return modelMapper.map(comentarioEntity, ComentarioDTO.class);
+		ComentarioEntity comentarioEntity = comentarioService.crearComentario(comentarioMapper.toEntity(comentarioDTO));
+		return comentarioMapper.toDto(comentarioEntity);
 	}
 
 
@@ -100,8 +118,8 @@ public class ComentarioController {
 	@ResponseStatus(code = HttpStatus.OK)
 	public ComentarioDTO update(@PathVariable Long id, @RequestBody ComentarioDTO comentarioDTO)
 			throws EntityNotFoundException {
-		ComentarioEntity comentarioEntity = comentarioService.actualizarComentario(id, modelMapper.map(comentarioDTO, ComentarioEntity.class));
-		return modelMapper.map(comentarioEntity, ComentarioDTO.class);
+		ComentarioEntity comentarioEntity = comentarioService.actualizarComentario(id, comentarioMapper.toEntity(comentarioDTO));
+		return comentarioMapper.toDto(comentarioEntity);
 	}
 
 	/**
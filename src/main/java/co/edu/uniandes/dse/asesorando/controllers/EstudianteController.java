@@ -1,6 +1,7 @@
 package co.edu.uniandes.dse.asesorando.controllers;
 
-import org.modelmapper.ModelMapper;
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,6 +18,9 @@ import co.edu.uniandes.dse.asesorando.dto.EstudianteDTO;
 import co.edu.uniandes.dse.asesorando.dto.EstudianteDetailDTO;
 import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.mappers.DetalleMapper;
+import co.edu.uniandes.dse.asesorando.mappers.UsuarioMapper;
+import co.edu.uniandes.dse.asesorando.repositories.UsuarioRepository.UsuarioListado;
 import co.edu.uniandes.dse.asesorando.services.EstudianteService;
 
 @RestController
@@ -27,27 +31,37 @@ public class EstudianteController {
     private EstudianteService estudianteService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private DetalleMapper detalleMapper;
+
+    @Autowired
+    private UsuarioMapper usuarioMapper;
+
+    @GetMapping
+    @ResponseStatus(code = HttpStatus.OK)
+    public List<EstudianteDTO> findAll() {
+        List<UsuarioListado> estudiantes = estudianteService.getListadoEstudiantes();
+        return usuarioMapper.toEstudianteListadoDtoList(estudiantes);
+    }
 
     @GetMapping(value = "/{id}")
     @ResponseStatus(code = HttpStatus.OK)
     public EstudianteDetailDTO findOne(@PathVariable Long id) throws EntityNotFoundException{
         EstudianteEntity estudianteEntity = estudianteService.getEstudiante(id);
-        return modelMapper.map(estudianteEntity, EstudianteDetailDTO.class);
+        return detalleMapper.toEstudianteDetail(estudianteEntity);
     }
 
     @PostMapping
     @ResponseStatus(code = HttpStatus.CREATED)
     public EstudianteDTO create(@RequestBody EstudianteDTO estudianteDTO) throws EntityNotFoundException{
-        EstudianteEntity estudianteEntity = estudianteService.createEstudianteByObject(modelMapper.map(estudianteDTO, EstudianteEntity.class));
-        return modelMapper.map(estudianteEntity, EstudianteDTO.class);
+        EstudianteEntity estudianteEntity = estudianteService.createEstudianteByObject(usuarioMapper.toEstudianteEntity(estudianteDTO));
+        return usuarioMapper.toEstudianteDto(estudianteEntity);
     }
 
     @PutMapping(value = "/{id}")
     @ResponseStatus(code = HttpStatus.OK)
     public EstudianteDTO update(@PathVariable Long id, @RequestBody EstudianteDTO estudianteDTO) throws EntityNotFoundException{
-        EstudianteEntity estudianteEntity = estudianteService.updateEstudianteById(id, modelMapper.map(estudianteDTO, EstudianteEntity.class));
-        return modelMapper.map(estudianteEntity, EstudianteDTO.class);
+        EstudianteEntity estudianteEntity = estudianteService.updateEstudianteById(id, usuarioMapper.toEstudianteEntity(estudianteDTO));
+        return usuarioMapper.toEstudianteDto(estudianteEntity);
     }
 
     @DeleteMapping(value = "/{id}")
@@ -0,0 +1,88 @@
+package co.edu.uniandes.dse.asesorando.controllers;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import co.edu.uniandes.dse.asesorando.dto.PaginaDTO;
+import co.edu.uniandes.dse.asesorando.dto.CamposSolicitados;
+
+/**
+ * Deja en el JSON de las respuestas de los controladores solo los campos del
+ * parámetro {@code fields} (ver {@link CamposSolicitados}). En las páginas se
+ * filtra cada elemento de {@code items} y se conserva {@code next}.
+ *
+ * Esto solo reduce lo que se escribe; para que tampoco se carguen las
+ * colecciones que no se pidieron, el controlador debe mapear con las
+ * variantes de DetalleMapper que reciben los campos.
+ *
+ * @author Daniel-VergaraM
+ */
+@ControllerAdvice(annotations = RestController.class)
+public class FiltroCampos implements ResponseBodyAdvice<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    public FiltroCampos(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return MappingJackson2HttpMessageConverter.class.isAssignableFrom(converterType);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (body == null || !(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+        CamposSolicitados campos = CamposSolicitados.de(
+                servletRequest.getServletRequest().getParameter(CamposSolicitados.PARAMETRO));
+        if (campos.incluyeTodos()) {
+            return body;
+        }
+        JsonNode arbol = objectMapper.valueToTree(body);
+        if (body instanceof PaginaDTO<?>) {
+            filtrar(arbol.get("items"), campos);
+        } else {
+            filtrar(arbol, campos);
+        }
+        return arbol;
+    }
+
+    private static void filtrar(JsonNode nodo, CamposSolicitados campos) {
+        if (nodo == null || campos.incluyeTodos()) {
+            return;
+        }
+        if (nodo.isArray()) {
+            nodo.forEach(elemento -> filtrar(elemento, campos));
+        } else if (nodo instanceof ObjectNode objeto) {
+            Iterator<Map.Entry<String, JsonNode>> propiedades = objeto.fields();
+            while (propiedades.hasNext()) {
+                Map.Entry<String, JsonNode> propiedad = propiedades.next();
+                if (campos.incluye(propiedad.getKey())) {
+                    filtrar(propiedad.getValue(), campos.anidados(propiedad.getKey()));
+                } else {
+                    propiedades.remove();
+                }
+            }
+        }
+    }
+}
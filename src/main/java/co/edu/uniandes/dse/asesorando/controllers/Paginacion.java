@@ -0,0 +1,110 @@
+package co.edu.uniandes.dse.asesorando.controllers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Slice;
+
+import co.edu.uniandes.dse.asesorando.dto.PaginaDTO;
+import co.edu.uniandes.dse.asesorando.entities.BaseEntity;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+
+/**
+ * Utilidades para los endpoints paginados por cursor ({@code cursor}/{@code limit}).
+ * El cursor es el id del último elemento entregado, codificado en Base64 para
+ * que el cliente lo trate como un valor opaco.
+ */
+final class Paginacion {
+
+    static final String LIMITE_POR_DEFECTO = "20";
+
+    static final int LIMITE_MAXIMO = 100;
+
+    private static final String PREFIJO = "id:";
+
+    private static final String PREFIJO_POSICION = "pos:";
+
+    private Paginacion() {
+    }
+
+    /**
+     * Obtiene el id desde el cual se debe continuar. Un cursor vacío corresponde
+     * a la primera página.
+     */
+    static Long decodificarCursor(String cursor) throws IllegalOperationException {
+        if (cursor == null || cursor.isBlank()) {
+            return 0L;
+        }
+        return decodificar(cursor, PREFIJO);
+    }
+
+    static String codificarCursor(Long id) {
+        return codificar(PREFIJO, id);
+    }
+
+    /**
+     * Obtiene la posición desde la cual se debe continuar en resultados que no
+     * están ordenados por id, como los de una búsqueda por relevancia. Un
+     * cursor vacío corresponde a la primera página.
+     */
+    static int decodificarPosicion(String cursor) throws IllegalOperationException {
+        if (cursor == null || cursor.isBlank()) {
+            return 0;
+        }
+        long posicion = decodificar(cursor, PREFIJO_POSICION);
+        if (posicion < 0 || posicion > Integer.MAX_VALUE) {
+            throw new IllegalOperationException("El cursor proporcionado no es válido.");
+        }
+        return (int) posicion;
+    }
+
+    /**
+     * Convierte una página de resultados ordenados por posición en un
+     * {@link PaginaDTO}; el cursor de la siguiente página es la posición que
+     * sigue al último elemento.
+     */
+    static <E, D> PaginaDTO<D> aPaginaPorPosicion(Slice<E> pagina, int desde, Function<E, D> mapeo) {
+        List<D> items = pagina.getContent().stream().map(mapeo).toList();
+        String siguiente = pagina.hasNext() ? codificar(PREFIJO_POSICION, (long) desde + items.size()) : null;
+        return new PaginaDTO<>(items, siguiente);
+    }
+
+    private static long decodificar(String cursor, String prefijo) throws IllegalOperationException {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!valor.startsWith(prefijo)) {
+                throw new IllegalOperationException("El cursor proporcionado no es válido.");
+            }
+            return Long.parseLong(valor.substring(prefijo.length()));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalOperationException("El cursor proporcionado no es válido.");
+        }
+    }
+
+    private static String codificar(String prefijo, Long valor) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((prefijo + valor).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static int validarLimite(int limite) throws IllegalOperationException {
+        if (limite < 1 || limite > LIMITE_MAXIMO) {
+            throw new IllegalOperationException("El límite debe estar entre 1 y " + LIMITE_MAXIMO + ".");
+        }
+        return limite;
+    }
+
+    /**
+     * Convierte una página de entidades en un {@link PaginaDTO}, calculando el
+     * cursor de la siguiente página a partir del último elemento.
+     */
+    static <E extends BaseEntity, D> PaginaDTO<D> aPagina(Slice<E> pagina, Function<E, D> mapeo) {
+        List<E> contenido = pagina.getContent();
+        List<D> items = contenido.stream().map(mapeo).toList();
+        String siguiente = pagina.hasNext() && !contenido.isEmpty()
+                ? codificarCursor(contenido.get(contenido.size() - 1).getId())
+                : null;
+        return new PaginaDTO<>(items, siguiente);
+    }
+}
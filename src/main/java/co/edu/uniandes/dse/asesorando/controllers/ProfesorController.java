@@ -26,9 +26,8 @@ package co.edu.uniandes.dse.asesorando.controllers;
 import java.util.List;
 import java.util.Map;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -37,14 +36,26 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import co.edu.uniandes.dse.asesorando.dto.BusquedaCercanosDTO;
+import co.edu.uniandes.dse.asesorando.dto.BusquedaProfesorDTO;
+import co.edu.uniandes.dse.asesorando.dto.PaginaDTO;
+import co.edu.uniandes.dse.asesorando.dto.ProfesorCercanoDTO;
 import co.edu.uniandes.dse.asesorando.dto.ProfesorDTO;
+import co.edu.uniandes.dse.asesorando.dto.ProfesorDestacadoDTO;
 import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.mappers.ProfesorMapper;
+import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository.ProfesorListado;
+import co.edu.uniandes.dse.asesorando.services.MejoresProfesoresService;
 import co.edu.uniandes.dse.asesorando.services.ProfesorService;
+import co.edu.uniandes.dse.asesorando.services.ProfesoresCercanosService;
+import co.edu.uniandes.dse.asesorando.services.VersionesColecciones;
 
 /**
  * Clase que realiza las operaciones CRUD para los profesores
@@ -59,14 +70,24 @@ public class ProfesorController {
     private ProfesorService profesorService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ProfesoresCercanosService profesoresCercanosService;
+
+    @Autowired
+    private MejoresProfesoresService mejoresProfesoresService;
+
+    @Autowired
+    private ProfesorMapper profesorMapper;
+
+    @Autowired
+    private VersionesColecciones versionesColecciones;
 
     private static final List<String> tiposValidos = List.of("PROFESOR", "PROFESORVIRTUAL", "PROFESORPRESENCIAL");
 
     private static final List<String> filtrosValidos = List.of("nombre", "tematica", "tipo");
 
     /**
-     * Retrieves a list of all ProfesorDTO objects.
+     * Retrieves a list of all ProfesorDTO objects. Only the list columns are
+     * queried: no password, relations or virtual/presencial fields.
      *
      * @return a list of ProfesorDTO objects.
      * @throws EntityNotFoundException if no ProfesorEntity objects are found.
@@ -74,13 +95,98 @@ public class ProfesorController {
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
     public List<ProfesorDTO> findAll() throws EntityNotFoundException {
-        List<ProfesorEntity> profesores = profesorService.getProfesores();
-        return modelMapper.map(profesores, new TypeToken<List<ProfesorDTO>>() {
-        }.getType());
+        List<ProfesorListado> profesores = profesorService.getListadoProfesores();
+        return profesorMapper.toListadoDtoList(profesores);
+    }
+
+    /**
+     * Retrieves a page of ProfesorDTO objects ordered by id.
+     *
+     * @param cursor opaque cursor returned as {@code next} by the previous page,
+     * or empty for the first page.
+     * @param limit maximum number of professors in the page.
+     * @return the page of professors and the cursor of the next one.
+     * @throws IllegalOperationException if the cursor or the limit are not
+     * valid.
+     */
+    @GetMapping(value = "/pagina")
+    @ResponseStatus(HttpStatus.OK)
+    public PaginaDTO<ProfesorDTO> findPage(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Paginacion.LIMITE_POR_DEFECTO) int limit) throws IllegalOperationException {
+        Slice<ProfesorEntity> profesores = profesorService.getProfesores(Paginacion.decodificarCursor(cursor),
+                Paginacion.validarLimite(limit));
+        return Paginacion.aPagina(profesores, profesorMapper::toDto);
+    }
+
+    /**
+     * Searches professors combining the optional query parameters tipo,
+     * tematica, area, precioMin, precioMax and modalidad (PRESENCIAL or
+     * VIRTUAL). The whole search is resolved in one query and paginated by id,
+     * so the URL identifies the result and can be used as a cache key.
+     *
+     * @param filtros the search criteria bound from the query parameters.
+     * @param cursor opaque cursor returned as {@code next} by the previous page.
+     * @param limit maximum number of professors in the page.
+     * @return the page of matching professors.
+     * @throws EntityNotFoundException if the tipo is not valid.
+     * @throws IllegalOperationException if the modalidad, the price range, the
+     * cursor or the limit are not valid.
+     */
+    @GetMapping(value = "/buscar")
+    @ResponseStatus(HttpStatus.OK)
+    public PaginaDTO<ProfesorDTO> buscar(BusquedaProfesorDTO filtros, @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Paginacion.LIMITE_POR_DEFECTO) int limit)
+            throws EntityNotFoundException, IllegalOperationException {
+        Slice<ProfesorEntity> profesores = profesorService.buscarProfesores(filtros,
+                Paginacion.decodificarCursor(cursor), Paginacion.validarLimite(limit));
+        return Paginacion.aPagina(profesores, profesorMapper::toDto);
     }
 
     /**
-     * Retrieves a professor by their ID.
+     * Finds in-person professors near a point, closest first. The query
+     * parameters are latitud and longitud, plus radioKm (maximum distance),
+     * k (how many professors) or both, and optionally tematica, area,
+     * precioMin and precioMax. The lookup uses an in-memory spatial index
+     * instead of scanning the professors table.
+     *
+     * @param busqueda the search criteria bound from the query parameters.
+     * @return the matching professors with their distance in kilometers.
+     * @throws IllegalOperationException if the coordinates are missing or out
+     * of range, neither radioKm nor k is given, or a value is not valid.
+     */
+    @GetMapping(value = "/cercanos")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ProfesorCercanoDTO> cercanos(BusquedaCercanosDTO busqueda) throws IllegalOperationException {
+        return profesoresCercanosService.buscar(busqueda).stream()
+                .map(cercano -> new ProfesorCercanoDTO(profesorMapper.toDto(cercano.profesor()),
+                        cercano.distanciaKm()))
+                .toList();
+    }
+
+    /**
+     * Retrieves the best rated professors, overall or for one area, ranked by
+     * average rating, completed asesorias and lowest price. The ranking is
+     * kept in memory, so the response does not query the database.
+     *
+     * @param area the area of the professors' tematicas; all areas if absent.
+     * @param k how many professors to return, from 1 to 50 (10 by default).
+     * @return the professors, best first.
+     * @throws IllegalOperationException if k is out of range.
+     */
+    @GetMapping(value = "/mejores")
+    @ResponseStatus(HttpStatus.OK)
+    public List<ProfesorDestacadoDTO> mejores(@RequestParam(required = false) String area,
+            @RequestParam(required = false) Integer k) throws IllegalOperationException {
+        return mejoresProfesoresService.mejores(area, k).stream()
+                .map(entrada -> new ProfesorDestacadoDTO(entrada.id(), entrada.nombre(), entrada.promedio(),
+                        entrada.calificaciones(), entrada.asesoriasCompletadas(), entrada.precio()))
+                .toList();
+    }
+
+    /**
+     * Retrieves a professor by their ID. Answers 304, reading only the
+     * collection versions, when If-None-Match matches the current ETag of the
+     * professors.
      *
      * @param id The ID of the professor to retrieve.
      * @return A ProfesorDTO object representing the professor.
@@ -88,10 +194,13 @@ public class ProfesorController {
      * found.
      */
     @GetMapping(value = "/{id}")
-    @ResponseStatus(HttpStatus.OK)
-    public ProfesorDTO getProfesor(@PathVariable Long id) throws EntityNotFoundException {
+    // No @ResponseStatus: it would replace the 304 set by checkNotModified
+    public ProfesorDTO getProfesor(@PathVariable Long id, WebRequest request) throws EntityNotFoundException {
+        if (request.checkNotModified(versionesColecciones.etag(ProfesorEntity.class))) {
+            return null;
+        }
         ProfesorEntity profesor = profesorService.getProfesor(id);
-        return modelMapper.map(profesor, ProfesorDTO.class);
+        return profesorMapper.toDto(profesor);
     }
 
     /**
@@ -117,7 +226,11 @@ public class ProfesorController {
 
         List<ProfesorEntity> profesores = null;
 
-        if (json.containsKey(filtrosValidos.get(0)) && json.get(filtrosValidos.get(0)) != null) {
+        if (json.get(filtrosValidos.get(1)) != null && json.get(filtrosValidos.get(2)) != null) {
+            String tematica = (String) json.get(filtrosValidos.get(1));
+            String tipo = (String) json.get(filtrosValidos.get(2));
+            profesores = (List<ProfesorEntity>) profesorService.getProfesorPorTipoTematica(tipo, tematica);
+        } else if (json.containsKey(filtrosValidos.get(0)) && json.get(filtrosValidos.get(0)) != null) {
             String nombre = (String) json.get(filtrosValidos.get(0));
             ProfesorEntity profesor = profesorService.getProfesorPorNombre(nombre);
             profesores = List.of(profesor);
@@ -126,22 +239,17 @@ public class ProfesorController {
             profesores = (List<ProfesorEntity>) profesorService.getProfesorPorTematica(tematica);
         } else if (json.containsKey(filtrosValidos.get(2)) && json.get(filtrosValidos.get(2)) != null) {
             String tipo = (String) json.get(filtrosValidos.get(2));
-            profesores = profesorService.getProfesoresPorTipo(tipo);
-        } else if (json.containsKey(filtrosValidos.get(1)) && json.containsKey(filtrosValidos.get(2)) && json.get(filtrosValidos.get(1)) != null && json.get(filtrosValidos.get(2)) != null) {
-            String tematica = (String) json.get(filtrosValidos.get(1));
-            String tipo = (String) json.get(filtrosValidos.get(2));
-            profesores = (List<ProfesorEntity>) profesorService.getProfesorPorTipoTematica(tematica, tipo);
+            return profesorMapper.toListadoDtoList(profesorService.getListadoProfesoresPorTipo(tipo));
         } else {
             throw new IllegalOperationException("No se encontraron profesores con los filtros proporcionados.");
         }
 
-        return modelMapper.map(profesores, new TypeToken<List<ProfesorDTO>>() {
-        }.getType());
+        return profesorMapper.toDtoList(profesores);
     }
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ProfesorDTO create(@RequestBody ProfesorDTO profesor) throws EntityNotFoundException {
+    public ProfesorDTO create(@RequestBody ProfesorDTO profesor) throws EntityNotFoundException, IllegalOperationException {
         String tipo = profesor.getTipo();
 
         if (tipo == null) {
@@ -150,17 +258,17 @@ public class ProfesorController {
             throw new EntityNotFoundException("El tipo de profesor no es valido.");
         }
 
-        ProfesorEntity profesorEntity = modelMapper.map(profesor, ProfesorEntity.class);
+        ProfesorEntity profesorEntity = profesorMapper.toEntity(profesor);
         ProfesorEntity nuevoProfesor = profesorService.createProfesor(profesorEntity, tipo);
-        return modelMapper.map(nuevoProfesor, ProfesorDTO.class);
+        return profesorMapper.toDto(nuevoProfesor);
     }
 
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ProfesorDTO update(@PathVariable Long id, @RequestBody ProfesorDTO profesor) throws EntityNotFoundException {
-        ProfesorEntity profesorEntity = modelMapper.map(profesor, ProfesorEntity.class);
+    public ProfesorDTO update(@PathVariable Long id, @RequestBody ProfesorDTO profesor) throws EntityNotFoundException, IllegalOperationException {
+        ProfesorEntity profesorEntity = profesorMapper.toEntity(profesor);
         ProfesorEntity profesorActualizado = profesorService.updateProfesor(id, profesorEntity);
-        return modelMapper.map(profesorActualizado, ProfesorDTO.class);
+        return profesorMapper.toDto(profesorActualizado);
     }
 
     @DeleteMapping("/{id}")
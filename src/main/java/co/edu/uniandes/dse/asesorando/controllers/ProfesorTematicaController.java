@@ -2,8 +2,6 @@ package co.edu.uniandes.dse.asesorando.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
@@ -12,6 +10,9 @@ import co.edu.uniandes.dse.asesorando.dto.TematicaDTO;
 import co.edu.uniandes.dse.asesorando.dto.TematicaDetailDTO;
 import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.dto.CamposSolicitados;
+import co.edu.uniandes.dse.asesorando.mappers.DetalleMapper;
+import co.edu.uniandes.dse.asesorando.mappers.TematicaMapper;
 import co.edu.uniandes.dse.asesorando.services.ProfesorTematicaService;
 
 @RestController
@@ -22,40 +23,47 @@ public class ProfesorTematicaController {
     private ProfesorTematicaService profesorTematicaService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private DetalleMapper detalleMapper;
+
+    @Autowired
+    private TematicaMapper tematicaMapper;
 
     @PostMapping(value = "/{profesorId}/tematicas/{tematicaId}")
     @ResponseStatus(code = HttpStatus.OK)
-    public TematicaDetailDTO addTematica(@PathVariable Long profesorId, @PathVariable Long tematicaId)
-            throws EntityNotFoundException {
-        TematicaEntity tematicaEntity = profesorTematicaService.agregarTematicaAProfesor(profesorId, tematicaId);
-        return modelMapper.map(tematicaEntity, TematicaDetailDTO.class);
+    public TematicaDetailDTO addTematica(@PathVariable Long profesorId, @PathVariable Long tematicaId,
+            @RequestParam(name = CamposSolicitados.PARAMETRO, required = false) String fields) throws EntityNotFoundException {
+        CamposSolicitados campos = CamposSolicitados.de(fields);
+        TematicaEntity tematicaEntity = profesorTematicaService.agregarTematicaAProfesor(profesorId, tematicaId, campos);
+        return detalleMapper.toTematicaDetail(tematicaEntity, campos);
     }
 
     @GetMapping(value = "/{profesorId}/tematicas/{tematicaId}")
     @ResponseStatus(code = HttpStatus.OK)
-    public TematicaDetailDTO getTematica(@PathVariable Long profesorId, @PathVariable Long tematicaId)
-            throws EntityNotFoundException {
-        TematicaEntity tematicaEntity = profesorTematicaService.getTematicaDeProfesor(profesorId, tematicaId);
-        return modelMapper.map(tematicaEntity, TematicaDetailDTO.class);
+    public TematicaDetailDTO getTematica(@PathVariable Long profesorId, @PathVariable Long tematicaId,
+            @RequestParam(name = CamposSolicitados.PARAMETRO, required = false) String fields) throws EntityNotFoundException {
+        CamposSolicitados campos = CamposSolicitados.de(fields);
+        TematicaEntity tematicaEntity = profesorTematicaService.getTematicaDeProfesor(profesorId, tematicaId, campos);
+        return detalleMapper.toTematicaDetail(tematicaEntity, campos);
     }
 
     
 
     @PutMapping(value = "/{profesorId}/tematicas")
     @ResponseStatus(code = HttpStatus.OK)
-    public List<TematicaDetailDTO> updateTematicas(@PathVariable Long profesorId, @RequestBody List<TematicaDTO> tematicas)
-            throws EntityNotFoundException {
-        List<TematicaEntity> entities = modelMapper.map(tematicas, new TypeToken<List<TematicaEntity>>() {}.getType());
+    public List<TematicaDetailDTO> updateTematicas(@PathVariable Long profesorId, @RequestBody List<TematicaDTO> tematicas,
+            @RequestParam(name = CamposSolicitados.PARAMETRO, required = false) String fields) throws EntityNotFoundException {
+        List<TematicaEntity> entities = tematicaMapper.toEntityList(tematicas);
         List<TematicaEntity> tematicasList = profesorTematicaService.actualizarProfesorTematicas(profesorId, entities);
-        return modelMapper.map(tematicasList, new TypeToken<List<TematicaDetailDTO>>() {}.getType());
+        return detalleMapper.toTematicaDetailList(tematicasList, CamposSolicitados.de(fields));
     }
 
     @GetMapping(value = "/{profesorId}/tematicas")
     @ResponseStatus(code = HttpStatus.OK)
-    public List<TematicaDetailDTO> getTematicas(@PathVariable Long profesorId) throws EntityNotFoundException {
-        List<TematicaEntity> tematicas = profesorTematicaService.getTematicasDeProfesor(profesorId);
-        return modelMapper.map(tematicas, new TypeToken<List<TematicaDetailDTO>>() {}.getType());
+    public List<TematicaDetailDTO> getTematicas(@PathVariable Long profesorId,
+            @RequestParam(name = CamposSolicitados.PARAMETRO, required = false) String fields) throws EntityNotFoundException {
+        CamposSolicitados campos = CamposSolicitados.de(fields);
+        List<TematicaEntity> tematicas = profesorTematicaService.getTematicasDeProfesor(profesorId, campos);
+        return detalleMapper.toTematicaDetailList(tematicas, campos);
     }
 
     @DeleteMapping(value = "/{profesorId}/tematicas/{tematicaId}")
@@ -1,7 +1,6 @@
 package co.edu.uniandes.dse.asesorando.controllers;
 
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,6 +16,7 @@ import co.edu.uniandes.dse.asesorando.dto.AsesoriaDTO;
 import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.mappers.AsesoriaMapper;
 import co.edu.uniandes.dse.asesorando.services.ReservaAsesoriaService;
 
 @RestController
@@ -27,24 +27,24 @@ public class ReservaAsesoriaController {
     private ReservaAsesoriaService reservaAsesoriaService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private AsesoriaMapper asesoriaMapper;
 
     @PutMapping("/asesorias/{asesoriaId}")
     @ResponseStatus(code = HttpStatus.OK) 
     public AsesoriaDTO asociarAsesoriaAReserva(@PathVariable Long reservaId, @PathVariable Long asesoriaId)
-            throws EntityNotFoundException {
+            throws EntityNotFoundException, IllegalOperationException {
         AsesoriaEntity calendario = reservaAsesoriaService.asociarAsesoriaAReserva(reservaId, asesoriaId);
-        return modelMapper.map(calendario, AsesoriaDTO.class);
+        return asesoriaMapper.toDto(calendario);
     }
 
 
     /**
      * Obtiene la asesoría asociada a una reserva.
      */
-    @GetMapping
+    @GetMapping("/asesorias")
     @ResponseStatus(code = HttpStatus.OK)
-    public AsesoriaEntity obtenerAsesoriaPorReserva(@PathVariable Long reservaId) throws EntityNotFoundException {
-        return reservaAsesoriaService.obtenerAsesoriaPorReserva(reservaId);
+    public AsesoriaDTO obtenerAsesoriaPorReserva(@PathVariable Long reservaId) throws EntityNotFoundException {
+        return asesoriaMapper.toDto(reservaAsesoriaService.obtenerAsesoriaPorReserva(reservaId));
     }
 
     @PostMapping("/asesorias/{asesoriaId}")
@@ -52,16 +52,16 @@ public class ReservaAsesoriaController {
     public AsesoriaDTO crearComentarioEnReserva(@PathVariable Long reservaId, @PathVariable Long asesoriaId)
             throws EntityNotFoundException, IllegalOperationException {
         AsesoriaEntity asesorias = reservaAsesoriaService.crearAsesoriaEnReserva(reservaId, asesoriaId);
-        return modelMapper.map(asesorias, AsesoriaDTO.class);
+        return asesoriaMapper.toDto(asesorias);
     }
 
     /**
      * Elimina la asesoría asociada a una reserva.
      */
 
-    @DeleteMapping
+    @DeleteMapping("/asesorias")
     @ResponseStatus(code = HttpStatus.NO_CONTENT)
-    public void eliminarAsesoria(@PathVariable Long reservaId) throws EntityNotFoundException {
+    public void eliminarAsesoria(@PathVariable Long reservaId) throws EntityNotFoundException, IllegalOperationException {
         reservaAsesoriaService.eliminarAsesoria(reservaId);
     }
 }
@@ -2,7 +2,6 @@ package co.edu.uniandes.dse.asesorando.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
@@ -11,6 +10,7 @@ import co.edu.uniandes.dse.asesorando.dto.ReservaDTO;
 import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.mappers.ReservaMapper;
 import co.edu.uniandes.dse.asesorando.services.ReservaCalendarioService;
 
 
@@ -23,21 +23,21 @@ public class ReservaCalendarioController {
 
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ReservaMapper reservaMapper;
     
 
     @PutMapping("/{reservaId}")
     @ResponseStatus(code = HttpStatus.OK)  // Se usa 200 OK en actualizaciones
     public ReservaDTO asociarReservaACalendario(@PathVariable Long reservaId, @PathVariable Long calendarioId)
-            throws EntityNotFoundException {
+            throws EntityNotFoundException, IllegalOperationException {
         ReservaEntity calendario = reservaCalendarioService.asociarReservaACalendario(reservaId, calendarioId);
-        return modelMapper.map(calendario, ReservaDTO.class);
+        return reservaMapper.toDto(calendario);
     }
 
     @GetMapping
     @ResponseStatus(code = HttpStatus.OK)
-    public List<ReservaEntity> obtenerReservasPorCalendario(@PathVariable Long calendarioId) throws EntityNotFoundException {
-        return reservaCalendarioService.obtenerReservasPorCalendario(calendarioId);
+    public List<ReservaDTO> obtenerReservasPorCalendario(@PathVariable Long calendarioId) throws EntityNotFoundException {
+        return reservaMapper.toDtoList(reservaCalendarioService.obtenerReservasPorCalendario(calendarioId));
     }
 
     @PostMapping("/{reservaId}")
@@ -45,7 +45,7 @@ public class ReservaCalendarioController {
     public ReservaDTO crearReservaEnCalendario(@PathVariable Long calendarioId, @PathVariable Long reservaId)
             throws EntityNotFoundException, IllegalOperationException {
         ReservaEntity asesorias = reservaCalendarioService.crearReservaEnCalendario(calendarioId, reservaId);
-        return modelMapper.map(asesorias, ReservaDTO.class);
+        return reservaMapper.toDto(asesorias);
     }
 
     // Eliminar una reserva de un calendario
@@ -1,6 +1,5 @@
 package co.edu.uniandes.dse.asesorando.controllers;
 
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,6 +16,7 @@ import co.edu.uniandes.dse.asesorando.dto.ComentarioDTO;
 import co.edu.uniandes.dse.asesorando.entities.ComentarioEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.mappers.ComentarioMapper;
 import co.edu.uniandes.dse.asesorando.services.ReservaComentarioService;
 
 @RestController
@@ -27,7 +27,7 @@ public class ReservaComentarioController {
     private ReservaComentarioService reservaComentarioService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ComentarioMapper comentarioMapper;
 
     /**
      * Crea un comentario asociado a una reserva.
@@ -41,7 +41,7 @@ public class ReservaComentarioController {
     public ComentarioDTO asociarComentarioAReserva(@PathVariable Long reservaId, @PathVariable Long comentarioId)
             throws EntityNotFoundException {
         ComentarioEntity comentario = reservaComentarioService.asociarComentarioAReserva(reservaId, comentarioId);
-        return modelMapper.map(comentario, ComentarioDTO.class);
+        return comentarioMapper.toDto(comentario);
     }
 
     @PostMapping
@@ -51,9 +51,9 @@ public class ReservaComentarioController {
                 @RequestBody ComentarioDTO comentarioDTO)
                 throws EntityNotFoundException, IllegalOperationException {
 
-            ComentarioEntity comentarioEntity = modelMapper.map(comentarioDTO, ComentarioEntity.class);
+            ComentarioEntity comentarioEntity = comentarioMapper.toEntity(comentarioDTO);
             ComentarioEntity comentarioCreado = reservaComentarioService.crearYAsociarComentario(reservaId, comentarioEntity);
-            return modelMapper.map(comentarioCreado, ComentarioDTO.class);
+            return comentarioMapper.toDto(comentarioCreado);
         }
 
     /**
@@ -64,8 +64,8 @@ public class ReservaComentarioController {
      */
     @GetMapping("/{comentarioId}")
     @ResponseStatus(code = HttpStatus.OK)
-    public ComentarioEntity obtenerComentario(@PathVariable Long reservaId) throws EntityNotFoundException {
-        return reservaComentarioService.obtenerComentarioPorReserva(reservaId);
+    public ComentarioDTO obtenerComentario(@PathVariable Long reservaId) throws EntityNotFoundException {
+        return comentarioMapper.toDto(reservaComentarioService.obtenerComentarioPorReserva(reservaId));
     }
 
     /**
@@ -84,7 +84,7 @@ public class ReservaComentarioController {
     public ComentarioDTO crearComentarioEnReserva(@PathVariable Long reservaId, @PathVariable Long comentarioId)
             throws EntityNotFoundException, IllegalOperationException {
         ComentarioEntity asesorias = reservaComentarioService.crearComentarioEnReserva(reservaId, comentarioId);
-        return modelMapper.map(asesorias, ComentarioDTO.class);
+        return comentarioMapper.toDto(asesorias);
     }
 
 }
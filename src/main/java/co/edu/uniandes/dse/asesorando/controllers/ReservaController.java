@@ -1,8 +1,13 @@
 package co.edu.uniandes.dse.asesorando.controllers;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,13 +17,22 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import co.edu.uniandes.dse.asesorando.dto.ErrorLoteDTO;
+import co.edu.uniandes.dse.asesorando.dto.LoteDTO;
+import co.edu.uniandes.dse.asesorando.dto.PaginaDTO;
 import co.edu.uniandes.dse.asesorando.dto.ReservaDTO;
 import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.mappers.ReservaMapper;
+import co.edu.uniandes.dse.asesorando.services.FormatoExportacion;
 import co.edu.uniandes.dse.asesorando.services.ReservaService;
+import co.edu.uniandes.dse.asesorando.services.ResultadoLote;
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping("/reservas")
@@ -28,21 +42,17 @@ public class ReservaController {
     private ReservaService reservaService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private ReservaMapper reservaMapper;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ResponseEntity<ReservaDTO> crearReserva(@RequestBody ReservaDTO reservaDTO) {
+    public ResponseEntity<ReservaDTO> crearReserva(@RequestBody ReservaDTO reservaDTO) throws IllegalOperationException {
         try {
             // Llamar al servicio pasando el DTO completo (con IDs)
             ReservaEntity nuevaReserva = reservaService.crearReserva(reservaDTO);
 
-            // Convertir Entity a DTO para la respuesta, usando modelMapper o manual
-            ReservaDTO nuevaReservaDTO = modelMapper.map(nuevaReserva, ReservaDTO.class);
-
-            // Si el modelMapper no mapea bien los IDs de las entidades relacionadas, setéalos manualmente:
-            nuevaReservaDTO.setEstudianteId(nuevaReserva.getEstudiante().getId());
-            nuevaReservaDTO.setAsesoriaId(nuevaReserva.getAsesoria().getId());
+            // Convertir Entity a DTO para la respuesta, con los IDs de estudiante y asesoría
+            ReservaDTO nuevaReservaDTO = reservaMapper.toDto(nuevaReserva);
 
             return ResponseEntity.status(HttpStatus.CREATED).body(nuevaReservaDTO);
         } catch (EntityNotFoundException e) {
@@ -50,11 +60,25 @@ public class ReservaController {
         }
     }
 
+    /**
+     * Crea varias reservas en una sola solicitud. Las que no se pueden crear se
+     * informan en {@code errores} con su posición en la lista y no impiden
+     * crear las demás.
+     */
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public LoteDTO<ReservaDTO> crearReservas(@RequestBody List<ReservaDTO> reservasDTO) throws IllegalOperationException {
+        ResultadoLote<ReservaEntity> resultado = reservaService.crearReservas(reservasDTO);
+        List<ErrorLoteDTO> errores = resultado.errores().entrySet().stream()
+                .map(error -> new ErrorLoteDTO(error.getKey(), error.getValue())).toList();
+        return new LoteDTO<>(reservaMapper.toDtoList(resultado.creados()), errores);
+    }
+
     
     @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public ReservaEntity getReserva(@PathVariable Long id) throws EntityNotFoundException {
-        return reservaService.getReserva(id);
+    public ReservaDTO getReserva(@PathVariable Long id) throws EntityNotFoundException {
+        return reservaMapper.toDto(reservaService.getReserva(id));
     }
 
     @DeleteMapping("/{id}")
@@ -65,18 +89,51 @@ public class ReservaController {
 
     @GetMapping
     @ResponseStatus(HttpStatus.OK)
-    public List<ReservaEntity> listarReservas() {
-        return reservaService.listarReservas();
+    public List<ReservaDTO> listarReservas() {
+        return reservaMapper.toDtoList(reservaService.listarReservas());
+    }
+
+    @GetMapping("/pagina")
+    @ResponseStatus(HttpStatus.OK)
+    public PaginaDTO<ReservaDTO> listarPagina(@RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = Paginacion.LIMITE_POR_DEFECTO) int limit) throws IllegalOperationException {
+        Slice<ReservaEntity> reservas = reservaService.listarReservas(Paginacion.decodificarCursor(cursor),
+                Paginacion.validarLimite(limit));
+        return Paginacion.aPagina(reservas, reservaMapper::toDto);
+    }
+
+    /**
+     * Exporta las reservas en NDJSON o CSV. Las filas se escriben en la
+     * respuesta a medida que se leen, así que sirve para exportar todas las
+     * reservas sin cargarlas en memoria.
+     *
+     * @param formato ndjson o csv
+     * @param desde fecha de reserva mínima, incluida
+     * @param hasta fecha de reserva máxima, excluida
+     * @param estado
+     */
+    @GetMapping("/exportar")
+    public void exportarReservas(@RequestParam(defaultValue = "ndjson") String formato,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime desde,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime hasta,
+            @RequestParam(required = false) String estado,
+            HttpServletResponse response) throws IllegalOperationException, IOException {
+        FormatoExportacion formatoExportacion = FormatoExportacion.de(formato);
+        response.setContentType(formatoExportacion.getTipoContenido());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"reservas." + formatoExportacion.getExtension() + "\"");
+        reservaService.exportarReservas(desde, hasta, estado, formatoExportacion, response.getWriter());
     }
 
 
     @PutMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
     public ResponseEntity<ReservaDTO> updateReserva(@PathVariable Long id, 
-                                                    @RequestBody ReservaDTO reservaDTO) {
+                                                    @RequestBody ReservaDTO reservaDTO) throws IllegalOperationException {
         try {
             // Mapear el DTO a una entidad
-            ReservaEntity reservaEntity = modelMapper.map(reservaDTO, ReservaEntity.class);
+            ReservaEntity reservaEntity = reservaMapper.toEntity(reservaDTO);
     
             // Llamar al servicio para actualizar la reserva
             ReservaEntity reservaActualizada = reservaService.updateReserva(id, 
@@ -85,7 +142,7 @@ public class ReservaController {
                                                                             reservaEntity.getAsesoria());
     
             // Mapear la entidad actualizada de vuelta a DTO
-            ReservaDTO reservaActualizadaDTO = modelMapper.map(reservaActualizada, ReservaDTO.class);
+            ReservaDTO reservaActualizadaDTO = reservaMapper.toDto(reservaActualizada);
     
             return ResponseEntity.ok(reservaActualizadaDTO);
         } catch (EntityNotFoundException e) {
@@ -98,7 +155,7 @@ public class ReservaController {
     public ResponseEntity<ReservaDTO> marcarReservaComoCompletada(@PathVariable Long id) {
         try {
             ReservaEntity reservaActualizada = reservaService.marcarComoCompletada(id); 
-            ReservaDTO reservaDTO = modelMapper.map(reservaActualizada, ReservaDTO.class);
+            ReservaDTO reservaDTO = reservaMapper.toDto(reservaActualizada);
             return ResponseEntity.ok(reservaDTO);
         } catch (EntityNotFoundException e) {
             return ResponseEntity.notFound().build();
@@ -110,7 +167,7 @@ public class ReservaController {
     public ResponseEntity<ReservaDTO> marcarReservaComoCancelada(@PathVariable Long id) {
         try {
             ReservaEntity reservaActualizada = reservaService.marcarComoCancelada(id); 
-            ReservaDTO reservaDTO = modelMapper.map(reservaActualizada, ReservaDTO.class);
+            ReservaDTO reservaDTO = reservaMapper.toDto(reservaActualizada);
             return ResponseEntity.ok(reservaDTO);
         } catch (EntityNotFoundException e) {
             return ResponseEntity.notFound().build();
@@ -3,9 +3,8 @@ package co.edu.uniandes.dse.asesorando.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,13 +13,19 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import co.edu.uniandes.dse.asesorando.dto.PaginaDTO;
 import co.edu.uniandes.dse.asesorando.dto.TematicaDTO;
 import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.mappers.TematicaMapper;
 import co.edu.uniandes.dse.asesorando.services.TematicaService;
+import co.edu.uniandes.dse.asesorando.services.VersionesColecciones;
 
 
 
@@ -32,40 +37,67 @@ public class TematicaController {
     private TematicaService tematicaService;
     
     @Autowired
-    private ModelMapper modelMapper;
+    private TematicaMapper tematicaMapper;
+
+    @Autowired
+    private VersionesColecciones versionesColecciones;
 
 
 
     /**
 	 * Busca y devuelve todos las Tematicas  que existen en la aplicacion.
 	 *
+	 * Responde 304, consultando solo las versiones, si el If-None-Match de la
+	 * solicitud coincide con el ETag actual de las tematicas.
+	 *
 	 * @return JSONArray {@link TematicaDTO} - Los tematicas encontrados en la
 	 *         aplicación. Si no hay ninguno retorna una lista vacía.
 	 */
     @GetMapping
-	@ResponseStatus(code = HttpStatus.OK)
-    public List<TematicaDTO> findAll(){
+    // Sin @ResponseStatus, que reemplazaría el 304 de checkNotModified
+    public List<TematicaDTO> findAll(WebRequest request){
+        if (request.checkNotModified(versionesColecciones.etag(TematicaEntity.class))) {
+            return null;
+        }
 
         List<TematicaEntity> tematicas = tematicaService.getTematicas();
 
-        return modelMapper.map(tematicas, new TypeToken<List<TematicaDTO>>() {
-		}.getType());    
+        return tematicaMapper.toDtoList(tematicas);    
 
     }
 
-    
+
+    /**
+	 * Busca y devuelve una página de tematicas ordenada por id.
+	 *
+	 * @param cursor Cursor opaco devuelto como {@code next} por la página anterior.
+	 * @param limit  Cantidad máxima de tematicas de la página.
+	 * @return JSON {@link PaginaDTO} - Las tematicas de la página y el cursor de la siguiente.
+	 */
+	@GetMapping(value = "/pagina")
+	@ResponseStatus(code = HttpStatus.OK)
+	public PaginaDTO<TematicaDTO> findPage(@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = Paginacion.LIMITE_POR_DEFECTO) int limit) throws IllegalOperationException {
+		Slice<TematicaEntity> tematicas = tematicaService.getTematicas(Paginacion.decodificarCursor(cursor),
+				Paginacion.validarLimite(limit));
+		return Paginacion.aPagina(tematicas, tematicaMapper::toDto);
+	}
+
     /**
 	 * Busca el tematica con el id asociado recibido en la URL y lo devuelve.
 	 *
 	 * @param tematicaId Identificador de la tematica que se esta buscando. Este debe ser una
 	 *               cadena de dígitos.
-	 * @return JSON {@link TematicaDTO} - La Tematica buscada
+	 * @return JSON {@link TematicaDTO} - La Tematica buscada, o 304 si no ha
+	 *         cambiado desde el ETag de If-None-Match
 	 */
 	@GetMapping(value = "/{id}")
-	@ResponseStatus(code = HttpStatus.OK)
-	public TematicaDTO findOne(@PathVariable Long id) throws EntityNotFoundException {
+	public TematicaDTO findOne(@PathVariable Long id, WebRequest request) throws EntityNotFoundException {
+		if (request.checkNotModified(versionesColecciones.etag(TematicaEntity.class))) {
+			return null;
+		}
 		TematicaEntity tematicaEntity = tematicaService.getTematica(id);
-		return modelMapper.map(tematicaEntity, TematicaDTO.class);
+		return tematicaMapper.toDto(tematicaEntity);
 	}
     
 
@@ -78,8 +110,8 @@ public class TematicaController {
     @PostMapping
     @ResponseStatus(code = HttpStatus.CREATED)
 	public TematicaDTO create(@RequestBody TematicaDTO tematicaDTO) throws EntityNotFoundException {
-		TematicaEntity tematicaEntity = tematicaService.createTematica(modelMapper.map(tematicaDTO, TematicaEntity.class));
-		return modelMapper.map(tematicaEntity, TematicaDTO.class);
+		TematicaEntity tematicaEntity = tematicaService.createTematica(tematicaMapper.toEntity(tematicaDTO));
+		return tematicaMapper.toDto(tematicaEntity);
 	}
 
 
@@ -96,8 +128,8 @@ public class TematicaController {
 	@ResponseStatus(code = HttpStatus.OK)
 	public TematicaDTO update(@PathVariable Long id, @RequestBody TematicaDTO tematicaDTO)
 			throws EntityNotFoundException {
-		TematicaEntity tematicaEntity = tematicaService.updateTematica(id, modelMapper.map(tematicaDTO, TematicaEntity.class));
-		return modelMapper.map(tematicaEntity, TematicaDTO.class);
+		TematicaEntity tematicaEntity = tematicaService.updateTematica(id, tematicaMapper.toEntity(tematicaDTO));
+		return tematicaMapper.toDto(tematicaEntity);
 	}
     
     /**
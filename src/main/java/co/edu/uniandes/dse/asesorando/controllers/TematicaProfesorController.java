@@ -2,8 +2,6 @@ package co.edu.uniandes.dse.asesorando.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,6 +11,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -20,6 +19,9 @@ import co.edu.uniandes.dse.asesorando.dto.ProfesorDTO;
 import co.edu.uniandes.dse.asesorando.dto.ProfesorDetailsDTO;
 import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.dto.CamposSolicitados;
+import co.edu.uniandes.dse.asesorando.mappers.DetalleMapper;
+import co.edu.uniandes.dse.asesorando.mappers.ProfesorMapper;
 import co.edu.uniandes.dse.asesorando.services.TematicaProfesorService;
 
 
@@ -31,21 +33,26 @@ public class TematicaProfesorController {
 	private TematicaProfesorService tematicaProfesorService;
 
 	@Autowired
-	private ModelMapper modelMapper;
+	private DetalleMapper detalleMapper;
+
+	@Autowired
+	private ProfesorMapper profesorMapper;
 
 	/**
 	 * Asocia un profesor existente con un tematica existente
 	 *
 	 * @param profesorId El ID del profesor que se va a asociar
 	 * @param tematicaId   El ID del tematica al cual se le va a asociar el profesor
+	 * @param fields       Campos de la respuesta; las colecciones que no se piden no se cargan
 	 * @return JSON {@link ProfesorDetailDTO} - El profesor asociado.
 	 */
 	@PostMapping(value = "/{tematicaId}/profesors/{profesorId}")
 	@ResponseStatus(code = HttpStatus.OK)
-	public ProfesorDetailsDTO addProfesor(@PathVariable Long profesorId, @PathVariable Long tematicaId)
-			throws EntityNotFoundException {
-		ProfesorEntity profesorEntity = tematicaProfesorService.agregarProfesorATematica(tematicaId, profesorId);
-		return modelMapper.map(profesorEntity, ProfesorDetailsDTO.class);
+	public ProfesorDetailsDTO addProfesor(@PathVariable Long profesorId, @PathVariable Long tematicaId,
+			@RequestParam(name = CamposSolicitados.PARAMETRO, required = false) String fields) throws EntityNotFoundException {
+		CamposSolicitados campos = CamposSolicitados.de(fields);
+		ProfesorEntity profesorEntity = tematicaProfesorService.agregarProfesorATematica(profesorId, tematicaId, campos);
+		return detalleMapper.toProfesorDetail(profesorEntity, campos);
 	}
 
 	/**
@@ -53,14 +60,16 @@ public class TematicaProfesorController {
 	 *
 	 * @param profesorId El ID del profesor que se busca
 	 * @param tematicaId   El ID del tematica del cual se busca el profesor
+	 * @param fields       Campos de la respuesta; las colecciones que no se piden no se cargan
 	 * @return {@link ProfesorDetailDTO} - El profesor encontrado en el tematica.
 	 */
 	@GetMapping(value = "/{tematicaId}/profesors/{profesorId}")
 	@ResponseStatus(code = HttpStatus.OK)
-	public ProfesorDetailsDTO getProfesor(@PathVariable Long profesorId, @PathVariable Long tematicaId)
-			throws EntityNotFoundException {
-		ProfesorEntity profesorEntity = tematicaProfesorService.getProfesorDeTematica(tematicaId, profesorId);
-		return modelMapper.map(profesorEntity, ProfesorDetailsDTO.class);
+	public ProfesorDetailsDTO getProfesor(@PathVariable Long profesorId, @PathVariable Long tematicaId,
+			@RequestParam(name = CamposSolicitados.PARAMETRO, required = false) String fields) throws EntityNotFoundException {
+		CamposSolicitados campos = CamposSolicitados.de(fields);
+		ProfesorEntity profesorEntity = tematicaProfesorService.getProfesorDeTematica(profesorId, tematicaId, campos);
+		return detalleMapper.toProfesorDetail(profesorEntity, campos);
 	}
 
 	/**
@@ -70,32 +79,33 @@ public class TematicaProfesorController {
 	 * @param tematicaId  El ID del tematica al cual se le va a asociar la lista de profesores
 	 * @param profesors JSONArray {@link ProfesorDTO} - La lista de profesores que se desea
 	 *                guardar.
+	 * @param fields  Campos de la respuesta; las colecciones que no se piden no se cargan
 	 * @return JSONArray {@link ProfesorDetailDTO} - La lista actualizada.
 	 */
 	@PutMapping(value = "/{tematicaId}/profesors")
 	@ResponseStatus(code = HttpStatus.OK)
-	public List<ProfesorDetailsDTO> addProfesors(@PathVariable Long tematicaId, @RequestBody List<ProfesorDTO> profesors)
-			throws EntityNotFoundException {
-		List<ProfesorEntity> entities = modelMapper.map(profesors, new TypeToken<List<ProfesorEntity>>() {
-		}.getType());
+	public List<ProfesorDetailsDTO> addProfesors(@PathVariable Long tematicaId, @RequestBody List<ProfesorDTO> profesors,
+			@RequestParam(name = CamposSolicitados.PARAMETRO, required = false) String fields) throws EntityNotFoundException {
+		List<ProfesorEntity> entities = profesorMapper.toEntityList(profesors);
 		List<ProfesorEntity> profesorsList = tematicaProfesorService.actualizarTematicaProfesor(tematicaId, entities);
-		return modelMapper.map(profesorsList, new TypeToken<List<ProfesorDetailsDTO>>() {
-		}.getType());
+		return detalleMapper.toProfesorDetailList(profesorsList, CamposSolicitados.de(fields));
 	}
 
 	/**
 	 * Busca y devuelve todos los profesores que existen en un tematica.
 	 *
 	 * @param tematicasd El ID del tematica del cual se buscan los profesores
+	 * @param fields     Campos de la respuesta; las colecciones que no se piden no se cargan
 	 * @return JSONArray {@link ProfesorDetailDTO} - Los profesores encontrados en el
 	 *         tematica. Si no hay ninguno retorna una lista vacía.
 	 */
 	@GetMapping(value = "/{tematicaId}/profesors")
 	@ResponseStatus(code = HttpStatus.OK)
-	public List<ProfesorDetailsDTO> getProfesors(@PathVariable Long tematicaId) throws EntityNotFoundException {
-		List<ProfesorEntity> profesorEntity = tematicaProfesorService.getProfesoresDeTematica(tematicaId);
-		return modelMapper.map(profesorEntity, new TypeToken<List<ProfesorDetailsDTO>>() {
-		}.getType());
+	public List<ProfesorDetailsDTO> getProfesors(@PathVariable Long tematicaId,
+			@RequestParam(name = CamposSolicitados.PARAMETRO, required = false) String fields) throws EntityNotFoundException {
+		CamposSolicitados campos = CamposSolicitados.de(fields);
+		List<ProfesorEntity> profesorEntity = tematicaProfesorService.getProfesoresDeTematica(tematicaId, campos);
+		return detalleMapper.toProfesorDetailList(profesorEntity, campos);
 	}
 
 	/**
@@ -25,8 +25,6 @@ package co.edu.uniandes.dse.asesorando.controllers;
 
 import java.util.List;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -37,8 +35,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import co.edu.uniandes.dse.asesorando.dto.AsesoriaDTO;
 import co.edu.uniandes.dse.asesorando.dto.UsuarioDetailsDTO;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.mappers.AsesoriaMapper;
+import co.edu.uniandes.dse.asesorando.mappers.DetalleMapper;
 import co.edu.uniandes.dse.asesorando.services.UsuarioAsesoriaService;
 
 /**
@@ -52,25 +53,27 @@ public class UsuarioAsesoriaController {
     private UsuarioAsesoriaService service;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private AsesoriaMapper asesoriaMapper;
+
+    @Autowired
+    private DetalleMapper detalleMapper;
 
     @GetMapping("/{id}/asesorias")
     @ResponseStatus(code = HttpStatus.OK)
-    public List<UsuarioDetailsDTO> getAsesorias(@PathVariable Long id) throws EntityNotFoundException {
-        return modelMapper.map(service.getAsesoriasCompletadas(id), new TypeToken<List<UsuarioDetailsDTO>>() {
-        }.getType());
+    public List<AsesoriaDTO> getAsesorias(@PathVariable Long id) throws EntityNotFoundException {
+        return asesoriaMapper.toDtoList(service.getAsesoriasCompletadas(id));
     }
 
     @GetMapping("/{id}/asesorias/{idAsesoria}")
     @ResponseStatus(code = HttpStatus.OK)
-    public UsuarioDetailsDTO getAsesoria(@PathVariable Long id, @PathVariable Long idAsesoria) throws EntityNotFoundException {
-        return modelMapper.map(service.getAsesoria(id, idAsesoria), UsuarioDetailsDTO.class);
+    public AsesoriaDTO getAsesoria(@PathVariable Long id, @PathVariable Long idAsesoria) throws EntityNotFoundException {
+        return asesoriaMapper.toDto(service.getAsesoria(id, idAsesoria));
     }
 
     @PostMapping("/{id}/asesorias/{asesoriaId}")
     @ResponseStatus(code = HttpStatus.CREATED)
     public UsuarioDetailsDTO addAsesoria(@PathVariable Long id, @PathVariable Long asesoriaId) throws EntityNotFoundException {
-        return modelMapper.map(service.addAsesoria(id, asesoriaId), UsuarioDetailsDTO.class);
+        return detalleMapper.toUsuarioDetail(service.addAsesoria(id, asesoriaId));
     }
 
     @DeleteMapping("/{id}/asesorias/{idAsesoria}")
@@ -26,8 +26,6 @@ package co.edu.uniandes.dse.asesorando.controllers;
 import java.util.List;
 import java.util.Map;
 
-import org.modelmapper.ModelMapper;
-import org.modelmapper.TypeToken;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -44,6 +42,8 @@ import org.springframework.web.server.ResponseStatusException;
 import co.edu.uniandes.dse.asesorando.dto.UsuarioDTO;
 import co.edu.uniandes.dse.asesorando.entities.UsuarioEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.mappers.UsuarioMapper;
+import co.edu.uniandes.dse.asesorando.repositories.UsuarioRepository.UsuarioListado;
 import co.edu.uniandes.dse.asesorando.services.UsuarioService;
 
 /**
@@ -59,16 +59,15 @@ public class UsuarioController {
     private UsuarioService usuarioService;
 
     @Autowired
-    private ModelMapper modelMapper;
+    private UsuarioMapper usuarioMapper;
 
     private static final List<String> tiposValidos = List.of("PROFESOR", "PROFESORVIRTUAL", "PROFESORPRESENCIAL", "ESTUDIANTE");
 
     @GetMapping
     @ResponseStatus(code = HttpStatus.OK)
     public List<UsuarioDTO> findAll() {
-        List<UsuarioEntity> usuarios = usuarioService.obtenerUsuarios();
-        return modelMapper.map(usuarios, new TypeToken<List<UsuarioDTO>>() {
-        }.getType());
+        List<UsuarioListado> usuarios = usuarioService.obtenerListadoUsuarios();
+        return usuarioMapper.toListadoDtoList(usuarios);
     }
 
     /**
@@ -82,9 +81,8 @@ public class UsuarioController {
         if (!tiposValidos.contains(tipoUsuario)) {
             throw new EntityNotFoundException("Tipo de usuario no válido: " + tipoUsuario);
         }
-        List<UsuarioEntity> usuarios = usuarioService.obtenerUsuariosPorTipo(tipoUsuario);
-        return modelMapper.map(usuarios, new TypeToken<List<UsuarioDTO>>() {
-        }.getType());
+        List<UsuarioListado> usuarios = usuarioService.obtenerListadoUsuariosPorTipo(tipoUsuario);
+        return usuarioMapper.toListadoDtoList(usuarios);
 
     }
 
@@ -101,7 +99,7 @@ public class UsuarioController {
     @ResponseStatus(code = HttpStatus.OK)
     public UsuarioDTO findById(@PathVariable Long id) throws EntityNotFoundException {
         UsuarioEntity usuario = usuarioService.getUsuario(id);
-        return modelMapper.map(usuario, UsuarioDTO.class);
+        return usuarioMapper.toDto(usuario);
     }
 
     /**
@@ -119,7 +117,7 @@ public class UsuarioController {
         if (json.containsKey(key) && json.get(key) != null) {
             String correo = (String) json.get(key);
             UsuarioEntity usuario = usuarioService.getUsuarioByCorreo(correo);
-            return modelMapper.map(usuario, UsuarioDTO.class);
+            return usuarioMapper.toDto(usuario);
         } else {
             throw new EntityNotFoundException("El usuario con correo " + json.get(key) + " no existe.");
         }
@@ -136,9 +134,9 @@ public class UsuarioController {
     @PostMapping
     @ResponseStatus(code = HttpStatus.CREATED)
     public UsuarioDTO create(@RequestBody UsuarioDTO usuario) throws EntityNotFoundException {
-        UsuarioEntity usuarioEntity = modelMapper.map(usuario, UsuarioEntity.class);
+        UsuarioEntity usuarioEntity = usuarioMapper.toEntity(usuario);
         UsuarioEntity nuevoUsuario = usuarioService.createUsuario(usuarioEntity);
-        return modelMapper.map(nuevoUsuario, UsuarioDTO.class);
+        return usuarioMapper.toDto(nuevoUsuario);
     }
 
     /**
@@ -158,12 +156,12 @@ public UsuarioDTO update(
 ) throws EntityNotFoundException {
      UsuarioEntity existente = usuarioService.getUsuario(id);
 
-    modelMapper.map(usuarioDto, existente);
+    usuarioMapper.actualizar(usuarioDto, existente);
 
     UsuarioEntity actualizado = usuarioService.updateUsuario(id, existente);
 
     // 4) Devolver DTO para el cliente
-    return modelMapper.map(actualizado, UsuarioDTO.class);
+    return usuarioMapper.toDto(actualizado);
 }
 
     /**
@@ -187,7 +185,7 @@ public UsuarioDTO update(
         if (!user.getContrasena().equals(usuarioReq.getContrasena())) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Contraseña inválida");
         }
-        return modelMapper.map(user, UsuarioDTO.class);
+        return usuarioMapper.toDto(user);
     } catch (EntityNotFoundException e) {
         throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "Usuario no encontrado");
     }
@@ -0,0 +1,31 @@
+package co.edu.uniandes.dse.asesorando.dto;
+
+import lombok.Data;
+
+/**
+ * Criterios de búsqueda de profesores presenciales cerca de un punto. Se
+ * necesita el radio, la cantidad o ambos; los demás filtros son opcionales.
+ */
+@Data
+public class BusquedaCercanosDTO {
+
+    private Double latitud;
+
+    private Double longitud;
+
+    /** Distancia máxima en kilómetros */
+    private Double radioKm;
+
+    /** Cantidad máxima de profesores, los más cercanos primero */
+    private Integer k;
+
+    /** Tema exacto de alguna de las tematicas del profesor */
+    private String tematica;
+
+    /** Área de alguna de las tematicas del profesor */
+    private String area;
+
+    private Double precioMin;
+
+    private Double precioMax;
+}
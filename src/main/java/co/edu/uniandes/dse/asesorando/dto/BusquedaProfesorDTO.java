@@ -0,0 +1,26 @@
+package co.edu.uniandes.dse.asesorando.dto;
+
+import lombok.Data;
+
+/**
+ * Criterios de búsqueda de profesores. Todos son opcionales y se combinan
+ * entre sí.
+ */
+@Data
+public class BusquedaProfesorDTO {
+
+    private String tipo;
+
+    /** Tema exacto de alguna de las tematicas del profesor */
+    private String tematica;
+
+    /** Área de alguna de las tematicas del profesor */
+    private String area;
+
+    private Double precioMin;
+
+    private Double precioMax;
+
+    /** PRESENCIAL o VIRTUAL */
+    private String modalidad;
+}
@@ -11,7 +11,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class CalendarioDetailDTO {
+public class CalendarioDetailDTO extends CalendarioDTO {
     private List<ProfesorDTO> profesores = new ArrayList<>();
     private List<AsesoriaDTO> asesorias  = new ArrayList<>();
     private List<ReservaDTO> reservas   = new ArrayList<>();
@@ -0,0 +1,25 @@
+package co.edu.uniandes.dse.asesorando.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+
+/**
+ * Resumen de las calificaciones de un profesor. {@code histograma} tiene
+ * cuántas calificaciones hay de 1, 2, 3, 4 y 5, en ese orden, y
+ * {@code promedio} es nulo si no hay calificaciones.
+ *
+ * @author Daniel-VergaraM
+ */
+@Data
+public class CalificacionesDTO {
+
+    private long cantidad;
+
+    private long suma;
+
+    private Double promedio;
+
+    private List<Long> histograma = new ArrayList<>();
+}
@@ -0,0 +1,105 @@
+package co.edu.uniandes.dse.asesorando.dto;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Campos de la respuesta que pidió el cliente con el parámetro {@code fields},
+ * por ejemplo {@code fields=id,nombre,tematicas.tema}. Los campos anidados se
+ * separan con punto; pedir un campo sin anidados incluye todo su contenido.
+ * Sin el parámetro se incluyen todos los campos.
+ *
+ * Las listas no cuentan como nivel: {@code asesorias.id} es el id de cada
+ * asesoría de la lista.
+ *
+ * @author Daniel-VergaraM
+ */
+public final class CamposSolicitados {
+
+    public static final String PARAMETRO = "fields";
+
+    private static final CamposSolicitados TODOS = new CamposSolicitados(null);
+
+    // null: todos los campos
+    private final Map<String, CamposSolicitados> campos;
+
+    private CamposSolicitados(Map<String, CamposSolicitados> campos) {
+        this.campos = campos;
+    }
+
+    /**
+     * @param fields valor del parámetro, puede ser nulo
+     * @return los campos pedidos, o todos si el parámetro es nulo o vacío
+     */
+    public static CamposSolicitados de(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return TODOS;
+        }
+        CamposSolicitados raiz = new CamposSolicitados(new LinkedHashMap<>());
+        for (String campo : fields.split(",")) {
+            String[] ruta = campo.strip().split("\\.", -1);
+            boolean valida = true;
+            for (String parte : ruta) {
+                valida &= !parte.isBlank();
+            }
+            if (valida) {
+                raiz.agregar(ruta, 0);
+            }
+        }
+        return raiz.campos.isEmpty() ? TODOS : raiz;
+    }
+
+    public static CamposSolicitados todos() {
+        return TODOS;
+    }
+
+    private void agregar(String[] ruta, int nivel) {
+        if (campos == null) {
+            return;
+        }
+        String nombre = ruta[nivel].strip();
+        if (nivel == ruta.length - 1) {
+            campos.put(nombre, TODOS);
+            return;
+        }
+        campos.computeIfAbsent(nombre, n -> new CamposSolicitados(new LinkedHashMap<>())).agregar(ruta, nivel + 1);
+    }
+
+    /**
+     * @return true si se incluyen todos los campos
+     */
+    public boolean incluyeTodos() {
+        return campos == null;
+    }
+
+    /**
+     * @param campo nombre del campo en este nivel
+     * @return true si el campo, o alguno de sus anidados, se pidió
+     */
+    public boolean incluye(String campo) {
+        return campos == null || campos.containsKey(campo);
+    }
+
+    /**
+     * @param campo nombre del campo en este nivel
+     * @return los campos pedidos dentro del campo; todos si se pidió el campo
+     * completo
+     */
+    public CamposSolicitados anidados(String campo) {
+        return campos == null ? TODOS : campos.getOrDefault(campo, TODOS);
+    }
+
+    /**
+     * @param nombres nombre de cada campo de este nivel en otra capa, por
+     * ejemplo la asociación de la entidad que lo llena
+     * @return los nombres de los campos que se pidieron
+     */
+    public Set<String> traducir(Map<String, String> nombres) {
+        return nombres.entrySet().stream()
+                .filter(nombre -> incluye(nombre.getKey()))
+                .map(Map.Entry::getValue)
+                .collect(Collectors.toSet());
+    }
+}
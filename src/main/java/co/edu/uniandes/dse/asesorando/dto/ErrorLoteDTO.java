@@ -0,0 +1,19 @@
+package co.edu.uniandes.dse.asesorando.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Elemento de una solicitud por lotes que no se pudo procesar. El índice es
+ * su posición (desde 0) en la lista enviada.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ErrorLoteDTO {
+
+    private int indice;
+
+    private String mensaje;
+}
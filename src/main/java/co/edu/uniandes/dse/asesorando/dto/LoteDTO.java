@@ -0,0 +1,22 @@
+package co.edu.uniandes.dse.asesorando.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Respuesta de una creación por lotes: los elementos creados, en el orden en
+ * que se enviaron, y los que no se crearon con su motivo.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoteDTO<T> {
+
+    private List<T> creados = new ArrayList<>();
+
+    private List<ErrorLoteDTO> errores = new ArrayList<>();
+}
@@ -0,0 +1,23 @@
+package co.edu.uniandes.dse.asesorando.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Página de resultados paginada por cursor. Si {@code next} es nulo no hay
+ * más resultados; de lo contrario se envía como parámetro {@code cursor} para
+ * obtener la siguiente página.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaginaDTO<T> {
+
+    private List<T> items = new ArrayList<>();
+
+    private String next;
+}
@@ -0,0 +1,19 @@
+package co.edu.uniandes.dse.asesorando.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Profesor encontrado en una búsqueda por cercanía y su distancia al punto de
+ * la búsqueda.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfesorCercanoDTO {
+
+    private ProfesorDTO profesor;
+
+    private Double distanciaKm;
+}
@@ -45,6 +45,8 @@ public class ProfesorDTO {
     private String formacion;
     private String experiencia;
     private String precioHora;
+    // Solo lectura, lo calcula el servidor
+    private CalificacionesDTO calificaciones;
     // ProfesorVirtual
     private String enlaceReunion = null;
     // ProfesorPresencial
@@ -0,0 +1,27 @@
+package co.edu.uniandes.dse.asesorando.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Profesor de la clasificación de mejores profesores, con los datos por los
+ * que se ordena. {@code promedio} es nulo si no tiene calificaciones.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfesorDestacadoDTO {
+
+    private Long id;
+
+    private String nombre;
+
+    private Double promedio;
+
+    private Long calificaciones;
+
+    private Long asesoriasCompletadas;
+
+    private Double precioHora;
+}
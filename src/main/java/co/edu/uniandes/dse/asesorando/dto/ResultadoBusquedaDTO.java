@@ -0,0 +1,24 @@
+package co.edu.uniandes.dse.asesorando.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resultado de una búsqueda de texto libre. El tipo (PROFESOR, TEMATICA o
+ * ASESORIA) y el id indican a qué recurso corresponde; el puntaje sirve para
+ * comparar la relevancia de los resultados de una misma búsqueda.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResultadoBusquedaDTO {
+
+    private String tipo;
+
+    private Long id;
+
+    private String titulo;
+
+    private Double puntaje;
+}
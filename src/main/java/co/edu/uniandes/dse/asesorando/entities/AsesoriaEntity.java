@@ -23,18 +23,38 @@ SOFTWARE.
  */
 package co.edu.uniandes.dse.asesorando.entities;
 
+import java.util.Locale;
+
 import javax.validation.constraints.NotNull;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.Data;
 import uk.co.jemos.podam.common.PodamExclude;
 
 
 @Data   
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "asesorias")
+@Table(indexes = {
+    @Index(name = "idx_asesoria_profesor", columnList = "profesor_id"),
+    @Index(name = "idx_asesoria_tipo_normalizado", columnList = "tipoNormalizado"),
+    @Index(name = "idx_asesoria_area", columnList = "area"),
+    @Index(name = "idx_asesoria_area_normalizada", columnList = "areaNormalizada"),
+    @Index(name = "idx_asesoria_tematica", columnList = "tematica"),
+    @Index(name = "idx_asesoria_duracion", columnList = "duracion"),
+    @Index(name = "idx_asesoria_completada", columnList = "completada")
+})
 public class AsesoriaEntity extends BaseEntity {
 
     private String duracion;
@@ -43,6 +63,19 @@ public class AsesoriaEntity extends BaseEntity {
     private String area;
     private Boolean completada;
 
+    /**
+     * tipo en minúsculas, calculado al guardar para filtrar sin distinguir
+     * mayúsculas con el índice en vez de aplicar lower() a cada fila
+     */
+    @PodamExclude
+    private String tipoNormalizado;
+
+    /**
+     * area en minúsculas, calculada al guardar como tipoNormalizado
+     */
+    @PodamExclude
+    private String areaNormalizada;
+
 
     @PodamExclude
     @ManyToOne(targetEntity = UsuarioEntity.class)
@@ -64,5 +97,24 @@ public class AsesoriaEntity extends BaseEntity {
     @OneToOne
     @JoinColumn(name = "reserva_id")
     private ReservaEntity reserva;
-    
+
+    @PodamExclude
+    @Version
+    private Long version;
+
+    @PrePersist
+    @PreUpdate
+    void normalizar() {
+        tipoNormalizado = normalizar(tipo);
+        areaNormalizada = normalizar(area);
+    }
+
+    /**
+     * @param valor puede ser nulo
+     * @return el valor en minúsculas, como se guarda en las columnas
+     * normalizadas
+     */
+    public static String normalizar(String valor) {
+        return valor == null ? null : valor.toLowerCase(Locale.ROOT);
+    }
 }
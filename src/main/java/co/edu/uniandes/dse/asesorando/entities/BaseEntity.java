@@ -24,8 +24,9 @@ SOFTWARE.
 
 package co.edu.uniandes.dse.asesorando.entities;
 
+import org.hibernate.annotations.GenericGenerator;
+
 import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.MappedSuperclass;
 
@@ -45,6 +46,7 @@ public abstract class BaseEntity {
 
 	@PodamExclude
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(generator = GeneradorIdsPorBloques.NOMBRE)
+	@GenericGenerator(name = GeneradorIdsPorBloques.NOMBRE, type = GeneradorIdsPorBloques.class)
 	private Long id;
 }
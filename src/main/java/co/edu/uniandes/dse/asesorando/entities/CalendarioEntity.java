@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -38,4 +39,8 @@ private ProfesorEntity profesor;
 @OneToMany(mappedBy = "calendario", fetch = FetchType.LAZY)
 private List<AsesoriaEntity> asesorias;
 
+@PodamExclude
+@Version
+private Long version;
+
 }
\ No newline at end of file
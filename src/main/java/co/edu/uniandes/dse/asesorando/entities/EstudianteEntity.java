@@ -26,7 +26,7 @@ public class EstudianteEntity extends UsuarioEntity {
     @OneToMany(mappedBy = "estudiante", targetEntity = ReservaEntity.class)
     private List<ReservaEntity> reservas = new ArrayList<>();
 
-    @OneToMany(mappedBy = "comentario", cascade = CascadeType.ALL, orphanRemoval = true, targetEntity = ComentarioEntity.class)
+    @OneToMany(mappedBy = "estudiante", cascade = CascadeType.ALL, orphanRemoval = true, targetEntity = ComentarioEntity.class)
     private List<ComentarioEntity> comentarios = new ArrayList<>();
 
 }
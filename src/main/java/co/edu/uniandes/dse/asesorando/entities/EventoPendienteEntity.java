@@ -0,0 +1,34 @@
+package co.edu.uniandes.dse.asesorando.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Cambio que todavía no se ha propagado a las entidades que dependen de él.
+ * Se guarda en la misma transacción que el cambio y lo procesa después
+ * BandejaSalidaService.
+ *
+ * @author Daniel-VergaraM
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+public class EventoPendienteEntity extends BaseEntity {
+
+    private String tipo;
+
+    /**
+     * Id de la entidad que cambió; su tipo depende del tipo de evento
+     */
+    private Long entidadId;
+
+    private LocalDateTime creadoEn;
+}
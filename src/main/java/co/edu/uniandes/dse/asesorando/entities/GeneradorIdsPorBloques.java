@@ -0,0 +1,51 @@
+package co.edu.uniandes.dse.asesorando.entities;
+
+import java.util.Properties;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.id.PersistentIdentifierGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.enhanced.StandardOptimizerDescriptor;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * Genera los ids con una secuencia por tabla y el optimizador pooled: cada
+ * llamada a la secuencia reserva un bloque de ids que la aplicación reparte en
+ * memoria. Así Hibernate conoce el id antes de insertar y puede enviar los
+ * INSERT en lotes JDBC, y varias instancias de la aplicación pueden tomar
+ * bloques de la misma secuencia sin repetir ids.
+ *
+ * El tamaño del bloque se configura con la propiedad de Hibernate
+ * {@value #TAMANO_BLOQUE} (por defecto {@value #TAMANO_BLOQUE_POR_DEFECTO}).
+ * La secuencia se crea con ese mismo incremento.
+ *
+ * @author Daniel-VergaraM
+ */
+public class GeneradorIdsPorBloques extends SequenceStyleGenerator {
+
+    /**
+     * Nombre del generador en las anotaciones de las entidades
+     */
+    public static final String NOMBRE = "ids_por_bloques";
+
+    public static final String TAMANO_BLOQUE = "asesorando.ids.tamano_bloque";
+
+    public static final int TAMANO_BLOQUE_POR_DEFECTO = 50;
+
+    @Override
+    public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+        int tamanoBloque = serviceRegistry.requireService(ConfigurationService.class)
+                .getSetting(TAMANO_BLOQUE, StandardConverters.INTEGER, TAMANO_BLOQUE_POR_DEFECTO);
+        if (tamanoBloque < 1) {
+            throw new MappingException(TAMANO_BLOQUE + " debe ser mayor que 0");
+        }
+        parameters.put(INCREMENT_PARAM, String.valueOf(tamanoBloque));
+        parameters.put(OPT_PARAM, StandardOptimizerDescriptor.POOLED.getExternalName());
+        // Una secuencia por tabla (<tabla>_seq) en vez de una compartida por todas
+        parameters.putIfAbsent(SEQUENCE_PARAM, parameters.getProperty(PersistentIdentifierGenerator.TABLE) + "_seq");
+        super.configure(type, parameters, serviceRegistry);
+    }
+}
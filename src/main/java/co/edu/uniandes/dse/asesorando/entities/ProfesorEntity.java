@@ -25,19 +25,28 @@ package co.edu.uniandes.dse.asesorando.entities;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.validation.constraints.NotNull;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.CascadeType;
+import jakarta.persistence.Embedded;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import uk.co.jemos.podam.common.PodamExclude;
+import uk.co.jemos.podam.common.PodamStringValue;
 
 /**
  *
@@ -52,6 +61,14 @@ import uk.co.jemos.podam.common.PodamExclude;
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
 public class ProfesorEntity extends UsuarioEntity {
 
+    /**
+     * Precio en pesos: "$" opcional, separador de miles "." o "," en grupos de
+     * tres y hasta dos decimales con el otro separador ("40000", "$40.000",
+     * "40,000.50", "$ 40.000,50")
+     */
+    private static final Pattern PRECIO = Pattern.compile(
+            "\\$?\\s*(\\d{1,3}(?:([.,])\\d{3}(?:\\2\\d{3})*)?|\\d+)(?:([.,])(\\d{1,2}))?");
+
     @NotNull
     protected String tipo = "PROFESOR";
 
@@ -60,6 +77,7 @@ public class ProfesorEntity extends UsuarioEntity {
 
     @PodamExclude
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "profesor-tematicas")
     private List<TematicaEntity> tematicas = new ArrayList<>();
 
     @PodamExclude
@@ -69,16 +87,67 @@ public class ProfesorEntity extends UsuarioEntity {
     @NotNull
     private String experiencia;
 
+    /**
+     * Precio por hora en el formato de precioNumerico
+     */
     @NotNull
+    @PodamStringValue(strValue = "50000")
     private String precioHora;
 
+    /**
+     * Valor numérico de precioHora, calculado al guardar para poder filtrar y
+     * ordenar por precio en la base de datos.
+     */
+    @PodamExclude
+    private Double precioHoraNumerico;
+
     @NotNull
     private String fotoUrl;
 
+    /**
+     * Cantidad, suma e histograma de las calificaciones de los comentarios de
+     * sus reservas. Lo mantiene CalificacionesService.
+     */
+    @PodamExclude
+    @Embedded
+    private ResumenCalificaciones calificaciones = new ResumenCalificaciones();
+
     @NotNull
     private String videoUrl;
 
     @PodamExclude
     @OneToMany(mappedBy = "profesor", cascade = CascadeType.ALL, orphanRemoval = true, targetEntity = CalendarioEntity.class)
     private List<CalendarioEntity> calendario = new ArrayList<>();
+
+    @PrePersist
+    @PreUpdate
+    void calcularPrecioHoraNumerico() {
+        precioHoraNumerico = precioNumerico(precioHora);
+    }
+
+    /**
+     * Convierte un precio en pesos a número. Acepta un "$" opcional, miles
+     * separados con "." o "," en grupos de tres y hasta dos decimales con el
+     * otro separador, así que "$40.000" y "40,000" son 40000 y "40.000,50" es
+     * 40000.5. Un solo separador seguido de tres dígitos es de miles.
+     *
+     * @param precio
+     * @return el valor, o null si el precio es null o no tiene ese formato
+     */
+    public static Double precioNumerico(String precio) {
+        if (precio == null) {
+            return null;
+        }
+        Matcher partes = PRECIO.matcher(precio.trim());
+        if (!partes.matches()) {
+            return null;
+        }
+        String miles = partes.group(2);
+        String decimales = partes.group(3);
+        if (miles != null && miles.equals(decimales)) {
+            return null;
+        }
+        String entero = miles == null ? partes.group(1) : partes.group(1).replace(miles, "");
+        return Double.valueOf(decimales == null ? entero : entero + "." + partes.group(4));
+    }
 }
@@ -0,0 +1,73 @@
+package co.edu.uniandes.dse.asesorando.entities;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Resumen de las calificaciones que ha recibido un profesor: cuántas, su suma
+ * y cuántas hay de cada valor.
+ *
+ * Se guarda en la fila del profesor para no recorrer reservas, asesorias y
+ * comentarios cada vez que se muestra el promedio. Las columnas no se
+ * escriben al guardar el profesor, solo con las actualizaciones de
+ * ProfesorRepository que suman o reemplazan los valores; así guardar un
+ * profesor leído antes no deshace una calificación que llegó entretanto.
+ *
+ * Una calificación de 0 cuenta en la cantidad y la suma, pero no en el
+ * histograma de 1 a 5.
+ *
+ * @author Daniel-VergaraM
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class ResumenCalificaciones {
+
+    @ColumnDefault("0")
+    @Column(name = "calificaciones_cantidad", updatable = false)
+    private long cantidad;
+
+    @ColumnDefault("0")
+    @Column(name = "calificaciones_suma", updatable = false)
+    private long suma;
+
+    @ColumnDefault("0")
+    @Column(name = "calificaciones_1", updatable = false)
+    private long unaEstrella;
+
+    @ColumnDefault("0")
+    @Column(name = "calificaciones_2", updatable = false)
+    private long dosEstrellas;
+
+    @ColumnDefault("0")
+    @Column(name = "calificaciones_3", updatable = false)
+    private long tresEstrellas;
+
+    @ColumnDefault("0")
+    @Column(name = "calificaciones_4", updatable = false)
+    private long cuatroEstrellas;
+
+    @ColumnDefault("0")
+    @Column(name = "calificaciones_5", updatable = false)
+    private long cincoEstrellas;
+
+    /**
+     * @return el promedio, o null si no hay calificaciones
+     */
+    public Double getPromedio() {
+        return cantidad == 0 ? null : (double) suma / cantidad;
+    }
+
+    /**
+     * @return cuántas calificaciones hay de 1, 2, 3, 4 y 5, en ese orden
+     */
+    public long[] getHistograma() {
+        return new long[] { unaEstrella, dosEstrellas, tresEstrellas, cuatroEstrellas, cincoEstrellas };
+    }
+}
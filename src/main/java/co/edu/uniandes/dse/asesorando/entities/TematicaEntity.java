@@ -5,6 +5,9 @@ import java.util.List;
 
 import javax.validation.constraints.NotNull;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.Entity;
 import jakarta.persistence.ManyToMany;
 import lombok.AllArgsConstructor;
@@ -21,6 +24,7 @@ import uk.co.jemos.podam.common.PodamExclude;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tematicas")
 public class TematicaEntity extends BaseEntity {
 
     @NotNull
@@ -31,6 +35,7 @@ public class TematicaEntity extends BaseEntity {
 
     @PodamExclude
     @ManyToMany(mappedBy = "tematicas")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tematica-profesores")
     private List<ProfesorEntity> profesores = new ArrayList<>();
 
 }
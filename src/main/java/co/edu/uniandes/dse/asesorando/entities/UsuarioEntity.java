@@ -28,11 +28,16 @@ import java.util.List;
 
 import javax.validation.constraints.NotNull;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -49,6 +54,14 @@ import uk.co.jemos.podam.common.PodamExclude;
 @Data
 @Entity
 @Inheritance(strategy = InheritanceType.SINGLE_TABLE)
+// En herencia de tabla única la caché se declara en la raíz y la comparten
+// profesores y estudiantes
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "usuarios")
+@Table(indexes = {
+    @Index(name = "idx_usuario_tipo", columnList = "tipo"),
+    @Index(name = "idx_usuario_dtype", columnList = "dtype"),
+    @Index(name = "idx_profesor_precio_hora", columnList = "precio_hora_numerico")
+})
 public class UsuarioEntity extends BaseEntity {
 
     @NotNull
@@ -0,0 +1,30 @@
+package co.edu.uniandes.dse.asesorando.entities;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Versión de una colección de entidades (ver VersionesColecciones). Sube en
+ * la misma transacción que cambia la colección, así que todas las instancias
+ * de la aplicación la ven al mismo tiempo que el cambio.
+ *
+ * @author Daniel-VergaraM
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+
+@Entity
+public class VersionColeccionEntity {
+
+    /**
+     * Nombre de la clase de la colección, por ejemplo ProfesorEntity
+     */
+    @Id
+    private String coleccion;
+
+    private Long version;
+}
@@ -1,10 +1,12 @@
 package co.edu.uniandes.dse.asesorando.exceptions;
 
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.NOT_FOUND;
 import static org.springframework.http.HttpStatus.PRECONDITION_FAILED;
 
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -42,6 +44,21 @@ public class RestExceptionHandler extends ResponseEntityExceptionHandler {
         return buildResponseEntity(apiError);
     }
 
+    /**
+     * Handles ConcurrencyFailureException, thrown when another transaction
+     * changed the same entity and the retries did not succeed.
+     *
+     * @param ex the ConcurrencyFailureException
+     * @return the ApiError object
+     */
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    protected ResponseEntity<Object> handleConcurrencyFailure(
+    		ConcurrencyFailureException ex) {
+        ApiError apiError = new ApiError(CONFLICT);
+        apiError.setMessage("El recurso fue modificado por otra solicitud, intente de nuevo");
+        return buildResponseEntity(apiError);
+    }
+
     private ResponseEntity<Object> buildResponseEntity(ApiError apiError) {
         return new ResponseEntity<>(apiError, apiError.getStatus());
     }
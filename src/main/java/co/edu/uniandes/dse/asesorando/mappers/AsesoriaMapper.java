@@ -0,0 +1,29 @@
+package co.edu.uniandes.dse.asesorando.mappers;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+import co.edu.uniandes.dse.asesorando.dto.AsesoriaDTO;
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+
+/**
+ * Mapper entre {@link AsesoriaEntity} y {@link AsesoriaDTO}. El profesor se
+ * expone solo por su id.
+ *
+ * @author Daniel-VergaraM
+ */
+@Mapper(config = MapeoConfig.class, uses = ProfesorMapper.class)
+public interface AsesoriaMapper {
+
+    @Mapping(target = "profesorId", source = "profesor.id")
+    AsesoriaDTO toDto(AsesoriaEntity asesoria);
+
+    List<AsesoriaDTO> toDtoList(Iterable<AsesoriaEntity> asesorias);
+
+    @Mapping(target = "profesor", source = "profesorId", qualifiedByName = "profesorPorId")
+    @Mapping(target = "tipoNormalizado", ignore = true)
+    @Mapping(target = "areaNormalizada", ignore = true)
+    AsesoriaEntity toEntity(AsesoriaDTO asesoria);
+}
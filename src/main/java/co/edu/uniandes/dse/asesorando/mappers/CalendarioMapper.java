@@ -0,0 +1,23 @@
+package co.edu.uniandes.dse.asesorando.mappers;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+
+import co.edu.uniandes.dse.asesorando.dto.CalendarioDTO;
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+
+/**
+ * Mapper entre {@link CalendarioEntity} y {@link CalendarioDTO}.
+ *
+ * @author Daniel-VergaraM
+ */
+@Mapper(config = MapeoConfig.class)
+public interface CalendarioMapper {
+
+    CalendarioDTO toDto(CalendarioEntity calendario);
+
+    List<CalendarioDTO> toDtoList(Iterable<CalendarioEntity> calendarios);
+
+    CalendarioEntity toEntity(CalendarioDTO calendario);
+}
@@ -0,0 +1,23 @@
+package co.edu.uniandes.dse.asesorando.mappers;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+
+import co.edu.uniandes.dse.asesorando.dto.ComentarioDTO;
+import co.edu.uniandes.dse.asesorando.entities.ComentarioEntity;
+
+/**
+ * Mapper entre {@link ComentarioEntity} y {@link ComentarioDTO}.
+ *
+ * @author Daniel-VergaraM
+ */
+@Mapper(config = MapeoConfig.class)
+public interface ComentarioMapper {
+
+    ComentarioDTO toDto(ComentarioEntity comentario);
+
+    List<ComentarioDTO> toDtoList(Iterable<ComentarioEntity> comentarios);
+
+    ComentarioEntity toEntity(ComentarioDTO comentario);
+}
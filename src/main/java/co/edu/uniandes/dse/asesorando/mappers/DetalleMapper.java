@@ -0,0 +1,199 @@
+package co.edu.uniandes.dse.asesorando.mappers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mapstruct.BeanMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
+import org.mapstruct.SubclassMapping;
+
+import co.edu.uniandes.dse.asesorando.dto.AsesoriaDetail;
+import co.edu.uniandes.dse.asesorando.dto.CalendarioDTO;
+import co.edu.uniandes.dse.asesorando.dto.CalendarioDetailDTO;
+import co.edu.uniandes.dse.asesorando.dto.CamposSolicitados;
+import co.edu.uniandes.dse.asesorando.dto.EstudianteDetailDTO;
+import co.edu.uniandes.dse.asesorando.dto.ProfesorDetailsDTO;
+import co.edu.uniandes.dse.asesorando.dto.TematicaDetailDTO;
+import co.edu.uniandes.dse.asesorando.dto.UsuarioDetailsDTO;
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorPresencialEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorVirtualEntity;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import co.edu.uniandes.dse.asesorando.entities.UsuarioEntity;
+
+/**
+ * Mapper de las entidades a los DTO de detalle. Las relaciones se mapean con
+ * los mappers básicos de cada entidad, por lo que solo se recorre un nivel.
+ *
+ * Las variantes que reciben {@link CamposSolicitados} solo recorren las
+ * colecciones que el cliente pidió, así que las demás no se cargan de la base
+ * de datos; los campos que no se pidieron quedan vacíos y se quitan al
+ * escribir la respuesta.
+ *
+ * @author Daniel-VergaraM
+ */
+@Mapper(config = MapeoConfig.class, uses = { ProfesorMapper.class, TematicaMapper.class, AsesoriaMapper.class,
+        CalendarioMapper.class, ReservaMapper.class, ComentarioMapper.class })
+public interface DetalleMapper {
+
+    @SubclassMapping(source = ProfesorVirtualEntity.class, target = ProfesorDetailsDTO.class)
+    @SubclassMapping(source = ProfesorPresencialEntity.class, target = ProfesorDetailsDTO.class)
+    @Mapping(target = "calendarios", source = "calendario")
+    ProfesorDetailsDTO toProfesorDetail(ProfesorEntity profesor);
+
+    List<ProfesorDetailsDTO> toProfesorDetailList(Iterable<ProfesorEntity> profesores);
+
+    default ProfesorDetailsDTO toProfesorDetail(ProfesorEntity profesor, CamposSolicitados campos) {
+        if (profesor == null || campos.incluyeTodos()) {
+            return toProfesorDetail(profesor);
+        }
+        ProfesorDetailsDTO detalle;
+        if (profesor instanceof ProfesorVirtualEntity virtual) {
+            detalle = toProfesorDetailSinColecciones(virtual);
+        } else if (profesor instanceof ProfesorPresencialEntity presencial) {
+            detalle = toProfesorDetailSinColecciones(presencial);
+        } else {
+            detalle = toProfesorDetailSinColecciones(profesor);
+        }
+        if (campos.incluye("asesorias")) {
+            agregarAsesorias(profesor, detalle);
+        }
+        if (campos.incluye("tematicas")) {
+            agregarTematicas(profesor, detalle);
+        }
+        if (campos.incluye("calendarios")) {
+            agregarCalendarios(profesor, detalle);
+        }
+        return detalle;
+    }
+
+    default List<ProfesorDetailsDTO> toProfesorDetailList(Iterable<ProfesorEntity> profesores,
+            CamposSolicitados campos) {
+        List<ProfesorDetailsDTO> detalles = new ArrayList<>();
+        for (ProfesorEntity profesor : profesores) {
+            detalles.add(toProfesorDetail(profesor, campos));
+        }
+        return detalles;
+    }
+
+    @Named("sinColecciones")
+    @Mapping(target = "asesorias", ignore = true)
+    @Mapping(target = "tematicas", ignore = true)
+    @Mapping(target = "calendarios", ignore = true)
+    ProfesorDetailsDTO toProfesorDetailSinColecciones(ProfesorEntity profesor);
+
+    @Named("sinColecciones")
+    @Mapping(target = "asesorias", ignore = true)
+    @Mapping(target = "tematicas", ignore = true)
+    @Mapping(target = "calendarios", ignore = true)
+    ProfesorDetailsDTO toProfesorDetailSinColecciones(ProfesorVirtualEntity profesor);
+
+    @Named("sinColecciones")
+    @Mapping(target = "asesorias", ignore = true)
+    @Mapping(target = "tematicas", ignore = true)
+    @Mapping(target = "calendarios", ignore = true)
+    ProfesorDetailsDTO toProfesorDetailSinColecciones(ProfesorPresencialEntity profesor);
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "asesorias", source = "asesorias")
+    void agregarAsesorias(ProfesorEntity profesor, @MappingTarget ProfesorDetailsDTO detalle);
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "tematicas", source = "tematicas")
+    void agregarTematicas(ProfesorEntity profesor, @MappingTarget ProfesorDetailsDTO detalle);
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "calendarios", source = "calendario")
+    void agregarCalendarios(ProfesorEntity profesor, @MappingTarget ProfesorDetailsDTO detalle);
+
+    TematicaDetailDTO toTematicaDetail(TematicaEntity tematica);
+
+    List<TematicaDetailDTO> toTematicaDetailList(Iterable<TematicaEntity> tematicas);
+
+    default TematicaDetailDTO toTematicaDetail(TematicaEntity tematica, CamposSolicitados campos) {
+        if (tematica == null || campos.incluye("profesores")) {
+            return toTematicaDetail(tematica);
+        }
+        return toTematicaDetailSinProfesores(tematica);
+    }
+
+    default List<TematicaDetailDTO> toTematicaDetailList(Iterable<TematicaEntity> tematicas,
+            CamposSolicitados campos) {
+        List<TematicaDetailDTO> detalles = new ArrayList<>();
+        for (TematicaEntity tematica : tematicas) {
+            detalles.add(toTematicaDetail(tematica, campos));
+        }
+        return detalles;
+    }
+
+    @Named("sinProfesores")
+    @Mapping(target = "profesores", ignore = true)
+    TematicaDetailDTO toTematicaDetailSinProfesores(TematicaEntity tematica);
+
+    @Mapping(target = "profesorId", source = "profesor.id")
+    @Mapping(target = "profesor", source = "profesor", qualifiedByName = "profesorComoLista")
+    @Mapping(target = "reserva", source = "reserva", qualifiedByName = "reservaComoLista")
+    @Mapping(target = "calendario", source = "calendario", resultType = CalendarioDTO.class)
+    AsesoriaDetail toAsesoriaDetail(AsesoriaEntity asesoria);
+
+    List<AsesoriaDetail> toAsesoriaDetailList(Iterable<AsesoriaEntity> asesorias);
+
+    @Mapping(target = "profesores", source = "profesor", qualifiedByName = "profesorComoLista")
+    CalendarioDetailDTO toCalendarioDetail(CalendarioEntity calendario);
+
+    List<CalendarioDetailDTO> toCalendarioDetailList(Iterable<CalendarioEntity> calendarios);
+
+    default CalendarioDetailDTO toCalendarioDetail(CalendarioEntity calendario, CamposSolicitados campos) {
+        if (calendario == null || campos.incluyeTodos()) {
+            return toCalendarioDetail(calendario);
+        }
+        CalendarioDetailDTO detalle = toCalendarioDetailSinColecciones(calendario);
+        if (campos.incluye("profesores")) {
+            agregarProfesores(calendario, detalle);
+        }
+        if (campos.incluye("asesorias")) {
+            agregarAsesorias(calendario, detalle);
+        }
+        if (campos.incluye("reservas")) {
+            agregarReservas(calendario, detalle);
+        }
+        return detalle;
+    }
+
+    default List<CalendarioDetailDTO> toCalendarioDetailList(Iterable<CalendarioEntity> calendarios,
+            CamposSolicitados campos) {
+        List<CalendarioDetailDTO> detalles = new ArrayList<>();
+        for (CalendarioEntity calendario : calendarios) {
+            detalles.add(toCalendarioDetail(calendario, campos));
+        }
+        return detalles;
+    }
+
+    @Named("sinColecciones")
+    @Mapping(target = "profesores", ignore = true)
+    @Mapping(target = "asesorias", ignore = true)
+    @Mapping(target = "reservas", ignore = true)
+    CalendarioDetailDTO toCalendarioDetailSinColecciones(CalendarioEntity calendario);
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "profesores", source = "profesor", qualifiedByName = "profesorComoLista")
+    void agregarProfesores(CalendarioEntity calendario, @MappingTarget CalendarioDetailDTO detalle);
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "asesorias", source = "asesorias")
+    void agregarAsesorias(CalendarioEntity calendario, @MappingTarget CalendarioDetailDTO detalle);
+
+    @BeanMapping(ignoreByDefault = true)
+    @Mapping(target = "reservas", source = "reservas")
+    void agregarReservas(CalendarioEntity calendario, @MappingTarget CalendarioDetailDTO detalle);
+
+    EstudianteDetailDTO toEstudianteDetail(EstudianteEntity estudiante);
+
+    UsuarioDetailsDTO toUsuarioDetail(UsuarioEntity usuario);
+}
@@ -0,0 +1,22 @@
+package co.edu.uniandes.dse.asesorando.mappers;
+
+import org.mapstruct.MapperConfig;
+import org.mapstruct.MappingConstants;
+import org.mapstruct.NullValueMappingStrategy;
+import org.mapstruct.ReportingPolicy;
+
+/**
+ * Configuración común de los mappers entidad/DTO. Las implementaciones se
+ * generan en compilación y se registran como beans de Spring.
+ *
+ * Las relaciones de las entidades que no aparecen en el DTO se ignoran y las
+ * colecciones nulas se mapean a listas vacías, igual que los valores por
+ * defecto de los DTO.
+ *
+ * @author Daniel-VergaraM
+ */
+@MapperConfig(componentModel = MappingConstants.ComponentModel.SPRING,
+        unmappedTargetPolicy = ReportingPolicy.IGNORE,
+        nullValueIterableMappingStrategy = NullValueMappingStrategy.RETURN_DEFAULT)
+public interface MapeoConfig {
+}
@@ -0,0 +1,103 @@
+package co.edu.uniandes.dse.asesorando.mappers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.SubclassMapping;
+
+import co.edu.uniandes.dse.asesorando.dto.ProfesorDTO;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorPresencialEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorVirtualEntity;
+import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository.ProfesorListado;
+
+/**
+ * Mapper entre {@link ProfesorEntity} (y sus subclases) y {@link ProfesorDTO}.
+ *
+ * @author Daniel-VergaraM
+ */
+@Mapper(config = MapeoConfig.class)
+public interface ProfesorMapper {
+
+    @SubclassMapping(source = ProfesorVirtualEntity.class, target = ProfesorDTO.class)
+    @SubclassMapping(source = ProfesorPresencialEntity.class, target = ProfesorDTO.class)
+    ProfesorDTO toDto(ProfesorEntity profesor);
+
+    List<ProfesorDTO> toDtoList(Iterable<ProfesorEntity> profesores);
+
+    ProfesorDTO toDto(ProfesorListado profesor);
+
+    List<ProfesorDTO> toListadoDtoList(List<ProfesorListado> profesores);
+
+    List<ProfesorEntity> toEntityList(Iterable<ProfesorDTO> profesores);
+
+    /**
+     * Crea la entidad de la subclase que corresponde al tipo del DTO, de modo
+     * que el enlace de reunión o la ubicación no se pierdan al guardar.
+     *
+     * @param profesor DTO recibido en la petición.
+     * @return la entidad del tipo indicado, o {@code null} si el DTO es nulo.
+     */
+    default ProfesorEntity toEntity(ProfesorDTO profesor) {
+        if (profesor == null) {
+            return null;
+        }
+        if ("PROFESORVIRTUAL".equals(profesor.getTipo())) {
+            return toVirtualEntity(profesor);
+        }
+        if ("PROFESORPRESENCIAL".equals(profesor.getTipo())) {
+            return toPresencialEntity(profesor);
+        }
+        return toBaseEntity(profesor);
+    }
+
+    /**
+     * Mapea el profesor de una relación a uno a una lista de un elemento, como
+     * la exponen los DTO de detalle.
+     *
+     * @param profesor profesor de la relación, puede ser nulo.
+     * @return lista con el profesor, o vacía si no hay profesor.
+     */
+    @Named("profesorComoLista")
+    default List<ProfesorDTO> toDtoComoLista(ProfesorEntity profesor) {
+        List<ProfesorDTO> profesores = new ArrayList<>(1);
+        if (profesor != null) {
+            profesores.add(toDto(profesor));
+        }
+        return profesores;
+    }
+
+    /**
+     * Referencia a un profesor existente a partir de su id.
+     *
+     * @param id id del profesor, puede ser nulo.
+     * @return entidad con solo el id, o {@code null} si el id es nulo.
+     */
+    @Named("profesorPorId")
+    default ProfesorEntity referencia(Long id) {
+        if (id == null) {
+            return null;
+        }
+        ProfesorEntity profesor = new ProfesorEntity();
+        profesor.setId(id);
+        return profesor;
+    }
+
+    @Named("base")
+    @Mapping(target = "precioHoraNumerico", ignore = true)
+    @Mapping(target = "calificaciones", ignore = true)
+    ProfesorEntity toBaseEntity(ProfesorDTO profesor);
+
+    @Named("virtual")
+    @Mapping(target = "precioHoraNumerico", ignore = true)
+    @Mapping(target = "calificaciones", ignore = true)
+    ProfesorVirtualEntity toVirtualEntity(ProfesorDTO profesor);
+
+    @Named("presencial")
+    @Mapping(target = "precioHoraNumerico", ignore = true)
+    @Mapping(target = "calificaciones", ignore = true)
+    ProfesorPresencialEntity toPresencialEntity(ProfesorDTO profesor);
+}
@@ -0,0 +1,69 @@
+package co.edu.uniandes.dse.asesorando.mappers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+
+import co.edu.uniandes.dse.asesorando.dto.ReservaDTO;
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+
+/**
+ * Mapper entre {@link ReservaEntity} y {@link ReservaDTO}. El estudiante y la
+ * asesoría se exponen solo por su id.
+ *
+ * @author Daniel-VergaraM
+ */
+@Mapper(config = MapeoConfig.class)
+public interface ReservaMapper {
+
+    @Mapping(target = "estudianteId", source = "estudiante.id")
+    @Mapping(target = "asesoriaId", source = "asesoria.id")
+    ReservaDTO toDto(ReservaEntity reserva);
+
+    List<ReservaDTO> toDtoList(Iterable<ReservaEntity> reservas);
+
+    @Mapping(target = "estudiante", source = "estudianteId", qualifiedByName = "estudiantePorId")
+    @Mapping(target = "asesoria", source = "asesoriaId", qualifiedByName = "asesoriaPorId")
+    ReservaEntity toEntity(ReservaDTO reserva);
+
+    /**
+     * Mapea la reserva de una relación a uno a una lista de un elemento, como
+     * la exponen los DTO de detalle.
+     *
+     * @param reserva reserva de la relación, puede ser nula.
+     * @return lista con la reserva, o vacía si no hay reserva.
+     */
+    @Named("reservaComoLista")
+    default List<ReservaDTO> toDtoComoLista(ReservaEntity reserva) {
+        List<ReservaDTO> reservas = new ArrayList<>(1);
+        if (reserva != null) {
+            reservas.add(toDto(reserva));
+        }
+        return reservas;
+    }
+
+    @Named("estudiantePorId")
+    default EstudianteEntity estudiante(Long id) {
+        if (id == null) {
+            return null;
+        }
+        EstudianteEntity estudiante = new EstudianteEntity();
+        estudiante.setId(id);
+        return estudiante;
+    }
+
+    @Named("asesoriaPorId")
+    default AsesoriaEntity asesoria(Long id) {
+        if (id == null) {
+            return null;
+        }
+        AsesoriaEntity asesoria = new AsesoriaEntity();
+        asesoria.setId(id);
+        return asesoria;
+    }
+}
@@ -0,0 +1,25 @@
+package co.edu.uniandes.dse.asesorando.mappers;
+
+import java.util.List;
+
+import org.mapstruct.Mapper;
+
+import co.edu.uniandes.dse.asesorando.dto.TematicaDTO;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+
+/**
+ * Mapper entre {@link TematicaEntity} y {@link TematicaDTO}.
+ *
+ * @author Daniel-VergaraM
+ */
+@Mapper(config = MapeoConfig.class)
+public interface TematicaMapper {
+
+    TematicaDTO toDto(TematicaEntity tematica);
+
+    List<TematicaDTO> toDtoList(Iterable<TematicaEntity> tematicas);
+
+    TematicaEntity toEntity(TematicaDTO tematica);
+
+    List<TematicaEntity> toEntityList(Iterable<TematicaDTO> tematicas);
+}
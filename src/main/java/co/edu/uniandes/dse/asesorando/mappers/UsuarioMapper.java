@@ -0,0 +1,54 @@
+package co.edu.uniandes.dse.asesorando.mappers;
+
+import java.util.List;
+
+import org.mapstruct.IterableMapping;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.Named;
+
+import co.edu.uniandes.dse.asesorando.dto.EstudianteDTO;
+import co.edu.uniandes.dse.asesorando.dto.UsuarioDTO;
+import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
+import co.edu.uniandes.dse.asesorando.entities.UsuarioEntity;
+import co.edu.uniandes.dse.asesorando.repositories.UsuarioRepository.UsuarioListado;
+
+/**
+ * Mapper entre los usuarios ({@link UsuarioEntity}, {@link EstudianteEntity})
+ * y sus DTO.
+ *
+ * @author Daniel-VergaraM
+ */
+@Mapper(config = MapeoConfig.class)
+public interface UsuarioMapper {
+
+    UsuarioDTO toDto(UsuarioEntity usuario);
+
+    List<UsuarioDTO> toDtoList(Iterable<UsuarioEntity> usuarios);
+
+    UsuarioDTO toDto(UsuarioListado usuario);
+
+    List<UsuarioDTO> toListadoDtoList(List<UsuarioListado> usuarios);
+
+    UsuarioEntity toEntity(UsuarioDTO usuario);
+
+    /**
+     * Copia los datos del DTO sobre un usuario existente, sin cambiar su id.
+     *
+     * @param usuario DTO con los datos nuevos.
+     * @param existente usuario que se actualiza.
+     */
+    @Mapping(target = "id", ignore = true)
+    void actualizar(UsuarioDTO usuario, @MappingTarget UsuarioEntity existente);
+
+    EstudianteDTO toEstudianteDto(EstudianteEntity estudiante);
+
+    @Named("estudianteListado")
+    EstudianteDTO toEstudianteDto(UsuarioListado estudiante);
+
+    @IterableMapping(qualifiedByName = "estudianteListado")
+    List<EstudianteDTO> toEstudianteListadoDtoList(List<UsuarioListado> estudiantes);
+
+    EstudianteEntity toEstudianteEntity(EstudianteDTO estudiante);
+}
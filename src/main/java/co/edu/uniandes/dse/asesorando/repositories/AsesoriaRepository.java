@@ -2,13 +2,16 @@ package co.edu.uniandes.dse.asesorando.repositories;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
 
 @Repository
-public interface AsesoriaRepository extends JpaRepository<AsesoriaEntity, Long> {
+public interface AsesoriaRepository extends JpaRepository<AsesoriaEntity, Long>, JpaSpecificationExecutor<AsesoriaEntity> {
 
     List<AsesoriaEntity> findByTematica(String tematica);
 
@@ -20,4 +23,6 @@ public interface AsesoriaRepository extends JpaRepository<AsesoriaEntity, Long>
 
     List<AsesoriaEntity> findByCompletada(Boolean completada);
 
+    Slice<AsesoriaEntity> findByIdGreaterThan(Long id, Pageable pageable);
+
 }
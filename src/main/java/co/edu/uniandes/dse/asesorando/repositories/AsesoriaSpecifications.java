@@ -0,0 +1,63 @@
+package co.edu.uniandes.dse.asesorando.repositories;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+
+/**
+ * Predicados para construir consultas dinámicas sobre las asesorías. Cada
+ * método devuelve {@code null} cuando el filtro no fue proporcionado, de modo
+ * que se puedan combinar con {@link Specification#where(Specification)} y solo
+ * los filtros presentes lleguen a la consulta SQL.
+ */
+public final class AsesoriaSpecifications {
+
+    private AsesoriaSpecifications() {
+    }
+
+    public static Specification<AsesoriaEntity> deProfesor(Long profesorId) {
+        if (profesorId == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("profesor").get("id"), profesorId);
+    }
+
+    public static Specification<AsesoriaEntity> deTipo(String tipo) {
+        return igualSinMayusculas("tipoNormalizado", tipo);
+    }
+
+    public static Specification<AsesoriaEntity> deArea(String area) {
+        return igualSinMayusculas("areaNormalizada", area);
+    }
+
+    public static Specification<AsesoriaEntity> deTematica(String tematica) {
+        if (tematica == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("tematica"), tematica);
+    }
+
+    public static Specification<AsesoriaEntity> deDuracion(String duracion) {
+        if (duracion == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("duracion"), duracion);
+    }
+
+    public static Specification<AsesoriaEntity> completada(Boolean completada) {
+        if (completada == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("completada"), completada);
+    }
+
+    // El atributo es una de las columnas normalizadas de AsesoriaEntity, que
+    // ya están en minúsculas y tienen índice
+    private static Specification<AsesoriaEntity> igualSinMayusculas(String atributo, String valor) {
+        if (valor == null) {
+            return null;
+        }
+        String normalizado = AsesoriaEntity.normalizar(valor);
+        return (root, query, cb) -> cb.equal(root.get(atributo), normalizado);
+    }
+}
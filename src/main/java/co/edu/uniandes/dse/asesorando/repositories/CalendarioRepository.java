@@ -1,13 +1,20 @@
 package co.edu.uniandes.dse.asesorando.repositories;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
 import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Date;
+import java.util.Optional;
+import java.util.Set;
+
+import jakarta.persistence.LockModeType;
 
 @Repository
 public interface CalendarioRepository extends JpaRepository<CalendarioEntity, Long> {
@@ -18,5 +25,64 @@ List<CalendarioEntity> findByFechaInicioLessThan(Date fechaInicio);
 List<CalendarioEntity> findByFechaInicioBetween(Date fechaInicio, Date fechaFin);
 List<CalendarioEntity> findByProfesor(ProfesorEntity profesor);
 
+/**
+ * Busca el calendario para reservar en él. Su versión sube al confirmar la
+ * transacción, así que dos reservas simultáneas en el mismo calendario no
+ * pueden confirmarse ambas.
+ */
+@Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+Optional<CalendarioEntity> findParaReservarById(Long id);
+
+@EntityGraph(attributePaths = {"profesor", "asesorias"})
+List<CalendarioEntity> findWithAsesoriasByIdIn(Collection<Long> ids);
+
+@EntityGraph(attributePaths = "reservas")
+List<CalendarioEntity> findWithReservasByIdIn(Collection<Long> ids);
+
+@EntityGraph(attributePaths = "profesor")
+List<CalendarioEntity> findWithProfesorByIdIn(Collection<Long> ids);
+
+/**
+ * Relaciones que {@link #cargarDetalle(List, Set)} sabe inicializar
+ */
+Set<String> DETALLE = Set.of("profesor", "asesorias", "reservas");
+
+/**
+ * Inicializa el profesor, las asesorias y las reservas de los calendarios
+ * recibidos con dos consultas, sin importar cuántos calendarios sean. Las
+ * dos listas se traen por separado porque Hibernate no permite hacer fetch
+ * join de ambas a la vez. Debe llamarse dentro de una transacción.
+ *
+ * @param calendarios
+ * @return los mismos calendarios, con sus relaciones cargadas
+ */
+default List<CalendarioEntity> cargarDetalle(List<CalendarioEntity> calendarios) {
+    return cargarDetalle(calendarios, DETALLE);
+}
+
+/**
+ * Como {@link #cargarDetalle(List)}, pero solo inicializa las relaciones que
+ * se nombran en {@code asociaciones}. El profesor llega con las asesorias si
+ * se nombran ambos.
+ *
+ * @param calendarios
+ * @param asociaciones nombres de las relaciones de la entidad a cargar
+ * @return los mismos calendarios, con las relaciones pedidas cargadas
+ */
+default List<CalendarioEntity> cargarDetalle(List<CalendarioEntity> calendarios, Set<String> asociaciones) {
+    if (!calendarios.isEmpty()) {
+        List<Long> ids = calendarios.stream().map(CalendarioEntity::getId).toList();
+        if (asociaciones.contains("asesorias")) {
+            findWithAsesoriasByIdIn(ids);
+        } else if (asociaciones.contains("profesor")) {
+            findWithProfesorByIdIn(ids);
+        }
+        if (asociaciones.contains("reservas")) {
+            findWithReservasByIdIn(ids);
+        }
+    }
+    return calendarios;
+}
+
 
 }
@@ -3,6 +3,8 @@ package co.edu.uniandes.dse.asesorando.repositories;
 
 import java.util.List;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -14,5 +16,6 @@ import co.edu.uniandes.dse.asesorando.entities.ComentarioEntity;
 @Repository
 public interface ComentarioRepository extends  JpaRepository<ComentarioEntity, Long> {
     List<ComentarioEntity> findByCalificacion(Integer calificacion);
+    Slice<ComentarioEntity> findByIdGreaterThan(Long id, Pageable pageable);
     
 }
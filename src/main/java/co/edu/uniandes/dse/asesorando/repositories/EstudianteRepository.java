@@ -1,6 +1,10 @@
 package co.edu.uniandes.dse.asesorando.repositories;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import co.edu.uniandes.dse.asesorando.repositories.UsuarioRepository.UsuarioListado;
 import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
 import java.util.*;
 
@@ -12,4 +16,31 @@ public interface EstudianteRepository extends JpaRepository<EstudianteEntity, Lo
     <T extends EstudianteEntity> Optional<T> findByCorreo(String correo);
     /*Obtiene un estudiante específico buscado por nombre. */
     <T extends EstudianteEntity> Optional<T> findByNombre(String nombre);
-}
\ No newline at end of file
+    /*Obtiene el listado de todos los estudiantes, sin cargar las entidades. */
+    @Query("select e.id as id, 'ESTUDIANTE' as tipo, e.nombre as nombre, e.correo as correo, e.telefono as telefono "
+            + "from EstudianteEntity e order by e.id")
+    List<UsuarioListado> findListado();
+
+    @EntityGraph(attributePaths = "reservas")
+    List<EstudianteEntity> findWithReservasByIdIn(Collection<Long> ids);
+
+    @EntityGraph(attributePaths = "comentarios")
+    List<EstudianteEntity> findWithComentariosByIdIn(Collection<Long> ids);
+
+    /**
+     * Inicializa las reservas y los comentarios que expone el detalle de los
+     * estudiantes, con una consulta por colección. Debe llamarse dentro de una
+     * transacción.
+     *
+     * @param estudiantes
+     * @return los mismos estudiantes, con las colecciones cargadas
+     */
+    default List<EstudianteEntity> cargarDetalle(List<EstudianteEntity> estudiantes) {
+        if (!estudiantes.isEmpty()) {
+            List<Long> ids = estudiantes.stream().map(EstudianteEntity::getId).toList();
+            findWithReservasByIdIn(ids);
+            findWithComentariosByIdIn(ids);
+        }
+        return estudiantes;
+    }
+}
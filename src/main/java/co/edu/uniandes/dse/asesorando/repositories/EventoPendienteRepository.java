@@ -0,0 +1,26 @@
+package co.edu.uniandes.dse.asesorando.repositories;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import co.edu.uniandes.dse.asesorando.entities.EventoPendienteEntity;
+
+/**
+ * Interfaz que define las operaciones sobre la tabla de eventos pendientes
+ *
+ * @author Daniel-VergaraM
+ */
+@Repository
+public interface EventoPendienteRepository extends JpaRepository<EventoPendienteEntity, Long> {
+
+    /**
+     * Obtiene los eventos más antiguos, en el orden en que se registraron
+     *
+     * @param pageable
+     * @return
+     */
+    List<EventoPendienteEntity> findByOrderByIdAsc(Pageable pageable);
+}
@@ -23,28 +23,118 @@ SOFTWARE.
  */
 package co.edu.uniandes.dse.asesorando.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorPresencialEntity;
+import co.edu.uniandes.dse.asesorando.entities.ResumenCalificaciones;
+import jakarta.persistence.QueryHint;
 
 /**
  * Interfaz que define las operaciones sobre la tabla de profesores
  *
  * @author @Daniel-VergaraM
  */
-public interface ProfesorRepository extends JpaRepository<ProfesorEntity, Long> {
+public interface ProfesorRepository extends JpaRepository<ProfesorEntity, Long>, JpaSpecificationExecutor<ProfesorEntity> {
 
     /**
-     * Obtiene todos los profesores de un tipo en particular
+     * Cuenta, dentro de una actualización de ProfesorEntity p, los comentarios
+     * de las reservas de las asesorias de p
+     */
+    String CALIFICACIONES_DEL_PROFESOR = "select count(c) from ReservaEntity r join r.comentario c "
+            + "where r.asesoria.profesor.id = p.id";
+
+    /**
+     * Obtiene todos los profesores de un tipo en particular. El resultado se
+     * guarda en la caché de consultas hasta que cambie la tabla de usuarios.
      *
      * @param tipo
      * @return
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "consultas-catalogo")
+    })
     List<ProfesorEntity> findByTipo(String tipo);
 
+    /**
+     * Columnas de un profesor que se muestran en los listados: no incluye la
+     * contraseña, las relaciones ni las columnas propias de los profesores
+     * virtuales y presenciales, que solo se envían en el detalle. Las filas
+     * no quedan en el contexto de persistencia.
+     */
+    interface ProfesorListado {
+
+        Long getId();
+
+        String getTipo();
+
+        String getNombre();
+
+        String getCorreo();
+
+        String getTelefono();
+
+        String getFotoUrl();
+
+        String getFormacion();
+
+        String getExperiencia();
+
+        String getPrecioHora();
+
+        ResumenCalificaciones getCalificaciones();
+    }
+
+    /**
+     * Tipo de un profesor p como lo devuelve getTipo(), a partir de su clase
+     */
+    String TIPO = "case type(p) when ProfesorVirtualEntity then 'PROFESORVIRTUAL' "
+            + "when ProfesorPresencialEntity then 'PROFESORPRESENCIAL' else 'PROFESOR' end";
+
+    String LISTADO = "select p.id as id, " + TIPO + " as tipo, p.nombre as nombre, p.correo as correo, "
+            + "p.telefono as telefono, p.fotoUrl as fotoUrl, p.formacion as formacion, "
+            + "p.experiencia as experiencia, p.precioHora as precioHora, p.calificaciones as calificaciones "
+            + "from ProfesorEntity p";
+
+    /**
+     * Obtiene el listado de todos los profesores ordenado por id
+     *
+     * @return
+     */
+    @Query(LISTADO + " order by p.id")
+    List<ProfesorListado> findListado();
+
+    /**
+     * Obtiene el listado de los profesores de un tipo. Como findByTipo, el
+     * resultado se guarda en la caché de consultas, pero el tipo se toma de
+     * la clase del profesor y no de la columna tipo: se filtra por la clase
+     * (columna dtype, con índice) en vez de por TIPO.
+     *
+     * @param clases clases de los profesores del tipo buscado
+     * @return
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "consultas-catalogo")
+    })
+    @Query(LISTADO + " where type(p) in :clases order by p.id")
+    List<ProfesorListado> findListadoByTipo(@Param("clases") Collection<Class<? extends ProfesorEntity>> clases);
+
     /**
      * Obtiene un profesor por correo electrónico
      *
@@ -60,4 +150,206 @@ public interface ProfesorRepository extends JpaRepository<ProfesorEntity, Long>
      * @return
      */
     Optional<ProfesorEntity> findByNombre(String nombre);
+
+    /**
+     * Obtiene una página de profesores cuyo id es mayor al cursor recibido
+     *
+     * @param id
+     * @param pageable
+     * @return
+     */
+    Slice<ProfesorEntity> findByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * Obtiene los profesores con los ids recibidos junto con sus tematicas
+     *
+     * @param ids
+     * @return
+     */
+    @EntityGraph(attributePaths = "tematicas")
+    List<ProfesorEntity> findWithTematicasByIdIn(Collection<Long> ids);
+
+    /**
+     * Obtiene los profesores con los ids recibidos junto con sus asesorias
+     *
+     * @param ids
+     * @return
+     */
+    @EntityGraph(attributePaths = "asesorias")
+    List<ProfesorEntity> findWithAsesoriasByIdIn(Collection<Long> ids);
+
+    /**
+     * Obtiene los profesores con los ids recibidos junto con sus calendarios
+     *
+     * @param ids
+     * @return
+     */
+    @EntityGraph(attributePaths = "calendario")
+    List<ProfesorEntity> findWithCalendarioByIdIn(Collection<Long> ids);
+
+    /**
+     * Obtiene todos los profesores presenciales junto con sus tematicas
+     *
+     * @return
+     */
+    @EntityGraph(attributePaths = "tematicas")
+    @Query("select p from ProfesorPresencialEntity p")
+    List<ProfesorPresencialEntity> findPresencialesConTematicas();
+
+    /**
+     * Suma veces calificaciones con el valor recibido al resumen del
+     * profesor, o las resta si veces es negativo. Es una sola sentencia, así
+     * que dos comentarios que llegan a la vez no se pisan.
+     *
+     * @param profesorId
+     * @param calificacion valor de 0 a 5
+     * @param veces
+     * @return cantidad de profesores actualizados
+     */
+    @Modifying
+    @Query("update ProfesorEntity p set "
+            + "p.calificaciones.cantidad = p.calificaciones.cantidad + :veces, "
+            + "p.calificaciones.suma = p.calificaciones.suma + :veces * :calificacion, "
+            + "p.calificaciones.unaEstrella = p.calificaciones.unaEstrella + case when :calificacion = 1 then :veces else 0 end, "
+            + "p.calificaciones.dosEstrellas = p.calificaciones.dosEstrellas + case when :calificacion = 2 then :veces else 0 end, "
+            + "p.calificaciones.tresEstrellas = p.calificaciones.tresEstrellas + case when :calificacion = 3 then :veces else 0 end, "
+            + "p.calificaciones.cuatroEstrellas = p.calificaciones.cuatroEstrellas + case when :calificacion = 4 then :veces else 0 end, "
+            + "p.calificaciones.cincoEstrellas = p.calificaciones.cincoEstrellas + case when :calificacion = 5 then :veces else 0 end "
+            + "where p.id = :profesorId")
+    int sumarCalificaciones(@Param("profesorId") Long profesorId, @Param("calificacion") long calificacion,
+            @Param("veces") long veces);
+
+    /**
+     * Recalcula el resumen de calificaciones de todos los profesores a partir
+     * de los comentarios de las reservas de sus asesorias, en una sola
+     * sentencia
+     *
+     * @return cantidad de profesores actualizados
+     */
+    @Modifying
+    @Query("update ProfesorEntity p set "
+            + "p.calificaciones.cantidad = (" + CALIFICACIONES_DEL_PROFESOR + " and c.calificacion between 0 and 5), "
+            + "p.calificaciones.suma = (select coalesce(sum(c.calificacion), 0) from ReservaEntity r join r.comentario c "
+            + "where r.asesoria.profesor.id = p.id and c.calificacion between 0 and 5), "
+            + "p.calificaciones.unaEstrella = (" + CALIFICACIONES_DEL_PROFESOR + " and c.calificacion = 1), "
+            + "p.calificaciones.dosEstrellas = (" + CALIFICACIONES_DEL_PROFESOR + " and c.calificacion = 2), "
+            + "p.calificaciones.tresEstrellas = (" + CALIFICACIONES_DEL_PROFESOR + " and c.calificacion = 3), "
+            + "p.calificaciones.cuatroEstrellas = (" + CALIFICACIONES_DEL_PROFESOR + " and c.calificacion = 4), "
+            + "p.calificaciones.cincoEstrellas = (" + CALIFICACIONES_DEL_PROFESOR + " and c.calificacion = 5)")
+    int recalcularCalificaciones();
+
+    /**
+     * Datos con los que se ordena a los profesores en MejoresProfesoresService
+     */
+    interface Clasificable {
+
+        Long getId();
+
+        String getNombre();
+
+        long getCalificaciones();
+
+        long getSumaCalificaciones();
+
+        long getAsesoriasCompletadas();
+
+        Double getPrecio();
+    }
+
+    /**
+     * Área de una de las tematicas de un profesor
+     */
+    interface AreaDeProfesor {
+
+        Long getProfesorId();
+
+        String getArea();
+    }
+
+    String CLASIFICABLES = "select p.id as id, p.nombre as nombre, p.calificaciones.cantidad as calificaciones, "
+            + "p.calificaciones.suma as sumaCalificaciones, p.precioHoraNumerico as precio, "
+            + "(select count(a) from AsesoriaEntity a where a.profesor.id = p.id and a.completada = true) "
+            + "as asesoriasCompletadas from ProfesorEntity p";
+
+    /**
+     * Obtiene los datos de clasificación de todos los profesores, con las
+     * asesorias completadas contadas en la misma consulta
+     *
+     * @return
+     */
+    @Query(CLASIFICABLES)
+    List<Clasificable> findClasificables();
+
+    /**
+     * Obtiene los datos de clasificación de los profesores con los ids
+     * recibidos
+     *
+     * @param ids
+     * @return
+     */
+    @Query(CLASIFICABLES + " where p.id in :ids")
+    List<Clasificable> findClasificablesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Obtiene las áreas de las tematicas de todos los profesores
+     *
+     * @return
+     */
+    @Query("select distinct p.id as profesorId, t.area as area from ProfesorEntity p join p.tematicas t")
+    List<AreaDeProfesor> findAreas();
+
+    /**
+     * Obtiene las áreas de las tematicas de los profesores con los ids
+     * recibidos
+     *
+     * @param ids
+     * @return
+     */
+    @Query("select distinct p.id as profesorId, t.area as area from ProfesorEntity p join p.tematicas t "
+            + "where p.id in :ids")
+    List<AreaDeProfesor> findAreasByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Colecciones que {@link #cargarDetalle(List, Set)} sabe inicializar
+     */
+    Set<String> DETALLE = Set.of("tematicas", "asesorias", "calendario");
+
+    /**
+     * Inicializa las colecciones que expone el detalle de los profesores
+     * (tematicas, asesorias y calendario) con una consulta por colección, sin
+     * importar cuántos profesores sean. Cada colección se trae por separado
+     * porque Hibernate no permite hacer fetch join de varias listas a la vez.
+     * Debe llamarse dentro de una transacción para que las colecciones queden
+     * en las mismas instancias recibidas.
+     *
+     * @param profesores
+     * @return los mismos profesores, con las colecciones cargadas
+     */
+    default List<ProfesorEntity> cargarDetalle(List<ProfesorEntity> profesores) {
+        return cargarDetalle(profesores, DETALLE);
+    }
+
+    /**
+     * Como {@link #cargarDetalle(List)}, pero solo inicializa las colecciones
+     * nombradas en {@code asociaciones}
+     *
+     * @param profesores
+     * @param asociaciones nombres de las colecciones de la entidad a cargar
+     * @return los mismos profesores, con las colecciones pedidas cargadas
+     */
+    default List<ProfesorEntity> cargarDetalle(List<ProfesorEntity> profesores, Set<String> asociaciones) {
+        if (!profesores.isEmpty()) {
+            List<Long> ids = profesores.stream().map(ProfesorEntity::getId).toList();
+            if (asociaciones.contains("tematicas")) {
+                findWithTematicasByIdIn(ids);
+            }
+            if (asociaciones.contains("asesorias")) {
+                findWithAsesoriasByIdIn(ids);
+            }
+            if (asociaciones.contains("calendario")) {
+                findWithCalendarioByIdIn(ids);
+            }
+        }
+        return profesores;
+    }
 }
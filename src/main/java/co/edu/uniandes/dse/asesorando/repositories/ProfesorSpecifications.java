@@ -0,0 +1,81 @@
+package co.edu.uniandes.dse.asesorando.repositories;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Predicados para la búsqueda de profesores. Cada método devuelve
+ * {@code null} cuando el criterio no fue proporcionado.
+ *
+ * @author Daniel-VergaraM
+ */
+public final class ProfesorSpecifications {
+
+    private ProfesorSpecifications() {
+    }
+
+    public static Specification<ProfesorEntity> deTipo(String tipo) {
+        if (tipo == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.get("tipo"), tipo);
+    }
+
+    public static Specification<ProfesorEntity> deClase(Class<? extends ProfesorEntity> clase) {
+        if (clase == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.equal(root.type(), clase);
+    }
+
+    public static Specification<ProfesorEntity> precioDesde(Double minimo) {
+        if (minimo == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("precioHoraNumerico"), minimo);
+    }
+
+    public static Specification<ProfesorEntity> precioHasta(Double maximo) {
+        if (maximo == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("precioHoraNumerico"), maximo);
+    }
+
+    public static Specification<ProfesorEntity> despuesDe(Long id) {
+        if (id == null) {
+            return null;
+        }
+        return (root, query, cb) -> cb.greaterThan(root.get("id"), id);
+    }
+
+    /**
+     * Profesores que tienen al menos una tematica con el tema y el área dados.
+     * Se resuelve con un EXISTS sobre la tabla de unión, por lo que no se
+     * duplican filas ni se cargan las colecciones de tematicas.
+     */
+    public static Specification<ProfesorEntity> conTematica(String tema, String area) {
+        if (tema == null && area == null) {
+            return null;
+        }
+        return (root, query, cb) -> {
+            Subquery<Long> subquery = query.subquery(Long.class);
+            Root<ProfesorEntity> profesor = subquery.correlate(root);
+            Join<ProfesorEntity, TematicaEntity> tematica = profesor.join("tematicas");
+            subquery.select(tematica.get("id"));
+            if (tema != null && area != null) {
+                subquery.where(cb.equal(tematica.get("tema"), tema), cb.equal(tematica.get("area"), area));
+            } else if (tema != null) {
+                subquery.where(cb.equal(tematica.get("tema"), tema));
+            } else {
+                subquery.where(cb.equal(tematica.get("area"), area));
+            }
+            return cb.exists(subquery);
+        };
+    }
+}
@@ -1,12 +1,23 @@
 package co.edu.uniandes.dse.asesorando.repositories;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import jakarta.persistence.QueryHint;
 
 
 @Repository
@@ -15,5 +26,52 @@ public interface ReservaRepository extends JpaRepository<ReservaEntity, Long> {
     List<ReservaEntity> findByEstado(String estado);
     List<ReservaEntity> findByCalendarioId(Long calendarioId);
     List<ReservaEntity> findByEstudianteId(Long estudianteId);
-    
+    Slice<ReservaEntity> findByIdGreaterThan(Long id, Pageable pageable);
+    boolean existsByAsesoriaId(Long asesoriaId);
+    Optional<ReservaEntity> findByComentarioId(Long comentarioId);
+
+    @Query("select r.asesoria.id from ReservaEntity r where r.asesoria.id in :asesoriaIds")
+    List<Long> findAsesoriasReservadas(@Param("asesoriaIds") Collection<Long> asesoriaIds);
+
+    /**
+     * Recorre las reservas en orden de id sin cargarlas en memoria: cada fila
+     * trae solo sus columnas y los ids de estudiante y asesoría, no entidades,
+     * así que nada queda en el contexto de persistencia mientras se recorre.
+     * Los filtros en null no se aplican. El stream debe cerrarse y usarse
+     * dentro de una transacción.
+     *
+     * @param desde fecha de reserva mínima, incluida
+     * @param hasta fecha de reserva máxima, excluida
+     * @param estado
+     * @return
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select r.id as id, r.fechaReserva as fechaReserva, r.cancelada as cancelada, r.estado as estado, "
+            + "r.estudiante.id as estudianteId, r.asesoria.id as asesoriaId from ReservaEntity r "
+            + "where (cast(:desde as LocalDateTime) is null or r.fechaReserva >= :desde) "
+            + "and (cast(:hasta as LocalDateTime) is null or r.fechaReserva < :hasta) "
+            + "and (cast(:estado as String) is null or r.estado = :estado) order by r.id")
+    Stream<ReservaExportable> streamParaExportar(@Param("desde") LocalDateTime desde,
+            @Param("hasta") LocalDateTime hasta, @Param("estado") String estado);
+
+    /**
+     * Fila de la exportación de reservas
+     */
+    interface ReservaExportable {
+
+        Long getId();
+
+        LocalDateTime getFechaReserva();
+
+        Boolean getCancelada();
+
+        String getEstado();
+
+        Long getEstudianteId();
+
+        Long getAsesoriaId();
+    }
 }
@@ -1,11 +1,19 @@
 package co.edu.uniandes.dse.asesorando.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import jakarta.persistence.QueryHint;
 
 /**
  * Interfaz que define las operaciones sobre la tabla de tematicas
@@ -23,11 +31,16 @@ public interface TematicaRepository extends JpaRepository<TematicaEntity, Long>
     Optional<TematicaEntity> findByTema(String tema);
 
     /**
-     * Obtiene todas las tematicas por su area
+     * Obtiene todas las tematicas por su area. El resultado se guarda en la
+     * caché de consultas hasta que cambie la tabla de tematicas.
      *
      * @param area
      * @return
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "consultas-catalogo")
+    })
     List<TematicaEntity> findByArea(String area);
 
     /**
@@ -38,4 +51,53 @@ public interface TematicaRepository extends JpaRepository<TematicaEntity, Long>
      * @return
      */
     Optional<TematicaEntity> findByTemaAndArea(String tema, String area);
+
+    /**
+     * Obtiene una página de tematicas cuyo id es mayor al cursor recibido
+     *
+     * @param id
+     * @param pageable
+     * @return
+     */
+    Slice<TematicaEntity> findByIdGreaterThan(Long id, Pageable pageable);
+
+    /**
+     * Obtiene las tematicas con los ids recibidos junto con sus profesores
+     *
+     * @param ids
+     * @return
+     */
+    @EntityGraph(attributePaths = "profesores")
+    List<TematicaEntity> findWithProfesoresByIdIn(Collection<Long> ids);
+
+    /**
+     * Colecciones que {@link #cargarDetalle(List, Set)} sabe inicializar
+     */
+    Set<String> DETALLE = Set.of("profesores");
+
+    /**
+     * Inicializa los profesores de las tematicas recibidas con una sola
+     * consulta. Debe llamarse dentro de una transacción.
+     *
+     * @param tematicas
+     * @return las mismas tematicas, con los profesores cargados
+     */
+    default List<TematicaEntity> cargarDetalle(List<TematicaEntity> tematicas) {
+        return cargarDetalle(tematicas, DETALLE);
+    }
+
+    /**
+     * Como {@link #cargarDetalle(List)}, pero solo si se pidieron los
+     * profesores en {@code asociaciones}
+     *
+     * @param tematicas
+     * @param asociaciones nombres de las colecciones de la entidad a cargar
+     * @return las mismas tematicas
+     */
+    default List<TematicaEntity> cargarDetalle(List<TematicaEntity> tematicas, Set<String> asociaciones) {
+        if (!tematicas.isEmpty() && asociaciones.contains("profesores")) {
+            findWithProfesoresByIdIn(tematicas.stream().map(TematicaEntity::getId).toList());
+        }
+        return tematicas;
+    }
 }
@@ -1,9 +1,12 @@
 package co.edu.uniandes.dse.asesorando.repositories;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import co.edu.uniandes.dse.asesorando.entities.UsuarioEntity;
 
@@ -40,4 +43,57 @@ public interface UsuarioRepository extends JpaRepository<UsuarioEntity, Long> {
      *
      */
     <T extends UsuarioEntity> Optional<T> findByNombre(String nombre);
+
+    /**
+     * Columnas de un usuario que se muestran en los listados. No incluye la
+     * contraseña ni las relaciones, y las filas no quedan en el contexto de
+     * persistencia.
+     */
+    interface UsuarioListado {
+
+        Long getId();
+
+        String getTipo();
+
+        String getNombre();
+
+        String getCorreo();
+
+        String getTelefono();
+    }
+
+    /**
+     * Tipo de un usuario u como lo devuelve getTipo(). Las subclases tienen
+     * su propio campo tipo, que no se guarda en la columna tipo, así que el
+     * tipo de ellas sale de la clase.
+     */
+    String TIPO = "case type(u) when EstudianteEntity then 'ESTUDIANTE' "
+            + "when ProfesorVirtualEntity then 'PROFESORVIRTUAL' "
+            + "when ProfesorPresencialEntity then 'PROFESORPRESENCIAL' "
+            + "when ProfesorEntity then 'PROFESOR' else u.tipo end";
+
+    String LISTADO = "select u.id as id, " + TIPO + " as tipo, u.nombre as nombre, u.correo as correo, "
+            + "u.telefono as telefono from UsuarioEntity u";
+
+    /**
+     * Obtiene el listado de todos los usuarios ordenado por id
+     *
+     * @return
+     */
+    @Query(LISTADO + " order by u.id")
+    List<UsuarioListado> findListado();
+
+    /**
+     * Obtiene el listado de los usuarios de un tipo ordenado por id. El filtro
+     * es sobre la clase (columna dtype, con índice) y no sobre TIPO, que la
+     * base de datos tendría que calcular fila por fila. Los UsuarioEntity que
+     * no son de una subclase se filtran por su columna tipo.
+     *
+     * @param clases clases cuyo tipo es el buscado, incluida UsuarioEntity
+     * @param tipo
+     * @return
+     */
+    @Query(LISTADO + " where type(u) in :clases and (type(u) <> UsuarioEntity or u.tipo = :tipo) order by u.id")
+    List<UsuarioListado> findListadoByTipo(@Param("clases") Collection<Class<? extends UsuarioEntity>> clases,
+            @Param("tipo") String tipo);
 }
@@ -0,0 +1,48 @@
+package co.edu.uniandes.dse.asesorando.repositories;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import co.edu.uniandes.dse.asesorando.entities.VersionColeccionEntity;
+
+/**
+ * Interfaz que define las operaciones sobre las versiones de las colecciones
+ *
+ * @author Daniel-VergaraM
+ */
+@Repository
+public interface VersionColeccionRepository extends JpaRepository<VersionColeccionEntity, String> {
+
+    /**
+     * Consulta que sube en uno la versión de las colecciones :colecciones
+     */
+    String INCREMENTAR = "update VersionColeccionEntity v set v.version = v.version + 1 "
+            + "where v.coleccion in :colecciones";
+
+    /**
+     * Obtiene las versiones de las colecciones, ordenadas por nombre de
+     * colección. Solo trae los números, sin cargar entidades.
+     *
+     * @param colecciones
+     * @return
+     */
+    @Query("select v.version from VersionColeccionEntity v where v.coleccion in :colecciones order by v.coleccion")
+    List<Long> findVersiones(@Param("colecciones") Collection<String> colecciones);
+
+    /**
+     * Sube en uno la versión de las colecciones. Debe llamarse dentro de una
+     * transacción.
+     *
+     * @param colecciones
+     * @return cantidad de colecciones actualizadas
+     */
+    @Modifying
+    @Query(INCREMENTAR)
+    int incrementar(@Param("colecciones") Collection<String> colecciones);
+}
@@ -0,0 +1,36 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Aplaza cambios a los índices en memoria hasta que se confirma la transacción
+ * actual, para que una transacción revertida no los deje con datos que no
+ * quedaron en la base de datos.
+ *
+ * @author Daniel-VergaraM
+ */
+final class AlConfirmar {
+
+    private AlConfirmar() {
+    }
+
+    /**
+     * Ejecuta el cambio cuando se confirme la transacción actual, o de
+     * inmediato si no hay una
+     *
+     * @param cambio
+     */
+    static void ejecutar(Runnable cambio) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cambio.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cambio.run();
+            }
+        });
+    }
+}
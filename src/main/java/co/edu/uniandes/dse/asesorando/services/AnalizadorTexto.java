@@ -0,0 +1,69 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Convierte texto en español en los términos que guarda el índice de
+ * búsqueda: separa por todo lo que no sea letra o dígito, pasa a minúsculas,
+ * quita tildes y diéresis, descarta palabras vacías ("de", "la", "en", ...) y
+ * reduce los plurales regulares al singular, de modo que "Cálculos
+ * integrales" y "calculo integral" dan los mismos términos.
+ *
+ * @author Daniel-VergaraM
+ */
+public final class AnalizadorTexto {
+
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+
+    private static final Set<String> PALABRAS_VACIAS = Set.of("a", "al", "ante", "con", "como", "contra", "de",
+            "del", "desde", "e", "el", "en", "entre", "es", "esta", "este", "hacia", "hasta", "la", "las", "le",
+            "les", "lo", "los", "mas", "me", "mi", "mis", "muy", "ni", "no", "o", "para", "pero", "por", "que",
+            "se", "sin", "sobre", "su", "sus", "te", "tu", "tus", "u", "un", "una", "unas", "unos", "y", "ya", "yo");
+
+    private AnalizadorTexto() {
+    }
+
+    /**
+     * Términos del texto en el orden en que aparecen, con repeticiones
+     *
+     * @param texto puede ser null
+     * @return
+     */
+    public static List<String> terminos(String texto) {
+        List<String> terminos = new ArrayList<>();
+        if (texto == null || texto.isBlank()) {
+            return terminos;
+        }
+        String normalizado = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        for (String palabra : SEPARADORES.split(normalizado)) {
+            if (!palabra.isEmpty() && !PALABRAS_VACIAS.contains(palabra)) {
+                terminos.add(singular(palabra));
+            }
+        }
+        return terminos;
+    }
+
+    /**
+     * Quita la terminación del plural regular: "-es" después de l, r, n, d, z
+     * o j ("integrales", "profesores") y "-s" después de vocal ("clases",
+     * "temas"). No intenta cubrir los plurales irregulares.
+     */
+    static String singular(String palabra) {
+        int largo = palabra.length();
+        if (largo > 4 && palabra.endsWith("es") && "lrndzj".indexOf(palabra.charAt(largo - 3)) >= 0) {
+            return palabra.substring(0, largo - 2);
+        }
+        if (largo > 3 && palabra.endsWith("s") && "aeiou".indexOf(palabra.charAt(largo - 2)) >= 0) {
+            return palabra.substring(0, largo - 1);
+        }
+        return palabra;
+    }
+}
@@ -28,6 +28,7 @@ import java.util.List;
 
 import javax.validation.constraints.NotNull;
 
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -57,6 +58,15 @@ public class AsesoriaCalendarioService {
     @Autowired
     private CalendarioRepository calendarioRepository;
 
+    @Autowired
+    private BloqueosPorCalendario bloqueosPorCalendario;
+
+    @Autowired
+    private BusquedaService busquedaService;
+
+    @Autowired
+    private MejoresProfesoresService mejoresProfesoresService;
+
     private String exceptionPartString = "El calendario con ID ";
 
     private String exceptionPartString2 = "La asesoría con ID ";
@@ -73,11 +83,13 @@ public class AsesoriaCalendarioService {
      * @throws IllegalOperationException Si la asesoría ya está asignada a un
      *                                   calendario.
      */
+    @ReintentarSiHayConflicto
     @Transactional
     public AsesoriaEntity crearAsesoriaEnCalendario(@NotNull Long calendarioId, @NotNull Long asesoriaId)
             throws EntityNotFoundException, IllegalOperationException {
         log.info("Iniciacion de la  creación de asesoría en el calendario con ID: {}", calendarioId);
-        CalendarioEntity calendario = calendarioRepository.findById(calendarioId)
+        bloqueosPorCalendario.bloquearHastaTerminar(calendarioId);
+        CalendarioEntity calendario = calendarioRepository.findParaReservarById(calendarioId)
                 .orElseThrow(() -> new EntityNotFoundException(
                         exceptionPartString + calendarioId + " no esta en la base de datos"));
         AsesoriaEntity asesoria = asesoriaRepository.findById(asesoriaId).orElseThrow(
@@ -100,6 +112,8 @@ public class AsesoriaCalendarioService {
         CalendarioEntity calendario = calendarioRepository.findById(calendarioId)
                 .orElseThrow(() -> new EntityNotFoundException(exceptionPartString + calendarioId + exceptionPartString3));
 
+        // Se inicializa aquí: quien la recibe la recorre fuera de la transacción
+        Hibernate.initialize(calendario.getAsesorias());
         return calendario.getAsesorias();
     }
 
@@ -146,6 +160,7 @@ public class AsesoriaCalendarioService {
         // La asesoría ya pertenece al calendario, actualizamos sus datos
         AsesoriaEntity asesoriaActualizada = asesoriaRepository.save(asesoria);
         calendarioRepository.save(calendario);
+        busquedaService.indexar(asesoriaActualizada);
 
         log.info("Finaliza proceso de actualización de asesoría con ID = {}", asesoriaId);
         return asesoriaActualizada;
@@ -195,6 +210,10 @@ public class AsesoriaCalendarioService {
 
         calendario.getAsesorias().remove(asesoria);
         asesoriaRepository.deleteById(asesoriaId);
+        busquedaService.quitar(BusquedaService.ASESORIA, asesoriaId);
+        if (asesoria.getProfesor() != null) {
+            mejoresProfesoresService.actualizar(asesoria.getProfesor().getId());
+        }
 
         log.info("Termina proceso de eliminación de asesoría con ID = {}", asesoriaId);
     }
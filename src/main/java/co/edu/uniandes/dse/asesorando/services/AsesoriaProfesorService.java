@@ -51,6 +51,12 @@ public class AsesoriaProfesorService {
     @Autowired
     private ProfesorRepository profesorRepository;
 
+    @Autowired
+    private BusquedaService busquedaService;
+
+    @Autowired
+    private MejoresProfesoresService mejoresProfesoresService;
+
     private String exceptionPartString = "El profesor con ID ";
 
     private String exceptionPartString2 = " no existe.";
@@ -125,8 +131,11 @@ public class AsesoriaProfesorService {
 
         // Asignar el ID correcto a la nueva asesoría
         nuevaAsesoria.setId(asesoriaId);
+        nuevaAsesoria.setVersion(asesoria.getVersion());
         nuevaAsesoria.setProfesor(asesoria.getProfesor()); // Mantener el mismo profesor
         AsesoriaEntity asesoriaActualizada = asesoriaRepository.save(nuevaAsesoria);
+        busquedaService.indexar(asesoriaActualizada);
+        mejoresProfesoresService.actualizar(profesorId);
 
         log.info("Asesoría ID {} actualizada correctamente.", asesoriaId);
         return asesoriaActualizada;
@@ -152,6 +161,8 @@ public class AsesoriaProfesorService {
         }
 
         asesoriaRepository.delete(asesoria);
+        busquedaService.quitar(BusquedaService.ASESORIA, asesoriaId);
+        mejoresProfesoresService.actualizar(profesorId);
         log.info("Asesoría ID {} eliminada correctamente.", asesoriaId);
     }
 }
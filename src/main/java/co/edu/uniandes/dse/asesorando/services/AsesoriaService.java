@@ -32,6 +32,10 @@ SOFTWARE.
  import javax.validation.constraints.NotNull;
  
  import org.springframework.beans.factory.annotation.Autowired;
+ import org.springframework.data.domain.PageRequest;
+ import org.springframework.data.domain.Slice;
+ import org.springframework.data.domain.Sort;
+ import org.springframework.data.jpa.domain.Specification;
  import org.springframework.stereotype.Service;
  
  import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
@@ -39,6 +43,7 @@ SOFTWARE.
  import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
  import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
  import co.edu.uniandes.dse.asesorando.repositories.AsesoriaRepository;
+ import co.edu.uniandes.dse.asesorando.repositories.AsesoriaSpecifications;
  import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository;
  import jakarta.transaction.Transactional;
  import lombok.extern.slf4j.Slf4j;
@@ -59,6 +64,12 @@ SOFTWARE.
      @Autowired
      private ProfesorRepository profesorRepository;
  
+     @Autowired
+     private BusquedaService busquedaService;
+ 
+     @Autowired
+     private MejoresProfesoresService mejoresProfesoresService;
+ 
      /**
       * Crea una nueva asesoría en el servicio.
       * 
@@ -78,7 +89,9 @@ SOFTWARE.
          asesoria.setProfesor(profesor);
          asesoria.setCompletada(false);
  
-         return asesoriaRepository.save(asesoria);
+         AsesoriaEntity creada = asesoriaRepository.save(asesoria);
+         busquedaService.indexar(creada);
+         return creada;
      }
  
      /**
@@ -113,9 +126,15 @@ SOFTWARE.
                  .orElseThrow(() -> new EntityNotFoundException("La asesoría con el ID proporcionado no está en el sistema."));
  
          asesoria.setId(dummy.getId());
+         asesoria.setVersion(dummy.getVersion());
          log.info("Termina proceso de actualizar la asesoría con id = {}", asesoriaId);
          
-         return asesoriaRepository.save(asesoria);
+         AsesoriaEntity actualizada = asesoriaRepository.save(asesoria);
+         busquedaService.indexar(actualizada);
+         if (actualizada.getProfesor() != null) {
+             mejoresProfesoresService.actualizar(actualizada.getProfesor().getId());
+         }
+         return actualizada;
      }
  
      /**
@@ -133,6 +152,10 @@ SOFTWARE.
                  .orElseThrow(() -> new IllegalOperationException("La asesoría con el ID proporcionado no está en el sistema."));
  
          asesoriaRepository.deleteById(asesoriaEntity.getId());
+         busquedaService.quitar(BusquedaService.ASESORIA, asesoriaEntity.getId());
+         if (asesoriaEntity.getProfesor() != null) {
+             mejoresProfesoresService.actualizar(asesoriaEntity.getProfesor().getId());
+         }
          return asesoriaEntity;
      }
  
@@ -184,16 +207,51 @@ SOFTWARE.
      public List<AsesoriaEntity> getAllAsesorias() {
          return asesoriaRepository.findAll();
      }
+
+     /**
+      * Obtiene una página de asesorías ordenada por ID, empezando después del ID recibido.
+      *
+      * @param despuesDeId ID de la última asesoría de la página anterior (0 para la primera).
+      * @param limite      Cantidad máxima de asesorías de la página.
+      * @return Página de asesorías.
+      */
+     @Transactional
+     public Slice<AsesoriaEntity> getAsesorias(@NotNull Long despuesDeId, int limite) {
+         log.info("Inicia consulta de {} asesorías después del id = {}", limite, despuesDeId);
+         return asesoriaRepository.findByIdGreaterThan(despuesDeId, PageRequest.of(0, limite, Sort.by("id")));
+     }
      
      @Transactional
      public List<AsesoriaEntity> filtrarAsesorias(Long profesorId, String tipo, String area) {
-    List<AsesoriaEntity> todas = asesoriaRepository.findAll();
+         return filtrarAsesorias(profesorId, tipo, area, null, null, null);
+     }
+
+     /**
+      * Filtra las asesorías con los criterios proporcionados. Los criterios nulos se
+      * ignoran y los demás se combinan en una sola consulta a la base de datos.
+      *
+      * @param profesorId ID del profesor de la asesoría.
+      * @param tipo       Tipo de la asesoría (sin distinguir mayúsculas).
+      * @param area       Área de la asesoría (sin distinguir mayúsculas).
+      * @param completada Si la asesoría ya fue completada.
+      * @param tematica   Temática exacta de la asesoría.
+      * @param duracion   Duración exacta de la asesoría.
+      * @return Lista de asesorías que cumplen todos los criterios.
+      */
+     @Transactional
+     public List<AsesoriaEntity> filtrarAsesorias(Long profesorId, String tipo, String area, Boolean completada,
+             String tematica, String duracion) {
+         log.info("Inicia filtrado de asesorías con profesorId = {}, tipo = {}, area = {}, completada = {}, tematica = {}, duracion = {}",
+                 profesorId, tipo, area, completada, tematica, duracion);
 
-    return todas.stream()
-        .filter(a -> profesorId == null || (a.getProfesor() != null && a.getProfesor().getId().equals(profesorId)))
-        .filter(a -> tipo == null || (a.getTipo() != null && a.getTipo().equalsIgnoreCase(tipo)))
-        .filter(a -> area == null || (a.getArea() != null && a.getArea().equalsIgnoreCase(area)))
-        .collect(Collectors.toList());
-    }
+         Specification<AsesoriaEntity> filtro = Specification.where(AsesoriaSpecifications.deProfesor(profesorId))
+                 .and(AsesoriaSpecifications.deTipo(tipo))
+                 .and(AsesoriaSpecifications.deArea(area))
+                 .and(AsesoriaSpecifications.completada(completada))
+                 .and(AsesoriaSpecifications.deTematica(tematica))
+                 .and(AsesoriaSpecifications.deDuracion(duracion));
+
+         return asesoriaRepository.findAll(filtro);
+     }
  }
  
\ No newline at end of file
@@ -0,0 +1,135 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.EventoPendienteEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.repositories.EventoPendienteRepository;
+import co.edu.uniandes.dse.asesorando.repositories.ReservaRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bandeja de salida de los cambios que tienen efectos en otras entidades.
+ *
+ * Quien hace el cambio registra un EventoPendienteEntity en su misma
+ * transacción, así que el evento existe si y solo si el cambio se confirmó, y
+ * la solicitud solo escribe una fila más. Una tarea programada toma los
+ * eventos por lotes y aplica los efectos: cuando una reserva se completa, su
+ * asesoría queda completada y en el historial del estudiante, y se actualiza
+ * la clasificación del profesor. Los eventos repetidos de una misma reserva,
+ * o de varias reservas del mismo profesor, se aplican una sola vez por lote.
+ *
+ * Aplicar un evento dos veces deja el mismo resultado, así que si dos
+ * instancias toman el mismo lote no pasa nada; si una de ellas choca por
+ * versión con la otra, su lote se revierte y se vuelve a tomar en la
+ * siguiente ejecución.
+ *
+ * @author Daniel-VergaraM
+ */
+@Slf4j
+@Service
+public class BandejaSalidaService {
+
+    static final String RESERVA_COMPLETADA = "RESERVA_COMPLETADA";
+
+    @Autowired
+    private EventoPendienteRepository eventoPendienteRepository;
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @Autowired
+    private MejoresProfesoresService mejoresProfesoresService;
+
+    private final int tamanoLote;
+
+    /**
+     * @param tamanoLote cantidad máxima de eventos que se procesan por
+     * ejecución
+     */
+    public BandejaSalidaService(@Value("${asesorando.bandeja.lote:100}") int tamanoLote) {
+        this.tamanoLote = tamanoLote;
+    }
+
+    /**
+     * Registra que la reserva se completó. Debe llamarse dentro de la
+     * transacción que la marca como completada.
+     *
+     * @param reserva
+     */
+    @Transactional
+    public void reservaCompletada(ReservaEntity reserva) {
+        eventoPendienteRepository.save(new EventoPendienteEntity(RESERVA_COMPLETADA, reserva.getId(),
+                LocalDateTime.now()));
+    }
+
+    /**
+     * Aplica los efectos de los eventos más antiguos y los borra, todo en una
+     * transacción
+     *
+     * @return cantidad de eventos procesados
+     */
+    @Scheduled(fixedDelayString = "${asesorando.bandeja.intervalo-ms:1000}")
+    @Transactional
+    public int despachar() {
+        List<EventoPendienteEntity> eventos = eventoPendienteRepository.findByOrderByIdAsc(PageRequest.of(0, tamanoLote));
+        if (eventos.isEmpty()) {
+            return 0;
+        }
+
+        Set<Long> reservaIds = new LinkedHashSet<>();
+        for (EventoPendienteEntity evento : eventos) {
+            if (RESERVA_COMPLETADA.equals(evento.getTipo())) {
+                reservaIds.add(evento.getEntidadId());
+            } else {
+                log.warn("Se descarta el evento pendiente con id = {} de tipo desconocido {}", evento.getId(),
+                        evento.getTipo());
+            }
+        }
+
+        Set<Long> profesorIds = new HashSet<>();
+        for (ReservaEntity reserva : reservaRepository.findAllById(reservaIds)) {
+            Long profesorId = completarAsesoria(reserva);
+            if (profesorId != null) {
+                profesorIds.add(profesorId);
+            }
+        }
+        eventoPendienteRepository.deleteAllInBatch(eventos);
+        profesorIds.forEach(mejoresProfesoresService::actualizar);
+
+        log.info("Procesados {} eventos pendientes: {} reservas completadas de {} profesores", eventos.size(),
+                reservaIds.size(), profesorIds.size());
+        return eventos.size();
+    }
+
+    /**
+     * Marca como completada la asesoría de la reserva y la agrega al
+     * historial del estudiante. No hace nada si la reserva ya no está
+     * completada o no tiene asesoría.
+     *
+     * @return el id del profesor de la asesoría, o null si no cambió nada
+     */
+    private Long completarAsesoria(ReservaEntity reserva) {
+        AsesoriaEntity asesoria = reserva.getAsesoria();
+        if (!ReservaService.COMPLETADA.equals(reserva.getEstado()) || asesoria == null) {
+            return null;
+        }
+        asesoria.setCompletada(true);
+        if (reserva.getEstudiante() != null) {
+            asesoria.setUsuario(reserva.getEstudiante());
+        }
+        return asesoria.getProfesor() == null ? null : asesoria.getProfesor().getId();
+    }
+}
@@ -0,0 +1,114 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import java.util.Collection;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Serializa, dentro de esta instancia de la aplicación, las reservas que se
+ * hacen sobre un mismo calendario.
+ *
+ * Hay un número fijo de candados y cada calendario usa el que le toca según su
+ * id, así que reservas en calendarios distintos casi nunca se esperan entre sí
+ * y la memoria no crece con el número de calendarios. El candado se toma dentro
+ * de la transacción y se suelta cuando esta termina, de modo que la siguiente
+ * reserva del calendario ya ve la anterior confirmada y no choca con ella por
+ * versión.
+ *
+ * Entre instancias distintas la protección la da el bloqueo optimista
+ * (@Version) de las entidades.
+ *
+ * @author Daniel-VergaraM
+ */
+@Component
+public class BloqueosPorCalendario {
+
+    /**
+     * Tiempo máximo que una reserva espera el candado de su calendario
+     */
+    static final long ESPERA_MAXIMA_MS = 5000;
+
+    private final ReentrantLock[] candados;
+
+    public BloqueosPorCalendario() {
+        this(Runtime.getRuntime().availableProcessors() * 16);
+    }
+
+    BloqueosPorCalendario(int minimo) {
+        // Potencia de dos para elegir el candado con una máscara
+        int cantidad = Integer.highestOneBit(Math.max(2, minimo) - 1) << 1;
+        candados = new ReentrantLock[cantidad];
+        for (int i = 0; i < cantidad; i++) {
+            candados[i] = new ReentrantLock();
+        }
+    }
+
+    /**
+     * Toma el candado del calendario hasta que termine la transacción actual.
+     * No hace nada si el calendario es null.
+     *
+     * @param calendarioId
+     * @throws CannotAcquireLockException si el candado no se libera a tiempo
+     */
+    public void bloquearHastaTerminar(Long calendarioId) {
+        if (calendarioId == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("El bloqueo de un calendario requiere una transacción activa");
+        }
+        ReentrantLock candado = candadoDe(calendarioId);
+        try {
+            if (!candado.tryLock(ESPERA_MAXIMA_MS, TimeUnit.MILLISECONDS)) {
+                throw new CannotAcquireLockException("El calendario " + calendarioId + " está ocupado");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotAcquireLockException("Se interrumpió la espera del calendario " + calendarioId, e);
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                candado.unlock();
+            }
+        });
+    }
+
+    /**
+     * Toma los candados de varios calendarios hasta que termine la
+     * transacción actual. Los toma siempre en el mismo orden para que dos
+     * transacciones con calendarios en común no se esperen mutuamente.
+     *
+     * @param calendarioIds
+     * @throws CannotAcquireLockException si algún candado no se libera a tiempo
+     */
+    public void bloquearHastaTerminar(Collection<Long> calendarioIds) {
+        SortedMap<Integer, Long> porCandado = new TreeMap<>();
+        for (Long calendarioId : calendarioIds) {
+            if (calendarioId != null) {
+                porCandado.putIfAbsent(indiceDe(calendarioId), calendarioId);
+            }
+        }
+        porCandado.values().forEach(this::bloquearHastaTerminar);
+    }
+
+    ReentrantLock candadoDe(Long calendarioId) {
+        return candados[indiceDe(calendarioId)];
+    }
+
+    private int indiceDe(Long calendarioId) {
+        int hash = Long.hashCode(calendarioId) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & (candados.length - 1);
+    }
+
+    int cantidad() {
+        return candados.length;
+    }
+}
@@ -0,0 +1,207 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.repositories.AsesoriaRepository;
+import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository;
+import co.edu.uniandes.dse.asesorando.repositories.TematicaRepository;
+import co.edu.uniandes.dse.asesorando.services.IndiceTexto.Campo;
+import co.edu.uniandes.dse.asesorando.services.IndiceTexto.Clave;
+import co.edu.uniandes.dse.asesorando.services.IndiceTexto.Resultado;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Búsqueda de texto libre sobre profesores (nombre, formación y
+ * experiencia), tematicas (tema y área) y asesorias (tematica y área), con
+ * los resultados ordenados por relevancia.
+ *
+ * El índice se reconstruye desde la base de datos al arrancar. Los servicios
+ * que crean, modifican o eliminan esas entidades llaman a indexar o quitar; el
+ * cambio se aplica cuando se confirma la transacción.
+ *
+ * @author Daniel-VergaraM
+ */
+@Slf4j
+@Service
+public class BusquedaService {
+
+    public static final String PROFESOR = "PROFESOR";
+
+    public static final String TEMATICA = "TEMATICA";
+
+    public static final String ASESORIA = "ASESORIA";
+
+    private static final List<String> tipos = List.of(PROFESOR, TEMATICA, ASESORIA);
+
+    /**
+     * Una coincidencia en el nombre o el tema pesa más que una en un texto
+     * largo como la experiencia
+     */
+    private static final double PESO_TITULO = 3;
+
+    private static final double PESO_AREA = 2;
+
+    private static final double PESO_DESCRIPCION = 1;
+
+    @Autowired
+    private ProfesorRepository profesorRepository;
+
+    @Autowired
+    private TematicaRepository tematicaRepository;
+
+    @Autowired
+    private AsesoriaRepository asesoriaRepository;
+
+    private final IndiceTexto indice = new IndiceTexto();
+
+    private final ReadWriteLock candado = new ReentrantReadWriteLock();
+
+    /**
+     * Carga en el índice todos los profesores, tematicas y asesorias
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconstruir() {
+        log.info("Reconstruyendo el índice de búsqueda");
+        List<ProfesorEntity> profesores = profesorRepository.findAll();
+        List<TematicaEntity> tematicas = tematicaRepository.findAll();
+        List<AsesoriaEntity> asesorias = asesoriaRepository.findAll();
+        candado.writeLock().lock();
+        try {
+            indice.vaciar();
+            profesores.forEach(profesor -> poner(profesor).run());
+            tematicas.forEach(tematica -> poner(tematica).run());
+            asesorias.forEach(asesoria -> poner(asesoria).run());
+        } finally {
+            candado.writeLock().unlock();
+        }
+        log.info("Índice de búsqueda con {} documentos", indice.tamano());
+    }
+
+    /**
+     * Actualiza el profesor en el índice con sus datos actuales
+     *
+     * @param profesor
+     */
+    public void indexar(ProfesorEntity profesor) {
+        alConfirmar(poner(profesor));
+    }
+
+    /**
+     * Actualiza la tematica en el índice con sus datos actuales
+     *
+     * @param tematica
+     */
+    public void indexar(TematicaEntity tematica) {
+        alConfirmar(poner(tematica));
+    }
+
+    /**
+     * Actualiza la asesoría en el índice con sus datos actuales
+     *
+     * @param asesoria
+     */
+    public void indexar(AsesoriaEntity asesoria) {
+        alConfirmar(poner(asesoria));
+    }
+
+    /**
+     * Quita un documento del índice
+     *
+     * @param tipo PROFESOR, TEMATICA o ASESORIA
+     * @param id
+     */
+    public void quitar(String tipo, Long id) {
+        Clave clave = new Clave(tipo, id);
+        alConfirmar(() -> indice.quitar(clave));
+    }
+
+    /**
+     * Busca el texto en el índice y devuelve una página de los resultados
+     * ordenados de más a menos relevante
+     *
+     * @param consulta texto libre
+     * @param tipo PROFESOR, TEMATICA o ASESORIA para buscar solo entre ellos,
+     * o null para buscar en todos
+     * @param desde posición del primer resultado de la página
+     * @param limite cantidad máxima de resultados en la página
+     * @return
+     * @throws IllegalOperationException si la consulta está vacía o el tipo no
+     * es válido
+     */
+    public Slice<Resultado> buscar(String consulta, String tipo, int desde, int limite)
+            throws IllegalOperationException {
+        if (consulta == null || consulta.isBlank()) {
+            throw new IllegalOperationException("La consulta no puede estar vacía.");
+        }
+        if (tipo != null && !tipos.contains(tipo)) {
+            throw new IllegalOperationException("El tipo debe ser PROFESOR, TEMATICA o ASESORIA.");
+        }
+        Predicate<Clave> filtro = tipo == null ? clave -> true : clave -> clave.tipo().equals(tipo);
+
+        List<Resultado> resultados;
+        candado.readLock().lock();
+        try {
+            resultados = indice.buscar(consulta, filtro);
+        } finally {
+            candado.readLock().unlock();
+        }
+        log.info("Resultados para \"{}\": {}", consulta, resultados.size());
+
+        int hasta = Math.min(resultados.size(), desde + limite);
+        List<Resultado> pagina = desde >= resultados.size() ? List.of() : resultados.subList(desde, hasta);
+        return new SliceImpl<>(pagina, PageRequest.ofSize(limite), hasta < resultados.size());
+    }
+
+    private Runnable poner(ProfesorEntity profesor) {
+        Clave clave = new Clave(PROFESOR, profesor.getId());
+        String titulo = profesor.getNombre();
+        List<Campo> campos = List.of(new Campo(profesor.getNombre(), PESO_TITULO),
+                new Campo(profesor.getFormacion(), PESO_DESCRIPCION),
+                new Campo(profesor.getExperiencia(), PESO_DESCRIPCION));
+        return () -> indice.poner(clave, titulo, campos);
+    }
+
+    private Runnable poner(TematicaEntity tematica) {
+        Clave clave = new Clave(TEMATICA, tematica.getId());
+        String titulo = tematica.getTema() + " (" + tematica.getArea() + ")";
+        List<Campo> campos = List.of(new Campo(tematica.getTema(), PESO_TITULO),
+                new Campo(tematica.getArea(), PESO_AREA));
+        return () -> indice.poner(clave, titulo, campos);
+    }
+
+    private Runnable poner(AsesoriaEntity asesoria) {
+        Clave clave = new Clave(ASESORIA, asesoria.getId());
+        String titulo = asesoria.getTematica() + " (" + asesoria.getArea() + ")";
+        List<Campo> campos = List.of(new Campo(asesoria.getTematica(), PESO_TITULO),
+                new Campo(asesoria.getArea(), PESO_AREA));
+        return () -> indice.poner(clave, titulo, campos);
+    }
+
+    private void alConfirmar(Runnable cambio) {
+        AlConfirmar.ejecutar(() -> {
+            candado.writeLock().lock();
+            try {
+                cambio.run();
+            } finally {
+                candado.writeLock().unlock();
+            }
+        });
+    }
+}
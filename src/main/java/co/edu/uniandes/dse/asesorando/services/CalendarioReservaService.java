@@ -23,6 +23,9 @@ public class CalendarioReservaService {
     @Autowired
     private ReservaRepository reservaRepository;
 
+    @Autowired
+    private DisponibilidadService disponibilidadService;
+
     @Transactional
     public CalendarioEntity crearCalendario(CalendarioEntity calendario) {
         return calendarioRepository.save(calendario);
@@ -49,6 +52,7 @@ public class CalendarioReservaService {
                 .orElseThrow(() -> new EntityNotFoundException("El calendario no existe"));
 
         List<ReservaEntity> reservas = reservaRepository.findByCalendarioId(calendarioId);
+        reservas.forEach(disponibilidadService::liberar);
         reservaRepository.deleteAll(reservas);
 
         calendarioRepository.delete(calendario);
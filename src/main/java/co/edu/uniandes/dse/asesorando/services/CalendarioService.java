@@ -2,6 +2,7 @@ package co.edu.uniandes.dse.asesorando.services;
 
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,6 +12,7 @@ import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
 import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.dto.CamposSolicitados;
 import co.edu.uniandes.dse.asesorando.repositories.CalendarioRepository;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +21,9 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class CalendarioService {
 
+    // campo del detalle -> relación del calendario que lo llena
+    private static final Map<String, String> asociaciones = Map.of("profesores", "profesor", "asesorias", "asesorias", "reservas", "reservas");
+
     @Autowired
     CalendarioRepository calendarioRepository;
 
@@ -50,12 +55,35 @@ public class CalendarioService {
 
     }
 
+    /**
+     * Consulta el calendario con las relaciones de su detalle que se pidieron
+     * ya cargadas, para mapearlo después de cerrar la transacción
+     *
+     * @param id
+     * @param campos campos del detalle que se van a mapear
+     */
+    @Transactional
+    public CalendarioEntity getCalendario(Long id, CamposSolicitados campos) throws EntityNotFoundException {
+        CalendarioEntity calendarioEntity = getCalendario(id);
+        calendarioRepository.cargarDetalle(List.of(calendarioEntity), campos.traducir(asociaciones));
+        return calendarioEntity;
+    }
+
     @Transactional
     public List<CalendarioEntity> getCalendarios() {
+        return getCalendarios(CamposSolicitados.todos());
+    }
+
+    /**
+     * @param campos campos del detalle que se van a mapear; solo se cargan las
+     * relaciones pedidas
+     */
+    @Transactional
+    public List<CalendarioEntity> getCalendarios(CamposSolicitados campos) {
         log.info("Inicia proceso de consultar todos los calendarios");
         List<CalendarioEntity> calendarioEntity = calendarioRepository.findAll();
         log.info("Termina proceso de consultar todos los calendarios");
-        return calendarioEntity;
+        return calendarioRepository.cargarDetalle(calendarioEntity, campos.traducir(asociaciones));
     }
 
     @Transactional
@@ -64,6 +92,11 @@ public class CalendarioService {
         if (calendarioEntity.getFechaInicio() == null || calendarioEntity.getFechaFin() == null) {
             throw new IllegalOperationException("El calendario debe tener una fecha de inicio y una fecha de fin");
         }
+        // Sin versión el calendario se tomaría como nuevo; se usa la que tiene guardada
+        if (calendarioEntity.getId() != null && calendarioEntity.getVersion() == null) {
+            calendarioRepository.findById(calendarioEntity.getId())
+                    .ifPresent(actual -> calendarioEntity.setVersion(actual.getVersion()));
+        }
         log.info("Termina proceso de actualización del calendario");
         return calendarioRepository.save(calendarioEntity);
     }
@@ -93,6 +126,7 @@ public class CalendarioService {
         }
         CalendarioEntity calendarioEntity = calendarioRepository.findByFechaInicio(fechaInicio).get(0);
         log.info("Termina proceso de consultar el calendario con fecha de inicio = {0}", fechaInicio);
+        calendarioRepository.cargarDetalle(List.of(calendarioEntity));
         return calendarioEntity;
     }
 
@@ -104,6 +138,7 @@ public class CalendarioService {
         }
         CalendarioEntity calendarioEntity = calendarioRepository.findByFechaFin(fechaFin).get(0);
         log.info("Termina proceso de consultar el calendario con fecha de fin = {0}", fechaFin);
+        calendarioRepository.cargarDetalle(List.of(calendarioEntity));
         return calendarioEntity;
 
     }
@@ -117,7 +152,7 @@ public class CalendarioService {
             throw new EntityNotFoundException("No se encontró el calendario con la fecha de inicio menor a {0}");
         }
         log.info("Finaliza proceso de consulta");
-        return calendarioEntity;
+        return calendarioRepository.cargarDetalle(calendarioEntity);
     }
 
     @Transactional
@@ -129,7 +164,7 @@ public class CalendarioService {
             throw new EntityNotFoundException("No se encontró el calendario con la fecha de inicio entre {0} y {1}");
         }
         log.info("Termina proceso de consultar el calendario con fecha de inicio entre {0} y {1}", fechaInicio, fechaFin);
-        return calendarioEntity;
+        return calendarioRepository.cargarDetalle(calendarioEntity);
     }
 
     @Transactional
@@ -0,0 +1,95 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mantiene el resumen de calificaciones (ResumenCalificaciones) de cada
+ * profesor. Un comentario cuenta para el profesor de la asesoría de la
+ * reserva a la que está asociado.
+ *
+ * Los servicios de comentarios llaman a sumar o restar cuando un comentario
+ * con calificación queda asociado a una reserva, cambia de calificación o se
+ * elimina; cada llamada es una sola actualización de la fila del profesor. El
+ * recálculo completo corrige lo que cambie por otros caminos, como que la
+ * reserva pase a otra asesoría.
+ *
+ * Las actualizaciones masivas invalidan la región "usuarios" de la caché de
+ * segundo nivel, así que cada calificación hace que los profesores se vuelvan
+ * a leer de la base de datos una vez.
+ *
+ * @author Daniel-VergaraM
+ */
+@Slf4j
+@Service
+public class CalificacionesService {
+
+    static final int CALIFICACION_MINIMA = 0;
+
+    static final int CALIFICACION_MAXIMA = 5;
+
+    @Autowired
+    private ProfesorRepository profesorRepository;
+
+    @Autowired
+    private MejoresProfesoresService mejoresProfesoresService;
+
+    @Autowired
+    private VersionesColecciones versionesColecciones;
+
+    /**
+     * Cuenta la calificación en el resumen del profesor de la reserva
+     *
+     * @param reserva reserva del comentario, puede ser null
+     * @param calificacion puede ser null
+     */
+    @Transactional
+    public void sumar(ReservaEntity reserva, Integer calificacion) {
+        registrar(reserva, calificacion, 1);
+    }
+
+    /**
+     * Descuenta la calificación del resumen del profesor de la reserva
+     *
+     * @param reserva reserva del comentario, puede ser null
+     * @param calificacion puede ser null
+     */
+    @Transactional
+    public void restar(ReservaEntity reserva, Integer calificacion) {
+        registrar(reserva, calificacion, -1);
+    }
+
+    /**
+     * Recalcula el resumen de todos los profesores desde los comentarios
+     */
+    @Scheduled(cron = "${asesorando.calificaciones.recalculo:0 0 3 * * *}")
+    @Transactional
+    public void recalcular() {
+        log.info("Recalculando las calificaciones de los profesores");
+        int profesores = profesorRepository.recalcularCalificaciones();
+        versionesColecciones.cambio(ProfesorEntity.class);
+        log.info("Calificaciones recalculadas para {} profesores", profesores);
+    }
+
+    private void registrar(ReservaEntity reserva, Integer calificacion, long veces) {
+        if (calificacion == null || calificacion < CALIFICACION_MINIMA || calificacion > CALIFICACION_MAXIMA) {
+            return;
+        }
+        ProfesorEntity profesor = reserva == null || reserva.getAsesoria() == null ? null
+                : reserva.getAsesoria().getProfesor();
+        if (profesor == null) {
+            return;
+        }
+        log.info("Calificación {} ({}) para el profesor con id = {}", calificacion, veces, profesor.getId());
+        profesorRepository.sumarCalificaciones(profesor.getId(), calificacion, veces);
+        versionesColecciones.cambio(ProfesorEntity.class);
+        mejoresProfesoresService.actualizar(profesor.getId());
+    }
+}
@@ -0,0 +1,142 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Profesores ordenados del mejor al peor, en general y por cada área de sus
+ * tematicas. Cada orden es un árbol, así que cambiar los datos de un profesor
+ * cuesta O(a log n), con a la cantidad de áreas del profesor, y leer los k
+ * primeros de un área cuesta O(k).
+ *
+ * Se guardan todos los profesores y no solo los k primeros: cuando un
+ * profesor baja, el siguiente ya está en el árbol y no hay que buscarlo en la
+ * base de datos. La clase no es segura para hilos; quien la use debe
+ * sincronizar el acceso.
+ *
+ * @author Daniel-VergaraM
+ */
+public final class Clasificacion {
+
+    private final NavigableSet<Entrada> general = new TreeSet<>(Entrada.ORDEN);
+
+    private final Map<String, NavigableSet<Entrada>> porArea = new HashMap<>();
+
+    private final Map<Long, Entrada> entradas = new HashMap<>();
+
+    /**
+     * Agrega al profesor o reemplaza sus datos si ya estaba
+     *
+     * @param entrada
+     */
+    public void poner(Entrada entrada) {
+        quitar(entrada.id());
+        entradas.put(entrada.id(), entrada);
+        general.add(entrada);
+        for (String area : entrada.areas()) {
+            porArea.computeIfAbsent(area, a -> new TreeSet<>(Entrada.ORDEN)).add(entrada);
+        }
+    }
+
+    /**
+     * Quita al profesor, si estaba
+     *
+     * @param profesorId
+     */
+    public void quitar(Long profesorId) {
+        Entrada anterior = entradas.remove(profesorId);
+        if (anterior == null) {
+            return;
+        }
+        general.remove(anterior);
+        for (String area : anterior.areas()) {
+            NavigableSet<Entrada> delArea = porArea.get(area);
+            delArea.remove(anterior);
+            if (delArea.isEmpty()) {
+                porArea.remove(area);
+            }
+        }
+    }
+
+    public void vaciar() {
+        general.clear();
+        porArea.clear();
+        entradas.clear();
+    }
+
+    public int tamano() {
+        return entradas.size();
+    }
+
+    /**
+     * Los k mejores profesores del área, o de todas si el área es null
+     *
+     * @param area
+     * @param k
+     * @return
+     */
+    public List<Entrada> mejores(String area, int k) {
+        NavigableSet<Entrada> orden = area == null ? general : porArea.get(area);
+        List<Entrada> mejores = new ArrayList<>(Math.min(k, entradas.size()));
+        if (orden == null) {
+            return mejores;
+        }
+        Iterator<Entrada> iterador = orden.iterator();
+        while (mejores.size() < k && iterador.hasNext()) {
+            mejores.add(iterador.next());
+        }
+        return mejores;
+    }
+
+    /**
+     * Todas las entradas, en ningún orden en particular
+     *
+     * @return
+     */
+    public Collection<Entrada> entradas() {
+        return new ArrayList<>(entradas.values());
+    }
+
+    /**
+     * Datos de un profesor con los que se ordena: primero el promedio de
+     * calificaciones, luego las asesorias completadas, luego el precio más
+     * bajo y por último el id, para que el orden sea total. Los profesores sin
+     * calificaciones o sin precio van después de los demás.
+     *
+     * @param id
+     * @param nombre
+     * @param areas áreas de las tematicas del profesor
+     * @param calificaciones cantidad de calificaciones
+     * @param sumaCalificaciones
+     * @param asesoriasCompletadas
+     * @param precio precio por hora, puede ser null
+     */
+    public record Entrada(Long id, String nombre, Set<String> areas, long calificaciones,
+            long sumaCalificaciones, long asesoriasCompletadas, Double precio) {
+
+        static final Comparator<Entrada> ORDEN = Comparator
+                .comparing(Entrada::promedio, Comparator.nullsLast(Comparator.<Double>reverseOrder()))
+                .thenComparing(Comparator.comparingLong(Entrada::asesoriasCompletadas).reversed())
+                .thenComparing(Entrada::precio, Comparator.nullsLast(Comparator.<Double>naturalOrder()))
+                .thenComparing(Entrada::id);
+
+        public Entrada {
+            areas = Set.copyOf(areas);
+        }
+
+        /**
+         * @return el promedio de calificaciones, o null si no tiene
+         */
+        public Double promedio() {
+            return calificaciones == 0 ? null : (double) sumaCalificaciones / calificaciones;
+        }
+    }
+}
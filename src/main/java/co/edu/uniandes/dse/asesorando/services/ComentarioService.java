@@ -4,6 +4,9 @@ import java.util.List;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +22,9 @@ public class ComentarioService {
     @Autowired
     private ComentarioRepository comentarioRepository;
 
+    @Autowired
+    private CalificacionesService calificacionesService;
+
     @Transactional
     public ComentarioEntity crearComentario(ComentarioEntity comentario) throws EntityNotFoundException {
         log.info("Inicia proceso de creación de comentario");
@@ -56,6 +62,12 @@ public class ComentarioService {
         return comentarioRepository.findAll();
     }
 
+    @Transactional
+    public Slice<ComentarioEntity> getComentarios(Long despuesDeId, int limite) {
+        log.info("Inicia proceso de consultar {} comentarios después del id = {}", limite, despuesDeId);
+        return comentarioRepository.findByIdGreaterThan(despuesDeId, PageRequest.of(0, limite, Sort.by("id")));
+    }
+
     @Transactional
     public ComentarioEntity actualizarComentario(Long comentarioId, ComentarioEntity comentario) throws EntityNotFoundException {
         log.info("Inicia proceso de actualización de comentario con id = {}", comentarioId);
@@ -67,6 +79,12 @@ public class ComentarioService {
             throw new EntityNotFoundException("La calificación debe estar entre 0 y 5");
         }
 
+        Optional<ComentarioEntity> anterior = comentarioRepository.findById(comentarioId);
+        if (anterior.isPresent()) {
+            calificacionesService.restar(anterior.get().getReserva(), anterior.get().getCalificacion());
+            calificacionesService.sumar(anterior.get().getReserva(), comentario.getCalificacion());
+        }
+
         comentario.setId(comentarioId);
         log.info("Termina proceso de actualización de comentario con id = {}", comentarioId);
         return comentarioRepository.save(comentario);
@@ -79,11 +97,11 @@ public class ComentarioService {
             throw new EntityNotFoundException("El id del comentario no puede ser nulo");
         }
 
-        if (!comentarioRepository.existsById(comentarioId)) {
-            throw new EntityNotFoundException("El comentario no existe");
-        }
+        ComentarioEntity comentario = comentarioRepository.findById(comentarioId)
+                .orElseThrow(() -> new EntityNotFoundException("El comentario no existe"));
 
-        comentarioRepository.deleteById(comentarioId);
+        calificacionesService.restar(comentario.getReserva(), comentario.getCalificacion());
+        comentarioRepository.delete(comentario);
         log.info("Termina proceso de eliminación de comentario con id = {}", comentarioId);
     }
 }
\ No newline at end of file
@@ -0,0 +1,422 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.repositories.ReservaRepository;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Lleva en memoria los horarios ocupados de cada calendario y de cada profesor
+ * para rechazar reservas que se cruzan sin recorrer las reservas existentes.
+ *
+ * Cada reserva ocupa el intervalo [fechaReserva, fechaReserva + duración de la
+ * asesoría). Los intervalos de cada agenda se guardan ordenados por inicio, de
+ * modo que para saber si uno nuevo se cruza basta con revisar los que empiezan
+ * poco antes de él (a lo sumo la duración más larga de la agenda), en
+ * O(log n).
+ *
+ * Los servicios llaman a {@link #reservar(ReservaEntity)} después de cambiar
+ * una reserva y antes de guardarla, y a {@link #liberar(ReservaEntity)} al
+ * borrarla, siempre dentro de una transacción. Los cambios al índice quedan
+ * tentativos hasta que termina la transacción: si se revierte, el índice
+ * vuelve a como estaba. El índice se reconstruye desde la base de datos al
+ * arrancar la aplicación.
+ *
+ * @author Daniel-VergaraM
+ */
+@Slf4j
+@Service
+public class DisponibilidadService {
+
+    /**
+     * Duración que se asume cuando la de la asesoría no trae un número de
+     * minutos ("60", "90 minutos", ...)
+     */
+    static final Duration DURACION_POR_DEFECTO = Duration.ofMinutes(60);
+
+    private static final Pattern MINUTOS = Pattern.compile("\\d+");
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    private final Map<Long, Agenda> calendarios = new HashMap<>();
+
+    private final Map<Long, Agenda> profesores = new HashMap<>();
+
+    private final Map<Long, Ocupacion> reservas = new HashMap<>();
+
+    private final Map<ReservaEntity, Ocupacion> pendientes = new IdentityHashMap<>();
+
+    private final AtomicLong secuencia = new AtomicLong();
+
+    /**
+     * Protege el índice. Es un ReentrantLock y no synchronized para que los
+     * hilos virtuales que esperan el índice no ocupen su hilo portador.
+     */
+    private final ReentrantLock candado = new ReentrantLock();
+
+    /**
+     * Carga en el índice todas las reservas vigentes
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconstruir() {
+        log.info("Reconstruyendo el índice de disponibilidad");
+        // Las reservas se leen antes de tomar el candado, para no bloquear el
+        // índice mientras se espera a la base de datos
+        List<ReservaEntity> todas = reservaRepository.findAll();
+        Map<Long, Ocupacion> ocupaciones = new HashMap<>();
+        for (ReservaEntity reserva : todas) {
+            crearOcupacion(reserva).ifPresent(ocupacion -> ocupaciones.put(reserva.getId(), ocupacion));
+        }
+        candado.lock();
+        try {
+            calendarios.clear();
+            profesores.clear();
+            reservas.clear();
+            pendientes.clear();
+            ocupaciones.values().forEach(this::agregar);
+            reservas.putAll(ocupaciones);
+            log.info("Índice de disponibilidad con {} reservas", reservas.size());
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    /**
+     * Registra el horario actual de la reserva en las agendas de su calendario
+     * y de su profesor, reemplazando el que tenía antes. Si la reserva está
+     * cancelada o no tiene fecha, solo libera su horario anterior.
+     *
+     * Si el horario se cruza con otra reserva lanza IllegalOperationException
+     * y marca la transacción actual para que se revierta, de modo que los
+     * cambios hechos a la reserva no se guarden.
+     *
+     * @param reserva
+     * @throws IllegalOperationException si el horario ya está ocupado
+     */
+    public void reservar(ReservaEntity reserva) throws IllegalOperationException {
+        Optional<String> cruce = intentarReservar(reserva);
+        if (cruce.isPresent()) {
+            marcarParaRevertir();
+            throw new IllegalOperationException(cruce.get());
+        }
+    }
+
+    /**
+     * Igual que {@link #reservar(ReservaEntity)}, pero si el horario está
+     * ocupado no cambia nada ni marca la transacción. Sirve para registrar
+     * varias reservas en una misma transacción y descartar solo las que se
+     * cruzan.
+     *
+     * @param reserva
+     * @return la descripción del cruce, o vacío si la reserva quedó registrada
+     */
+    public Optional<String> intentarReservar(ReservaEntity reserva) {
+        Optional<Ocupacion> nueva = crearOcupacion(reserva);
+        candado.lock();
+        try {
+            Ocupacion anterior = ocupacionDe(reserva);
+            if (nueva.isPresent()) {
+                Optional<Intervalo> cruce = buscarCruce(nueva.get(), anterior);
+                if (cruce.isPresent()) {
+                    return Optional.of("El horario " + nueva.get().intervalo().inicio() + " - "
+                            + nueva.get().intervalo().fin() + " se cruza con otra reserva ("
+                            + cruce.get().inicio() + " - " + cruce.get().fin() + ")");
+                }
+            }
+            reemplazar(reserva, anterior, nueva.orElse(null));
+            return Optional.empty();
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    /**
+     * Libera el horario de una reserva que se va a eliminar
+     *
+     * @param reserva
+     */
+    public void liberar(ReservaEntity reserva) {
+        candado.lock();
+        try {
+            Ocupacion anterior = ocupacionDe(reserva);
+            if (anterior != null) {
+                reemplazar(reserva, anterior, null);
+            }
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    /**
+     * Indica si el intervalo está libre en el calendario
+     *
+     * @param calendarioId
+     * @param inicio
+     * @param fin
+     * @return
+     */
+    public boolean estaDisponible(Long calendarioId, LocalDateTime inicio, LocalDateTime fin) {
+        candado.lock();
+        try {
+            Agenda agenda = calendarios.get(calendarioId);
+            return agenda == null || agenda.buscarCruce(new Intervalo(inicio, fin, Long.MAX_VALUE), null).isEmpty();
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    private Optional<Intervalo> buscarCruce(Ocupacion nueva, Ocupacion anterior) {
+        Intervalo ignorar = anterior == null ? null : anterior.intervalo();
+        Optional<Intervalo> cruce = Optional.empty();
+        if (nueva.calendarioId() != null && calendarios.containsKey(nueva.calendarioId())) {
+            cruce = calendarios.get(nueva.calendarioId()).buscarCruce(nueva.intervalo(), ignorar);
+        }
+        if (cruce.isEmpty() && nueva.profesorId() != null && profesores.containsKey(nueva.profesorId())) {
+            cruce = profesores.get(nueva.profesorId()).buscarCruce(nueva.intervalo(), ignorar);
+        }
+        return cruce;
+    }
+
+    /**
+     * Ocupación registrada para la reserva. Las reservas nuevas todavía no
+     * tienen id, así que se buscan por instancia hasta que se confirma la
+     * transacción.
+     */
+    private Ocupacion ocupacionDe(ReservaEntity reserva) {
+        if (reserva.getId() != null && reservas.containsKey(reserva.getId())) {
+            return reservas.get(reserva.getId());
+        }
+        return pendientes.get(reserva);
+    }
+
+    private void asignar(ReservaEntity reserva, Ocupacion ocupacion) {
+        pendientes.remove(reserva);
+        if (reserva.getId() != null) {
+            if (ocupacion == null) {
+                reservas.remove(reserva.getId());
+            } else {
+                reservas.put(reserva.getId(), ocupacion);
+            }
+        } else if (ocupacion != null) {
+            pendientes.put(reserva, ocupacion);
+        }
+    }
+
+    /**
+     * Cambia la ocupación de la reserva en el índice y anota cómo deshacer el
+     * cambio por si la transacción se revierte. Sin transacción una reserva
+     * nueva se quedaría para siempre en pendientes, sin id ni confirmación.
+     *
+     * @throws IllegalStateException si no hay una transacción activa
+     */
+    private void reemplazar(ReservaEntity reserva, Ocupacion anterior, Ocupacion nueva) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Los cambios al índice de disponibilidad requieren una transacción activa");
+        }
+        if (anterior != null) {
+            quitar(anterior);
+        }
+        if (nueva != null) {
+            agregar(nueva);
+        }
+        asignar(reserva, nueva);
+        cambiosDeLaTransaccion().push(new Cambio(reserva, anterior, nueva));
+    }
+
+    /**
+     * Cambios hechos al índice en la transacción actual. Se registra una sola
+     * sincronización por transacción para deshacerlos en orden inverso.
+     */
+    @SuppressWarnings("unchecked")
+    private Deque<Cambio> cambiosDeLaTransaccion() {
+        Deque<Cambio> cambios = (Deque<Cambio>) TransactionSynchronizationManager.getResource(this);
+        if (cambios != null) {
+            return cambios;
+        }
+        Deque<Cambio> nuevos = new ArrayDeque<>();
+        TransactionSynchronizationManager.bindResource(this, nuevos);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(DisponibilidadService.this);
+                terminar(nuevos, status == STATUS_COMMITTED);
+            }
+        });
+        return nuevos;
+    }
+
+    private void terminar(Deque<Cambio> cambios, boolean confirmada) {
+        candado.lock();
+        try {
+            for (Cambio cambio : cambios) {
+                if (confirmada) {
+                    // El id de una reserva nueva solo se conoce después de guardarla
+                    Ocupacion ocupacion = pendientes.remove(cambio.reserva());
+                    if (ocupacion != null && cambio.reserva().getId() != null) {
+                        reservas.put(cambio.reserva().getId(), ocupacion);
+                    }
+                    continue;
+                }
+                if (cambio.nueva() != null) {
+                    quitar(cambio.nueva());
+                }
+                if (cambio.anterior() != null) {
+                    agregar(cambio.anterior());
+                }
+                asignar(cambio.reserva(), cambio.anterior());
+            }
+        } finally {
+            candado.unlock();
+        }
+    }
+
+    private void agregar(Ocupacion ocupacion) {
+        if (ocupacion.calendarioId() != null) {
+            calendarios.computeIfAbsent(ocupacion.calendarioId(), id -> new Agenda()).agregar(ocupacion.intervalo());
+        }
+        if (ocupacion.profesorId() != null) {
+            profesores.computeIfAbsent(ocupacion.profesorId(), id -> new Agenda()).agregar(ocupacion.intervalo());
+        }
+    }
+
+    private void quitar(Ocupacion ocupacion) {
+        if (ocupacion.calendarioId() != null && calendarios.containsKey(ocupacion.calendarioId())) {
+            calendarios.get(ocupacion.calendarioId()).quitar(ocupacion.intervalo());
+        }
+        if (ocupacion.profesorId() != null && profesores.containsKey(ocupacion.profesorId())) {
+            profesores.get(ocupacion.profesorId()).quitar(ocupacion.intervalo());
+        }
+    }
+
+    private Optional<Ocupacion> crearOcupacion(ReservaEntity reserva) {
+        if (reserva.getFechaReserva() == null || Boolean.TRUE.equals(reserva.getCancelada())) {
+            return Optional.empty();
+        }
+        Long calendarioId = reserva.getCalendario() == null ? null : reserva.getCalendario().getId();
+        Long profesorId = profesorDe(reserva);
+        if (calendarioId == null && profesorId == null) {
+            return Optional.empty();
+        }
+        LocalDateTime inicio = reserva.getFechaReserva();
+        Intervalo intervalo = new Intervalo(inicio, inicio.plus(duracionDe(reserva.getAsesoria())),
+                secuencia.incrementAndGet());
+        return Optional.of(new Ocupacion(intervalo, calendarioId, profesorId));
+    }
+
+    private static Long profesorDe(ReservaEntity reserva) {
+        ProfesorEntity profesor = null;
+        if (reserva.getAsesoria() != null) {
+            profesor = reserva.getAsesoria().getProfesor();
+        }
+        if (profesor == null && reserva.getCalendario() != null) {
+            profesor = reserva.getCalendario().getProfesor();
+        }
+        return profesor == null ? null : profesor.getId();
+    }
+
+    static Duration duracionDe(AsesoriaEntity asesoria) {
+        if (asesoria == null || asesoria.getDuracion() == null) {
+            return DURACION_POR_DEFECTO;
+        }
+        Matcher minutos = MINUTOS.matcher(asesoria.getDuracion());
+        if (!minutos.find()) {
+            return DURACION_POR_DEFECTO;
+        }
+        try {
+            long valor = Long.parseLong(minutos.group());
+            return valor > 0 ? Duration.ofMinutes(valor) : DURACION_POR_DEFECTO;
+        } catch (NumberFormatException e) {
+            return DURACION_POR_DEFECTO;
+        }
+    }
+
+    private static void marcarParaRevertir() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+        }
+    }
+
+    /**
+     * Horario ocupado. La secuencia distingue intervalos con el mismo inicio.
+     */
+    private record Intervalo(LocalDateTime inicio, LocalDateTime fin, long secuencia) {
+
+        static final Comparator<Intervalo> ORDEN = Comparator.comparing(Intervalo::inicio)
+                .thenComparingLong(Intervalo::secuencia);
+    }
+
+    private record Ocupacion(Intervalo intervalo, Long calendarioId, Long profesorId) {
+    }
+
+    private record Cambio(ReservaEntity reserva, Ocupacion anterior, Ocupacion nueva) {
+    }
+
+    /**
+     * Intervalos ocupados de un calendario o de un profesor, ordenados por
+     * inicio
+     */
+    private static final class Agenda {
+
+        private final NavigableSet<Intervalo> intervalos = new TreeSet<>(Intervalo.ORDEN);
+
+        private Duration duracionMaxima = Duration.ZERO;
+
+        void agregar(Intervalo intervalo) {
+            intervalos.add(intervalo);
+            Duration duracion = Duration.between(intervalo.inicio(), intervalo.fin());
+            if (duracion.compareTo(duracionMaxima) > 0) {
+                duracionMaxima = duracion;
+            }
+        }
+
+        void quitar(Intervalo intervalo) {
+            intervalos.remove(intervalo);
+        }
+
+        /**
+         * Un intervalo que se cruza con el nuevo tiene que empezar antes de que
+         * este termine y, como ninguno dura más que duracionMaxima, después de
+         * inicio - duracionMaxima
+         */
+        Optional<Intervalo> buscarCruce(Intervalo nuevo, Intervalo ignorar) {
+            Intervalo desde = new Intervalo(nuevo.inicio().minus(duracionMaxima), null, Long.MIN_VALUE);
+            Intervalo hasta = new Intervalo(nuevo.fin(), null, Long.MIN_VALUE);
+            for (Intervalo existente : intervalos.subSet(desde, true, hasta, false)) {
+                if (!existente.equals(ignorar) && existente.fin().isAfter(nuevo.inicio())) {
+                    return Optional.of(existente);
+                }
+            }
+            return Optional.empty();
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
 import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
 import co.edu.uniandes.dse.asesorando.repositories.EstudianteRepository;
 import co.edu.uniandes.dse.asesorando.repositories.ReservaRepository;
 import jakarta.transaction.Transactional;
@@ -23,12 +24,17 @@ public class EstudianteReservaService {
     @Autowired
     private ReservaRepository reservaRepository;
 
+    @Autowired
+    private DisponibilidadService disponibilidadService;
+
     @Transactional
-    public ReservaEntity crearReserva(Long estudianteId, ReservaEntity nuevaReserva) throws EntityNotFoundException {
+    public ReservaEntity crearReserva(Long estudianteId, ReservaEntity nuevaReserva)
+            throws EntityNotFoundException, IllegalOperationException {
         EstudianteEntity estudiante = estudianteRepository.findById(estudianteId)
                 .orElseThrow(() -> new EntityNotFoundException("El estudiante no existe"));
 
         nuevaReserva.setEstudiante(estudiante);
+        disponibilidadService.reservar(nuevaReserva);
         return reservaRepository.save(nuevaReserva);
     }
 
@@ -38,11 +44,13 @@ public class EstudianteReservaService {
     }
 
     @Transactional
-    public ReservaEntity actualizarReserva(Long reservaId, ReservaEntity reservaActualizada) throws EntityNotFoundException {
+    public ReservaEntity actualizarReserva(Long reservaId, ReservaEntity reservaActualizada)
+            throws EntityNotFoundException, IllegalOperationException {
         ReservaEntity reserva = reservaRepository.findById(reservaId)
                 .orElseThrow(() -> new EntityNotFoundException("La reserva no existe"));
 
         reserva.setFechaReserva(reservaActualizada.getFechaReserva()); 
+        disponibilidadService.reservar(reserva);
         return reservaRepository.save(reserva);
     }
 
@@ -51,6 +59,7 @@ public class EstudianteReservaService {
         ReservaEntity reserva = reservaRepository.findById(reservaId)
                 .orElseThrow(() -> new EntityNotFoundException("La reserva no existe"));
 
+        disponibilidadService.liberar(reserva);
         reservaRepository.delete(reserva);
     }
 }
@@ -8,6 +8,7 @@ import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
 
 import java.util.*;
 import co.edu.uniandes.dse.asesorando.repositories.EstudianteRepository;
+import co.edu.uniandes.dse.asesorando.repositories.UsuarioRepository.UsuarioListado;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
@@ -69,6 +70,8 @@ public class EstudianteService {
         }
 
         log.info("Estudiante obtenido exitosamente.");
+        // Con las reservas y comentarios del detalle, que se mapea fuera de la transacción
+        estudianteRepository.cargarDetalle(List.of(estudianteExistente.get()));
         return estudianteExistente.get();
     }
 
@@ -83,6 +86,12 @@ public class EstudianteService {
         return estudiantes;
     }
 
+    @Transactional
+    public List<UsuarioListado> getListadoEstudiantes() {
+        log.info("Se está obteniendo el listado de estudiantes...");
+        return estudianteRepository.findListado();
+    }
+
     @Transactional
     public EstudianteEntity updateEstudianteById(Long id, EstudianteEntity estudiante) throws EntityNotFoundException{
         log.info("Se está actualizando un estudiante...");
@@ -0,0 +1,126 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import co.edu.uniandes.dse.asesorando.dto.ReservaDTO;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+
+/**
+ * Formatos en los que se exportan las reservas. Cada reserva se escribe en su
+ * propia línea, así que la exportación se puede escribir y leer fila por fila.
+ *
+ * @author Daniel-VergaraM
+ */
+public enum FormatoExportacion {
+
+    /**
+     * Un objeto JSON por línea, con los mismos campos de ReservaDTO
+     */
+    NDJSON("application/x-ndjson", "ndjson") {
+        @Override
+        void escribirEncabezado(Writer destino) {
+            // NDJSON no tiene encabezado
+        }
+
+        @Override
+        void escribir(Writer destino, ReservaDTO reserva) throws IOException {
+            destino.write(json.writeValueAsString(reserva));
+            destino.write('\n');
+        }
+    },
+
+    /**
+     * Valores separados por comas (RFC 4180), con una línea de encabezado
+     */
+    CSV("text/csv", "csv") {
+        @Override
+        void escribirEncabezado(Writer destino) throws IOException {
+            destino.write("id,fechaReserva,cancelada,estado,estudianteId,asesoriaId\r\n");
+        }
+
+        @Override
+        void escribir(Writer destino, ReservaDTO reserva) throws IOException {
+            destino.write(valor(reserva.getId()));
+            destino.write(',');
+            destino.write(valor(reserva.getFechaReserva()));
+            destino.write(',');
+            destino.write(valor(reserva.getCancelada()));
+            destino.write(',');
+            destino.write(texto(reserva.getEstado()));
+            destino.write(',');
+            destino.write(valor(reserva.getEstudianteId()));
+            destino.write(',');
+            destino.write(valor(reserva.getAsesoriaId()));
+            destino.write("\r\n");
+        }
+    };
+
+    private static final ObjectMapper json = JsonMapper.builder()
+            .addModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+
+    private final String tipoContenido;
+
+    private final String extension;
+
+    FormatoExportacion(String tipoContenido, String extension) {
+        this.tipoContenido = tipoContenido;
+        this.extension = extension;
+    }
+
+    public String getTipoContenido() {
+        return tipoContenido;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Busca el formato por su nombre, sin importar mayúsculas
+     *
+     * @param nombre
+     * @return
+     * @throws IllegalOperationException si no es un formato conocido
+     */
+    public static FormatoExportacion de(String nombre) throws IllegalOperationException {
+        for (FormatoExportacion formato : values()) {
+            if (formato.name().equals(nombre.toUpperCase(Locale.ROOT))) {
+                return formato;
+            }
+        }
+        throw new IllegalOperationException("El formato de exportación debe ser ndjson o csv.");
+    }
+
+    abstract void escribirEncabezado(Writer destino) throws IOException;
+
+    abstract void escribir(Writer destino, ReservaDTO reserva) throws IOException;
+
+    private static String valor(Object valor) {
+        if (valor instanceof LocalDateTime fecha) {
+            // Igual que en NDJSON, con los segundos aunque sean cero
+            return DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(fecha);
+        }
+        return valor == null ? "" : valor.toString();
+    }
+
+    private static String texto(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return '"' + valor.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,157 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Índice invertido en memoria con puntaje BM25: para cada término guarda los
+ * documentos que lo contienen y cuántas veces, así que una búsqueda solo
+ * revisa los documentos que tienen alguno de los términos consultados.
+ *
+ * Cada documento tiene varios campos con un peso; una aparición en un campo
+ * de peso 3 cuenta como tres apariciones. El texto se procesa con
+ * AnalizadorTexto tanto al indexar como al buscar. La clase no es segura para
+ * hilos; quien la use debe sincronizar el acceso.
+ *
+ * @author Daniel-VergaraM
+ */
+public final class IndiceTexto {
+
+    /**
+     * Saturación de la frecuencia de un término: más allá de unas pocas
+     * apariciones, repetirlo casi no sube el puntaje
+     */
+    static final double K1 = 1.2;
+
+    /**
+     * Cuánto se penalizan los documentos más largos que el promedio
+     */
+    static final double B = 0.75;
+
+    private final Map<String, Map<Clave, Double>> documentosPorTermino = new HashMap<>();
+
+    private final Map<Clave, Documento> documentos = new HashMap<>();
+
+    private double longitudTotal;
+
+    /**
+     * Indexa el documento o lo reemplaza si ya había uno con la misma clave
+     *
+     * @param clave
+     * @param titulo texto con el que se muestra el documento en los resultados
+     * @param campos
+     */
+    public void poner(Clave clave, String titulo, List<Campo> campos) {
+        quitar(clave);
+        Map<String, Double> frecuencias = new HashMap<>();
+        double longitud = 0;
+        for (Campo campo : campos) {
+            for (String termino : AnalizadorTexto.terminos(campo.texto())) {
+                frecuencias.merge(termino, campo.peso(), Double::sum);
+                longitud += campo.peso();
+            }
+        }
+        documentos.put(clave, new Documento(titulo, frecuencias, longitud));
+        longitudTotal += longitud;
+        frecuencias.forEach((termino, frecuencia) -> documentosPorTermino
+                .computeIfAbsent(termino, t -> new HashMap<>()).put(clave, frecuencia));
+    }
+
+    /**
+     * Quita el documento, si existe
+     *
+     * @param clave
+     */
+    public void quitar(Clave clave) {
+        Documento anterior = documentos.remove(clave);
+        if (anterior == null) {
+            return;
+        }
+        longitudTotal -= anterior.longitud();
+        for (String termino : anterior.frecuencias().keySet()) {
+            Map<Clave, Double> conTermino = documentosPorTermino.get(termino);
+            conTermino.remove(clave);
+            if (conTermino.isEmpty()) {
+                documentosPorTermino.remove(termino);
+            }
+        }
+    }
+
+    public void vaciar() {
+        documentosPorTermino.clear();
+        documentos.clear();
+        longitudTotal = 0;
+    }
+
+    public int tamano() {
+        return documentos.size();
+    }
+
+    /**
+     * Documentos que cumplen el filtro y contienen al menos uno de los
+     * términos de la consulta, del de mayor puntaje al de menor
+     *
+     * @param consulta
+     * @param filtro
+     * @return
+     */
+    public List<Resultado> buscar(String consulta, Predicate<Clave> filtro) {
+        List<Resultado> resultados = new ArrayList<>();
+        if (documentos.isEmpty()) {
+            return resultados;
+        }
+        double cantidad = documentos.size();
+        double longitudPromedio = longitudTotal / cantidad;
+        Map<Clave, Double> puntajes = new HashMap<>();
+        // Un término repetido en la consulta no cuenta dos veces
+        for (String termino : new LinkedHashSet<>(AnalizadorTexto.terminos(consulta))) {
+            Map<Clave, Double> conTermino = documentosPorTermino.get(termino);
+            if (conTermino == null) {
+                continue;
+            }
+            double idf = Math.log(1 + (cantidad - conTermino.size() + 0.5) / (conTermino.size() + 0.5));
+            conTermino.forEach((clave, frecuencia) -> {
+                if (filtro.test(clave)) {
+                    double normalizacion = K1 * (1 - B + B * documentos.get(clave).longitud() / longitudPromedio);
+                    puntajes.merge(clave, idf * frecuencia * (K1 + 1) / (frecuencia + normalizacion), Double::sum);
+                }
+            });
+        }
+        puntajes.forEach((clave, puntaje) -> resultados.add(new Resultado(clave, documentos.get(clave).titulo(), puntaje)));
+        resultados.sort(Resultado.ORDEN);
+        return resultados;
+    }
+
+    /**
+     * Identifica un documento del índice
+     *
+     * @param tipo
+     * @param id
+     */
+    public record Clave(String tipo, Long id) {
+    }
+
+    /**
+     * Texto de un documento y cuánto pesa cada aparición de sus términos
+     */
+    public record Campo(String texto, double peso) {
+    }
+
+    /**
+     * Documento encontrado y su puntaje
+     */
+    public record Resultado(Clave clave, String titulo, double puntaje) {
+
+        static final Comparator<Resultado> ORDEN = Comparator.comparingDouble(Resultado::puntaje).reversed()
+                .thenComparing(resultado -> resultado.clave().tipo())
+                .thenComparing(resultado -> resultado.clave().id());
+    }
+
+    private record Documento(String titulo, Map<String, Double> frecuencias, double longitud) {
+    }
+}
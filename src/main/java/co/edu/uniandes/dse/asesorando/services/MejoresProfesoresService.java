@@ -0,0 +1,263 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository;
+import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository.AreaDeProfesor;
+import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository.Clasificable;
+import co.edu.uniandes.dse.asesorando.services.Clasificacion.Entrada;
+import jakarta.annotation.PreDestroy;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Mejores profesores en general y por área, ordenados por promedio de
+ * calificaciones, asesorias completadas y precio.
+ *
+ * La clasificación vive en memoria y se sirve sin consultar la base de datos.
+ * Los servicios que cambian calificaciones, asesorias o profesores llaman a
+ * {@link #actualizar(Long)}, que lee los datos de ese profesor dentro de la
+ * transacción y los aplica cuando se confirma. Un recálculo periódico corrige
+ * lo que cambie por otros caminos, como las tematicas de un profesor o el
+ * área de una tematica.
+ *
+ * Si hay una ruta de instantánea configurada, la clasificación se guarda en
+ * ese archivo después de cada recálculo y al apagar, y al arrancar se carga
+ * desde él para responder de inmediato mientras se recalcula en segundo
+ * plano.
+ *
+ * @author Daniel-VergaraM
+ */
+@Slf4j
+@Service
+public class MejoresProfesoresService {
+
+    static final int K_POR_DEFECTO = 10;
+
+    static final int K_MAXIMO = 50;
+
+    private static final ObjectMapper json = new ObjectMapper();
+
+    @Autowired
+    private ProfesorRepository profesorRepository;
+
+    private final Clasificacion clasificacion = new Clasificacion();
+
+    private final ReadWriteLock candado = new ReentrantReadWriteLock();
+
+    private final Path instantanea;
+
+    /**
+     * @param instantanea archivo donde se guarda la clasificación entre
+     * reinicios; vacío para no guardarla
+     */
+    public MejoresProfesoresService(@Value("${asesorando.mejores.instantanea:}") String instantanea) {
+        this.instantanea = instantanea.isBlank() ? null : Path.of(instantanea);
+    }
+
+    /**
+     * Carga la instantánea, si existe, y recalcula desde la base de datos: en
+     * segundo plano si se cargó la instantánea, o antes de terminar si no.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void iniciar() {
+        if (instantanea != null && cargarInstantanea(instantanea)) {
+            Thread.ofVirtual().name("recalculo-mejores-profesores").start(this::recalcular);
+        } else {
+            reconstruir();
+        }
+    }
+
+    /**
+     * Recalcula la clasificación y guarda la instantánea
+     */
+    @Scheduled(fixedDelayString = "${asesorando.mejores.recalculo-ms:3600000}",
+            initialDelayString = "${asesorando.mejores.recalculo-ms:3600000}")
+    public void recalcular() {
+        try {
+            reconstruir();
+            if (instantanea != null) {
+                guardarInstantanea(instantanea);
+            }
+        } catch (RuntimeException e) {
+            log.error("No se pudo recalcular la clasificación de profesores", e);
+        }
+    }
+
+    /**
+     * Reemplaza la clasificación por la que resulta de la base de datos, con
+     * una consulta para los profesores y otra para sus áreas
+     */
+    public void reconstruir() {
+        log.info("Reconstruyendo la clasificación de profesores");
+        Collection<Entrada> entradas = entradasDe(profesorRepository.findClasificables(),
+                profesorRepository.findAreas());
+        candado.writeLock().lock();
+        try {
+            clasificacion.vaciar();
+            entradas.forEach(clasificacion::poner);
+        } finally {
+            candado.writeLock().unlock();
+        }
+        log.info("Clasificación de profesores con {} profesores", entradas.size());
+    }
+
+    /**
+     * Lee los datos del profesor tal como están en la transacción actual y los
+     * aplica a la clasificación cuando se confirma. Si el profesor ya no
+     * existe, lo quita.
+     *
+     * @param profesorId
+     */
+    @Transactional
+    public void actualizar(Long profesorId) {
+        if (profesorId == null) {
+            return;
+        }
+        List<Long> ids = List.of(profesorId);
+        Collection<Entrada> entradas = entradasDe(profesorRepository.findClasificablesByIdIn(ids),
+                profesorRepository.findAreasByIdIn(ids));
+        if (entradas.isEmpty()) {
+            alConfirmar(() -> clasificacion.quitar(profesorId));
+        } else {
+            Entrada entrada = entradas.iterator().next();
+            alConfirmar(() -> clasificacion.poner(entrada));
+        }
+    }
+
+    /**
+     * Los mejores profesores del área, o de todas si no se indica
+     *
+     * @param area
+     * @param k cantidad de profesores, de 1 a K_MAXIMO; si es null,
+     * K_POR_DEFECTO
+     * @return
+     * @throws IllegalOperationException si k está fuera de rango
+     */
+    public List<Entrada> mejores(String area, Integer k) throws IllegalOperationException {
+        if (k != null && (k < 1 || k > K_MAXIMO)) {
+            throw new IllegalOperationException("La cantidad de profesores debe estar entre 1 y " + K_MAXIMO + ".");
+        }
+        candado.readLock().lock();
+        try {
+            return clasificacion.mejores(area == null || area.isBlank() ? null : area,
+                    k == null ? K_POR_DEFECTO : k);
+        } finally {
+            candado.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    void apagar() {
+        if (instantanea != null) {
+            guardarInstantanea(instantanea);
+        }
+    }
+
+    /**
+     * Escribe la clasificación en el archivo. Escribe primero en un archivo
+     * temporal y lo mueve, para no dejar una instantánea a medias.
+     *
+     * @param archivo
+     */
+    void guardarInstantanea(Path archivo) {
+        Collection<Entrada> entradas;
+        candado.readLock().lock();
+        try {
+            entradas = clasificacion.entradas();
+        } finally {
+            candado.readLock().unlock();
+        }
+        try {
+            Path carpeta = archivo.toAbsolutePath().getParent();
+            Files.createDirectories(carpeta);
+            Path temporal = Files.createTempFile(carpeta, "mejores", ".tmp");
+            json.writeValue(temporal.toFile(), new Instantanea(System.currentTimeMillis(), List.copyOf(entradas)));
+            Files.move(temporal, archivo, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Instantánea de la clasificación guardada en {}", archivo);
+        } catch (IOException e) {
+            log.warn("No se pudo guardar la instantánea de la clasificación en {}", archivo, e);
+        }
+    }
+
+    /**
+     * Reemplaza la clasificación por la del archivo
+     *
+     * @param archivo
+     * @return false si el archivo no existe o no se pudo leer
+     */
+    boolean cargarInstantanea(Path archivo) {
+        if (!Files.isRegularFile(archivo)) {
+            return false;
+        }
+        Instantanea leida;
+        try {
+            leida = json.readValue(archivo.toFile(), Instantanea.class);
+        } catch (IOException e) {
+            log.warn("No se pudo leer la instantánea de la clasificación en {}", archivo, e);
+            return false;
+        }
+        candado.writeLock().lock();
+        try {
+            clasificacion.vaciar();
+            leida.entradas().forEach(clasificacion::poner);
+        } finally {
+            candado.writeLock().unlock();
+        }
+        log.info("Clasificación cargada de {} con {} profesores, guardada hace {} s", archivo,
+                leida.entradas().size(), (System.currentTimeMillis() - leida.guardadaEn()) / 1000);
+        return true;
+    }
+
+    private static Collection<Entrada> entradasDe(List<Clasificable> profesores, List<AreaDeProfesor> areas) {
+        Map<Long, Set<String>> areasPorProfesor = new HashMap<>();
+        for (AreaDeProfesor area : areas) {
+            if (area.getArea() != null) {
+                areasPorProfesor.computeIfAbsent(area.getProfesorId(), id -> new HashSet<>()).add(area.getArea());
+            }
+        }
+        return profesores.stream()
+                .map(profesor -> new Entrada(profesor.getId(), profesor.getNombre(),
+                        areasPorProfesor.getOrDefault(profesor.getId(), Set.of()), profesor.getCalificaciones(),
+                        profesor.getSumaCalificaciones(), profesor.getAsesoriasCompletadas(), profesor.getPrecio()))
+                .toList();
+    }
+
+    private void alConfirmar(Runnable cambio) {
+        AlConfirmar.ejecutar(() -> {
+            candado.writeLock().lock();
+            try {
+                cambio.run();
+            } finally {
+                candado.writeLock().unlock();
+            }
+        });
+    }
+
+    /**
+     * Contenido del archivo de instantánea
+     */
+    record Instantanea(long guardadaEn, List<Entrada> entradas) {
+    }
+}
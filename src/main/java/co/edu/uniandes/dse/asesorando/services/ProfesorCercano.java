@@ -0,0 +1,12 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+
+/**
+ * Profesor encontrado en una búsqueda por cercanía y su distancia, en
+ * kilómetros, al punto de la búsqueda.
+ *
+ * @author Daniel-VergaraM
+ */
+public record ProfesorCercano(ProfesorEntity profesor, double distanciaKm) {
+}
@@ -23,21 +23,31 @@ SOFTWARE.
  */
 package co.edu.uniandes.dse.asesorando.services;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import co.edu.uniandes.dse.asesorando.dto.BusquedaProfesorDTO;
 import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
 import co.edu.uniandes.dse.asesorando.entities.ProfesorPresencialEntity;
 import co.edu.uniandes.dse.asesorando.entities.ProfesorVirtualEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
 import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository;
+import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository.ProfesorListado;
+import co.edu.uniandes.dse.asesorando.repositories.ProfesorSpecifications;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
@@ -53,8 +63,27 @@ public class ProfesorService {
     @Autowired
     private ProfesorRepository profesorRepository;
 
+    @Autowired
+    private ProfesoresCercanosService profesoresCercanosService;
+
+    @Autowired
+    private BusquedaService busquedaService;
+
+    @Autowired
+    private MejoresProfesoresService mejoresProfesoresService;
+
     private static final List<String> tipos = List.of("PROFESOR", "PROFESORVIRTUAL", "PROFESORPRESENCIAL");
 
+    private static final Map<String, Class<? extends ProfesorEntity>> modalidades = Map.of(
+            "PRESENCIAL", ProfesorPresencialEntity.class,
+            "VIRTUAL", ProfesorVirtualEntity.class);
+
+    // Clase de los profesores de cada tipo, como lo calcula ProfesorRepository.TIPO
+    private static final Map<String, Class<? extends ProfesorEntity>> clasesPorTipo = Map.of(
+            "PROFESOR", ProfesorEntity.class,
+            "PROFESORVIRTUAL", ProfesorVirtualEntity.class,
+            "PROFESORPRESENCIAL", ProfesorPresencialEntity.class);
+
     private String exceptionPartString = "El profesor ya esta registrado.";
 
     private String exceptionPartString2 = "El tipo de profesor no es valido.";
@@ -90,7 +119,11 @@ public class ProfesorService {
         }
 
         log.info("Profesor creado");
-        return profesorRepository.save(profesor);
+        ProfesorEntity creado = profesorRepository.save(profesor);
+        profesoresCercanosService.registrar(creado);
+        busquedaService.indexar(creado);
+        mejoresProfesoresService.actualizar(creado.getId());
+        return creado;
     }
 
     /**
@@ -101,7 +134,7 @@ public class ProfesorService {
      */
     @Transactional
     public ProfesorEntity createProfesor(@Valid @NotNull ProfesorEntity profesor, @Valid @NotNull String tipo)
-            throws EntityNotFoundException {
+            throws EntityNotFoundException, IllegalOperationException {
         log.info("Registrando un profesor nuevo");
 
         Optional<ProfesorEntity> profesorExistente = profesorRepository.findById(profesor.getId());
@@ -115,9 +148,14 @@ public class ProfesorService {
             log.error(exceptionPartString2);
             throw new EntityNotFoundException(exceptionPartString2);
         }
+        validarPrecio(profesor.getPrecioHora());
 
         log.info("Profesor creado");
-        return profesorRepository.save(profesor);
+        ProfesorEntity creado = profesorRepository.save(profesor);
+        profesoresCercanosService.registrar(creado);
+        busquedaService.indexar(creado);
+        mejoresProfesoresService.actualizar(creado.getId());
+        return creado;
     }
 
     /**
@@ -129,11 +167,12 @@ public class ProfesorService {
      */
     @Transactional
     public ProfesorEntity updateProfesor(@NotNull Long id, @Valid @NotNull ProfesorEntity profesor)
-            throws EntityNotFoundException {
+            throws EntityNotFoundException, IllegalOperationException {
         log.info("Actualizando un profesor");
 
         ProfesorEntity profesorExistente = profesorRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException(exceptionPartString3));
+        validarPrecio(profesor.getPrecioHora());
 
         profesorExistente.setNombre(profesor.getNombre());
         profesorExistente.setCorreo(profesor.getCorreo());
@@ -177,7 +216,24 @@ public class ProfesorService {
             profesorExistentePresencial.setLongitud(profesorPresencial.getLongitud());
         }
         log.info("Profesor actualizado");
-        return profesorRepository.save(profesorExistente);
+        ProfesorEntity actualizado = profesorRepository.save(profesorExistente);
+        profesoresCercanosService.registrar(actualizado);
+        busquedaService.indexar(actualizado);
+        mejoresProfesoresService.actualizar(actualizado.getId());
+        return actualizado;
+    }
+
+    /**
+     * El precio se guarda tal cual y como número (precioHoraNumerico), así que
+     * uno que no se puede convertir se rechaza en vez de quedar sin número
+     *
+     * @param precioHora
+     */
+    private void validarPrecio(String precioHora) throws IllegalOperationException {
+        if (precioHora != null && ProfesorEntity.precioNumerico(precioHora) == null) {
+            throw new IllegalOperationException("El precio por hora " + precioHora
+                    + " no es válido, debe ser como 40000, $40.000 o 40.000,50.");
+        }
     }
 
     /**
@@ -194,6 +250,9 @@ public class ProfesorService {
 
         log.info("Profesor eliminado");
         profesorRepository.deleteById(profesorExistente.getId());
+        profesoresCercanosService.quitar(profesorExistente.getId());
+        busquedaService.quitar(BusquedaService.PROFESOR, profesorExistente.getId());
+        mejoresProfesoresService.actualizar(profesorExistente.getId());
     }
 
     /**
@@ -229,6 +288,23 @@ public class ProfesorService {
         return profesores;
     }
 
+    /**
+     * Metodo para obtener una página de profesores ordenada por id, empezando
+     * después del id recibido como cursor
+     *
+     * @param despuesDeId id del último profesor de la página anterior, 0 para la primera
+     * @param limite cantidad máxima de profesores en la página
+     * @return
+     */
+    @Transactional
+    public Slice<ProfesorEntity> getProfesores(@NotNull Long despuesDeId, int limite) {
+        log.info("Obteniendo {} profesores despues del id {}", limite, despuesDeId);
+        Slice<ProfesorEntity> pagina = profesorRepository.findByIdGreaterThan(despuesDeId,
+                PageRequest.of(0, limite, Sort.by("id")));
+        log.info(exceptionPartString4 + pagina.getNumberOfElements());
+        return pagina;
+    }
+
     /**
      * Metodo para obtener un profesor por medio de su correo
      *
@@ -264,9 +340,7 @@ public class ProfesorService {
     @Transactional
     public Iterable<ProfesorEntity> getProfesorPorTematica(String tematica) {
         log.info("Obteniendo un profesor por tematica");
-        List<ProfesorEntity> profesores = new ArrayList<>();
-        profesores.addAll(profesorRepository.findAll());
-        profesores.removeIf(profesor -> profesor.getTematicas().stream().noneMatch(t -> t.getTema().equals(tematica)));
+        List<ProfesorEntity> profesores = profesorRepository.findAll(ProfesorSpecifications.conTematica(tematica, null));
         log.info("Profesores obtenidos");
         return profesores;
     }
@@ -290,6 +364,40 @@ public class ProfesorService {
         return profesores;
     }
 
+    /**
+     * Metodo para obtener el listado de todos los profesores, sin cargar las
+     * entidades
+     *
+     * @return
+     */
+    @Transactional
+    public List<ProfesorListado> getListadoProfesores() {
+        log.info("Obteniendo el listado de profesores");
+        List<ProfesorListado> profesores = profesorRepository.findListado();
+        log.info(exceptionPartString4 + profesores.size());
+        return profesores;
+    }
+
+    /**
+     * Metodo para obtener el listado de los profesores de un tipo, sin cargar
+     * las entidades
+     *
+     * @param tipo
+     * @return
+     */
+    @Transactional
+    public List<ProfesorListado> getListadoProfesoresPorTipo(String tipo) throws EntityNotFoundException {
+        log.info("Obteniendo el listado de profesores por tipo: " + tipo);
+
+        if (!tipos.contains(tipo)) {
+            throw new EntityNotFoundException(exceptionPartString2);
+        }
+
+        List<ProfesorListado> profesores = profesorRepository.findListadoByTipo(List.of(clasesPorTipo.get(tipo)));
+        log.info(exceptionPartString4 + profesores.size());
+        return profesores;
+    }
+
     /**
      * Metodo para obtener un profesor por medio de su tipo y tematica
      *
@@ -306,16 +414,61 @@ public class ProfesorService {
             throw new EntityNotFoundException(exceptionPartString2);
         }
 
-        // Use the repository method to find professors by type first
-        List<ProfesorEntity> profesoresPorTipo = profesorRepository.findByTipo(tipo);
-
-        // Then filter by tematica
-        List<ProfesorEntity> profesores = profesoresPorTipo.stream().filter(profesor -> profesor.getTematicas() != null
-                && profesor.getTematicas().stream().anyMatch(t -> t.getTema() != null && t.getTema().equals(tematica)))
-                .toList();
+        List<ProfesorEntity> profesores = profesorRepository.findAll(Specification
+                .where(ProfesorSpecifications.deTipo(tipo))
+                .and(ProfesorSpecifications.conTematica(tematica, null)));
 
         log.info(exceptionPartString4 + profesores.size());
         return profesores;
     }
 
+    /**
+     * Metodo para buscar profesores combinando tipo, tematica, area, rango de
+     * precio y modalidad. La búsqueda se resuelve en una sola consulta y se
+     * pagina por id.
+     *
+     * @param filtros criterios de búsqueda, los nulos se ignoran
+     * @param despuesDeId id del último profesor de la página anterior, 0 para la primera
+     * @param limite cantidad máxima de profesores en la página
+     * @return
+     */
+    @Transactional
+    public Slice<ProfesorEntity> buscarProfesores(@NotNull BusquedaProfesorDTO filtros, @NotNull Long despuesDeId,
+            int limite) throws EntityNotFoundException, IllegalOperationException {
+        log.info("Buscando profesores con los filtros: {}", filtros);
+
+        if (filtros.getTipo() != null && !tipos.contains(filtros.getTipo())) {
+            throw new EntityNotFoundException(exceptionPartString2);
+        }
+
+        Class<? extends ProfesorEntity> clase = null;
+        if (filtros.getModalidad() != null) {
+            clase = modalidades.get(filtros.getModalidad().toUpperCase(Locale.ROOT));
+            if (clase == null) {
+                throw new IllegalOperationException("La modalidad debe ser PRESENCIAL o VIRTUAL.");
+            }
+        }
+
+        if (filtros.getPrecioMin() != null && filtros.getPrecioMax() != null
+                && filtros.getPrecioMin() > filtros.getPrecioMax()) {
+            throw new IllegalOperationException("El precio mínimo no puede ser mayor al precio máximo.");
+        }
+
+        Specification<ProfesorEntity> busqueda = Specification
+                .where(ProfesorSpecifications.despuesDe(despuesDeId))
+                .and(ProfesorSpecifications.deTipo(filtros.getTipo()))
+                .and(ProfesorSpecifications.deClase(clase))
+                .and(ProfesorSpecifications.conTematica(filtros.getTematica(), filtros.getArea()))
+                .and(ProfesorSpecifications.precioDesde(filtros.getPrecioMin()))
+                .and(ProfesorSpecifications.precioHasta(filtros.getPrecioMax()));
+
+        List<ProfesorEntity> profesores = profesorRepository.findBy(busqueda,
+                consulta -> consulta.sortBy(Sort.by("id")).limit(limite + 1).all());
+
+        boolean hayMas = profesores.size() > limite;
+        List<ProfesorEntity> contenido = hayMas ? profesores.subList(0, limite) : profesores;
+        log.info(exceptionPartString4 + contenido.size());
+        return new SliceImpl<>(contenido, PageRequest.ofSize(limite), hayMas);
+    }
+
 }
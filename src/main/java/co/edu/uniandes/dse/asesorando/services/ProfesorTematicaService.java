@@ -1,6 +1,7 @@
 package co.edu.uniandes.dse.asesorando.services;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -9,6 +10,7 @@ import org.springframework.stereotype.Service;
 import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
 import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.dto.CamposSolicitados;
 import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository;
 import co.edu.uniandes.dse.asesorando.repositories.TematicaRepository;
 
@@ -19,12 +21,18 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class ProfesorTematicaService {
 
+    // campo del detalle -> colección de la tematica que lo llena
+    private static final Map<String, String> asociaciones = Map.of("profesores", "profesores");
+
     @Autowired
     private ProfesorRepository profesorRepository;
 
     @Autowired
     private TematicaRepository tematicaRepository;
 
+    @Autowired
+    private ProfesoresCercanosService profesoresCercanosService;
+
     @Transactional
     public TematicaEntity agregarTematicaAProfesor(Long profesorId, Long tematicaId) throws EntityNotFoundException {
         log.info("Inicia proceso de agregar temática a profesor");
@@ -40,11 +48,28 @@ public class ProfesorTematicaService {
         }
 
         profesor.get().getTematicas().add(tematica.get());
+        profesoresCercanosService.registrar(profesor.get());
         return tematica.get();
     }
 
+    // Devuelve la temática con los profesores cargados si se pidieron en campos
+    @Transactional
+    public TematicaEntity agregarTematicaAProfesor(Long profesorId, Long tematicaId, CamposSolicitados campos)
+            throws EntityNotFoundException {
+        TematicaEntity tematica = agregarTematicaAProfesor(profesorId, tematicaId);
+        tematicaRepository.cargarDetalle(List.of(tematica), campos.traducir(asociaciones));
+        return tematica;
+    }
+
     @Transactional
     public List<TematicaEntity> getTematicasDeProfesor(Long profesorId) throws EntityNotFoundException {
+        return getTematicasDeProfesor(profesorId, CamposSolicitados.todos());
+    }
+
+    // Solo carga los profesores de las temáticas si se pidieron en campos
+    @Transactional
+    public List<TematicaEntity> getTematicasDeProfesor(Long profesorId, CamposSolicitados campos)
+            throws EntityNotFoundException {
         log.info("Inicia proceso de consultar temáticas de profesor");
 
         Optional<ProfesorEntity> profesor = profesorRepository.findById(profesorId);
@@ -52,7 +77,7 @@ public class ProfesorTematicaService {
             throw new EntityNotFoundException("Profesor no encontrado con ID: " + profesorId);
         }
 
-        return profesor.get().getTematicas();
+        return tematicaRepository.cargarDetalle(profesor.get().getTematicas(), campos.traducir(asociaciones));
     }
 
     @Transactional
@@ -73,6 +98,15 @@ public class ProfesorTematicaService {
         throw new EntityNotFoundException("La temática no está asociada con este profesor");
     }
 
+    // Devuelve la temática con los profesores cargados si se pidieron en campos
+    @Transactional
+    public TematicaEntity getTematicaDeProfesor(Long profesorId, Long tematicaId, CamposSolicitados campos)
+            throws EntityNotFoundException {
+        TematicaEntity tematica = getTematicaDeProfesor(profesorId, tematicaId);
+        tematicaRepository.cargarDetalle(List.of(tematica), campos.traducir(asociaciones));
+        return tematica;
+    }
+
     @Transactional
     public List<TematicaEntity> actualizarProfesorTematicas(Long profesorId, List<TematicaEntity> tematicas)
             throws EntityNotFoundException {
@@ -82,6 +116,7 @@ public class ProfesorTematicaService {
         }
 
         profesor.get().setTematicas(tematicas);
+        profesoresCercanosService.registrar(profesor.get());
         return profesor.get().getTematicas();
     }
 
@@ -95,5 +130,6 @@ public class ProfesorTematicaService {
         }
 
         profesor.get().getTematicas().remove(tematica.get());
+        profesoresCercanosService.registrar(profesor.get());
     }
 }
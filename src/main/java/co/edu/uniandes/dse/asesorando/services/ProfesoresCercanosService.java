@@ -0,0 +1,256 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import co.edu.uniandes.dse.asesorando.dto.BusquedaCercanosDTO;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorPresencialEntity;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository;
+import co.edu.uniandes.dse.asesorando.repositories.TematicaRepository;
+import co.edu.uniandes.dse.asesorando.services.RejillaGeografica.Cercano;
+import co.edu.uniandes.dse.asesorando.services.RejillaGeografica.Punto;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Busca profesores presenciales cerca de un punto, por radio o los k más
+ * cercanos, sin recorrer la tabla de profesores.
+ *
+ * Las coordenadas, el precio y las tematicas de cada profesor presencial se
+ * guardan en una RejillaGeografica que se reconstruye desde la base de datos
+ * al arrancar. Los servicios que cambian esos datos llaman a
+ * {@link #registrar(ProfesorEntity)} o {@link #quitar(Long)}; el cambio se
+ * aplica al índice cuando se confirma la transacción, así que una transacción
+ * revertida no lo altera.
+ *
+ * @author Daniel-VergaraM
+ */
+@Slf4j
+@Service
+public class ProfesoresCercanosService {
+
+    /**
+     * Cantidad de profesores que se devuelve si la búsqueda no la indica
+     */
+    static final int RESULTADOS_POR_DEFECTO = 20;
+
+    static final int RESULTADOS_MAXIMOS = 100;
+
+    @Autowired
+    private ProfesorRepository profesorRepository;
+
+    @Autowired
+    private TematicaRepository tematicaRepository;
+
+    private final RejillaGeografica rejilla;
+
+    // Las búsquedas, que son la mayoría, pueden correr a la vez
+    private final ReadWriteLock candado = new ReentrantReadWriteLock();
+
+    /**
+     * @param tamanoCelda lado de las celdas del índice en grados; 0.01 son
+     * cerca de 1.1 km
+     */
+    public ProfesoresCercanosService(@Value("${asesorando.cercania.tamano-celda:0.01}") double tamanoCelda) {
+        this.rejilla = new RejillaGeografica(tamanoCelda);
+    }
+
+    /**
+     * Carga en el índice todos los profesores presenciales con coordenadas
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconstruir() {
+        log.info("Reconstruyendo el índice de profesores presenciales");
+        List<Punto> puntos = new ArrayList<>();
+        for (ProfesorPresencialEntity profesor : profesorRepository.findPresencialesConTematicas()) {
+            if (profesor.getLatitud() != null && profesor.getLongitud() != null) {
+                puntos.add(puntoDe(profesor));
+            }
+        }
+        candado.writeLock().lock();
+        try {
+            rejilla.vaciar();
+            puntos.forEach(rejilla::poner);
+        } finally {
+            candado.writeLock().unlock();
+        }
+        log.info("Índice de profesores presenciales con {} profesores", puntos.size());
+    }
+
+    /**
+     * Actualiza en el índice la ubicación, el precio y las tematicas del
+     * profesor tal como están ahora. Si no es presencial o no tiene
+     * coordenadas, lo quita.
+     *
+     * @param profesor
+     */
+    public void registrar(ProfesorEntity profesor) {
+        if (profesor instanceof ProfesorPresencialEntity presencial && presencial.getLatitud() != null
+                && presencial.getLongitud() != null) {
+            Punto punto = puntoDe(presencial);
+            alConfirmar(() -> rejilla.poner(punto));
+        } else if (profesor.getId() != null) {
+            quitar(profesor.getId());
+        }
+    }
+
+    /**
+     * Quita al profesor del índice
+     *
+     * @param profesorId
+     */
+    public void quitar(Long profesorId) {
+        alConfirmar(() -> rejilla.quitar(profesorId));
+    }
+
+    /**
+     * Profesores presenciales cerca del punto de la búsqueda, del más cercano
+     * al más lejano. Con radio devuelve los que están a lo sumo a esa
+     * distancia; con k, los k más cercanos; con ambos, los k más cercanos
+     * dentro del radio.
+     *
+     * @param busqueda
+     * @return
+     * @throws IllegalOperationException si faltan las coordenadas, el radio y
+     * el k, o algún valor está fuera de rango
+     */
+    @Transactional
+    public List<ProfesorCercano> buscar(BusquedaCercanosDTO busqueda) throws IllegalOperationException {
+        validar(busqueda);
+        int k = busqueda.getK() == null ? RESULTADOS_POR_DEFECTO : busqueda.getK();
+        Predicate<Punto> filtro = filtroDe(busqueda);
+        double latitud = busqueda.getLatitud();
+        double longitud = busqueda.getLongitud();
+
+        List<Cercano> cercanos;
+        candado.readLock().lock();
+        try {
+            if (busqueda.getRadioKm() == null) {
+                cercanos = rejilla.masCercanos(latitud, longitud, k, filtro);
+            } else {
+                cercanos = rejilla.enRadio(latitud, longitud, busqueda.getRadioKm(), filtro);
+            }
+        } finally {
+            candado.readLock().unlock();
+        }
+        if (cercanos.size() > k) {
+            cercanos = cercanos.subList(0, k);
+        }
+
+        Map<Long, ProfesorEntity> profesores = profesorRepository
+                .findAllById(cercanos.stream().map(cercano -> cercano.punto().id()).toList()).stream()
+                .collect(Collectors.toMap(ProfesorEntity::getId, Function.identity()));
+        List<ProfesorCercano> resultado = new ArrayList<>();
+        for (Cercano cercano : cercanos) {
+            ProfesorEntity profesor = profesores.get(cercano.punto().id());
+            if (profesor != null) {
+                resultado.add(new ProfesorCercano(profesor, cercano.distanciaKm()));
+            }
+        }
+        log.info("Profesores cercanos encontrados: {}", resultado.size());
+        return resultado;
+    }
+
+    private static void validar(BusquedaCercanosDTO busqueda) throws IllegalOperationException {
+        if (busqueda.getLatitud() == null || busqueda.getLongitud() == null) {
+            throw new IllegalOperationException("La latitud y la longitud son obligatorias.");
+        }
+        if (busqueda.getLatitud() < -90 || busqueda.getLatitud() > 90) {
+            throw new IllegalOperationException("La latitud debe estar entre -90 y 90.");
+        }
+        if (busqueda.getLongitud() < -180 || busqueda.getLongitud() > 180) {
+            throw new IllegalOperationException("La longitud debe estar entre -180 y 180.");
+        }
+        if (busqueda.getRadioKm() == null && busqueda.getK() == null) {
+            throw new IllegalOperationException("Se debe indicar el radio, la cantidad de profesores o ambos.");
+        }
+        if (busqueda.getRadioKm() != null && !(busqueda.getRadioKm() > 0)) {
+            throw new IllegalOperationException("El radio debe ser mayor a 0.");
+        }
+        if (busqueda.getK() != null && (busqueda.getK() < 1 || busqueda.getK() > RESULTADOS_MAXIMOS)) {
+            throw new IllegalOperationException(
+                    "La cantidad de profesores debe estar entre 1 y " + RESULTADOS_MAXIMOS + ".");
+        }
+        if (busqueda.getPrecioMin() != null && busqueda.getPrecioMax() != null
+                && busqueda.getPrecioMin() > busqueda.getPrecioMax()) {
+            throw new IllegalOperationException("El precio mínimo no puede ser mayor al precio máximo.");
+        }
+    }
+
+    /**
+     * Filtro de precio y tematica. La tematica se traduce a los ids de las
+     * tematicas que coinciden, que es lo que guarda el índice.
+     */
+    private Predicate<Punto> filtroDe(BusquedaCercanosDTO busqueda) {
+        Predicate<Punto> filtro = punto -> true;
+        Double minimo = busqueda.getPrecioMin();
+        Double maximo = busqueda.getPrecioMax();
+        if (minimo != null) {
+            filtro = filtro.and(punto -> punto.precio() != null && punto.precio() >= minimo);
+        }
+        if (maximo != null) {
+            filtro = filtro.and(punto -> punto.precio() != null && punto.precio() <= maximo);
+        }
+        if (busqueda.getTematica() != null || busqueda.getArea() != null) {
+            Set<Long> tematicas = tematicasDe(busqueda.getTematica(), busqueda.getArea());
+            filtro = filtro.and(punto -> punto.tematicas().stream().anyMatch(tematicas::contains));
+        }
+        return filtro;
+    }
+
+    private Set<Long> tematicasDe(String tema, String area) {
+        List<TematicaEntity> tematicas;
+        if (tema != null && area != null) {
+            tematicas = tematicaRepository.findByTemaAndArea(tema, area).stream().toList();
+        } else if (tema != null) {
+            tematicas = tematicaRepository.findByTema(tema).stream().toList();
+        } else {
+            tematicas = tematicaRepository.findByArea(area);
+        }
+        return tematicas.stream().map(TematicaEntity::getId).collect(Collectors.toSet());
+    }
+
+    private static Punto puntoDe(ProfesorPresencialEntity profesor) {
+        Set<Long> tematicas = profesor.getTematicas() == null ? Set.of()
+                : profesor.getTematicas().stream().map(TematicaEntity::getId).collect(Collectors.toUnmodifiableSet());
+        return new Punto(profesor.getId(), profesor.getLatitud(), profesor.getLongitud(),
+                precioDe(profesor), tematicas);
+    }
+
+    /**
+     * precioHoraNumerico solo se calcula al guardar, así que un profesor que
+     * se acaba de modificar puede tenerlo desactualizado; se convierte igual
+     * que al guardar
+     */
+    private static Double precioDe(ProfesorEntity profesor) {
+        return ProfesorEntity.precioNumerico(profesor.getPrecioHora());
+    }
+
+    private void alConfirmar(Runnable cambio) {
+        AlConfirmar.ejecutar(() -> {
+            candado.writeLock().lock();
+            try {
+                cambio.run();
+            } finally {
+                candado.writeLock().unlock();
+            }
+        });
+    }
+}
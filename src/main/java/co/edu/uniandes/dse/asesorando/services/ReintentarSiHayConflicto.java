@@ -0,0 +1,30 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.annotation.Retryable;
+
+/**
+ * Vuelve a ejecutar el método, en una transacción nueva, cuando falla porque
+ * otra transacción modificó las mismas entidades (versión distinta) o no
+ * soltó a tiempo el calendario. Se intenta hasta 3 veces, esperando entre 20 y
+ * 80 ms con variación aleatoria para que los reintentos no vuelvan a chocar.
+ *
+ * Solo sirve en métodos que abren su propia transacción: si el método se
+ * llama dentro de otra, el conflicto la deja marcada para revertir.
+ *
+ * @author Daniel-VergaraM
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@Retryable(retryFor = ConcurrencyFailureException.class, maxAttempts = 3,
+        backoff = @Backoff(delay = 20, maxDelay = 80, multiplier = 2, random = true))
+public @interface ReintentarSiHayConflicto {
+}
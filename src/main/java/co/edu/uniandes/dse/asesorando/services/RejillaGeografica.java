@@ -0,0 +1,298 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Índice espacial en memoria: divide el globo en celdas de igual tamaño en
+ * grados y guarda cada punto en la celda que le corresponde por latitud y
+ * longitud. Una búsqueda solo revisa las celdas que puede alcanzar, así que
+ * su costo depende de cuántos puntos hay cerca y no del total.
+ *
+ * Las distancias son de círculo máximo (haversine) en kilómetros. La clase no
+ * es segura para hilos; quien la use debe sincronizar el acceso.
+ *
+ * @author Daniel-VergaraM
+ */
+public final class RejillaGeografica {
+
+    /**
+     * Radio medio de la Tierra
+     */
+    public static final double RADIO_TIERRA_KM = 6371.0088;
+
+    private final double tamanoCelda;
+
+    private final int filas;
+
+    private final int columnas;
+
+    private final Map<Long, List<Punto>> celdas = new HashMap<>();
+
+    private final Map<Long, Punto> puntos = new HashMap<>();
+
+    /**
+     * @param tamanoCelda lado de cada celda en grados
+     */
+    public RejillaGeografica(double tamanoCelda) {
+        if (!(tamanoCelda > 0 && tamanoCelda <= 90)) {
+            throw new IllegalArgumentException("El tamaño de celda debe estar entre 0 y 90 grados: " + tamanoCelda);
+        }
+        this.tamanoCelda = tamanoCelda;
+        this.filas = (int) Math.ceil(180 / tamanoCelda);
+        this.columnas = (int) Math.ceil(360 / tamanoCelda);
+    }
+
+    /**
+     * Agrega el punto o lo reemplaza si ya había uno con el mismo id
+     *
+     * @param punto
+     */
+    public void poner(Punto punto) {
+        quitar(punto.id());
+        puntos.put(punto.id(), punto);
+        celdas.computeIfAbsent(celdaDe(punto.latitud(), punto.longitud()), celda -> new ArrayList<>()).add(punto);
+    }
+
+    /**
+     * Quita el punto con el id dado, si existe
+     *
+     * @param id
+     */
+    public void quitar(Long id) {
+        Punto anterior = puntos.remove(id);
+        if (anterior == null) {
+            return;
+        }
+        long celda = celdaDe(anterior.latitud(), anterior.longitud());
+        List<Punto> enCelda = celdas.get(celda);
+        enCelda.remove(anterior);
+        if (enCelda.isEmpty()) {
+            celdas.remove(celda);
+        }
+    }
+
+    public void vaciar() {
+        puntos.clear();
+        celdas.clear();
+    }
+
+    public int tamano() {
+        return puntos.size();
+    }
+
+    /**
+     * Puntos que cumplen el filtro a lo sumo a radioKm del origen, del más
+     * cercano al más lejano
+     *
+     * @param latitud
+     * @param longitud
+     * @param radioKm
+     * @param filtro
+     * @return
+     */
+    public List<Cercano> enRadio(double latitud, double longitud, double radioKm, Predicate<Punto> filtro) {
+        List<Cercano> encontrados = new ArrayList<>();
+        if (!(radioKm >= 0) || puntos.isEmpty()) {
+            return encontrados;
+        }
+        for (Punto punto : candidatosEnRadio(latitud, longitud, radioKm)) {
+            if (filtro.test(punto)) {
+                double distancia = distanciaKm(latitud, longitud, punto.latitud(), punto.longitud());
+                if (distancia <= radioKm) {
+                    encontrados.add(new Cercano(punto, distancia));
+                }
+            }
+        }
+        encontrados.sort(Cercano.ORDEN);
+        return encontrados;
+    }
+
+    /**
+     * Los k puntos más cercanos al origen que cumplen el filtro, del más
+     * cercano al más lejano.
+     *
+     * Recorre anillos de celdas alrededor del origen hasta juntar k
+     * candidatos. Como las celdas se angostan hacia los polos, el k-ésimo
+     * candidato no es necesariamente el k-ésimo punto más cercano, pero su
+     * distancia sí es una cota: la respuesta exacta se obtiene con una
+     * búsqueda por radio de esa distancia.
+     *
+     * @param latitud
+     * @param longitud
+     * @param k
+     * @param filtro
+     * @return
+     */
+    public List<Cercano> masCercanos(double latitud, double longitud, int k, Predicate<Punto> filtro) {
+        if (k <= 0 || puntos.isEmpty()) {
+            return new ArrayList<>();
+        }
+        int fila = filaDe(latitud);
+        int columna = columnaDe(longitud);
+        List<Punto> candidatos = new ArrayList<>();
+        long celdasRevisadas = 0;
+        for (int anillo = 0; candidatos.size() < k; anillo++) {
+            // Más allá de esto es más barato revisar todos los puntos
+            if (celdasRevisadas > puntos.size() || 2 * anillo + 1 >= columnas) {
+                return primeros(todos(latitud, longitud, filtro), k);
+            }
+            celdasRevisadas += recorrerAnillo(fila, columna, anillo, punto -> {
+                if (filtro.test(punto)) {
+                    candidatos.add(punto);
+                }
+            });
+        }
+        double cota = candidatos.stream()
+                .mapToDouble(punto -> distanciaKm(latitud, longitud, punto.latitud(), punto.longitud()))
+                .sorted().skip(k - 1L).findFirst().orElseThrow();
+        return primeros(enRadio(latitud, longitud, cota, filtro), k);
+    }
+
+    /**
+     * Puntos de las celdas que pueden tener puntos a radioKm del origen. Si
+     * son más celdas que puntos, devuelve todos los puntos.
+     */
+    private Collection<Punto> candidatosEnRadio(double latitud, double longitud, double radioKm) {
+        double angulo = radioKm / RADIO_TIERRA_KM;
+        double latitudMinima = latitud - Math.toDegrees(angulo);
+        double latitudMaxima = latitud + Math.toDegrees(angulo);
+        // Mayor diferencia de longitud dentro del círculo; si el círculo toca
+        // un polo abarca todas las longitudes
+        double deltaLongitud = 180;
+        if (latitudMinima > -90 && latitudMaxima < 90) {
+            double seno = Math.sin(angulo) / Math.cos(Math.toRadians(latitud));
+            if (seno < 1) {
+                deltaLongitud = Math.toDegrees(Math.asin(seno));
+            }
+        }
+        int filaMinima = filaDe(Math.max(-90, latitudMinima));
+        int filaMaxima = filaDe(Math.min(90, latitudMaxima));
+        int columnaMinima;
+        int cantidadColumnas;
+        if (deltaLongitud >= 180) {
+            columnaMinima = 0;
+            cantidadColumnas = columnas;
+        } else {
+            columnaMinima = (int) Math.floor((longitud - deltaLongitud + 180) / tamanoCelda);
+            int columnaMaxima = (int) Math.floor((longitud + deltaLongitud + 180) / tamanoCelda);
+            cantidadColumnas = Math.min(columnas, columnaMaxima - columnaMinima + 1);
+        }
+        long cantidadCeldas = (long) (filaMaxima - filaMinima + 1) * cantidadColumnas;
+        if (cantidadCeldas > puntos.size()) {
+            return puntos.values();
+        }
+        List<Punto> candidatos = new ArrayList<>();
+        for (int fila = filaMinima; fila <= filaMaxima; fila++) {
+            for (int i = 0; i < cantidadColumnas; i++) {
+                agregarCelda(fila, columnaMinima + i, candidatos::add);
+            }
+        }
+        return candidatos;
+    }
+
+    /**
+     * Visita las celdas del borde del cuadrado de lado 2 * anillo + 1 centrado
+     * en la celda dada
+     *
+     * @return cuántas celdas visitó
+     */
+    private int recorrerAnillo(int fila, int columna, int anillo, Consumer<Punto> accion) {
+        if (anillo == 0) {
+            agregarCelda(fila, columna, accion);
+            return 1;
+        }
+        int visitadas = 0;
+        for (int f = fila - anillo; f <= fila + anillo; f++) {
+            if (f < 0 || f >= filas) {
+                continue;
+            }
+            boolean borde = f == fila - anillo || f == fila + anillo;
+            int paso = borde ? 1 : 2 * anillo;
+            for (int c = columna - anillo; c <= columna + anillo; c += paso) {
+                agregarCelda(f, c, accion);
+                visitadas++;
+            }
+        }
+        return visitadas;
+    }
+
+    private void agregarCelda(int fila, int columna, Consumer<Punto> accion) {
+        List<Punto> enCelda = celdas.get(clave(fila, Math.floorMod(columna, columnas)));
+        if (enCelda != null) {
+            enCelda.forEach(accion);
+        }
+    }
+
+    private List<Cercano> todos(double latitud, double longitud, Predicate<Punto> filtro) {
+        List<Cercano> encontrados = new ArrayList<>();
+        for (Punto punto : puntos.values()) {
+            if (filtro.test(punto)) {
+                encontrados.add(new Cercano(punto, distanciaKm(latitud, longitud, punto.latitud(), punto.longitud())));
+            }
+        }
+        encontrados.sort(Cercano.ORDEN);
+        return encontrados;
+    }
+
+    private static List<Cercano> primeros(List<Cercano> cercanos, int k) {
+        return cercanos.size() > k ? new ArrayList<>(cercanos.subList(0, k)) : cercanos;
+    }
+
+    private long celdaDe(double latitud, double longitud) {
+        return clave(filaDe(latitud), columnaDe(longitud));
+    }
+
+    private long clave(int fila, int columna) {
+        return (long) fila * columnas + columna;
+    }
+
+    private int filaDe(double latitud) {
+        return Math.min(filas - 1, Math.max(0, (int) Math.floor((latitud + 90) / tamanoCelda)));
+    }
+
+    private int columnaDe(double longitud) {
+        return Math.floorMod((int) Math.floor((longitud + 180) / tamanoCelda), columnas);
+    }
+
+    /**
+     * Distancia de círculo máximo entre dos coordenadas, en kilómetros
+     */
+    public static double distanciaKm(double latitud1, double longitud1, double latitud2, double longitud2) {
+        double deltaLatitud = Math.toRadians(latitud2 - latitud1);
+        double deltaLongitud = Math.toRadians(longitud2 - longitud1);
+        double senoLatitud = Math.sin(deltaLatitud / 2);
+        double senoLongitud = Math.sin(deltaLongitud / 2);
+        double a = senoLatitud * senoLatitud + Math.cos(Math.toRadians(latitud1)) * Math.cos(Math.toRadians(latitud2))
+                * senoLongitud * senoLongitud;
+        return 2 * RADIO_TIERRA_KM * Math.asin(Math.min(1, Math.sqrt(a)));
+    }
+
+    /**
+     * Punto del índice con los datos por los que se puede filtrar
+     *
+     * @param id
+     * @param latitud
+     * @param longitud
+     * @param precio precio por hora, null si no se conoce
+     * @param tematicas ids de las tematicas
+     */
+    public record Punto(Long id, double latitud, double longitud, Double precio, Set<Long> tematicas) {
+    }
+
+    /**
+     * Punto encontrado y su distancia al origen de la búsqueda
+     */
+    public record Cercano(Punto punto, double distanciaKm) {
+
+        static final Comparator<Cercano> ORDEN = Comparator.comparingDouble(Cercano::distanciaKm)
+                .thenComparing(cercano -> cercano.punto().id());
+    }
+}
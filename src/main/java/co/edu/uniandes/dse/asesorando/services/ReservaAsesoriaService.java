@@ -24,6 +24,15 @@ public class ReservaAsesoriaService {
     @Autowired
     private AsesoriaRepository asesoriaRepository;
 
+    @Autowired
+    private DisponibilidadService disponibilidadService;
+
+    @Autowired
+    private BusquedaService busquedaService;
+
+    @Autowired
+    private MejoresProfesoresService mejoresProfesoresService;
+
     private String exceptionPartString = "Reserva con ID ";
 
     private String exceptionPartString2 = " no encontrada";
@@ -34,7 +43,8 @@ public class ReservaAsesoriaService {
      * Asocia una asesoría a una reserva (crear o actualizar).
      */
     @Transactional
-    public AsesoriaEntity asociarAsesoriaAReserva(Long reservaId, Long asesoriaId) throws EntityNotFoundException {
+    public AsesoriaEntity asociarAsesoriaAReserva(Long reservaId, Long asesoriaId)
+            throws EntityNotFoundException, IllegalOperationException {
         log.info("Asociando asesoría con ID {} a la reserva con ID {}", asesoriaId, reservaId);
 
         // Buscar la reserva en la base de datos
@@ -53,6 +63,7 @@ public class ReservaAsesoriaService {
         // Asociar la asesoría a la reserva
         asesoria.setReserva(reserva);
         reserva.setAsesoria(asesoria);
+        disponibilidadService.reservar(reserva);
 
         // Guardar los cambios en la base de datos
         reservaRepository.save(reserva);
@@ -83,7 +94,8 @@ public class ReservaAsesoriaService {
      * Actualiza la asesoría de una reserva.
      */
     @Transactional
-    public AsesoriaEntity actualizarAsesoria(Long reservaId, AsesoriaEntity asesoriaActualizada) throws EntityNotFoundException {
+    public AsesoriaEntity actualizarAsesoria(Long reservaId, AsesoriaEntity asesoriaActualizada)
+            throws EntityNotFoundException, IllegalOperationException {
         log.info("Actualizando asesoría de la reserva con ID: {}", reservaId);
 
         ReservaEntity reserva = reservaRepository.findById(reservaId)
@@ -95,17 +107,27 @@ public class ReservaAsesoriaService {
         }
 
         asesoriaActualizada.setId(asesoriaExistente.getId());
+        asesoriaActualizada.setVersion(asesoriaExistente.getVersion());
         asesoriaActualizada.setReserva(reserva);
 
+        // La duración de la asesoría define cuánto tiempo ocupa la reserva
+        AsesoriaEntity asesoriaGuardada = asesoriaRepository.save(asesoriaActualizada);
+        reserva.setAsesoria(asesoriaGuardada);
+        disponibilidadService.reservar(reserva);
+        busquedaService.indexar(asesoriaGuardada);
+        if (asesoriaExistente.getProfesor() != null) {
+            mejoresProfesoresService.actualizar(asesoriaExistente.getProfesor().getId());
+        }
+
         log.info("Asesoría actualizada exitosamente para la reserva con ID: {}", reservaId);
-        return asesoriaRepository.save(asesoriaActualizada);
+        return asesoriaGuardada;
     }
 
     /**
      * Elimina la asesoría asociada a una reserva.
      */
     @Transactional
-    public void eliminarAsesoria(Long reservaId) throws EntityNotFoundException {
+    public void eliminarAsesoria(Long reservaId) throws EntityNotFoundException, IllegalOperationException {
         log.info("Eliminando asesoría de la reserva con ID: {}", reservaId);
 
         ReservaEntity reserva = reservaRepository.findById(reservaId)
@@ -117,8 +139,13 @@ public class ReservaAsesoriaService {
         }
 
         reserva.setAsesoria(null);
+        disponibilidadService.reservar(reserva);
         reservaRepository.save(reserva);
         asesoriaRepository.delete(asesoria);
+        busquedaService.quitar(BusquedaService.ASESORIA, asesoria.getId());
+        if (asesoria.getProfesor() != null) {
+            mejoresProfesoresService.actualizar(asesoria.getProfesor().getId());
+        }
 
         log.info("Asesoría eliminada exitosamente de la reserva con ID: {}", reservaId);
     }
@@ -147,6 +174,7 @@ public class ReservaAsesoriaService {
         // Asociar la asesoría a la reserva
         asesoria.setReserva(reserva);
         reserva.setAsesoria(asesoria);
+        disponibilidadService.reservar(reserva);
 
         // Guardar los cambios en la base de datos
         asesoriaRepository.save(asesoria);
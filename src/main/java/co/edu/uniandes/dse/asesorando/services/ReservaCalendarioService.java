@@ -29,6 +29,12 @@ public class ReservaCalendarioService {
     @Autowired
     private CalendarioRepository calendarioRepository;
 
+    @Autowired
+    private DisponibilidadService disponibilidadService;
+
+    @Autowired
+    private BloqueosPorCalendario bloqueosPorCalendario;
+
     private String exceptionPartString = "El calendario con ID ";
 
     private String exceptionPartString2 = "La reserva con ID ";
@@ -36,19 +42,23 @@ public class ReservaCalendarioService {
     private String exceptionPartString3 = " no está en la base de datos";
 
 
+    @ReintentarSiHayConflicto
     @Transactional
-    public ReservaEntity asociarReservaACalendario(Long reservaId, Long calendarioId) throws EntityNotFoundException {
+    public ReservaEntity asociarReservaACalendario(Long reservaId, Long calendarioId) throws EntityNotFoundException, IllegalOperationException {
+        bloqueosPorCalendario.bloquearHastaTerminar(calendarioId);
+
         // Buscar la reserva
         ReservaEntity reserva = reservaRepository.findById(reservaId)
                 .orElseThrow(() -> new EntityNotFoundException("La reserva no existe"));
 
         // Buscar el calendario
-        CalendarioEntity calendario = calendarioRepository.findById(calendarioId)
+        CalendarioEntity calendario = calendarioRepository.findParaReservarById(calendarioId)
                 .orElseThrow(() -> new EntityNotFoundException("El calendario no existe"));
 
 
         // Asociar la reserva al nuevo calendario
         reserva.setCalendario(calendario);
+        disponibilidadService.reservar(reserva);
         calendario.getReservas().add(reserva);
 
         return reservaRepository.save(reserva);
@@ -60,7 +70,7 @@ public class ReservaCalendarioService {
         ReservaEntity reserva = reservaRepository.findById(reservaId)
                 .orElseThrow(() -> new EntityNotFoundException("La reserva no existe"));
 
-
+        disponibilidadService.liberar(reserva);
         reservaRepository.delete(reserva);
     }
 
@@ -77,13 +87,14 @@ public class ReservaCalendarioService {
         return reservaRepository.findByCalendarioId(calendarioId);
     }
 
+    @ReintentarSiHayConflicto
     @Transactional
     public ReservaEntity crearReservaEnCalendario(@NotNull Long calendarioId, @NotNull Long reservaId) 
             throws EntityNotFoundException, IllegalOperationException {
-        
+        bloqueosPorCalendario.bloquearHastaTerminar(calendarioId);
 
         // Buscar el calendario en la base de datos
-        CalendarioEntity calendario = calendarioRepository.findById(calendarioId)
+        CalendarioEntity calendario = calendarioRepository.findParaReservarById(calendarioId)
                 .orElseThrow(() -> new EntityNotFoundException(exceptionPartString + calendarioId + exceptionPartString3));
 
         // Buscar la reserva en la base de datos
@@ -97,6 +108,7 @@ public class ReservaCalendarioService {
 
         // Asociar la reserva al calendario
         reserva.setCalendario(calendario);
+        disponibilidadService.reservar(reserva);
         calendario.getReservas().add(reserva);
 
         // Guardar los cambios en la base de datos
@@ -135,6 +147,7 @@ public class ReservaCalendarioService {
         reserva.setComentario(reservaActualizada.getComentario());
         reserva.setCancelada(reservaActualizada.getCancelada());
         reserva.setEstado(reservaActualizada.getEstado());
+        disponibilidadService.reservar(reserva);
 
 
         // Guardar los cambios en la base de datos
@@ -24,6 +24,12 @@ public class ReservaComentarioService {
     @Autowired
     private ComentarioRepository comentarioRepository;
 
+    @Autowired
+    private DisponibilidadService disponibilidadService;
+
+    @Autowired
+    private CalificacionesService calificacionesService;
+
     private String exceptionPartString = "La reserva no existe";
 
     @Transactional
@@ -54,7 +60,9 @@ public class ReservaComentarioService {
     comentario = comentarioRepository.save(comentario);
 
     log.info("Asociando comentario a la reserva y actualizando reserva");
+    reemplazarCalificacion(reserva, comentario);
     reserva.setComentario(comentario);
+    comentario.setReserva(reserva);
     reservaRepository.save(reserva);
 
     log.info("Comentario creado y asociado correctamente a la reserva con ID {}", reservaId);
@@ -84,6 +92,8 @@ public class ReservaComentarioService {
             throw new EntityNotFoundException("No hay comentario asociado a esta reserva");
         }
 
+        calificacionesService.restar(reserva, comentario.getCalificacion());
+        calificacionesService.sumar(reserva, comentarioActualizado.getCalificacion());
         comentario.setComentario(comentarioActualizado.getComentario());
         comentario.setCalificacion(comentarioActualizado.getCalificacion()); 
         return comentarioRepository.save(comentario); 
@@ -97,6 +107,7 @@ public class ReservaComentarioService {
         
         ComentarioEntity comentario = reserva.getComentario();
         if (comentario != null) {
+            calificacionesService.restar(reserva, comentario.getCalificacion());
             comentarioRepository.delete(comentario);  // Elimina el comentario
             reserva.setComentario(null);
         } else {
@@ -109,9 +120,11 @@ public class ReservaComentarioService {
         // Encuentra la reserva y elimina tanto la reserva como el comentario
         ReservaEntity reserva = reservaRepository.findById(reservaId)
                 .orElseThrow(() -> new EntityNotFoundException(exceptionPartString));
+        disponibilidadService.liberar(reserva);
 
         ComentarioEntity comentario = reserva.getComentario();
         if (comentario != null) {
+            calificacionesService.restar(reserva, comentario.getCalificacion());
             comentario.setReserva(null);
             comentarioRepository.delete(comentario);  // Elimina el comentario
             reserva.setComentario(null);
@@ -135,11 +148,14 @@ public class ReservaComentarioService {
         if (reserva.getComentario() != null) {
             // Si ya tiene un comentario, actualizarlo
             ComentarioEntity comentarioExistente = reserva.getComentario();
+            calificacionesService.restar(reserva, comentarioExistente.getCalificacion());
+            calificacionesService.sumar(reserva, comentario.getCalificacion());
             comentarioExistente.setComentario(comentario.getComentario());
             comentarioExistente.setCalificacion(comentario.getCalificacion());
             return comentarioRepository.save(comentarioExistente);
         } else {
             // Si no tiene, asignar el nuevo comentario
+            reemplazarCalificacion(reserva, comentario);
             reserva.setComentario(comentario);
             comentario.setReserva(reserva);
             return comentarioRepository.save(comentario);
@@ -161,6 +177,7 @@ public class ReservaComentarioService {
                 .orElseThrow(() -> new EntityNotFoundException("El comentario con ID " + comentarioId + " no está en la base de datos"));
 
         // Asociar el comentario a la reserva
+        reemplazarCalificacion(reserva, comentario);
         comentario.setReserva(reserva);
         reserva.setComentario(comentario);
 
@@ -173,6 +190,30 @@ public class ReservaComentarioService {
         return comentario;
     }
 
-
-
+    /**
+     * Actualiza las calificaciones de los profesores cuando el comentario pasa
+     * a ser el de la reserva, en lugar del que tenía antes, si tenía alguno.
+     * Si el comentario estaba en otra reserva, se descuenta del profesor de
+     * esa reserva, que queda sin comentario.
+     */
+    private void reemplazarCalificacion(ReservaEntity reserva, ComentarioEntity comentario) {
+        ComentarioEntity anterior = reserva.getComentario();
+        if (anterior == comentario) {
+            return;
+        }
+        if (anterior != null) {
+            calificacionesService.restar(reserva, anterior.getCalificacion());
+        }
+        // La reserva es la dueña de la relación: comentario.getReserva() puede
+        // no estar al día en memoria
+        ReservaEntity reservaAnterior = comentario.getId() == null ? null
+                : reservaRepository.findByComentarioId(comentario.getId()).orElse(null);
+        if (reservaAnterior != null && reservaAnterior != reserva) {
+            calificacionesService.restar(reservaAnterior, comentario.getCalificacion());
+            reservaAnterior.setComentario(null);
+            // Antes de que la nueva reserva apunte al comentario (@OneToOne único)
+            reservaRepository.saveAndFlush(reservaAnterior);
+        }
+        calificacionesService.sumar(reserva, comentario.getCalificacion());
+    }
 }
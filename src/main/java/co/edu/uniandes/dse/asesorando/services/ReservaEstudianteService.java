@@ -8,6 +8,7 @@ import org.springframework.stereotype.Service;
 import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
 import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
 import co.edu.uniandes.dse.asesorando.repositories.ReservaRepository;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
@@ -20,8 +21,12 @@ public class ReservaEstudianteService {
     @Autowired
     private ReservaRepository reservaRepository;
 
+    @Autowired
+    private DisponibilidadService disponibilidadService;
+
     @Transactional
-    public ReservaEntity crearReserva(ReservaEntity nuevaReserva) {
+    public ReservaEntity crearReserva(ReservaEntity nuevaReserva) throws IllegalOperationException {
+        disponibilidadService.reservar(nuevaReserva);
         return reservaRepository.save(nuevaReserva);
     }
 
@@ -48,6 +53,7 @@ public class ReservaEstudianteService {
         ReservaEntity reserva = reservaRepository.findById(reservaId)
                 .orElseThrow(() -> new EntityNotFoundException("La reserva no existe"));
 
+        disponibilidadService.liberar(reserva);
         reservaRepository.delete(reserva);
     }
 
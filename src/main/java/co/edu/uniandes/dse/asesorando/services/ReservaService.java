@@ -1,10 +1,27 @@
 package co.edu.uniandes.dse.asesorando.services;
 
 
+import java.io.IOException;
+import java.io.Writer;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import co.edu.uniandes.dse.asesorando.dto.ReservaDTO;
@@ -12,9 +29,11 @@ import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
 import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
 import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
 import co.edu.uniandes.dse.asesorando.repositories.AsesoriaRepository;
 import co.edu.uniandes.dse.asesorando.repositories.EstudianteRepository;
 import co.edu.uniandes.dse.asesorando.repositories.ReservaRepository;
+import co.edu.uniandes.dse.asesorando.repositories.ReservaRepository.ReservaExportable;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
@@ -23,6 +42,16 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class ReservaService {
 
+    /**
+     * Número máximo de reservas que se aceptan en una sola solicitud por lotes
+     */
+    static final int MAXIMO_POR_LOTE = 10000;
+
+    /**
+     * Estado de una reserva completada
+     */
+    static final String COMPLETADA = "Completada";
+
 
     @Autowired
     private ReservaRepository reservaRepository;
@@ -34,10 +63,20 @@ public class ReservaService {
     @Autowired
     private AsesoriaRepository asesoriaRepository;
 
+    @Autowired
+    private DisponibilidadService disponibilidadService;
+
+    @Autowired
+    private BloqueosPorCalendario bloqueosPorCalendario;
 
+    @Autowired
+    private BandejaSalidaService bandejaSalidaService;
 
+
+
+        @ReintentarSiHayConflicto
         @Transactional
-        public ReservaEntity crearReserva(ReservaDTO reservaDTO) throws EntityNotFoundException {
+        public ReservaEntity crearReserva(ReservaDTO reservaDTO) throws EntityNotFoundException, IllegalOperationException {
         ReservaEntity reserva = new ReservaEntity();
 
         reserva.setFechaReserva(reservaDTO.getFechaReserva());
@@ -49,15 +88,103 @@ public class ReservaService {
             .orElseThrow(() -> new EntityNotFoundException("Estudiante no encontrado"));
         reserva.setEstudiante(estudiante);
 
-        // Buscar y asignar asesoria
+        // Buscar y asignar asesoria. Las reservas del mismo calendario (o de la
+        // misma asesoría, si no tiene calendario) se hacen de a una
         AsesoriaEntity asesoria = asesoriaRepository.findById(reservaDTO.getAsesoriaId())
             .orElseThrow(() -> new EntityNotFoundException("Asesoria no encontrada"));
+        bloqueosPorCalendario.bloquearHastaTerminar(asesoria.getCalendario() != null ? asesoria.getCalendario().getId() : asesoria.getId());
+        if (reservaRepository.existsByAsesoriaId(asesoria.getId())) {
+            throw new IllegalOperationException("La asesoría ya está reservada");
+        }
         reserva.setAsesoria(asesoria);
 
-
+        disponibilidadService.reservar(reserva);
         return reservaRepository.save(reserva);
     }
 
+    /**
+     * Crea varias reservas en una sola transacción. Los estudiantes y las
+     * asesorías de todo el lote se buscan con una consulta cada uno y las
+     * reservas se insertan juntas al confirmar, de modo que Hibernate puede
+     * enviarlas en lotes JDBC (hibernate.jdbc.batch_size).
+     *
+     * Una reserva inválida (estudiante o asesoría inexistente, asesoría ya
+     * reservada o repetida en el lote, horario ocupado) no impide crear las
+     * demás: se omite y su motivo queda en el resultado, según su posición en
+     * la lista.
+     *
+     * @param reservasDTO
+     * @return las reservas creadas y los errores por posición
+     * @throws IllegalOperationException si el lote supera MAXIMO_POR_LOTE
+     */
+    @ReintentarSiHayConflicto
+    @Transactional
+    public ResultadoLote<ReservaEntity> crearReservas(List<ReservaDTO> reservasDTO) throws IllegalOperationException {
+        log.info("Inicia proceso de creación de {} reservas", reservasDTO.size());
+        if (reservasDTO.size() > MAXIMO_POR_LOTE) {
+            throw new IllegalOperationException("Un lote puede tener como máximo " + MAXIMO_POR_LOTE + " reservas");
+        }
+
+        Map<Long, EstudianteEntity> estudiantes = porId(estudianteRepository.findAllById(
+                idsDe(reservasDTO, ReservaDTO::getEstudianteId)), EstudianteEntity::getId);
+        Map<Long, AsesoriaEntity> asesorias = porId(asesoriaRepository.findAllById(
+                idsDe(reservasDTO, ReservaDTO::getAsesoriaId)), AsesoriaEntity::getId);
+
+        // Mismos candados que crearReserva, tomados en orden
+        bloqueosPorCalendario.bloquearHastaTerminar(asesorias.values().stream()
+                .map(asesoria -> asesoria.getCalendario() != null ? asesoria.getCalendario().getId() : asesoria.getId())
+                .toList());
+        Set<Long> reservadas = asesorias.isEmpty() ? new HashSet<>()
+                : new HashSet<>(reservaRepository.findAsesoriasReservadas(asesorias.keySet()));
+
+        List<ReservaEntity> nuevas = new ArrayList<>();
+        SortedMap<Integer, String> errores = new TreeMap<>();
+        for (int i = 0; i < reservasDTO.size(); i++) {
+            ReservaDTO dto = reservasDTO.get(i);
+            EstudianteEntity estudiante = dto.getEstudianteId() == null ? null : estudiantes.get(dto.getEstudianteId());
+            AsesoriaEntity asesoria = dto.getAsesoriaId() == null ? null : asesorias.get(dto.getAsesoriaId());
+            if (estudiante == null) {
+                errores.put(i, "Estudiante no encontrado");
+                continue;
+            }
+            if (asesoria == null) {
+                errores.put(i, "Asesoria no encontrada");
+                continue;
+            }
+            if (reservadas.contains(asesoria.getId())) {
+                errores.put(i, "La asesoría ya está reservada");
+                continue;
+            }
+
+            ReservaEntity reserva = new ReservaEntity();
+            reserva.setFechaReserva(dto.getFechaReserva());
+            reserva.setCancelada(dto.getCancelada() != null ? dto.getCancelada() : false);
+            reserva.setEstado(dto.getEstado() != null ? dto.getEstado() : "noCompletada");
+            reserva.setEstudiante(estudiante);
+            reserva.setAsesoria(asesoria);
+
+            Optional<String> cruce = disponibilidadService.intentarReservar(reserva);
+            if (cruce.isPresent()) {
+                errores.put(i, cruce.get());
+                continue;
+            }
+            reservadas.add(asesoria.getId());
+            nuevas.add(reserva);
+        }
+
+        List<ReservaEntity> creadas = reservaRepository.saveAll(nuevas);
+        log.info("Termina proceso de creación por lotes: {} creadas, {} con errores", creadas.size(), errores.size());
+        return new ResultadoLote<>(creadas, errores);
+    }
+
+    private static Set<Long> idsDe(List<ReservaDTO> reservasDTO, Function<ReservaDTO, Long> id) {
+        return reservasDTO.stream().map(id).filter(Objects::nonNull).collect(Collectors.toSet());
+    }
+
+    private static <T> Map<Long, T> porId(List<T> entidades, Function<T, Long> id) {
+        return entidades.stream().collect(Collectors.toMap(id, Function.identity()));
+    }
+
         @Transactional
         public ReservaEntity getReserva(Long id) throws EntityNotFoundException {
             return reservaRepository.findById(id)
@@ -69,6 +196,48 @@ public class ReservaService {
             return reservaRepository.findAll();
         }   
 
+        @Transactional
+        public Slice<ReservaEntity> listarReservas(Long despuesDeId, int limite) {
+            return reservaRepository.findByIdGreaterThan(despuesDeId, PageRequest.of(0, limite, Sort.by("id")));
+        }
+
+    /**
+     * Escribe las reservas que cumplen los filtros a medida que se leen de la
+     * base de datos, sin reunirlas en una lista, así que la memoria que usa no
+     * depende de cuántas sean.
+     *
+     * @param desde fecha de reserva mínima, incluida; null para no filtrar
+     * @param hasta fecha de reserva máxima, excluida; null para no filtrar
+     * @param estado null para no filtrar
+     * @param formato
+     * @param destino
+     * @return cantidad de reservas escritas
+     * @throws IllegalOperationException si desde no es anterior a hasta
+     * @throws IOException si no se puede escribir en el destino
+     */
+    @Transactional
+    public long exportarReservas(LocalDateTime desde, LocalDateTime hasta, String estado,
+            FormatoExportacion formato, Writer destino) throws IllegalOperationException, IOException {
+        if (desde != null && hasta != null && !desde.isBefore(hasta)) {
+            throw new IllegalOperationException("La fecha desde debe ser anterior a la fecha hasta.");
+        }
+        log.info("Inicia exportación de reservas en {} (desde {}, hasta {}, estado {})", formato, desde, hasta, estado);
+        long escritas = 0;
+        formato.escribirEncabezado(destino);
+        try (Stream<ReservaExportable> reservas = reservaRepository.streamParaExportar(desde, hasta, estado)) {
+            Iterator<ReservaExportable> iterador = reservas.iterator();
+            while (iterador.hasNext()) {
+                ReservaExportable reserva = iterador.next();
+                formato.escribir(destino, new ReservaDTO(reserva.getId(), reserva.getFechaReserva(),
+                        reserva.getCancelada(), reserva.getEstado(), reserva.getEstudianteId(), reserva.getAsesoriaId()));
+                escritas++;
+            }
+        }
+        destino.flush();
+        log.info("Termina exportación de {} reservas", escritas);
+        return escritas;
+    }
+
         @Transactional
         public void eliminarReserva(Long id) throws EntityNotFoundException {
 
@@ -77,40 +246,69 @@ public class ReservaService {
             }
 
             ReservaEntity reservaEliminar = reservaRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Este id no existe."));
+            disponibilidadService.liberar(reservaEliminar);
             reservaRepository.delete(reservaEliminar);
     }
 
 
+        @ReintentarSiHayConflicto
         @Transactional
-        public ReservaEntity updateReserva(Long id, LocalDateTime fechaReservaNueva, EstudianteEntity estudianteNuevo, AsesoriaEntity asesoriaNueva) throws EntityNotFoundException {
-            
-            ReservaEntity reservaUpdate = reservaRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Este id no existe."));
+        public ReservaEntity updateReserva(Long id, LocalDateTime fechaReservaNueva, EstudianteEntity estudianteNuevo, AsesoriaEntity asesoriaNueva) throws EntityNotFoundException, IllegalOperationException {
 
             if (id == null) {throw new EntityNotFoundException("El ID de la reserva no puede ser nulo");}
+
+            ReservaEntity reservaUpdate = reservaRepository.findById(id).orElseThrow(() -> new EntityNotFoundException("Este id no existe."));
+
             if (fechaReservaNueva == null) {throw new EntityNotFoundException("La nueva fecha de la reserva no puede ser nula");}
             if (estudianteNuevo == null) {throw new EntityNotFoundException("El nuevo estudiante no puede ser nulo");}
             if (asesoriaNueva == null) {throw new EntityNotFoundException("La nueva asesoría no puede ser nula");}
 
+            // El estudiante y la asesoría pueden llegar solo con su id (ReservaMapper),
+            // así que se usan las entidades guardadas
+            EstudianteEntity estudiante = Optional.ofNullable(estudianteNuevo.getId()).flatMap(estudianteRepository::findById)
+                .orElseThrow(() -> new EntityNotFoundException("Estudiante no encontrado"));
+            AsesoriaEntity asesoria = Optional.ofNullable(asesoriaNueva.getId()).flatMap(asesoriaRepository::findById)
+                .orElseThrow(() -> new EntityNotFoundException("Asesoria no encontrada"));
+
+            // Mismo candado que crearReserva, sobre la asesoría que queda reservada
+            bloqueosPorCalendario.bloquearHastaTerminar(asesoria.getCalendario() != null ? asesoria.getCalendario().getId() : asesoria.getId());
+            boolean cambiaAsesoria = reservaUpdate.getAsesoria() == null
+                    || !reservaUpdate.getAsesoria().getId().equals(asesoria.getId());
+            if (cambiaAsesoria && reservaRepository.existsByAsesoriaId(asesoria.getId())) {
+                throw new IllegalOperationException("La asesoría ya está reservada");
+            }
             reservaUpdate.setFechaReserva(fechaReservaNueva);
-            reservaUpdate.setEstudiante(estudianteNuevo);
-            reservaUpdate.setAsesoria(asesoriaNueva);
+            reservaUpdate.setEstudiante(estudiante);
+            reservaUpdate.setAsesoria(asesoria);
 
+            disponibilidadService.reservar(reservaUpdate);
             return reservaRepository.save(reservaUpdate);
         }
 
+        /**
+         * Marca la reserva como completada. La asesoría, el historial del
+         * estudiante y la clasificación del profesor se actualizan después,
+         * desde la bandeja de salida (BandejaSalidaService).
+         */
+        @Transactional
         public ReservaEntity marcarComoCompletada(Long id) throws EntityNotFoundException {
             ReservaEntity reserva = reservaRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Reserva no encontrada"));
             
-            reserva.setEstado("Completada");
+            if (!COMPLETADA.equals(reserva.getEstado())) {
+                reserva.setEstado(COMPLETADA);
+                bandejaSalidaService.reservaCompletada(reserva);
+            }
             return reservaRepository.save(reserva);
         }
 
+        @Transactional
         public ReservaEntity marcarComoCancelada(Long id) throws EntityNotFoundException {
             ReservaEntity reserva = reservaRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Reserva no encontrada"));
             
             reserva.setCancelada(true);
+            disponibilidadService.liberar(reserva);
             return reservaRepository.save(reserva);
         }
 
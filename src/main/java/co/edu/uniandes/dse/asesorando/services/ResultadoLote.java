@@ -0,0 +1,14 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import java.util.List;
+import java.util.SortedMap;
+
+/**
+ * Resultado de crear varios elementos en una sola operación: los que se
+ * crearon, en el orden en que llegaron, y el motivo por el que no se creó cada
+ * uno de los demás, según su posición en la solicitud.
+ *
+ * @author Daniel-VergaraM
+ */
+public record ResultadoLote<T>(List<T> creados, SortedMap<Integer, String> errores) {
+}
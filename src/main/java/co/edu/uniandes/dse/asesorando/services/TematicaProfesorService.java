@@ -24,15 +24,18 @@ SOFTWARE.
 package co.edu.uniandes.dse.asesorando.services;
 
 import java.util.List;
+import java.util.Map;
 
 import javax.validation.constraints.NotNull;
 
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
 import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.dto.CamposSolicitados;
 import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository;
 import co.edu.uniandes.dse.asesorando.repositories.TematicaRepository;
 import jakarta.transaction.Transactional;
@@ -48,12 +51,18 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 public class TematicaProfesorService {
 
+    // campo del detalle -> colección del profesor que lo llena
+    private static final Map<String, String> asociaciones = Map.of("tematicas", "tematicas", "asesorias", "asesorias", "calendarios", "calendario");
+
     @Autowired
     private TematicaRepository tematicaRepository;
 
     @Autowired
     private ProfesorRepository profesorRepository;
 
+    @Autowired
+    private ProfesoresCercanosService profesoresCercanosService;
+
     private String exceptionPartString = "El profesor no existe.";
     
     private String exceptionPartString2 = "La tematica no existe.";
@@ -86,6 +95,7 @@ public class TematicaProfesorService {
                 .orElseThrow(() -> new EntityNotFoundException(exceptionPartString));
         profesorExistente.getTematicas().forEach(tematica -> tematica.getProfesores().remove(profesorExistente));
         profesorExistente.getTematicas().clear();
+        profesoresCercanosService.registrar(profesorExistente);
         return profesorExistente;
     }
 
@@ -106,9 +116,27 @@ public class TematicaProfesorService {
 
         profesorExistente.getTematicas().add(tematicaExistente);
         tematicaExistente.getProfesores().add(profesorExistente);
+        profesoresCercanosService.registrar(profesorExistente);
         return profesorExistente;
     }
 
+    /**
+     * Agrega el profesor a la tematica y lo devuelve con las colecciones de su
+     * detalle que se pidieron ya cargadas
+     *
+     * @param profesorId
+     * @param tematicaId
+     * @param campos campos del detalle que se van a mapear
+     * @return
+     */
+    @Transactional
+    public ProfesorEntity agregarProfesorATematica(@NotNull Long profesorId, @NotNull Long tematicaId,
+            CamposSolicitados campos) throws EntityNotFoundException {
+        ProfesorEntity profesor = agregarProfesorATematica(profesorId, tematicaId);
+        profesorRepository.cargarDetalle(List.of(profesor), campos.traducir(asociaciones));
+        return profesor;
+    }
+
     /**
      * Elimina un profesor de una tematica existente y viceversa
      *
@@ -125,6 +153,7 @@ public class TematicaProfesorService {
                 .orElseThrow(() -> new EntityNotFoundException(exceptionPartString2));
         profesorExistente.getTematicas().remove(tematicaExistente);
         tematicaExistente.getProfesores().remove(profesorExistente);
+        profesoresCercanosService.registrar(profesorExistente);
         return profesorExistente;
     }
 
@@ -140,7 +169,10 @@ public class TematicaProfesorService {
         TematicaEntity tematicaExistente = tematicaRepository.findById(tematicaId)
                 .orElseThrow(() -> new EntityNotFoundException(exceptionPartString2));
 
-        tematicaExistente.getProfesores().forEach(profesor -> profesor.getTematicas().remove(tematicaExistente));
+        tematicaExistente.getProfesores().forEach(profesor -> {
+            profesor.getTematicas().remove(tematicaExistente);
+            profesoresCercanosService.registrar(profesor);
+        });
         tematicaExistente.getProfesores().clear();
         return tematicaExistente;
     }
@@ -159,6 +191,7 @@ public class TematicaProfesorService {
 
         profesorExistente.getTematicas().forEach(tematica -> tematica.getProfesores().remove(profesorExistente));
         profesorExistente.getTematicas().clear();
+        profesoresCercanosService.registrar(profesorExistente);
         return profesorExistente;
     }
 
@@ -196,6 +229,23 @@ public class TematicaProfesorService {
                 .findFirst().orElseThrow(() -> new EntityNotFoundException("El profesor no existe en la tematica."));
     }
 
+    /**
+     * Como {@link #getProfesorDeTematica(Long, Long)}, con las colecciones del
+     * detalle que se pidieron ya cargadas
+     *
+     * @param profesorId
+     * @param tematicaId
+     * @param campos campos del detalle que se van a mapear
+     * @return
+     */
+    @Transactional
+    public ProfesorEntity getProfesorDeTematica(@NotNull Long profesorId, @NotNull Long tematicaId,
+            CamposSolicitados campos) throws EntityNotFoundException {
+        ProfesorEntity profesor = getProfesorDeTematica(profesorId, tematicaId);
+        profesorRepository.cargarDetalle(List.of(profesor), campos.traducir(asociaciones));
+        return profesor;
+    }
+
     /**
      *
      * @param tematicaId
@@ -203,10 +253,23 @@ public class TematicaProfesorService {
      */
     @Transactional
     public List<ProfesorEntity> getProfesoresDeTematica(@NotNull Long tematicaId) throws EntityNotFoundException {
+        return getProfesoresDeTematica(tematicaId, CamposSolicitados.todos());
+    }
+
+    /**
+     *
+     * @param tematicaId
+     * @param campos campos del detalle que se van a mapear; solo se cargan las
+     * colecciones pedidas
+     * @return
+     */
+    @Transactional
+    public List<ProfesorEntity> getProfesoresDeTematica(@NotNull Long tematicaId, CamposSolicitados campos)
+            throws EntityNotFoundException {
         log.info("Obteniendo todos los profesores de la tematica con id: {}", tematicaId);
         TematicaEntity tematicaExistente = tematicaRepository.findById(tematicaId)
                 .orElseThrow(() -> new EntityNotFoundException(exceptionPartString2));
-        return tematicaExistente.getProfesores();
+        return profesorRepository.cargarDetalle(tematicaExistente.getProfesores(), campos.traducir(asociaciones));
     }
 
     /**
@@ -222,6 +285,8 @@ public class TematicaProfesorService {
                 .orElseThrow(() -> new EntityNotFoundException(exceptionPartString2));
         tematicaExistente.getProfesores().clear();
         profesores.forEach(profesor -> tematicaExistente.getProfesores().add(profesor));
+        // Se inicializa aquí: quien la recibe la recorre fuera de la transacción
+        Hibernate.initialize(tematicaExistente.getProfesores());
         return tematicaExistente.getProfesores();
     }
 
@@ -31,6 +31,9 @@ import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
@@ -51,6 +54,9 @@ public class TematicaService {
     @Autowired
     private TematicaRepository tematicaRepository;
 
+    @Autowired
+    private BusquedaService busquedaService;
+
     private String exceptionPartString = "La tematica no existe";
 
     /**
@@ -76,7 +82,9 @@ public class TematicaService {
         tematica.setTema(tema);
         tematica.setProfesores(new ArrayList<>());
 
-        return tematicaRepository.save(tematica);
+        TematicaEntity creada = tematicaRepository.save(tematica);
+        busquedaService.indexar(creada);
+        return creada;
     }
 
     /**
@@ -97,7 +105,9 @@ public class TematicaService {
 
         log.info("Guardando la tematica");
 
-        return tematicaRepository.save(tematica);
+        TematicaEntity creada = tematicaRepository.save(tematica);
+        busquedaService.indexar(creada);
+        return creada;
     }
 
     /**
@@ -111,6 +121,20 @@ public class TematicaService {
         return tematicaRepository.findAll();
     }
 
+    /**
+     * Obtiene una página de tematicas ordenada por id, empezando después del id
+     * recibido como cursor
+     *
+     * @param despuesDeId
+     * @param limite
+     * @return
+     */
+    @Transactional
+    public Slice<TematicaEntity> getTematicas(@NotNull Long despuesDeId, int limite) {
+        log.info("Obteniendo {} tematicas despues del id {}", limite, despuesDeId);
+        return tematicaRepository.findByIdGreaterThan(despuesDeId, PageRequest.of(0, limite, Sort.by("id")));
+    }
+
     /**
      * Obtiene una tematica por su id
      *
@@ -146,7 +170,9 @@ public class TematicaService {
         tematicaExistente.setProfesores(tematica.getProfesores());
 
         log.info("La tematica con id {} ha sido actualizada", tematicaId);
-        return tematicaRepository.save(tematicaExistente);
+        TematicaEntity actualizada = tematicaRepository.save(tematicaExistente);
+        busquedaService.indexar(actualizada);
+        return actualizada;
 
     }
 
@@ -163,5 +189,6 @@ public class TematicaService {
 
         log.info("La tematica con id {} ha sido eliminada", tematicaId);
         tematicaRepository.delete(tematicaExistente);
+        busquedaService.quitar(BusquedaService.TEMATICA, tematicaId);
     }
 }
@@ -26,6 +26,7 @@ package co.edu.uniandes.dse.asesorando.services;
 import javax.validation.Valid;
 import javax.validation.constraints.NotNull;
 
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
@@ -52,6 +53,9 @@ public class UsuarioAsesoriaService {
     @Autowired
     private AsesoriaRepository asesoriaRepository;
 
+    @Autowired
+    private MejoresProfesoresService mejoresProfesoresService;
+
     private String exceptionPartString = "No se encontró el usuario con id = ";
 
     private String exceptionPartString2 = "No se encontró la asesoría con id = ";
@@ -137,6 +141,8 @@ public class UsuarioAsesoriaService {
     public Iterable<AsesoriaEntity> getAsesoriasCompletadas(@Valid @NotNull Long usuarioId) throws EntityNotFoundException {
         log.info("Inicia proceso de obtener las asesorías completadas del usuario con id = {0}", usuarioId);
         UsuarioEntity usuario = usuarioRepository.findById(usuarioId).orElseThrow(() -> new EntityNotFoundException(exceptionPartString + usuarioId));
+        // Se inicializa aquí: quien la recibe la recorre fuera de la transacción
+        Hibernate.initialize(usuario.getAsesoriasCompletadas());
         log.info("Termina proceso de obtener las asesorías completadas del usuario con id = {0}", usuarioId);
         return usuario.getAsesoriasCompletadas();
     }
@@ -159,6 +165,9 @@ public class UsuarioAsesoriaService {
         }
         asesoriaActualizada.setCompletada(asesoria.getCompletada());
         asesoriaRepository.save(asesoriaActualizada);
+        if (asesoriaActualizada.getProfesor() != null) {
+            mejoresProfesoresService.actualizar(asesoriaActualizada.getProfesor().getId());
+        }
         log.info("Termina proceso de actualizar una asesoría al usuario con id = {0}", usuarioId);
         return asesoriaActualizada;
     }
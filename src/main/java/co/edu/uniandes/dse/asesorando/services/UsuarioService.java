@@ -24,6 +24,7 @@ SOFTWARE.
 package co.edu.uniandes.dse.asesorando.services;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.validation.Valid;
@@ -39,6 +40,7 @@ import co.edu.uniandes.dse.asesorando.entities.ProfesorVirtualEntity;
 import co.edu.uniandes.dse.asesorando.entities.UsuarioEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.asesorando.repositories.UsuarioRepository;
+import co.edu.uniandes.dse.asesorando.repositories.UsuarioRepository.UsuarioListado;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 
@@ -54,8 +56,18 @@ public class UsuarioService {
     @Autowired
     private UsuarioRepository usuarioRepository;
 
+    @Autowired
+    private BusquedaService busquedaService;
+
     private static final List<String> tipos = List.of("ESTUDIANTE", "PROFESOR", "PROFESORVIRTUAL", "PROFESORPRESENCIAL");
 
+    // Clases de los usuarios de cada tipo; UsuarioEntity porque su tipo es el de su columna tipo
+    private static final Map<String, List<Class<? extends UsuarioEntity>>> clasesPorTipo = Map.of(
+            "ESTUDIANTE", List.of(EstudianteEntity.class, UsuarioEntity.class),
+            "PROFESOR", List.of(ProfesorEntity.class, UsuarioEntity.class),
+            "PROFESORVIRTUAL", List.of(ProfesorVirtualEntity.class, UsuarioEntity.class),
+            "PROFESORPRESENCIAL", List.of(ProfesorPresencialEntity.class, UsuarioEntity.class));
+
     private String exceptionPartString = "El usuario no existe.";
 
     /**
@@ -102,6 +114,32 @@ public class UsuarioService {
         return usuarioRepository.findByTipo(tipo);
     }
 
+    /**
+     * Obtiene el listado de todos los usuarios, sin cargar las entidades
+     *
+     * @return
+     */
+    @Transactional
+    public List<UsuarioListado> obtenerListadoUsuarios() {
+        log.info("Obteniendo el listado de usuarios");
+        return usuarioRepository.findListado();
+    }
+
+    /**
+     * Obtiene el listado de los usuarios de un tipo, sin cargar las entidades
+     *
+     * @param tipo
+     * @return
+     */
+    @Transactional
+    public List<UsuarioListado> obtenerListadoUsuariosPorTipo(String tipo) {
+        log.info("Obteniendo el listado de usuarios de tipo {}", tipo);
+        if (!tipos.contains(tipo)) {
+            throw new IllegalArgumentException("El tipo de usuario " + tipo + " no es válido.");
+        }
+        return usuarioRepository.findListadoByTipo(clasesPorTipo.get(tipo), tipo);
+    }
+
     /**
      * Obtiene un usuario por su correo
      *
@@ -168,7 +206,11 @@ public class UsuarioService {
         }
 
         log.info("Usuario actualizado");
-        return usuarioRepository.save(usuarioExistente);
+        UsuarioEntity actualizado = usuarioRepository.save(usuarioExistente);
+        if (actualizado instanceof ProfesorEntity profesor) {
+            busquedaService.indexar(profesor);
+        }
+        return actualizado;
     }
 
     /**
@@ -186,6 +228,9 @@ public class UsuarioService {
 
         log.info("Usuario eliminado");
         usuarioRepository.deleteById(usuarioExistente.getId());
+        if (usuarioExistente instanceof ProfesorEntity) {
+            busquedaService.quitar(BusquedaService.PROFESOR, usuarioExistente.getId());
+        }
     }
 
     /**
@@ -0,0 +1,188 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.hibernate.action.spi.AfterTransactionCompletionProcess;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.jpa.EntityManagerFactoryUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import co.edu.uniandes.dse.asesorando.entities.VersionColeccionEntity;
+import co.edu.uniandes.dse.asesorando.repositories.VersionColeccionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Versiona, por tipo de entidad, las filas de la base de datos, para responder
+ * GET condicionales (If-None-Match) con una consulta de las versiones en vez
+ * de los datos.
+ *
+ * Las versiones se guardan en la base de datos (VersionColeccionEntity), así
+ * que todas las instancias de la aplicación responden con el mismo ETag y un
+ * cambio confirmado en una instancia invalida los ETag de las demás. Cuando
+ * Hibernate escribe un INSERT, UPDATE o DELETE de la entidad, sin importar qué
+ * servicio lo hizo, la versión sube con un solo UPDATE justo antes de
+ * confirmar la misma transacción: si se revierte, la versión tampoco cambia,
+ * y el candado de la fila solo se tiene mientras se confirma. Las
+ * actualizaciones masivas (HQL) no pasan por las entidades, y quien las hace
+ * debe llamar a {@link #cambio(Class)}.
+ *
+ * Un ETag leído antes de consultar los datos nunca queda asociado a datos más
+ * viejos que él.
+ *
+ * @author Daniel-VergaraM
+ */
+@Slf4j
+@Service
+public class VersionesColecciones implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener {
+
+    static final List<Class<?>> COLECCIONES = List.of(TematicaEntity.class, ProfesorEntity.class,
+            CalendarioEntity.class, AsesoriaEntity.class, ReservaEntity.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final VersionColeccionRepository versionColeccionRepository;
+
+    // Colecciones que cambiaron en cada sesión y cuya versión aún no sube
+    private final Map<Object, Set<String>> pendientes = new ConcurrentHashMap<>();
+
+    public VersionesColecciones(EntityManagerFactory entityManagerFactory,
+            VersionColeccionRepository versionColeccionRepository) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.versionColeccionRepository = versionColeccionRepository;
+        EventListenerRegistry registro = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registro.appendListeners(EventType.POST_INSERT, this);
+        registro.appendListeners(EventType.POST_UPDATE, this);
+        registro.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    /**
+     * Crea las versiones que falten. Empiezan en la hora actual en
+     * milisegundos, para que una base de datos recreada no repita los ETag de
+     * la anterior. Si otra instancia las crea al mismo tiempo se usan las
+     * suyas.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void inicializar() {
+        for (Class<?> coleccion : COLECCIONES) {
+            if (!versionColeccionRepository.existsById(nombre(coleccion))) {
+                try {
+                    versionColeccionRepository.save(
+                            new VersionColeccionEntity(nombre(coleccion), System.currentTimeMillis()));
+                } catch (DataIntegrityViolationException e) {
+                    log.info("Otra instancia creó la versión de {}", nombre(coleccion));
+                }
+            }
+        }
+    }
+
+    /**
+     * ETag fuerte que cambia cuando cambia cualquiera de las colecciones
+     *
+     * @param colecciones tipos de entidad de los que depende la respuesta
+     * @return el ETag, o null si alguna colección todavía no tiene versión
+     */
+    public String etag(Class<?>... colecciones) {
+        List<String> nombres = Arrays.stream(colecciones).map(VersionesColecciones::nombre).toList();
+        List<Long> versiones = versionColeccionRepository.findVersiones(nombres);
+        if (versiones.size() < nombres.size()) {
+            return null;
+        }
+        return versiones.stream().map(String::valueOf).collect(Collectors.joining("-", "\"", "\""));
+    }
+
+    /**
+     * Registra un cambio a la colección hecho sin pasar por las entidades. La
+     * versión sube cuando se confirma la transacción actual.
+     *
+     * @param coleccion
+     * @throws IllegalStateException si no hay una transacción activa
+     */
+    public void cambio(Class<?> coleccion) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Los cambios a las colecciones requieren una transacción activa");
+        }
+        EntityManager entityManager = EntityManagerFactoryUtils.getTransactionalEntityManager(entityManagerFactory);
+        registrar(entityManager.unwrap(EventSource.class), List.of(nombre(coleccion)));
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        registrar(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        registrar(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        registrar(event.getSession(), event.getEntity());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void registrar(EventSource sesion, Object entidad) {
+        registrar(sesion, COLECCIONES.stream().filter(coleccion -> coleccion.isInstance(entidad))
+                .map(VersionesColecciones::nombre).toList());
+    }
+
+    private void registrar(EventSource sesion, Collection<String> colecciones) {
+        if (colecciones.isEmpty()) {
+            return;
+        }
+        pendientes.computeIfAbsent(sesion, nueva -> {
+            sesion.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) this::incrementar);
+            sesion.getActionQueue().registerProcess(
+                    (AfterTransactionCompletionProcess) (confirmada, terminada) -> pendientes.remove(terminada));
+            return new HashSet<>();
+        }).addAll(colecciones);
+    }
+
+    private void incrementar(SessionImplementor sesion) {
+        Set<String> colecciones = pendientes.remove(sesion);
+        if (colecciones != null) {
+            sesion.createMutationQuery(VersionColeccionRepository.INCREMENTAR)
+                    .setParameterList("colecciones", colecciones).executeUpdate();
+        }
+    }
+
+    private static String nombre(Class<?> coleccion) {
+        return coleccion.getSimpleName();
+    }
+}
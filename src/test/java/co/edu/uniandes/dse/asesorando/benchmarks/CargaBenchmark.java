@@ -0,0 +1,198 @@
+package co.edu.uniandes.dse.asesorando.benchmarks;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import co.edu.uniandes.dse.asesorando.MainApplication;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository;
+import co.edu.uniandes.dse.asesorando.repositories.ReservaRepository;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Compara la aplicación completa atendiendo solicitudes con los hilos de
+ * plataforma de Tomcat y con hilos virtuales (spring.threads.virtual.enabled).
+ * Cada operación es una ráfaga de tantos clientes concurrentes como indique el
+ * parámetro clientes, cada uno con un GET a la ruta; el tiempo reportado es lo
+ * que tarda en responderse toda la ráfaga, y el contador errores cuenta las
+ * respuestas distintas de 200 y las solicitudes que fallaron o vencieron.
+ *
+ * La aplicación arranca en un puerto libre con los mismos datos de prueba en
+ * cada combinación. Los clientes son hilos virtuales en los dos modos, para
+ * que el límite lo ponga el servidor y no el cliente. La JVM se lanza con
+ * -Djdk.tracePinnedThreads=short, así que si un hilo virtual queda fijado a su
+ * portador se imprime dónde.
+ *
+ * No es una prueba unitaria: se ejecuta aparte con
+ *
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath co.edu.uniandes.dse.asesorando.benchmarks.CargaBenchmark"
+ * </pre>
+ *
+ * Los argumentos que siguen a la clase se pasan a JMH (por ejemplo
+ * {@code -p clientes=1000 -p ruta=/profesores}). Con 10000 clientes puede
+ * hacer falta subir el límite de archivos abiertos (ulimit -n).
+ *
+ * @author Daniel-VergaraM
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(value = 1, jvmArgsAppend = { "-Djdk.tracePinnedThreads=short" })
+public class CargaBenchmark {
+
+    static final int PROFESORES = 100;
+
+    static final int RESERVAS = 100;
+
+    @Param({ "plataforma", "virtual" })
+    private String hilos;
+
+    @Param({ "100", "1000", "10000" })
+    private int clientes;
+
+    @Param({ "/reservas", "/profesores" })
+    private String ruta;
+
+    private ConfigurableApplicationContext aplicacion;
+
+    private ExecutorService clientesVirtuales;
+
+    private HttpClient cliente;
+
+    private HttpRequest solicitud;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        aplicacion = new SpringApplicationBuilder(MainApplication.class)
+                .properties("server.port=0",
+                        "spring.threads.virtual.enabled=" + "virtual".equals(hilos),
+                        // Que Tomcat acepte todas las conexiones de la ráfaga en los dos modos
+                        "server.tomcat.max-connections=" + (clientes + 100),
+                        "server.tomcat.accept-count=" + clientes,
+                        "asesorando.mejores.instantanea=",
+                        "logging.level.root=WARN")
+                .run();
+        poblar();
+
+        int puerto = aplicacion.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+        clientesVirtuales = Executors.newVirtualThreadPerTaskExecutor();
+        cliente = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clientesVirtuales)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        solicitud = HttpRequest.newBuilder(URI.create("http://localhost:" + puerto + "/api" + ruta))
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+    }
+
+    private void poblar() {
+        PodamFactory factory = new PodamFactoryImpl();
+        List<ProfesorEntity> profesores = new ArrayList<>();
+        for (int i = 0; i < PROFESORES; i++) {
+            profesores.add(factory.manufacturePojo(ProfesorEntity.class));
+        }
+        aplicacion.getBean(ProfesorRepository.class).saveAll(profesores);
+
+        // Sin estudiante: GET /reservas devuelve las entidades y la relación
+        // reserva-estudiante-reservas no termina al convertirla a JSON
+        List<ReservaEntity> reservas = new ArrayList<>();
+        LocalDateTime inicio = LocalDateTime.now().plusDays(1);
+        for (int i = 0; i < RESERVAS; i++) {
+            ReservaEntity reserva = new ReservaEntity();
+            reserva.setFechaReserva(inicio.plusHours(i));
+            reservas.add(reserva);
+        }
+        aplicacion.getBean(ReservaRepository.class).saveAll(reservas);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        clientesVirtuales.close();
+        aplicacion.close();
+    }
+
+    /**
+     * Respuestas fallidas de cada iteración, reportadas junto al tiempo
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Errores {
+
+        public long errores;
+
+        @Setup(Level.Iteration)
+        public void reiniciar() {
+            errores = 0;
+        }
+    }
+
+    @Benchmark
+    public void rafaga(Errores errores) throws InterruptedException {
+        List<Future<Integer>> respuestas = new ArrayList<>(clientes);
+        for (int i = 0; i < clientes; i++) {
+            respuestas.add(clientesVirtuales.submit(this::pedir));
+        }
+        for (Future<Integer> respuesta : respuestas) {
+            try {
+                if (respuesta.get() != 200) {
+                    errores.errores++;
+                }
+            } catch (ExecutionException e) {
+                errores.errores++;
+            }
+        }
+    }
+
+    private int pedir() throws IOException, InterruptedException {
+        return cliente.send(solicitud, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(CargaBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
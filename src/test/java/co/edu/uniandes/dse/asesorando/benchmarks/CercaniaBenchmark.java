@@ -0,0 +1,136 @@
+package co.edu.uniandes.dse.asesorando.benchmarks;
+
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import co.edu.uniandes.dse.asesorando.services.RejillaGeografica;
+import co.edu.uniandes.dse.asesorando.services.RejillaGeografica.Cercano;
+import co.edu.uniandes.dse.asesorando.services.RejillaGeografica.Punto;
+
+/**
+ * Mide las búsquedas de profesores cercanos sobre la RejillaGeografica con
+ * profesores repartidos en las principales ciudades de Colombia, la mayoría
+ * en Bogotá. No es una prueba unitaria: se ejecuta aparte con
+ *
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath co.edu.uniandes.dse.asesorando.benchmarks.CercaniaBenchmark"
+ * </pre>
+ *
+ * Los argumentos que siguen a la clase se pasan a JMH (por ejemplo
+ * {@code -p profesores=1000000}).
+ *
+ * @author Daniel-VergaraM
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CercaniaBenchmark {
+
+    /**
+     * Latitud, longitud y peso de cada ciudad
+     */
+    private static final double[][] CIUDADES = {
+            { 4.6482, -74.0994, 0.5 }, { 6.2442, -75.5812, 0.2 }, { 3.4516, -76.5320, 0.15 },
+            { 10.9685, -74.7813, 0.1 }, { 7.1193, -73.1227, 0.05 } };
+
+    @Param({ "100000" })
+    private int profesores;
+
+    @Param({ "0.01" })
+    private double tamanoCelda;
+
+    private RejillaGeografica rejilla;
+
+    private double[][] origenes;
+
+    private int siguiente;
+
+    private final Predicate<Punto> todos = punto -> true;
+
+    private final Predicate<Punto> conTematicaYPrecio = punto -> punto.tematicas().contains(3L)
+            && punto.precio() != null && punto.precio() <= 60000;
+
+    @Setup
+    public void setUp() {
+        Random aleatorio = new Random(7);
+        rejilla = new RejillaGeografica(tamanoCelda);
+        for (long id = 1; id <= profesores; id++) {
+            double[] ciudad = ciudad(aleatorio);
+            // Hasta unos 15 km alrededor del centro de la ciudad
+            rejilla.poner(new Punto(id, ciudad[0] + aleatorio.nextGaussian() * 0.07,
+                    ciudad[1] + aleatorio.nextGaussian() * 0.07, 20000.0 + aleatorio.nextInt(80000),
+                    Set.of(id % 20, 20 + (id * 7) % 20)));
+        }
+        origenes = new double[1024][];
+        for (int i = 0; i < origenes.length; i++) {
+            double[] ciudad = ciudad(aleatorio);
+            origenes[i] = new double[] { ciudad[0] + aleatorio.nextGaussian() * 0.05,
+                    ciudad[1] + aleatorio.nextGaussian() * 0.05 };
+        }
+    }
+
+    private static double[] ciudad(Random aleatorio) {
+        double valor = aleatorio.nextDouble();
+        for (double[] ciudad : CIUDADES) {
+            valor -= ciudad[2];
+            if (valor <= 0) {
+                return ciudad;
+            }
+        }
+        return CIUDADES[0];
+    }
+
+    private double[] origen() {
+        siguiente = (siguiente + 1) & (origenes.length - 1);
+        return origenes[siguiente];
+    }
+
+    @Benchmark
+    public List<Cercano> radioDosKm() {
+        double[] origen = origen();
+        return rejilla.enRadio(origen[0], origen[1], 2, todos);
+    }
+
+    @Benchmark
+    public List<Cercano> diezMasCercanos() {
+        double[] origen = origen();
+        return rejilla.masCercanos(origen[0], origen[1], 10, todos);
+    }
+
+    @Benchmark
+    public List<Cercano> diezMasCercanosConFiltros() {
+        double[] origen = origen();
+        return rejilla.masCercanos(origen[0], origen[1], 10, conTematicaYPrecio);
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(CercaniaBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
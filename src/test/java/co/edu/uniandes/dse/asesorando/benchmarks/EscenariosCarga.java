@@ -0,0 +1,537 @@
+package co.edu.uniandes.dse.asesorando.benchmarks;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import co.edu.uniandes.dse.asesorando.MainApplication;
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorPresencialEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorVirtualEntity;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import co.edu.uniandes.dse.asesorando.repositories.EstudianteRepository;
+import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository;
+import co.edu.uniandes.dse.asesorando.repositories.TematicaRepository;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Prueba de carga con los flujos de las colecciones de Postman
+ * (collections/) convertidos en escenarios con peso, que ejecutan a la vez
+ * varios usuarios virtuales:
+ * <ul>
+ * <li>explorar (70): página de profesores, un profesor, sus temáticas y sus
+ * asesorías, y las temáticas (Profesor Test, ProfesorDetails Test, Tematica
+ * Test)</li>
+ * <li>reservar (15): asesorías de un profesor y POST /reservas con una
+ * asesoría libre (AsesoriaProfesorTests, ReservaTest)</li>
+ * <li>comentar (10): comentario sobre una reserva propia
+ * (ReservaComentarioDetailTests)</li>
+ * <li>cancelar (5): cancelar una reserva propia (ReservaTest)</li>
+ * </ul>
+ * Comentar y cancelar reservan primero si el usuario no tiene reservas.
+ *
+ * La aplicación arranca en un puerto libre con una base H2 poblada siempre
+ * igual, y cada usuario elige sus escenarios con un generador aleatorio de
+ * semilla fija, así que dos ejecuciones con los mismos parámetros hacen la
+ * misma mezcla de solicitudes. Al final se imprime, por endpoint, cuántas
+ * solicitudes por segundo se atendieron, los percentiles de latencia y el
+ * porcentaje de errores (respuestas 4xx o 5xx y solicitudes fallidas). Las
+ * solicitudes del calentamiento no se cuentan.
+ *
+ * También se imprime cuánto se usó el pool de conexiones durante la medición
+ * (métricas hikaricp.connections.*): préstamos y milisegundos de conexión por
+ * solicitud, el tiempo por préstamo, la espera por una conexión y el máximo
+ * de conexiones activas y de hilos esperando. Correr con openInView=true y
+ * con false muestra cuánto de la solicitud se tenía la conexión sin usarla.
+ *
+ * No es una prueba unitaria: se ejecuta aparte con
+ *
+ * <pre>
+ * mvn -Pcarga test-compile exec:exec -Dcarga.args="usuarios=50 duracion=60"
+ * </pre>
+ *
+ * Parámetros (clave=valor): usuarios (50), duracion en segundos (30),
+ * calentamiento en segundos (10), semilla (42), profesores (100),
+ * asesoriasPorProfesor (100), openInView (false) y salida, un archivo CSV
+ * donde guardar el reporte para compararlo con el de otra versión.
+ *
+ * @author Daniel-VergaraM
+ */
+public class EscenariosCarga {
+
+    private static final int TEMATICAS = 20;
+
+    private static final int ESTUDIANTES = 200;
+
+    private static final LocalDateTime PRIMERA_RESERVA = LocalDateTime.of(2030, 1, 1, 8, 0);
+
+    private final Map<String, String> parametros;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final Map<String, Medidas> porEndpoint = new ConcurrentHashMap<>();
+
+    private final Map<String, AtomicLong> porEscenario = new ConcurrentHashMap<>();
+
+    private final Queue<Long> asesoriasLibres = new ConcurrentLinkedQueue<>();
+
+    // Cada reserva empieza dos horas después de la anterior, así nunca se cruzan
+    private final AtomicLong reservasCreadas = new AtomicLong();
+
+    private final AtomicLong sinAsesoriasLibres = new AtomicLong();
+
+    private List<Long> profesores;
+
+    private List<Long> estudiantes;
+
+    private HttpClient cliente;
+
+    private String baseUrl;
+
+    private volatile boolean midiendo;
+
+    private Pool poolAntes;
+
+    private Pool poolDespues;
+
+    private double usoP95;
+
+    private final AtomicLong maximoActivas = new AtomicLong();
+
+    private final AtomicLong maximoEsperando = new AtomicLong();
+
+    EscenariosCarga(Map<String, String> parametros) {
+        this.parametros = parametros;
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> parametros = new HashMap<>();
+        for (String arg : args) {
+            String[] clave = arg.split("=", 2);
+            if (clave.length != 2) {
+                throw new IllegalArgumentException("Se esperaba clave=valor: " + arg);
+            }
+            parametros.put(clave[0], clave[1]);
+        }
+        new EscenariosCarga(parametros).ejecutar();
+    }
+
+    private int entero(String nombre, int porDefecto) {
+        return Integer.parseInt(parametros.getOrDefault(nombre, String.valueOf(porDefecto)));
+    }
+
+    void ejecutar() throws Exception {
+        int usuarios = entero("usuarios", 50);
+        int duracion = entero("duracion", 30);
+        int calentamiento = entero("calentamiento", 10);
+        long semilla = entero("semilla", 42);
+        String openInView = parametros.getOrDefault("openInView", "false");
+
+        try (ConfigurableApplicationContext aplicacion = new SpringApplicationBuilder(MainApplication.class)
+                .properties("server.port=0", "asesorando.mejores.instantanea=", "logging.level.root=WARN",
+                        // Que Tomcat no cierre las conexiones que el cliente reutiliza
+                        "server.tomcat.max-keep-alive-requests=-1",
+                        "spring.jpa.open-in-view=" + openInView)
+                .run();
+                ExecutorService hilosCliente = Executors.newVirtualThreadPerTaskExecutor()) {
+            poblar(aplicacion, entero("profesores", 100), entero("asesoriasPorProfesor", 100));
+            int puerto = aplicacion.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            baseUrl = "http://localhost:" + puerto + "/api";
+            cliente = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .executor(hilosCliente)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+
+            MeterRegistry registro = aplicacion.getBean(MeterRegistry.class);
+
+            System.out.printf("%d usuarios, %d s de calentamiento y %d s de medición (open-in-view=%s)%n", usuarios,
+                    calentamiento, duracion, openInView);
+            long fin = System.nanoTime() + Duration.ofSeconds(calentamiento + duracion).toNanos();
+            // Al cerrarse espera a que cada usuario termine la solicitud que tenía en curso
+            try (ExecutorService hilosUsuarios = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < usuarios; i++) {
+                    Usuario usuario = new Usuario(new Random(semilla + i), fin);
+                    hilosUsuarios.submit(usuario::ejecutar);
+                }
+                hilosUsuarios.submit(() -> muestrearPool(registro, fin));
+                Thread.sleep(Duration.ofSeconds(calentamiento));
+                poolAntes = Pool.de(registro);
+                midiendo = true;
+            }
+            midiendo = false;
+            poolDespues = Pool.de(registro);
+            for (ValueAtPercentile valor : registro.get("hikaricp.connections.usage").timer().takeSnapshot()
+                    .percentileValues()) {
+                if (valor.percentile() == 0.95) {
+                    usoP95 = valor.value(TimeUnit.MILLISECONDS);
+                }
+            }
+        }
+        reportar(duracion);
+    }
+
+    /**
+     * Guarda el máximo de conexiones activas y de hilos esperando una conexión
+     * que se ve durante la medición
+     */
+    private void muestrearPool(MeterRegistry registro, long fin) {
+        while (System.nanoTime() < fin) {
+            if (midiendo) {
+                maximoActivas.accumulateAndGet((long) registro.get("hikaricp.connections.active").gauge().value(),
+                        Math::max);
+                maximoEsperando.accumulateAndGet(
+                        (long) registro.get("hikaricp.connections.pending").gauge().value(), Math::max);
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void poblar(ConfigurableApplicationContext aplicacion, int numeroProfesores, int asesoriasPorProfesor) {
+        PodamFactory factory = new PodamFactoryImpl();
+        List<TematicaEntity> tematicas = new ArrayList<>();
+        for (int i = 0; i < TEMATICAS; i++) {
+            TematicaEntity tematica = factory.manufacturePojo(TematicaEntity.class);
+            tematica.setArea("Area " + i % 5);
+            tematicas.add(tematica);
+        }
+        tematicas = aplicacion.getBean(TematicaRepository.class).saveAll(tematicas);
+
+        List<EstudianteEntity> nuevosEstudiantes = new ArrayList<>();
+        for (int i = 0; i < ESTUDIANTES; i++) {
+            nuevosEstudiantes.add(factory.manufacturePojo(EstudianteEntity.class));
+        }
+        estudiantes = aplicacion.getBean(EstudianteRepository.class).saveAll(nuevosEstudiantes).stream()
+                .map(EstudianteEntity::getId).toList();
+
+        List<ProfesorEntity> nuevosProfesores = new ArrayList<>();
+        for (int i = 0; i < numeroProfesores; i++) {
+            ProfesorEntity profesor;
+            if (i % 2 == 0) {
+                profesor = factory.manufacturePojo(ProfesorVirtualEntity.class);
+            } else {
+                ProfesorPresencialEntity presencial = factory.manufacturePojo(ProfesorPresencialEntity.class);
+                presencial.setLatitud(4.60 + (i % 50) * 0.002);
+                presencial.setLongitud(-74.08 + (i / 50) * 0.002);
+                profesor = presencial;
+            }
+            profesor.setPrecioHora(String.valueOf(20000 + (i % 40) * 1000));
+            profesor.getTematicas().add(tematicas.get(i % TEMATICAS));
+            profesor.getTematicas().add(tematicas.get((i + 7) % TEMATICAS));
+
+            CalendarioEntity calendario = factory.manufacturePojo(CalendarioEntity.class);
+            calendario.setProfesor(profesor);
+            profesor.getCalendario().add(calendario);
+            for (int j = 0; j < asesoriasPorProfesor; j++) {
+                AsesoriaEntity asesoria = factory.manufacturePojo(AsesoriaEntity.class);
+                asesoria.setDuracion("60 minutos");
+                asesoria.setCompletada(false);
+                asesoria.setArea(tematicas.get(i % TEMATICAS).getArea());
+                asesoria.setProfesor(profesor);
+                asesoria.setCalendario(calendario);
+                profesor.getAsesorias().add(asesoria);
+            }
+            nuevosProfesores.add(profesor);
+        }
+        List<ProfesorEntity> guardados = aplicacion.getBean(ProfesorRepository.class).saveAll(nuevosProfesores);
+        profesores = guardados.stream().map(ProfesorEntity::getId).toList();
+        guardados.forEach(profesor -> profesor.getAsesorias().forEach(a -> asesoriasLibres.add(a.getId())));
+    }
+
+    /**
+     * Un usuario virtual: ejecuta escenarios uno tras otro hasta el final de
+     * la prueba
+     */
+    private final class Usuario {
+
+        private final Random aleatorio;
+
+        private final long fin;
+
+        private final Deque<Long> reservas = new ArrayDeque<>();
+
+        Usuario(Random aleatorio, long fin) {
+            this.aleatorio = aleatorio;
+            this.fin = fin;
+        }
+
+        void ejecutar() {
+            while (System.nanoTime() < fin) {
+                int eleccion = aleatorio.nextInt(100);
+                if (eleccion < 70) {
+                    escenario("explorar");
+                    explorar();
+                } else if (eleccion < 85) {
+                    escenario("reservar");
+                    reservar();
+                } else if (eleccion < 95) {
+                    escenario("comentar");
+                    comentar();
+                } else {
+                    escenario("cancelar");
+                    cancelar();
+                }
+            }
+        }
+
+        private long profesor() {
+            return profesores.get(aleatorio.nextInt(profesores.size()));
+        }
+
+        private void explorar() {
+            long profesor = profesor();
+            enviar("GET", "/profesores/pagina", "/profesores/pagina", null);
+            enviar("GET", "/profesores/{id}", "/profesores/" + profesor, null);
+            enviar("GET", "/profesores/{id}/tematicas", "/profesores/" + profesor + "/tematicas", null);
+            enviar("GET", "/asesorias/profesor/{id}", "/asesorias/profesor/" + profesor, null);
+            enviar("GET", "/tematicas", "/tematicas", null);
+        }
+
+        private boolean reservar() {
+            enviar("GET", "/asesorias/profesor/{id}", "/asesorias/profesor/" + profesor(), null);
+            Long asesoria = asesoriasLibres.poll();
+            if (asesoria == null) {
+                sinAsesoriasLibres.incrementAndGet();
+                return false;
+            }
+            LocalDateTime fecha = PRIMERA_RESERVA.plusHours(2 * reservasCreadas.getAndIncrement());
+            long estudiante = estudiantes.get(aleatorio.nextInt(estudiantes.size()));
+            JsonNode reserva = enviar("POST", "/reservas", "/reservas", "{\"fechaReserva\":\"" + fecha
+                    + "\",\"estudianteId\":" + estudiante + ",\"asesoriaId\":" + asesoria + "}");
+            if (reserva == null || !reserva.hasNonNull("id")) {
+                return false;
+            }
+            reservas.push(reserva.get("id").asLong());
+            return true;
+        }
+
+        private void comentar() {
+            if (reservas.isEmpty() && !reservar()) {
+                return;
+            }
+            enviar("POST", "/reservas/{id}/comentarios", "/reservas/" + reservas.pop() + "/comentarios",
+                    "{\"comentario\":\"Muy buena asesoría\",\"calificacion\":" + (1 + aleatorio.nextInt(5)) + "}");
+        }
+
+        private void cancelar() {
+            if (reservas.isEmpty() && !reservar()) {
+                return;
+            }
+            enviar("PUT", "/reservas/{id}/cancelada", "/reservas/" + reservas.pop() + "/cancelada", "");
+        }
+    }
+
+    private void escenario(String nombre) {
+        if (midiendo) {
+            porEscenario.computeIfAbsent(nombre, n -> new AtomicLong()).incrementAndGet();
+        }
+    }
+
+    /**
+     * Envía la solicitud y registra su latencia en el endpoint
+     *
+     * @param endpoint ruta con variables, para agrupar las medidas
+     * @return el JSON de la respuesta si fue exitosa y tenía cuerpo, o null
+     */
+    private JsonNode enviar(String metodo, String endpoint, String ruta, String cuerpo) {
+        HttpRequest.Builder solicitud = HttpRequest.newBuilder(URI.create(baseUrl + ruta))
+                .timeout(Duration.ofSeconds(60));
+        if (cuerpo == null) {
+            solicitud.method(metodo, HttpRequest.BodyPublishers.noBody());
+        } else {
+            solicitud.header("Content-Type", "application/json")
+                    .method(metodo, HttpRequest.BodyPublishers.ofString(cuerpo));
+        }
+        boolean medir = midiendo;
+        long inicio = System.nanoTime();
+        HttpResponse<String> respuesta;
+        try {
+            respuesta = cliente.send(solicitud.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            respuesta = null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        long latencia = System.nanoTime() - inicio;
+        boolean error = respuesta == null || respuesta.statusCode() >= 400;
+        if (medir) {
+            porEndpoint.computeIfAbsent(metodo + " " + endpoint, e -> new Medidas()).agregar(latencia, error);
+        }
+        if (error || respuesta.body().isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(respuesta.body());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private void reportar(int duracion) throws IOException {
+        Map<String, Medidas> ordenado = new TreeMap<>(porEndpoint);
+        String formato = "%-36s %11s %9s %9s %9s %9s %9s %8s%n";
+        System.out.println();
+        System.out.printf(formato, "Endpoint", "Solicitudes", "Por s", "p50 ms", "p95 ms", "p99 ms", "Máx ms",
+                "Errores");
+        List<String> csv = new ArrayList<>();
+        csv.add("endpoint,solicitudes,por_segundo,p50_ms,p95_ms,p99_ms,max_ms,errores_pct");
+        Medidas total = new Medidas();
+        ordenado.forEach((endpoint, medidas) -> {
+            total.agregarTodo(medidas);
+            String[] fila = medidas.fila(duracion);
+            System.out.printf(formato, endpoint, fila[0], fila[1], fila[2], fila[3], fila[4], fila[5],
+                    fila[6] + "%");
+            csv.add(endpoint + "," + String.join(",", fila));
+        });
+        String[] fila = total.fila(duracion);
+        System.out.printf(formato, "Total", fila[0], fila[1], fila[2], fila[3], fila[4], fila[5], fila[6] + "%");
+        csv.add("Total," + String.join(",", fila));
+
+        reportarPool(total.cantidad);
+
+        System.out.println();
+        new TreeMap<>(porEscenario).forEach((nombre, veces) -> System.out.printf("%-10s %d escenarios%n", nombre,
+                veces.get()));
+        if (sinAsesoriasLibres.get() > 0) {
+            System.out.printf("Se acabaron las asesorías libres: %d reservas no se intentaron (subir "
+                    + "asesoriasPorProfesor)%n", sinAsesoriasLibres.get());
+        }
+
+        String salida = parametros.get("salida");
+        if (salida != null) {
+            try (PrintWriter escritor = new PrintWriter(Files.newBufferedWriter(Path.of(salida)))) {
+                csv.forEach(escritor::println);
+            }
+            System.out.println("Reporte guardado en " + salida);
+        }
+    }
+
+    private void reportarPool(int solicitudes) {
+        long prestamos = poolDespues.prestamos() - poolAntes.prestamos();
+        double uso = poolDespues.msUso() - poolAntes.msUso();
+        double espera = poolDespues.msEspera() - poolAntes.msEspera();
+        int porSolicitud = Math.max(solicitudes, 1);
+        long porPrestamo = Math.max(prestamos, 1);
+        System.out.println();
+        System.out.printf("Conexiones: %d préstamos, %s por solicitud%n", prestamos,
+                Medidas.decimal((double) prestamos / porSolicitud));
+        System.out.printf("  en uso: %s ms por solicitud, %s ms por préstamo (p95 %s ms)%n",
+                Medidas.decimal(uso / porSolicitud), Medidas.decimal(uso / porPrestamo), Medidas.decimal(usoP95));
+        System.out.printf("  espera: %s ms por préstamo; máximo %d activas y %d hilos esperando%n",
+                Medidas.decimal(espera / porPrestamo), maximoActivas.get(), maximoEsperando.get());
+    }
+
+    /**
+     * Acumulados del pool de conexiones en un momento
+     *
+     * @param prestamos veces que se pidió una conexión
+     * @param msUso milisegundos que se tuvieron las conexiones prestadas
+     * @param msEspera milisegundos que se esperó para obtener una conexión
+     */
+    private record Pool(long prestamos, double msUso, double msEspera) {
+
+        static Pool de(MeterRegistry registro) {
+            Timer uso = registro.get("hikaricp.connections.usage").timer();
+            Timer espera = registro.get("hikaricp.connections.acquire").timer();
+            return new Pool(espera.count(), uso.totalTime(TimeUnit.MILLISECONDS),
+                    espera.totalTime(TimeUnit.MILLISECONDS));
+        }
+    }
+
+    /**
+     * Latencias y errores de un endpoint
+     */
+    private static final class Medidas {
+
+        private long[] latencias = new long[1024];
+
+        private int cantidad;
+
+        private long errores;
+
+        synchronized void agregar(long latencia, boolean error) {
+            if (cantidad == latencias.length) {
+                latencias = Arrays.copyOf(latencias, cantidad * 2);
+            }
+            latencias[cantidad++] = latencia;
+            errores += error ? 1 : 0;
+        }
+
+        synchronized void agregarTodo(Medidas otras) {
+            synchronized (otras) {
+                for (int i = 0; i < otras.cantidad; i++) {
+                    agregar(otras.latencias[i], false);
+                }
+                errores += otras.errores;
+            }
+        }
+
+        /**
+         * @return solicitudes, por segundo, p50, p95, p99, máximo (ms) y
+         * porcentaje de errores
+         */
+        synchronized String[] fila(int duracion) {
+            long[] ordenadas = Arrays.copyOf(latencias, cantidad);
+            Arrays.sort(ordenadas);
+            return new String[] { String.valueOf(cantidad), decimal((double) cantidad / duracion),
+                    milisegundos(ordenadas, 0.50), milisegundos(ordenadas, 0.95), milisegundos(ordenadas, 0.99),
+                    milisegundos(ordenadas, 1.0), decimal(cantidad == 0 ? 0 : 100.0 * errores / cantidad) };
+        }
+
+        private static String milisegundos(long[] ordenadas, double percentil) {
+            if (ordenadas.length == 0) {
+                return "-";
+            }
+            int posicion = Math.max(0, (int) Math.ceil(percentil * ordenadas.length) - 1);
+            return decimal(ordenadas[posicion] / 1_000_000.0);
+        }
+
+        private static String decimal(double valor) {
+            return String.format(Locale.ROOT, "%.1f", valor);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package co.edu.uniandes.dse.asesorando.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.ComentarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
+import co.edu.uniandes.dse.asesorando.entities.GeneradorIdsPorBloques;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorPresencialEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorVirtualEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import co.edu.uniandes.dse.asesorando.entities.UsuarioEntity;
+
+/**
+ * Mide cuántas filas por segundo se insertan en una transacción con los ids
+ * por secuencia (GeneradorIdsPorBloques) y con las columnas IDENTITY que se
+ * usaban antes. Con IDENTITY Hibernate ejecuta cada INSERT en el momento para
+ * conocer el id y no puede agruparlos en lotes JDBC.
+ *
+ * Usa Hibernate sin Spring sobre una base H2 en memoria, donde cada sentencia
+ * cuesta poco; contra una base remota la diferencia crece con la latencia de
+ * red porque los lotes ahorran un viaje por fila. No es una prueba
+ * unitaria: se ejecuta aparte con
+ *
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath co.edu.uniandes.dse.asesorando.benchmarks.InsercionBenchmark"
+ * </pre>
+ *
+ * Los argumentos que siguen a la clase se pasan a JMH (por ejemplo
+ * {@code -p ids=secuencia -p tamanoBloque=100}).
+ *
+ * @author Daniel-VergaraM
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@OperationsPerInvocation(InsercionBenchmark.FILAS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsercionBenchmark {
+
+    static final int FILAS = 1000;
+
+    @Param({ "identity", "secuencia" })
+    private String ids;
+
+    @Param({ "50" })
+    private int tamanoBloque;
+
+    private SessionFactory sessionFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Configuration configuracion = new Configuration()
+                // Los mismos nombres de tablas y columnas que genera Spring
+                .setPhysicalNamingStrategy(new CamelCaseToUnderscoresNamingStrategy())
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:insercion_" + ids + ";DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, "50")
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(GeneradorIdsPorBloques.TAMANO_BLOQUE, String.valueOf(tamanoBloque))
+                .addAnnotatedClass(UsuarioEntity.class)
+                .addAnnotatedClass(EstudianteEntity.class)
+                .addAnnotatedClass(ProfesorEntity.class)
+                .addAnnotatedClass(ProfesorVirtualEntity.class)
+                .addAnnotatedClass(ProfesorPresencialEntity.class)
+                .addAnnotatedClass(TematicaEntity.class)
+                .addAnnotatedClass(CalendarioEntity.class)
+                .addAnnotatedClass(AsesoriaEntity.class)
+                .addAnnotatedClass(ReservaEntity.class)
+                .addAnnotatedClass(ComentarioEntity.class);
+        if ("identity".equals(ids)) {
+            configuracion.addResource("benchmarks/ids-identity.orm.xml");
+        }
+        sessionFactory = configuracion.buildSessionFactory();
+    }
+
+    /**
+     * Vacía las tablas para que cada iteración inserte sobre la misma cantidad
+     * de filas
+     */
+    @TearDown(Level.Iteration)
+    public void vaciar() {
+        sessionFactory.inTransaction(session -> {
+            session.createMutationQuery("delete from ReservaEntity").executeUpdate();
+            session.createMutationQuery("delete from AsesoriaEntity").executeUpdate();
+        });
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void reservas() {
+        sessionFactory.inTransaction(session -> {
+            LocalDateTime inicio = LocalDateTime.of(2030, 1, 1, 8, 0);
+            for (int i = 0; i < FILAS; i++) {
+                ReservaEntity reserva = new ReservaEntity();
+                reserva.setFechaReserva(inicio.plusHours(i));
+                reserva.setCancelada(false);
+                reserva.setEstado("noCompletada");
+                session.persist(reserva);
+            }
+        });
+    }
+
+    @Benchmark
+    public void asesorias() {
+        sessionFactory.inTransaction(session -> {
+            for (int i = 0; i < FILAS; i++) {
+                AsesoriaEntity asesoria = new AsesoriaEntity();
+                asesoria.setDuracion("60");
+                asesoria.setTematica("Tema " + i % 50);
+                asesoria.setTipo(i % 2 == 0 ? "Virtual" : "Presencial");
+                asesoria.setArea("Área " + i % 10);
+                asesoria.setCompletada(false);
+                session.persist(asesoria);
+            }
+        });
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(InsercionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
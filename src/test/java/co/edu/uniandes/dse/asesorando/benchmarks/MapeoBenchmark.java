@@ -0,0 +1,181 @@
+package co.edu.uniandes.dse.asesorando.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.modelmapper.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+
+import co.edu.uniandes.dse.asesorando.dto.AsesoriaDetail;
+import co.edu.uniandes.dse.asesorando.dto.ProfesorDTO;
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorPresencialEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorVirtualEntity;
+import co.edu.uniandes.dse.asesorando.mappers.AsesoriaMapperImpl;
+import co.edu.uniandes.dse.asesorando.mappers.CalendarioMapperImpl;
+import co.edu.uniandes.dse.asesorando.mappers.ComentarioMapperImpl;
+import co.edu.uniandes.dse.asesorando.mappers.DetalleMapper;
+import co.edu.uniandes.dse.asesorando.mappers.DetalleMapperImpl;
+import co.edu.uniandes.dse.asesorando.mappers.ProfesorMapper;
+import co.edu.uniandes.dse.asesorando.mappers.ProfesorMapperImpl;
+import co.edu.uniandes.dse.asesorando.mappers.ReservaMapperImpl;
+import co.edu.uniandes.dse.asesorando.mappers.TematicaMapperImpl;
+
+/**
+ * Compara el mapeo de listas de entidades a DTO con el ModelMapper reflexivo
+ * que usaban los controladores y con los mappers generados. No es una prueba
+ * unitaria: se ejecuta aparte con
+ *
+ * <pre>
+ * mvn test-compile exec:exec -Dexec.classpathScope=test -Dexec.executable=java \
+ *     -Dexec.args="-cp %classpath co.edu.uniandes.dse.asesorando.benchmarks.MapeoBenchmark"
+ * </pre>
+ *
+ * Los argumentos que siguen a la clase se pasan a JMH (por ejemplo
+ * {@code -p tamano=100 -f 1}).
+ *
+ * @author Daniel-VergaraM
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapeoBenchmark {
+
+    @Param({ "1", "100", "10000" })
+    private int tamano;
+
+    private List<ProfesorEntity> profesores;
+
+    private List<AsesoriaEntity> asesorias;
+
+    private ModelMapper modelMapper;
+
+    private AnnotationConfigApplicationContext contexto;
+
+    private ProfesorMapper profesorMapper;
+
+    private DetalleMapper detalleMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        profesores = new ArrayList<>(tamano);
+        asesorias = new ArrayList<>(tamano);
+        for (int i = 0; i < tamano; i++) {
+            ProfesorEntity profesor = crearProfesor(i);
+            profesores.add(profesor);
+            asesorias.add(crearAsesoria(i, profesor));
+        }
+
+        modelMapper = new ModelMapper();
+        contexto = new AnnotationConfigApplicationContext(ProfesorMapperImpl.class, TematicaMapperImpl.class,
+                AsesoriaMapperImpl.class, CalendarioMapperImpl.class, ReservaMapperImpl.class,
+                ComentarioMapperImpl.class, DetalleMapperImpl.class);
+        profesorMapper = contexto.getBean(ProfesorMapper.class);
+        detalleMapper = contexto.getBean(DetalleMapper.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        contexto.close();
+    }
+
+    @Benchmark
+    public List<ProfesorDTO> profesoresModelMapper() {
+        return modelMapper.map(profesores, new TypeToken<List<ProfesorDTO>>() {
+        }.getType());
+    }
+
+    @Benchmark
+    public List<ProfesorDTO> profesoresGenerado() {
+        return profesorMapper.toDtoList(profesores);
+    }
+
+    @Benchmark
+    public List<AsesoriaDetail> asesoriasModelMapper() {
+        return modelMapper.map(asesorias, new TypeToken<List<AsesoriaDetail>>() {
+        }.getType());
+    }
+
+    @Benchmark
+    public List<AsesoriaDetail> asesoriasGenerado() {
+        return detalleMapper.toAsesoriaDetailList(asesorias);
+    }
+
+    private static ProfesorEntity crearProfesor(int i) {
+        ProfesorEntity profesor;
+        switch (i % 3) {
+            case 0 -> {
+                ProfesorVirtualEntity virtual = new ProfesorVirtualEntity();
+                virtual.setEnlaceReunion("https://meet.example.com/" + i);
+                profesor = virtual;
+            }
+            case 1 -> {
+                ProfesorPresencialEntity presencial = new ProfesorPresencialEntity();
+                presencial.setCodigoPostal(110111);
+                presencial.setLatitud(4.60 + i * 1e-5);
+                presencial.setLongitud(-74.07 - i * 1e-5);
+                profesor = presencial;
+            }
+            default -> profesor = new ProfesorEntity();
+        }
+        profesor.setId((long) i);
+        profesor.setNombre("Profesor " + i);
+        profesor.setCorreo("profesor" + i + "@uniandes.edu.co");
+        profesor.setTelefono("300" + i);
+        profesor.setContrasena("clave" + i);
+        profesor.setFormacion("Maestría");
+        profesor.setExperiencia(i % 20 + " años");
+        profesor.setPrecioHora(String.valueOf(20000 + i));
+        profesor.setFotoUrl("https://img.example.com/" + i);
+        profesor.setVideoUrl("https://video.example.com/" + i);
+        return profesor;
+    }
+
+    private static AsesoriaEntity crearAsesoria(int i, ProfesorEntity profesor) {
+        CalendarioEntity calendario = new CalendarioEntity();
+        calendario.setId((long) i);
+
+        AsesoriaEntity asesoria = new AsesoriaEntity();
+        asesoria.setId((long) i);
+        asesoria.setDuracion("60");
+        asesoria.setTematica("Tema " + i % 50);
+        asesoria.setTipo(i % 2 == 0 ? "Virtual" : "Presencial");
+        asesoria.setArea("Área " + i % 10);
+        asesoria.setCompletada(i % 4 == 0);
+        asesoria.setProfesor(profesor);
+        asesoria.setCalendario(calendario);
+        return asesoria;
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        new Runner(new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .include(MapeoBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,126 @@
+package co.edu.uniandes.dse.asesorando.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import co.edu.uniandes.dse.asesorando.config.FiltroConsultas.EstadisticasEndpoint;
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.transaction.Transactional;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas del conteo de sentencias por solicitud
+ *
+ * @author Daniel-VergaraM
+ */
+@DataJpaTest
+@Transactional
+@Import(FiltroConsultas.class)
+class FiltroConsultasTest {
+
+    @Autowired
+    private FiltroConsultas filtroConsultas;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    private final List<Long> calendarios = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        filtroConsultas.reiniciar();
+        for (int i = 0; i < 12; i++) {
+            CalendarioEntity calendario = factory.manufacturePojo(CalendarioEntity.class);
+            calendario.setProfesor(null);
+            entityManager.persist(calendario);
+            ReservaEntity reserva = new ReservaEntity();
+            reserva.setCalendario(calendario);
+            entityManager.persist(reserva);
+            calendarios.add(calendario.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private void solicitud(String ruta, Runnable controlador) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", ruta);
+        filtroConsultas.doFilter(request, new MockHttpServletResponse(), new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, ruta);
+                controlador.run();
+            }
+        }));
+    }
+
+    @Test
+    void formaTest() {
+        assertEquals("select c.id from calendario c where c.id in (?) and c.tipo=?",
+                ConsultasSolicitud.forma("select  c.id from calendario c\n where c.id in (?, ?,?) and c.tipo='A''B'"));
+        assertEquals("select r1_0.id from reserva r1_0 where r1_0.id=? limit ?",
+                ConsultasSolicitud.forma("select r1_0.id from reserva r1_0 where r1_0.id=? limit 20"));
+    }
+
+    /**
+     * Cargar los calendarios uno por uno repite la misma sentencia y marca la
+     * solicitud; cargarlos en una consulta no
+     */
+    @Test
+    void repeticionesTest() throws Exception {
+        solicitud("/calendarios/uno-por-uno", () -> calendarios.forEach(id -> {
+            entityManager.find(CalendarioEntity.class, id);
+            entityManager.clear();
+        }));
+        solicitud("/calendarios/con-reservas", () -> entityManager.getEntityManager()
+                .createQuery("select c from CalendarioEntity c", CalendarioEntity.class).getResultList()
+                .forEach(calendario -> calendario.getReservas().size()));
+
+        List<EstadisticasEndpoint> estadisticas = filtroConsultas.estadisticas();
+        assertEquals(2, estadisticas.size());
+
+        EstadisticasEndpoint unoPorUno = estadisticas.get(0);
+        assertEquals("GET /calendarios/uno-por-uno", unoPorUno.endpoint());
+        assertEquals(12, unoPorUno.peor().sentencias());
+        assertEquals(12, unoPorUno.peor().repeticiones());
+        assertEquals(12, unoPorUno.peor().entidades());
+        assertEquals(1, unoPorUno.marcadas());
+
+        EstadisticasEndpoint conReservas = estadisticas.get(1);
+        // La consulta y un lote IN para las reservas de todos los calendarios
+        assertEquals(2, conReservas.peor().sentencias());
+        // Una carga de colección; las otras once llegaron en el mismo lote
+        assertEquals(1, conReservas.peor().colecciones());
+        assertEquals(24, conReservas.peor().entidades());
+        assertEquals(0, conReservas.marcadas());
+    }
+
+    /**
+     * Fuera de una solicitud no se cuenta nada
+     */
+    @Test
+    void sinSolicitudTest() {
+        entityManager.find(CalendarioEntity.class, calendarios.get(0));
+        assertTrue(filtroConsultas.estadisticas().isEmpty());
+    }
+}
@@ -0,0 +1,77 @@
+package co.edu.uniandes.dse.asesorando.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.EnableAspectJAutoProxy;
+import org.springframework.context.annotation.Import;
+
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.services.BusquedaService;
+import co.edu.uniandes.dse.asesorando.services.TematicaService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.transaction.Transactional;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de las métricas de los servicios
+ *
+ * @author Daniel-VergaraM
+ */
+@DataJpaTest
+@Transactional
+@EnableAspectJAutoProxy
+@Import({ TematicaService.class, BusquedaService.class, MetricasServicios.class, SimpleMeterRegistry.class })
+class MetricasServiciosTest {
+
+    @Autowired
+    private TematicaService tematicaService;
+
+    @Autowired
+    private MeterRegistry registro;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < 3; i++) {
+            entityManager.persist(factory.manufacturePojo(TematicaEntity.class));
+        }
+    }
+
+    @Test
+    void tiempoYTamanoTest() {
+        tematicaService.getTematicas();
+        tematicaService.getTematicas();
+
+        assertEquals(2, registro.get(MetricasServicios.TIEMPOS).tag("class", "TematicaService")
+                .tag("method", "getTematicas").tag("exception", "none").timer().count());
+        assertEquals(6, registro.get(MetricasServicios.RESULTADOS).tag("method", "getTematicas").summary()
+                .totalAmount());
+        assertNull(registro.find(MetricasServicios.ERRORES).counter());
+    }
+
+    @Test
+    void errorTest() {
+        assertThrows(EntityNotFoundException.class, () -> tematicaService.getTematica(0L));
+
+        assertEquals(1, registro.get(MetricasServicios.ERRORES).tag("method", "getTematica")
+                .tag("exception", "EntityNotFoundException").counter().count());
+        assertEquals(1, registro.get(MetricasServicios.TIEMPOS).tag("method", "getTematica")
+                .tag("exception", "EntityNotFoundException").timer().count());
+        // Los métodos que no devuelven listas no registran tamaño
+        assertNull(registro.find(MetricasServicios.RESULTADOS).tag("method", "getTematica").summary());
+    }
+}
@@ -0,0 +1,100 @@
+package co.edu.uniandes.dse.asesorando.config;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.Cache;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import co.edu.uniandes.dse.asesorando.config.ConsultasSolicitud.Resumen;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Ejecuta solicitudes con MockMvc y compara lo que hizo Hibernate en cada una
+ * (sentencias SQL, entidades cargadas y cargas de colecciones, ver
+ * ConsultasSolicitud) con un presupuesto. Los excesos se acumulan y
+ * {@link #comprobar()} falla con todos ellos y las sentencias de cada
+ * solicitud.
+ *
+ * Antes de cada solicitud se vacía la caché de segundo nivel, para que el
+ * conteo no dependa de qué se consultó antes. El MockMvc debe crearse sin
+ * filtros (FiltroConsultas abriría su propio conteo).
+ *
+ * @author Daniel-VergaraM
+ */
+public class PresupuestoConsultas {
+
+    private final MockMvc mockMvc;
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final List<String> excesos = new ArrayList<>();
+
+    public PresupuestoConsultas(MockMvc mockMvc, EntityManagerFactory entityManagerFactory) {
+        this.mockMvc = mockMvc;
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * Ejecuta la solicitud, que debe responder 2xx, y registra si se pasó del
+     * presupuesto
+     *
+     * @param solicitud
+     * @param sentencias máximo de sentencias SQL
+     * @param entidades máximo de entidades cargadas (filas convertidas en
+     * entidades)
+     * @param colecciones máximo de cargas de colecciones perezosas
+     * @return lo que se contó
+     */
+    public Resumen verificar(MockHttpServletRequestBuilder solicitud, int sentencias, int entidades,
+            int colecciones) throws Exception {
+        entityManagerFactory.getCache().unwrap(Cache.class).evictAllRegions();
+        MockHttpServletRequest request = solicitud.buildRequest(new MockServletContext());
+        String nombre = request.getMethod() + " " + request.getRequestURI()
+                + (request.getQueryString() == null ? "" : "?" + request.getQueryString());
+
+        ConsultasSolicitud consultas = ConsultasSolicitud.iniciar(true);
+        try {
+            mockMvc.perform(solicitud).andExpect(status().is2xxSuccessful());
+        } finally {
+            ConsultasSolicitud.terminar();
+        }
+        Resumen resumen = consultas.resumen(nombre);
+
+        List<String> excedidos = new ArrayList<>();
+        exceso(excedidos, "sentencias", resumen.sentencias(), sentencias);
+        exceso(excedidos, "entidades", resumen.entidades(), entidades);
+        exceso(excedidos, "colecciones", resumen.colecciones(), colecciones);
+        if (!excedidos.isEmpty()) {
+            StringBuilder mensaje = new StringBuilder(nombre).append(": ").append(String.join(", ", excedidos));
+            List<String> ejecutadas = consultas.ejecutadas();
+            for (int i = 0; i < ejecutadas.size(); i++) {
+                mensaje.append("\n    ").append(i + 1).append(". ").append(ejecutadas.get(i));
+            }
+            excesos.add(mensaje.toString());
+        }
+        return resumen;
+    }
+
+    private static void exceso(List<String> excedidos, String medida, int contado, int maximo) {
+        if (contado > maximo) {
+            excedidos.add(medida + " " + contado + " (máximo " + maximo + ")");
+        }
+    }
+
+    /**
+     * Falla si alguna de las solicitudes verificadas se pasó del presupuesto
+     */
+    public void comprobar() {
+        if (!excesos.isEmpty()) {
+            fail(excesos.size() + " solicitudes se pasaron del presupuesto de consultas:\n"
+                    + String.join("\n", excesos));
+        }
+    }
+}
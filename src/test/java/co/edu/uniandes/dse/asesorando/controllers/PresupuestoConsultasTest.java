@@ -0,0 +1,221 @@
+package co.edu.uniandes.dse.asesorando.controllers;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.asesorando.config.PresupuestoConsultas;
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorPresencialEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorVirtualEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Presupuesto de consultas de los endpoints de lectura: cada solicitud debe
+ * hacer a lo sumo las sentencias SQL, cargas de entidades y cargas de
+ * colecciones indicadas sobre un conjunto de datos con varios profesores,
+ * temáticas, calendarios, asesorías y reservas. Si un cambio hace que un
+ * endpoint consulte más (por ejemplo un N+1 al convertir a DTO), la prueba
+ * falla con las sentencias que ejecutó.
+ *
+ * La aplicación corre sin open-in-view, así que un endpoint cuyo servicio no
+ * deja cargado lo que mapea el DTO falla con LazyInitializationException.
+ *
+ * @author Daniel-VergaraM
+ */
+@SpringBootTest(properties = { "asesorando.mejores.instantanea=", "logging.level.root=WARN" })
+@AutoConfigureMockMvc(addFilters = false)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class PresupuestoConsultasTest {
+
+    private static final int PROFESORES = 20;
+
+    private static final int TEMATICAS = 8;
+
+    private static final int ASESORIAS_POR_PROFESOR = 3;
+
+    private static final int ESTUDIANTES = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    private PresupuestoConsultas presupuesto;
+
+    private final List<TematicaEntity> tematicas = new ArrayList<>();
+
+    private final List<ProfesorEntity> profesores = new ArrayList<>();
+
+    private final List<CalendarioEntity> calendarios = new ArrayList<>();
+
+    private final List<AsesoriaEntity> asesorias = new ArrayList<>();
+
+    private final List<EstudianteEntity> estudiantes = new ArrayList<>();
+
+    private final List<ReservaEntity> reservas = new ArrayList<>();
+
+    @BeforeAll
+    void poblar() {
+        transactionTemplate.executeWithoutResult(estado -> {
+            for (int i = 0; i < TEMATICAS; i++) {
+                TematicaEntity tematica = factory.manufacturePojo(TematicaEntity.class);
+                tematica.setArea("Area " + i % 3);
+                entityManager.persist(tematica);
+                tematicas.add(tematica);
+            }
+            for (int i = 0; i < ESTUDIANTES; i++) {
+                EstudianteEntity estudiante = factory.manufacturePojo(EstudianteEntity.class);
+                entityManager.persist(estudiante);
+                estudiantes.add(estudiante);
+            }
+            for (int i = 0; i < PROFESORES; i++) {
+                ProfesorEntity profesor;
+                if (i % 2 == 0) {
+                    profesor = factory.manufacturePojo(ProfesorVirtualEntity.class);
+                } else {
+                    ProfesorPresencialEntity presencial = factory.manufacturePojo(ProfesorPresencialEntity.class);
+                    presencial.setLatitud(4.60 + i * 0.001);
+                    presencial.setLongitud(-74.08 + i * 0.001);
+                    profesor = presencial;
+                }
+                profesor.setPrecioHora(String.valueOf(20000 + i * 1000));
+                profesor.getTematicas().add(tematicas.get(i % TEMATICAS));
+                profesor.getTematicas().add(tematicas.get((i + 1) % TEMATICAS));
+                entityManager.persist(profesor);
+                profesores.add(profesor);
+
+                CalendarioEntity calendario = factory.manufacturePojo(CalendarioEntity.class);
+                calendario.setProfesor(profesor);
+                entityManager.persist(calendario);
+                calendarios.add(calendario);
+
+                for (int j = 0; j < ASESORIAS_POR_PROFESOR; j++) {
+                    AsesoriaEntity asesoria = factory.manufacturePojo(AsesoriaEntity.class);
+                    asesoria.setArea(tematicas.get(i % TEMATICAS).getArea());
+                    asesoria.setProfesor(profesor);
+                    asesoria.setCalendario(calendario);
+                    asesoria.setUsuario(estudiantes.get((i + j) % ESTUDIANTES));
+                    entityManager.persist(asesoria);
+                    asesorias.add(asesoria);
+
+                    ReservaEntity reserva = new ReservaEntity();
+                    reserva.setCalendario(calendario);
+                    reserva.setAsesoria(asesoria);
+                    entityManager.persist(reserva);
+                    reservas.add(reserva);
+                }
+            }
+        });
+    }
+
+    @BeforeEach
+    void setUp() {
+        presupuesto = new PresupuestoConsultas(mockMvc, entityManagerFactory);
+    }
+
+    @Test
+    void profesorControllerTest() throws Exception {
+        Long virtual = profesores.get(0).getId();
+        Long presencial = profesores.get(1).getId();
+        presupuesto.verificar(get("/profesores"), 1, 0, 0);
+        presupuesto.verificar(get("/profesores/pagina"), 1, 20, 0);
+        // Los GET con ETag leen primero las versiones de las colecciones
+        presupuesto.verificar(get("/profesores/" + virtual), 2, 1, 0);
+        presupuesto.verificar(get("/profesores/" + presencial), 2, 1, 0);
+        presupuesto.verificar(get("/profesores/buscar").param("area", "Area 1"), 1, 15, 0);
+        presupuesto.verificar(get("/profesores/cercanos").param("latitud", "4.6").param("longitud", "-74.08")
+                .param("radioKm", "5"), 0, 0, 0);
+        presupuesto.verificar(get("/profesores/mejores"), 0, 0, 0);
+        presupuesto.comprobar();
+    }
+
+    @Test
+    void profesorTematicaControllerTest() throws Exception {
+        ProfesorEntity profesor = profesores.get(0);
+        presupuesto.verificar(get("/profesores/" + profesor.getId() + "/tematicas"), 3, 10, 1);
+        presupuesto.verificar(get("/profesores/" + profesor.getId() + "/tematicas/" + tematicas.get(0).getId()),
+                3, 7, 2);
+        presupuesto.verificar(get("/tematicas/" + tematicas.get(0).getId() + "/profesors"), 5, 28, 1);
+        presupuesto.verificar(get("/tematicas/" + tematicas.get(0).getId() + "/profesors/" + profesor.getId()),
+                6, 14, 4);
+        presupuesto.verificar(get("/tematicas/" + tematicas.get(0).getId() + "/profesors").param("fields", "id,nombre"),
+                2, 6, 1);
+        presupuesto.comprobar();
+    }
+
+    @Test
+    void asesoriaControllerTest() throws Exception {
+        presupuesto.verificar(get("/asesorias"), 4, 105, 0);
+        presupuesto.verificar(get("/asesorias/pagina"), 4, 40, 0);
+        presupuesto.verificar(get("/asesorias/" + asesorias.get(0).getId()), 1, 4, 0);
+        presupuesto.verificar(get("/asesorias/area/Area 1"), 4, 40, 0);
+        presupuesto.verificar(get("/asesorias/filtrar").param("area", "Area 1"), 4, 40, 0);
+        presupuesto.verificar(get("/asesorias/profesor/" + profesores.get(0).getId()), 5, 8, 0);
+        presupuesto.verificar(get("/asesorias/calendario/" + calendarios.get(0).getId()), 2, 8, 1);
+        presupuesto.verificar(get("/usuarios/" + estudiantes.get(0).getId() + "/asesorias"), 2, 37, 1);
+        presupuesto.comprobar();
+    }
+
+    @Test
+    void estudianteControllerTest() throws Exception {
+        presupuesto.verificar(get("/estudiantes"), 1, 0, 0);
+        presupuesto.verificar(get("/estudiantes/" + estudiantes.get(0).getId()), 3, 1, 0);
+        presupuesto.comprobar();
+    }
+
+    @Test
+    void reservaControllerTest() throws Exception {
+        presupuesto.verificar(get("/reservas"), 3, 165, 0);
+        presupuesto.verificar(get("/reservas/" + reservas.get(0).getId()), 1, 5, 0);
+        presupuesto.verificar(get("/reservas/" + reservas.get(0).getId() + "/asesorias"), 1, 5, 0);
+        presupuesto.verificar(get("/reservas/pagina"), 2, 61, 0);
+        presupuesto.verificar(get("/calendars/" + calendarios.get(0).getId() + "/reservas"), 3, 11, 0);
+        presupuesto.verificar(get("/reservas/exportar"), 1, 0, 0);
+        presupuesto.comprobar();
+    }
+
+    @Test
+    void calendarioControllerTest() throws Exception {
+        presupuesto.verificar(get("/calendars"), 3, 160, 0);
+        presupuesto.verificar(get("/calendars/" + calendarios.get(0).getId()), 4, 11, 2);
+        presupuesto.verificar(get("/calendars").param("fields", "id,fechaInicio"), 1, 20, 0);
+        presupuesto.verificar(get("/calendars/" + calendarios.get(0).getId()).param("fields", "id,reservas"), 3, 4, 0);
+        presupuesto.comprobar();
+
+        mockMvc.perform(get("/calendars").param("fields", "id,fechaInicio"))
+                .andExpect(jsonPath("$[0].id").isNumber())
+                .andExpect(jsonPath("$[0].fechaInicio").exists())
+                .andExpect(jsonPath("$[0].fechaFin").doesNotExist())
+                .andExpect(jsonPath("$[0].reservas").doesNotExist());
+    }
+}
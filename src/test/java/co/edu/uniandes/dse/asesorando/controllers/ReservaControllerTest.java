@@ -0,0 +1,151 @@
+package co.edu.uniandes.dse.asesorando.controllers;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import co.edu.uniandes.dse.asesorando.dto.ReservaDTO;
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorVirtualEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.services.DisponibilidadService;
+import co.edu.uniandes.dse.asesorando.services.ReservaService;
+import jakarta.persistence.EntityManager;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de ReservaController a través de HTTP, con el DTO que manda el
+ * cliente (el estudiante y la asesoría solo por id)
+ *
+ * @author Daniel-VergaraM
+ */
+@SpringBootTest(properties = { "asesorando.mejores.instantanea=", "logging.level.root=WARN" })
+@AutoConfigureMockMvc(addFilters = false)
+class ReservaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ReservaService reservaService;
+
+    @Autowired
+    private DisponibilidadService disponibilidadService;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    private EstudianteEntity estudiante;
+
+    private ProfesorVirtualEntity profesor;
+
+    private CalendarioEntity calendario;
+
+    private AsesoriaEntity asesoria;
+
+    private AsesoriaEntity otraAsesoria;
+
+    private ReservaEntity reserva;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate.executeWithoutResult(estado -> {
+            estudiante = factory.manufacturePojo(EstudianteEntity.class);
+            entityManager.persist(estudiante);
+            profesor = factory.manufacturePojo(ProfesorVirtualEntity.class);
+            entityManager.persist(profesor);
+
+            calendario = factory.manufacturePojo(CalendarioEntity.class);
+            calendario.setProfesor(profesor);
+            entityManager.persist(calendario);
+
+            asesoria = nuevaAsesoria();
+            otraAsesoria = nuevaAsesoria();
+
+            reserva = new ReservaEntity();
+            reserva.setFechaReserva(LocalDateTime.of(2030, 1, 7, 8, 0));
+            reserva.setEstudiante(estudiante);
+            reserva.setCalendario(calendario);
+            reserva.setAsesoria(asesoria);
+            entityManager.persist(reserva);
+        });
+    }
+
+    private AsesoriaEntity nuevaAsesoria() {
+        AsesoriaEntity nueva = factory.manufacturePojo(AsesoriaEntity.class);
+        nueva.setDuracion("90 minutos");
+        nueva.setProfesor(profesor);
+        nueva.setCalendario(calendario);
+        entityManager.persist(nueva);
+        return nueva;
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        reservaService.eliminarReserva(reserva.getId());
+        transactionTemplate.executeWithoutResult(estado -> {
+            entityManager.remove(entityManager.find(AsesoriaEntity.class, asesoria.getId()));
+            entityManager.remove(entityManager.find(AsesoriaEntity.class, otraAsesoria.getId()));
+            entityManager.remove(entityManager.find(CalendarioEntity.class, calendario.getId()));
+            entityManager.remove(entityManager.find(ProfesorVirtualEntity.class, profesor.getId()));
+            entityManager.remove(entityManager.find(EstudianteEntity.class, estudiante.getId()));
+        });
+    }
+
+    /**
+     * La reserva actualizada queda en el índice de disponibilidad con el
+     * calendario y la duración de la asesoría guardada, no de la que arma el
+     * mapper con solo el id
+     */
+    @Test
+    void actualizarReservaTest() throws Exception {
+        LocalDateTime nuevaFecha = LocalDateTime.of(2030, 1, 8, 10, 0);
+        ReservaDTO dto = new ReservaDTO(null, nuevaFecha, false, "noCompletada", estudiante.getId(),
+                otraAsesoria.getId());
+
+        mockMvc.perform(put("/reservas/" + reserva.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.estudianteId").value(estudiante.getId()))
+                .andExpect(jsonPath("$.asesoriaId").value(otraAsesoria.getId()));
+
+        assertFalse(disponibilidadService.estaDisponible(calendario.getId(), nuevaFecha.plusMinutes(70),
+                nuevaFecha.plusMinutes(80)));
+    }
+
+    @Test
+    void actualizarReservaAsesoriaNoExistenteTest() throws Exception {
+        ReservaDTO dto = new ReservaDTO(null, LocalDateTime.of(2030, 1, 8, 10, 0), false, "noCompletada",
+                estudiante.getId(), Long.MAX_VALUE);
+
+        mockMvc.perform(put("/reservas/" + reserva.getId()).contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(dto)))
+                .andExpect(status().isNotFound());
+    }
+}
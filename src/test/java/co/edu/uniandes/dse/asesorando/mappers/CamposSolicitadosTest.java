@@ -0,0 +1,176 @@
+package co.edu.uniandes.dse.asesorando.mappers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import co.edu.uniandes.dse.asesorando.dto.CalendarioDetailDTO;
+import co.edu.uniandes.dse.asesorando.dto.CamposSolicitados;
+import co.edu.uniandes.dse.asesorando.dto.ProfesorDetailsDTO;
+import co.edu.uniandes.dse.asesorando.dto.TematicaDetailDTO;
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorVirtualEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import jakarta.transaction.Transactional;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de los campos solicitados con {@code fields} y del mapeo parcial de
+ * los DTO de detalle
+ *
+ * @author Daniel-VergaraM
+ */
+@DataJpaTest
+@Transactional
+@Import({ ProfesorMapperImpl.class, TematicaMapperImpl.class, AsesoriaMapperImpl.class, CalendarioMapperImpl.class,
+        ReservaMapperImpl.class, ComentarioMapperImpl.class, DetalleMapperImpl.class })
+class CamposSolicitadosTest {
+
+    @Autowired
+    private DetalleMapper detalleMapper;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    private ProfesorVirtualEntity profesor;
+
+    private CalendarioEntity calendario;
+
+    private TematicaEntity tematica;
+
+    @BeforeEach
+    void setUp() {
+        tematica = entityManager.persist(factory.manufacturePojo(TematicaEntity.class));
+        profesor = factory.manufacturePojo(ProfesorVirtualEntity.class);
+        profesor.setTematicas(new ArrayList<>(List.of(tematica)));
+        entityManager.persist(profesor);
+
+        calendario = factory.manufacturePojo(CalendarioEntity.class);
+        calendario.setProfesor(profesor);
+        entityManager.persist(calendario);
+
+        AsesoriaEntity asesoria = factory.manufacturePojo(AsesoriaEntity.class);
+        asesoria.setProfesor(profesor);
+        asesoria.setCalendario(calendario);
+        entityManager.persist(asesoria);
+
+        ReservaEntity reserva = new ReservaEntity();
+        reserva.setCalendario(calendario);
+        entityManager.persist(reserva);
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void parametroTest() {
+        assertTrue(CamposSolicitados.de(null).incluyeTodos());
+        assertTrue(CamposSolicitados.de(" ").incluyeTodos());
+        assertTrue(CamposSolicitados.de(",a..b,").incluyeTodos());
+
+        CamposSolicitados campos = CamposSolicitados.de("id, nombre,asesorias.id,asesorias.tipo,tematicas");
+        assertFalse(campos.incluyeTodos());
+        assertTrue(campos.incluye("id"));
+        assertTrue(campos.incluye("nombre"));
+        assertTrue(campos.incluye("asesorias"));
+        assertFalse(campos.incluye("calendarios"));
+
+        CamposSolicitados asesorias = campos.anidados("asesorias");
+        assertTrue(asesorias.incluye("id"));
+        assertTrue(asesorias.incluye("tipo"));
+        assertFalse(asesorias.incluye("area"));
+        assertTrue(campos.anidados("tematicas").incluyeTodos());
+
+        // Pedir el campo completo gana sobre pedir parte de él
+        assertTrue(CamposSolicitados.de("tematicas.tema,tematicas").anidados("tematicas").incluyeTodos());
+    }
+
+    @Test
+    void traducirTest() {
+        Map<String, String> asociaciones = Map.of("tematicas", "tematicas", "calendarios", "calendario");
+
+        assertEquals(Set.of("tematicas", "calendario"), CamposSolicitados.todos().traducir(asociaciones));
+        assertEquals(Set.of("calendario"), CamposSolicitados.de("id,calendarios.id").traducir(asociaciones));
+        assertTrue(CamposSolicitados.de("id,nombre").traducir(asociaciones).isEmpty());
+    }
+
+    /**
+     * Las colecciones del profesor que no se piden no se cargan
+     */
+    @Test
+    void profesorParcialTest() {
+        ProfesorEntity encontrado = entityManager.find(ProfesorEntity.class, profesor.getId());
+
+        ProfesorDetailsDTO detalle = detalleMapper.toProfesorDetail(encontrado,
+                CamposSolicitados.de("id,nombre,tematicas.tema"));
+
+        assertEquals(profesor.getNombre(), detalle.getNombre());
+        assertEquals(profesor.getEnlaceReunion(), detalle.getEnlaceReunion());
+        assertEquals(1, detalle.getTematicas().size());
+        assertEquals(tematica.getTema(), detalle.getTematicas().get(0).getTema());
+        assertTrue(detalle.getAsesorias().isEmpty());
+        assertTrue(detalle.getCalendarios().isEmpty());
+        assertTrue(Hibernate.isInitialized(encontrado.getTematicas()));
+        assertFalse(Hibernate.isInitialized(encontrado.getAsesorias()));
+        assertFalse(Hibernate.isInitialized(encontrado.getCalendario()));
+    }
+
+    @Test
+    void profesorCompletoTest() {
+        ProfesorEntity encontrado = entityManager.find(ProfesorEntity.class, profesor.getId());
+
+        ProfesorDetailsDTO detalle = detalleMapper.toProfesorDetail(encontrado, CamposSolicitados.todos());
+
+        assertEquals(1, detalle.getAsesorias().size());
+        assertEquals(1, detalle.getTematicas().size());
+        assertEquals(1, detalle.getCalendarios().size());
+    }
+
+    @Test
+    void calendarioParcialTest() {
+        CalendarioEntity encontrado = entityManager.find(CalendarioEntity.class, calendario.getId());
+
+        CalendarioDetailDTO detalle = detalleMapper.toCalendarioDetail(encontrado, CamposSolicitados.de("reservas"));
+
+        assertEquals(calendario.getId(), detalle.getId());
+        assertEquals(calendario.getFechaInicio(), detalle.getFechaInicio());
+        assertEquals(1, detalle.getReservas().size());
+        assertTrue(detalle.getAsesorias().isEmpty());
+        assertTrue(detalle.getProfesores().isEmpty());
+        assertTrue(Hibernate.isInitialized(encontrado.getReservas()));
+        assertFalse(Hibernate.isInitialized(encontrado.getAsesorias()));
+    }
+
+    @Test
+    void tematicaParcialTest() {
+        TematicaEntity encontrada = entityManager.find(TematicaEntity.class, tematica.getId());
+
+        TematicaDetailDTO detalle = detalleMapper.toTematicaDetail(encontrada, CamposSolicitados.de("id,tema"));
+
+        assertEquals(tematica.getTema(), detalle.getTema());
+        assertTrue(detalle.getProfesores().isEmpty());
+        assertFalse(Hibernate.isInitialized(encontrada.getProfesores()));
+
+        detalle = detalleMapper.toTematicaDetail(encontrada, CamposSolicitados.de("profesores.nombre"));
+        assertEquals(1, detalle.getProfesores().size());
+    }
+}
@@ -0,0 +1,186 @@
+package co.edu.uniandes.dse.asesorando.mappers;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import co.edu.uniandes.dse.asesorando.dto.AsesoriaDetail;
+import co.edu.uniandes.dse.asesorando.dto.CalificacionesDTO;
+import co.edu.uniandes.dse.asesorando.dto.ProfesorDTO;
+import co.edu.uniandes.dse.asesorando.dto.ProfesorDetailsDTO;
+import co.edu.uniandes.dse.asesorando.dto.ReservaDTO;
+import co.edu.uniandes.dse.asesorando.dto.UsuarioDTO;
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorPresencialEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorVirtualEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.entities.ResumenCalificaciones;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import co.edu.uniandes.dse.asesorando.entities.UsuarioEntity;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de los mappers generados entre entidades y DTO.
+ *
+ * @author Daniel-VergaraM
+ */
+@SpringJUnitConfig(classes = { ProfesorMapperImpl.class, TematicaMapperImpl.class, AsesoriaMapperImpl.class,
+        CalendarioMapperImpl.class, ReservaMapperImpl.class, ComentarioMapperImpl.class, UsuarioMapperImpl.class,
+        DetalleMapperImpl.class })
+class MapeoTest {
+
+    @Autowired
+    private ProfesorMapper profesorMapper;
+
+    @Autowired
+    private AsesoriaMapper asesoriaMapper;
+
+    @Autowired
+    private ReservaMapper reservaMapper;
+
+    @Autowired
+    private UsuarioMapper usuarioMapper;
+
+    @Autowired
+    private DetalleMapper detalleMapper;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    @Test
+    void testProfesorSubclasesADto() {
+        ProfesorVirtualEntity virtual = factory.manufacturePojo(ProfesorVirtualEntity.class);
+        ProfesorPresencialEntity presencial = factory.manufacturePojo(ProfesorPresencialEntity.class);
+        ProfesorEntity profesor = factory.manufacturePojo(ProfesorEntity.class);
+
+        List<ProfesorDTO> dtos = profesorMapper.toDtoList(List.of(virtual, presencial, profesor));
+
+        assertEquals(3, dtos.size());
+        assertEquals(virtual.getEnlaceReunion(), dtos.get(0).getEnlaceReunion());
+        assertEquals(virtual.getTipo(), dtos.get(0).getTipo());
+        assertEquals(presencial.getLatitud(), dtos.get(1).getLatitud());
+        assertEquals(presencial.getLongitud(), dtos.get(1).getLongitud());
+        assertEquals(presencial.getCodigoPostal(), dtos.get(1).getCodigoPostal());
+        assertEquals(profesor.getNombre(), dtos.get(2).getNombre());
+        assertNull(dtos.get(2).getEnlaceReunion());
+        assertNull(dtos.get(2).getLatitud());
+    }
+
+    @Test
+    void testProfesorCalificaciones() {
+        ProfesorEntity profesor = factory.manufacturePojo(ProfesorEntity.class);
+        profesor.setCalificaciones(new ResumenCalificaciones(4, 14, 0, 1, 0, 1, 2));
+
+        CalificacionesDTO calificaciones = profesorMapper.toDto(profesor).getCalificaciones();
+        assertEquals(4, calificaciones.getCantidad());
+        assertEquals(3.5, calificaciones.getPromedio());
+        assertEquals(List.of(0L, 1L, 0L, 1L, 2L), calificaciones.getHistograma());
+
+        // El resumen no se recibe del cliente
+        ProfesorDTO dto = profesorMapper.toDto(profesor);
+        assertEquals(0, profesorMapper.toEntity(dto).getCalificaciones().getCantidad());
+    }
+
+    @Test
+    void testProfesorDtoAEntidadSegunTipo() {
+        ProfesorDTO dto = factory.manufacturePojo(ProfesorDTO.class);
+
+        dto.setTipo("PROFESORVIRTUAL");
+        ProfesorEntity virtual = profesorMapper.toEntity(dto);
+        assertInstanceOf(ProfesorVirtualEntity.class, virtual);
+        assertEquals(dto.getEnlaceReunion(), ((ProfesorVirtualEntity) virtual).getEnlaceReunion());
+
+        dto.setTipo("PROFESORPRESENCIAL");
+        ProfesorEntity presencial = profesorMapper.toEntity(dto);
+        assertInstanceOf(ProfesorPresencialEntity.class, presencial);
+        assertEquals(dto.getLatitud(), ((ProfesorPresencialEntity) presencial).getLatitud());
+
+        dto.setTipo("PROFESOR");
+        ProfesorEntity profesor = profesorMapper.toEntity(dto);
+        assertEquals(ProfesorEntity.class, profesor.getClass());
+        assertEquals(dto.getPrecioHora(), profesor.getPrecioHora());
+    }
+
+    @Test
+    void testProfesorDetalle() {
+        ProfesorVirtualEntity profesor = factory.manufacturePojo(ProfesorVirtualEntity.class);
+        TematicaEntity tematica = factory.manufacturePojo(TematicaEntity.class);
+        CalendarioEntity calendario = factory.manufacturePojo(CalendarioEntity.class);
+        profesor.getTematicas().add(tematica);
+        profesor.getCalendario().add(calendario);
+
+        ProfesorDetailsDTO detalle = detalleMapper.toProfesorDetail(profesor);
+
+        assertEquals(profesor.getEnlaceReunion(), detalle.getEnlaceReunion());
+        assertEquals(1, detalle.getTematicas().size());
+        assertEquals(tematica.getTema(), detalle.getTematicas().get(0).getTema());
+        assertEquals(1, detalle.getCalendarios().size());
+        assertEquals(calendario.getFechaInicio(), detalle.getCalendarios().get(0).getFechaInicio());
+        assertTrue(detalle.getAsesorias().isEmpty());
+    }
+
+    @Test
+    void testAsesoriaConRelaciones() {
+        AsesoriaEntity asesoria = factory.manufacturePojo(AsesoriaEntity.class);
+        ProfesorEntity profesor = factory.manufacturePojo(ProfesorEntity.class);
+        profesor.setId(7L);
+        asesoria.setProfesor(profesor);
+
+        assertEquals(7L, asesoriaMapper.toDto(asesoria).getProfesorId());
+
+        AsesoriaDetail detalle = detalleMapper.toAsesoriaDetail(asesoria);
+        assertEquals(7L, detalle.getProfesorId());
+        assertEquals(1, detalle.getProfesor().size());
+        assertEquals(profesor.getNombre(), detalle.getProfesor().get(0).getNombre());
+        assertTrue(detalle.getReserva().isEmpty());
+        assertNull(detalle.getCalendario());
+
+        AsesoriaEntity entidad = asesoriaMapper.toEntity(asesoriaMapper.toDto(asesoria));
+        assertEquals(7L, entidad.getProfesor().getId());
+    }
+
+    @Test
+    void testReservaIds() {
+        ReservaEntity reserva = factory.manufacturePojo(ReservaEntity.class);
+        EstudianteEntity estudiante = factory.manufacturePojo(EstudianteEntity.class);
+        estudiante.setId(3L);
+        AsesoriaEntity asesoria = factory.manufacturePojo(AsesoriaEntity.class);
+        asesoria.setId(5L);
+        reserva.setEstudiante(estudiante);
+        reserva.setAsesoria(asesoria);
+
+        ReservaDTO dto = reservaMapper.toDto(reserva);
+        assertEquals(3L, dto.getEstudianteId());
+        assertEquals(5L, dto.getAsesoriaId());
+
+        dto.setAsesoriaId(null);
+        ReservaEntity entidad = reservaMapper.toEntity(dto);
+        assertEquals(3L, entidad.getEstudiante().getId());
+        assertNull(entidad.getAsesoria());
+    }
+
+    @Test
+    void testActualizarUsuarioConservaId() {
+        UsuarioEntity existente = factory.manufacturePojo(UsuarioEntity.class);
+        existente.setId(11L);
+        UsuarioDTO dto = factory.manufacturePojo(UsuarioDTO.class);
+        dto.setId(99L);
+
+        usuarioMapper.actualizar(dto, existente);
+
+        assertEquals(11L, existente.getId());
+        assertEquals(dto.getNombre(), existente.getNombre());
+        assertNotNull(existente.getCorreo());
+    }
+}
@@ -50,7 +50,8 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
  **/
 @DataJpaTest
 @Transactional
-@Import({AsesoriaCalendarioService.class})
+@Import({ AsesoriaCalendarioService.class, BloqueosPorCalendario.class, BusquedaService.class,
+        MejoresProfesoresService.class })
 class AsesoriaCalendarioServiceTest {
     
     @Autowired
@@ -49,7 +49,7 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
  */
 @DataJpaTest
 @Transactional
-@Import({AsesoriaProfesorService.class})
+@Import({AsesoriaProfesorService.class, BusquedaService.class, MejoresProfesoresService.class})
 class AsesoriaProfesorServiceTest {
     
     @Autowired
@@ -26,9 +26,11 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import jakarta.transaction.Transactional;
 
+import org.hibernate.resource.jdbc.spi.StatementInspector;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -50,9 +52,10 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
  *
  * @author Juan Caicedo
  */
-@DataJpaTest
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "co.edu.uniandes.dse.asesorando.services.AsesoriaTest$Sentencias")
 @Transactional
-@Import(AsesoriaService.class)
+@Import({ AsesoriaService.class, BusquedaService.class, MejoresProfesoresService.class })
 class AsesoriaTest {
     @Autowired
 	private AsesoriaService asesoriaService;
@@ -291,7 +294,63 @@ class AsesoriaTest {
     void getAllAsesoriasTest() {
         List<AsesoriaEntity> result = asesoriaService.getAllAsesorias();
         assertNotNull(result);
-    }        
     }
 
+    /**
+     * Prueba el filtrado de asesorías combinando profesor, área sin distinguir
+     * mayúsculas, estado de completada y duración.
+     */
+    @Test
+    void testFiltrarAsesorias() {
+        AsesoriaEntity asesoria = asesorias.get(0);
+        asesoria.setArea("Física");
+        asesoria.setCompletada(true);
+        asesoria.setDuracion("45");
+        entityManager.persist(asesoria);
 
+        List<AsesoriaEntity> resultado = asesoriaService.filtrarAsesorias(asesoria.getProfesor().getId(), null,
+                "FÍSICA", true, null, "45");
+        assertEquals(1, resultado.size());
+        assertEquals(asesoria.getId(), resultado.get(0).getId());
+
+        assertTrue(asesoriaService.filtrarAsesorias(asesoria.getProfesor().getId(), null, null, true, null, "60")
+                .isEmpty());
+        assertTrue(asesoriaService.filtrarAsesorias(null, null, null, null, null, null).size() >= asesorias.size());
+    }
+
+    /**
+     * Los filtros sin distinguir mayúsculas usan los índices de las columnas
+     * normalizadas: se revisa el plan de H2 de la consulta que genera la
+     * Specification.
+     */
+    @Test
+    void testFiltrarAsesorias_UsaIndices() {
+        assertTrue(planDeFiltrar(null, "FÍSICA").contains("IDX_ASESORIA_AREA_NORMALIZADA"));
+        assertTrue(planDeFiltrar("Virtual", null).contains("IDX_ASESORIA_TIPO_NORMALIZADO"));
+    }
+
+    private String planDeFiltrar(String tipo, String area) {
+        entityManager.flush();
+        Sentencias.EJECUTADAS.clear();
+        asesoriaService.filtrarAsesorias(null, tipo, area);
+        String sql = Sentencias.EJECUTADAS.stream().filter(sentencia -> sentencia.contains("asesoria_entity"))
+                .findFirst().orElseThrow();
+        return entityManager.getEntityManager().createNativeQuery("explain " + sql)
+                .setParameter(1, AsesoriaEntity.normalizar(tipo != null ? tipo : area))
+                .getSingleResult().toString().toUpperCase();
+    }
+
+    /**
+     * Guarda las sentencias SQL que prepara Hibernate en esta prueba
+     */
+    public static class Sentencias implements StatementInspector {
+
+        static final List<String> EJECUTADAS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            EJECUTADAS.add(sql);
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
+import co.edu.uniandes.dse.asesorando.entities.EventoPendienteEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import jakarta.transaction.Transactional;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de la bandeja de salida de reservas completadas
+ *
+ * @author Daniel-VergaraM
+ */
+@DataJpaTest
+@Transactional
+@Import({ BandejaSalidaService.class, ReservaService.class, DisponibilidadService.class,
+        BloqueosPorCalendario.class, MejoresProfesoresService.class })
+@TestPropertySource(properties = { "asesorando.mejores.instantanea=", "asesorando.bandeja.lote=3" })
+class BandejaSalidaServiceTest {
+
+    @Autowired
+    private BandejaSalidaService bandejaSalidaService;
+
+    @Autowired
+    private ReservaService reservaService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    private ProfesorEntity profesor;
+
+    private EstudianteEntity estudiante;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.getEntityManager().createQuery("delete from EventoPendienteEntity").executeUpdate();
+        profesor = entityManager.persist(factory.manufacturePojo(ProfesorEntity.class));
+        estudiante = entityManager.persist(factory.manufacturePojo(EstudianteEntity.class));
+    }
+
+    /**
+     * Completar la reserva solo deja un evento; la asesoría se completa al
+     * despachar
+     */
+    @Test
+    void completarReservaTest() throws EntityNotFoundException {
+        ReservaEntity reserva = reserva();
+
+        reservaService.marcarComoCompletada(reserva.getId());
+        AsesoriaEntity asesoria = reserva.getAsesoria();
+        assertFalse(asesoria.getCompletada());
+        assertNull(asesoria.getUsuario());
+        assertEquals(1, eventos().size());
+
+        assertEquals(1, bandejaSalidaService.despachar());
+        assertTrue(asesoria.getCompletada());
+        assertEquals(estudiante.getId(), asesoria.getUsuario().getId());
+        assertTrue(eventos().isEmpty());
+        assertEquals(0, bandejaSalidaService.despachar());
+    }
+
+    @Test
+    void completarDosVecesTest() throws EntityNotFoundException {
+        ReservaEntity reserva = reserva();
+
+        reservaService.marcarComoCompletada(reserva.getId());
+        reservaService.marcarComoCompletada(reserva.getId());
+
+        assertEquals(1, eventos().size());
+    }
+
+    /**
+     * Los eventos se toman por lotes, los repetidos se aplican una vez y los
+     * de reservas que ya no existen o ya no están completadas se descartan
+     */
+    @Test
+    void despacharPorLotesTest() {
+        ReservaEntity primera = reserva();
+        ReservaEntity segunda = reserva();
+        ReservaEntity noCompletada = reserva();
+        primera.setEstado(ReservaService.COMPLETADA);
+        segunda.setEstado(ReservaService.COMPLETADA);
+        bandejaSalidaService.reservaCompletada(primera);
+        bandejaSalidaService.reservaCompletada(primera);
+        bandejaSalidaService.reservaCompletada(noCompletada);
+        entityManager.persist(new EventoPendienteEntity(BandejaSalidaService.RESERVA_COMPLETADA, -1L,
+                LocalDateTime.now()));
+        bandejaSalidaService.reservaCompletada(segunda);
+
+        assertEquals(3, bandejaSalidaService.despachar());
+        assertTrue(primera.getAsesoria().getCompletada());
+        assertFalse(noCompletada.getAsesoria().getCompletada());
+        assertFalse(segunda.getAsesoria().getCompletada());
+        assertEquals(2, eventos().size());
+
+        assertEquals(2, bandejaSalidaService.despachar());
+        assertTrue(segunda.getAsesoria().getCompletada());
+        assertTrue(eventos().isEmpty());
+    }
+
+    private ReservaEntity reserva() {
+        AsesoriaEntity asesoria = factory.manufacturePojo(AsesoriaEntity.class);
+        asesoria.setProfesor(profesor);
+        asesoria.setCompletada(false);
+        entityManager.persist(asesoria);
+        ReservaEntity reserva = new ReservaEntity();
+        reserva.setAsesoria(asesoria);
+        reserva.setEstudiante(estudiante);
+        return entityManager.persist(reserva);
+    }
+
+    private List<EventoPendienteEntity> eventos() {
+        entityManager.flush();
+        return entityManager.getEntityManager()
+                .createQuery("select e from EventoPendienteEntity e", EventoPendienteEntity.class).getResultList();
+    }
+}
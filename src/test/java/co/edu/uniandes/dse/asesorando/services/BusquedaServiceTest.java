@@ -0,0 +1,204 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.services.IndiceTexto.Clave;
+import co.edu.uniandes.dse.asesorando.services.IndiceTexto.Resultado;
+import jakarta.transaction.Transactional;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de la búsqueda de texto libre
+ *
+ * @author Daniel-VergaraM
+ */
+@DataJpaTest
+@Transactional
+@Import({ BusquedaService.class, TematicaService.class })
+class BusquedaServiceTest {
+
+    @Autowired
+    private BusquedaService busquedaService;
+
+    @Autowired
+    private TematicaService tematicaService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    // Palabra que solo aparece en los datos de cada prueba
+    private String marca;
+
+    private TematicaEntity tematica;
+
+    private AsesoriaEntity asesoria;
+
+    private ProfesorEntity profesor;
+
+    @BeforeEach
+    void setUp() {
+        marca = "zk" + Long.toString(System.nanoTime(), 36).replaceAll("\\d", "x") + "q";
+
+        // La marca en el tema, que pesa más que el área y la experiencia
+        tematica = factory.manufacturePojo(TematicaEntity.class);
+        tematica.setTema(marca);
+        tematica.setArea("Ingeniería");
+        entityManager.persist(tematica);
+
+        profesor = factory.manufacturePojo(ProfesorEntity.class);
+        profesor.setNombre("Ana");
+        profesor.setFormacion("Matemáticas");
+        profesor.setExperiencia(marca);
+        entityManager.persist(profesor);
+
+        asesoria = factory.manufacturePojo(AsesoriaEntity.class);
+        asesoria.setTematica("Álgebra");
+        asesoria.setArea(marca);
+        asesoria.setProfesor(profesor);
+        entityManager.persist(asesoria);
+
+        entityManager.flush();
+        busquedaService.reconstruir();
+    }
+
+    /**
+     * La consulta encuentra el texto sin importar tildes, mayúsculas ni
+     * plurales regulares
+     */
+    @Test
+    void buscarSinTildesNiPluralesTest() throws IllegalOperationException {
+        TematicaEntity calculo = factory.manufacturePojo(TematicaEntity.class);
+        calculo.setTema("Cálculos Integrales " + marca);
+        calculo.setArea("Matemáticas");
+        entityManager.persist(calculo);
+        entityManager.flush();
+        busquedaService.reconstruir();
+
+        List<Clave> encontrados = claves(busquedaService.buscar("CALCULO integral", BusquedaService.TEMATICA, 0, 100));
+        assertTrue(encontrados.contains(new Clave(BusquedaService.TEMATICA, calculo.getId())));
+        assertFalse(encontrados.contains(new Clave(BusquedaService.TEMATICA, tematica.getId())));
+    }
+
+    /**
+     * Una coincidencia en el título pesa más que una en el área, y esta más
+     * que una en la experiencia
+     */
+    @Test
+    void buscarOrdenaPorRelevanciaTest() throws IllegalOperationException {
+        Slice<Resultado> resultados = busquedaService.buscar(marca, null, 0, 10);
+
+        assertEquals(List.of(new Clave(BusquedaService.TEMATICA, tematica.getId()),
+                new Clave(BusquedaService.ASESORIA, asesoria.getId()),
+                new Clave(BusquedaService.PROFESOR, profesor.getId())), claves(resultados));
+        assertEquals(marca + " (Ingeniería)", resultados.getContent().get(0).titulo());
+        assertEquals("Ana", resultados.getContent().get(2).titulo());
+    }
+
+    @Test
+    void buscarPorTipoTest() throws IllegalOperationException {
+        assertEquals(List.of(new Clave(BusquedaService.PROFESOR, profesor.getId())),
+                claves(busquedaService.buscar(marca, BusquedaService.PROFESOR, 0, 10)));
+    }
+
+    @Test
+    void buscarPaginadoTest() throws IllegalOperationException {
+        Slice<Resultado> primera = busquedaService.buscar(marca, null, 0, 2);
+        assertEquals(2, primera.getNumberOfElements());
+        assertTrue(primera.hasNext());
+
+        Slice<Resultado> segunda = busquedaService.buscar(marca, null, 2, 2);
+        assertEquals(List.of(new Clave(BusquedaService.PROFESOR, profesor.getId())), claves(segunda));
+        assertFalse(segunda.hasNext());
+
+        assertTrue(busquedaService.buscar(marca, null, 10, 2).isEmpty());
+    }
+
+    @Test
+    void buscarInvalidoTest() {
+        assertThrows(IllegalOperationException.class, () -> busquedaService.buscar(" ", null, 0, 10));
+        assertThrows(IllegalOperationException.class, () -> busquedaService.buscar(null, null, 0, 10));
+        assertThrows(IllegalOperationException.class, () -> busquedaService.buscar(marca, "CURSO", 0, 10));
+    }
+
+    /**
+     * Los cambios hechos con TematicaService llegan al índice cuando se
+     * confirma la transacción, y una transacción revertida no lo altera
+     */
+    @Test
+    void actualizarIndiceAlConfirmarTest() throws IllegalOperationException {
+        TransactionTemplate nueva = new TransactionTemplate(transactionManager);
+        nueva.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        String otraMarca = marca + "w";
+
+        TematicaEntity creada = nueva.execute(estado -> {
+            try {
+                return tematicaService.createTematica("Física", otraMarca);
+            } catch (EntityNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Clave clave = new Clave(BusquedaService.TEMATICA, creada.getId());
+        assertEquals(List.of(clave), claves(busquedaService.buscar(otraMarca, null, 0, 10)));
+
+        TematicaEntity cambios = new TematicaEntity();
+        cambios.setTema("Óptica");
+        cambios.setArea("Física");
+        nueva.executeWithoutResult(estado -> {
+            actualizar(creada.getId(), cambios);
+            estado.setRollbackOnly();
+        });
+        assertEquals(List.of(clave), claves(busquedaService.buscar(otraMarca, null, 0, 10)));
+
+        nueva.executeWithoutResult(estado -> actualizar(creada.getId(), cambios));
+        assertTrue(busquedaService.buscar(otraMarca, null, 0, 10).isEmpty());
+        assertTrue(claves(busquedaService.buscar("optica", null, 0, 100)).contains(clave));
+
+        nueva.executeWithoutResult(estado -> {
+            try {
+                tematicaService.deleteTematica(creada.getId());
+            } catch (EntityNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertFalse(claves(busquedaService.buscar("optica", null, 0, 100)).contains(clave));
+    }
+
+    private void actualizar(Long id, TematicaEntity cambios) {
+        try {
+            tematicaService.updateTematica(id, cambios);
+        } catch (EntityNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<Clave> claves(Slice<Resultado> resultados) {
+        return resultados.getContent().stream().map(Resultado::clave).toList();
+    }
+}
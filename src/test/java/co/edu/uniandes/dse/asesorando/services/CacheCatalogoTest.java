@@ -0,0 +1,182 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.repositories.TematicaRepository;
+import jakarta.persistence.EntityManagerFactory;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Prueba la caché de segundo nivel de profesores y tematicas. Cada llamada a
+ * un servicio corre en su propia transacción, como en la aplicación, para que
+ * las lecturas pasen por la caché y no por el contexto de persistencia.
+ *
+ * @author Daniel-VergaraM
+ */
+@DataJpaTest
+// @DataJpaTest abre una transacción por prueba; aquí se desactiva
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ ProfesorService.class, TematicaProfesorService.class, ProfesorTematicaService.class,
+        ProfesoresCercanosService.class, BusquedaService.class,
+        MejoresProfesoresService.class })
+class CacheCatalogoTest {
+
+    @Autowired
+    private ProfesorService profesorService;
+
+    @Autowired
+    private TematicaProfesorService tematicaProfesorService;
+
+    @Autowired
+    private ProfesorTematicaService profesorTematicaService;
+
+    @Autowired
+    private TematicaRepository tematicaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    private TransactionTemplate transaccion;
+
+    private Statistics estadisticas;
+
+    private ProfesorEntity profesor;
+
+    private TematicaEntity tematica;
+
+    @BeforeEach
+    void setUp() {
+        transaccion = new TransactionTemplate(transactionManager);
+        estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        profesor = factory.manufacturePojo(ProfesorEntity.class);
+        profesor.setTipo("PROFESOR");
+        tematica = factory.manufacturePojo(TematicaEntity.class);
+        transaccion.executeWithoutResult(estado -> {
+            entityManager.persist(profesor);
+            entityManager.persist(tematica);
+        });
+        estadisticas.clear();
+    }
+
+    /**
+     * La segunda lectura de un profesor no va a la base de datos
+     */
+    @Test
+    void getProfesorUsaLaCacheTest() throws EntityNotFoundException {
+        profesorService.getProfesor(profesor.getId());
+        estadisticas.clear();
+
+        ProfesorEntity leido = profesorService.getProfesor(profesor.getId());
+
+        assertEquals(profesor.getNombre(), leido.getNombre());
+        assertEquals(1, estadisticas.getDomainDataRegionStatistics("usuarios").getHitCount());
+        assertEquals(0, estadisticas.getPrepareStatementCount());
+    }
+
+    /**
+     * Actualizar un profesor no deja la versión anterior en la caché
+     */
+    @Test
+    void updateProfesorActualizaLaCacheTest() throws EntityNotFoundException, IllegalOperationException {
+        profesorService.getProfesor(profesor.getId());
+
+        ProfesorEntity cambios = factory.manufacturePojo(ProfesorEntity.class);
+        cambios.setTipo(profesor.getTipo());
+        profesorService.updateProfesor(profesor.getId(), cambios);
+
+        assertEquals(cambios.getNombre(), profesorService.getProfesor(profesor.getId()).getNombre());
+    }
+
+    /**
+     * Agregar la temática desde el profesor (el lado que escribe la relación)
+     * invalida la lista de profesores de la temática que estaba en caché
+     */
+    @Test
+    void agregarTematicaAProfesorInvalidaProfesoresDeTematicaTest() throws EntityNotFoundException {
+        assertTrue(tematicaProfesorService.getProfesoresDeTematica(tematica.getId()).isEmpty());
+        assertTrue(estadisticas.getDomainDataRegionStatistics("tematica-profesores").getPutCount() > 0);
+
+        profesorTematicaService.agregarTematicaAProfesor(profesor.getId(), tematica.getId());
+
+        List<ProfesorEntity> profesores = tematicaProfesorService.getProfesoresDeTematica(tematica.getId());
+        assertEquals(1, profesores.size());
+        assertEquals(profesor.getId(), profesores.get(0).getId());
+    }
+
+    /**
+     * Eliminar un profesor lo saca de la lista de profesores en caché de sus
+     * temáticas
+     */
+    @Test
+    void deleteProfesorInvalidaProfesoresDeTematicaTest() throws EntityNotFoundException {
+        tematicaProfesorService.agregarProfesorATematica(profesor.getId(), tematica.getId());
+        assertEquals(1, tematicaProfesorService.getProfesoresDeTematica(tematica.getId()).size());
+
+        profesorService.deleteProfesor(profesor.getId());
+
+        assertTrue(tematicaProfesorService.getProfesoresDeTematica(tematica.getId()).isEmpty());
+    }
+
+    /**
+     * Las consultas por tipo se responden desde la caché de consultas
+     */
+    @Test
+    void getProfesoresPorTipoUsaLaCacheDeConsultasTest() throws EntityNotFoundException {
+        int cantidad = profesorService.getProfesoresPorTipo(profesor.getTipo()).size();
+
+        assertEquals(cantidad, profesorService.getProfesoresPorTipo(profesor.getTipo()).size());
+        assertEquals(1, estadisticas.getQueryRegionStatistics("consultas-catalogo").getHitCount());
+    }
+
+    /**
+     * Las tematicas de un área se responden desde la caché de consultas hasta
+     * que cambia la tabla de tematicas
+     */
+    @Test
+    void findByAreaUsaLaCacheDeConsultasTest() {
+        transaccion.executeWithoutResult(estado -> tematicaRepository.findByArea(tematica.getArea()));
+        estadisticas.clear();
+
+        List<TematicaEntity> tematicas = transaccion.execute(estado -> tematicaRepository.findByArea(tematica.getArea()));
+
+        assertEquals(1, tematicas.size());
+        assertEquals(1, estadisticas.getQueryRegionStatistics("consultas-catalogo").getHitCount());
+        assertEquals(0, estadisticas.getPrepareStatementCount());
+
+        TematicaEntity otra = factory.manufacturePojo(TematicaEntity.class);
+        otra.setArea(tematica.getArea());
+        transaccion.executeWithoutResult(estado -> entityManager.persist(otra));
+
+        assertEquals(2, transaccion.execute(estado -> tematicaRepository.findByArea(tematica.getArea())).size());
+    }
+}
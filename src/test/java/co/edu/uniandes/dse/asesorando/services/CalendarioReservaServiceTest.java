@@ -23,7 +23,7 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 
 @DataJpaTest
 @Transactional
-@Import(CalendarioReservaService.class)
+@Import({ CalendarioReservaService.class, DisponibilidadService.class })
 class CalendarioReservaServiceTest {
 
     @Autowired
@@ -10,6 +10,8 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,8 +19,12 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
 import co.edu.uniandes.dse.asesorando.entities.BaseEntity;
 import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
 import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
 import jakarta.transaction.Transactional;
@@ -139,6 +145,51 @@ class CalendarioServiceTest {
         }
     }
 
+    /**
+     * Prueba que el detalle de los calendarios se carga con un número fijo de
+     * consultas, sin importar cuántos calendarios haya.
+     */
+    @Test
+    void testGetCalendariosConsultasConstantes() {
+        for (CalendarioEntity calendario : calendarioList) {
+            ProfesorEntity profesor = factory.manufacturePojo(ProfesorEntity.class);
+            entityManager.persist(profesor);
+            calendario.setProfesor(profesor);
+            AsesoriaEntity asesoria = factory.manufacturePojo(AsesoriaEntity.class);
+            asesoria.setProfesor(profesor);
+            asesoria.setCalendario(calendario);
+            entityManager.persist(asesoria);
+            EstudianteEntity estudiante = factory.manufacturePojo(EstudianteEntity.class);
+            entityManager.persist(estudiante);
+            ReservaEntity reserva = factory.manufacturePojo(ReservaEntity.class);
+            reserva.setId(null);
+            reserva.setCalendario(calendario);
+            reserva.setEstudiante(estudiante);
+            entityManager.persist(reserva);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics estadisticas = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        estadisticas.setStatisticsEnabled(true);
+        estadisticas.clear();
+
+        List<CalendarioEntity> list = calendarioService.getCalendarios();
+        for (CalendarioEntity calendario : list) {
+            assertNotNull(calendario.getProfesor().getNombre());
+            assertEquals(1, calendario.getAsesorias().size());
+            assertEquals(1, calendario.getReservas().size());
+            assertNotNull(calendario.getReservas().get(0).getEstudiante().getNombre());
+        }
+        long consultas = estadisticas.getPrepareStatementCount();
+        estadisticas.setStatisticsEnabled(false);
+
+        assertEquals(calendarioList.size(), list.size());
+        // calendarios, asesorias con su profesor, reservas y el lote de estudiantes
+        assertTrue(consultas <= 4, "Se ejecutaron " + consultas + " consultas");
+    }
+
     /**
      * Prueba para consultar un Calendario
      */
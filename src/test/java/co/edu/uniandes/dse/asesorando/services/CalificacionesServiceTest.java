@@ -0,0 +1,194 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.ComentarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.entities.ResumenCalificaciones;
+import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import jakarta.transaction.Transactional;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas del resumen de calificaciones de los profesores
+ *
+ * @author Daniel-VergaraM
+ */
+@DataJpaTest
+@Transactional
+@Import({ CalificacionesService.class, ComentarioService.class, ReservaComentarioService.class,
+        DisponibilidadService.class, MejoresProfesoresService.class, VersionesColecciones.class })
+class CalificacionesServiceTest {
+
+    @Autowired
+    private CalificacionesService calificacionesService;
+
+    @Autowired
+    private ComentarioService comentarioService;
+
+    @Autowired
+    private ReservaComentarioService reservaComentarioService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    private ProfesorEntity profesor;
+
+    private ReservaEntity reserva;
+
+    @BeforeEach
+    void setUp() {
+        profesor = factory.manufacturePojo(ProfesorEntity.class);
+        entityManager.persist(profesor);
+        reserva = reservaDe(profesor);
+    }
+
+    @Test
+    void comentarioDeReservaTest() throws EntityNotFoundException, IllegalOperationException {
+        ComentarioEntity comentario = reservaComentarioService.crearYAsociarComentario(reserva.getId(), comentario(4));
+        assertResumen(1, 4, 0, 0, 0, 1, 0);
+
+        reservaComentarioService.actualizarComentario(reserva.getId(), comentario(2));
+        assertResumen(1, 2, 0, 1, 0, 0, 0);
+
+        // Reemplazar el comentario de la reserva descuenta el anterior
+        ComentarioEntity otro = entityManager.persist(comentario(5));
+        reservaComentarioService.crearComentarioEnReserva(reserva.getId(), otro.getId());
+        assertResumen(1, 5, 0, 0, 0, 0, 1);
+
+        reservaComentarioService.crearComentarioEnReserva(reserva.getId(), otro.getId());
+        assertResumen(1, 5, 0, 0, 0, 0, 1);
+
+        comentarioService.actualizarComentario(otro.getId(), comentario(3));
+        assertResumen(1, 3, 0, 0, 1, 0, 0);
+
+        reservaComentarioService.eliminarComentario(reserva.getId());
+        assertResumen(0, 0, 0, 0, 0, 0, 0);
+        assertNull(entityManager.find(ProfesorEntity.class, profesor.getId()).getCalificaciones().getPromedio());
+    }
+
+    /**
+     * Un comentario que pasa a otra reserva deja de contar para el profesor
+     * de la reserva en la que estaba, igual que en el recálculo
+     */
+    @Test
+    void comentarioCambiaDeReservaTest() throws EntityNotFoundException, IllegalOperationException {
+        ComentarioEntity comentario = reservaComentarioService.crearYAsociarComentario(reserva.getId(), comentario(4));
+        ProfesorEntity otro = factory.manufacturePojo(ProfesorEntity.class);
+        entityManager.persist(otro);
+        ReservaEntity otraReserva = reservaDe(otro);
+
+        reservaComentarioService.crearComentarioEnReserva(otraReserva.getId(), comentario.getId());
+        assertResumen(0, 0, 0, 0, 0, 0, 0);
+        assertNull(reserva.getComentario());
+        entityManager.refresh(otro);
+        assertEquals(1, otro.getCalificaciones().getCantidad());
+        assertEquals(4, otro.getCalificaciones().getSuma());
+
+        // De vuelta a la primera reserva, que ya no tiene comentario
+        reservaComentarioService.asociarComentarioAReserva(reserva.getId(), comentario.getId());
+        assertResumen(1, 4, 0, 0, 0, 1, 0);
+        entityManager.refresh(otro);
+        assertEquals(0, otro.getCalificaciones().getCantidad());
+
+        calificacionesService.recalcular();
+        assertResumen(1, 4, 0, 0, 0, 1, 0);
+        entityManager.refresh(otro);
+        assertEquals(0, otro.getCalificaciones().getCantidad());
+    }
+
+    @Test
+    void promedioTest() throws EntityNotFoundException, IllegalOperationException {
+        reservaComentarioService.crearYAsociarComentario(reserva.getId(), comentario(5));
+        reservaComentarioService.crearYAsociarComentario(reservaDe(profesor).getId(), comentario(4));
+        reservaComentarioService.crearYAsociarComentario(reservaDe(profesor).getId(), comentario(0));
+
+        ResumenCalificaciones resumen = assertResumen(3, 9, 0, 0, 0, 1, 1);
+        assertEquals(3.0, resumen.getPromedio());
+
+        // Otro profesor no se ve afectado
+        ProfesorEntity otro = factory.manufacturePojo(ProfesorEntity.class);
+        entityManager.persist(otro);
+        reservaComentarioService.crearYAsociarComentario(reservaDe(otro).getId(), comentario(1));
+        assertResumen(3, 9, 0, 0, 0, 1, 1);
+    }
+
+    /**
+     * Un comentario que no está asociado a una reserva o con una calificación
+     * fuera de rango no cuenta
+     */
+    @Test
+    void comentarioQueNoCuentaTest() throws EntityNotFoundException, IllegalOperationException {
+        comentarioService.crearComentario(comentario(5));
+        reservaComentarioService.crearYAsociarComentario(reserva.getId(), comentario(9));
+        reservaComentarioService.crearYAsociarComentario(reservaDe(profesor).getId(), comentario(null));
+
+        assertResumen(0, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * El recálculo corrige los comentarios que llegaron sin pasar por los
+     * servicios
+     */
+    @Test
+    void recalcularTest() {
+        for (int calificacion : new int[] { 1, 3, 3, 5 }) {
+            ComentarioEntity comentario = entityManager.persist(comentario(calificacion));
+            ReservaEntity otraReserva = reservaDe(profesor);
+            otraReserva.setComentario(comentario);
+        }
+        ProfesorEntity sinComentarios = factory.manufacturePojo(ProfesorEntity.class);
+        entityManager.persist(sinComentarios);
+        entityManager.flush();
+        assertResumen(0, 0, 0, 0, 0, 0, 0);
+
+        calificacionesService.recalcular();
+
+        assertResumen(4, 12, 1, 0, 2, 0, 1);
+        entityManager.refresh(sinComentarios);
+        assertEquals(0, sinComentarios.getCalificaciones().getCantidad());
+    }
+
+    private ReservaEntity reservaDe(ProfesorEntity profesorReserva) {
+        AsesoriaEntity asesoria = factory.manufacturePojo(AsesoriaEntity.class);
+        asesoria.setProfesor(profesorReserva);
+        entityManager.persist(asesoria);
+        ReservaEntity nueva = factory.manufacturePojo(ReservaEntity.class);
+        nueva.setAsesoria(asesoria);
+        return entityManager.persist(nueva);
+    }
+
+    private ComentarioEntity comentario(Integer calificacion) {
+        ComentarioEntity comentario = factory.manufacturePojo(ComentarioEntity.class);
+        comentario.setCalificacion(calificacion);
+        return comentario;
+    }
+
+    /**
+     * Verifica el resumen del profesor; el histograma va de 1 a 5
+     */
+    private ResumenCalificaciones assertResumen(long cantidad, long suma, long... histograma) {
+        entityManager.flush();
+        entityManager.refresh(profesor);
+        ResumenCalificaciones resumen = profesor.getCalificaciones();
+        assertEquals(cantidad, resumen.getCantidad());
+        assertEquals(suma, resumen.getSuma());
+        assertArrayEquals(histograma, resumen.getHistograma());
+        return resumen;
+    }
+}
@@ -23,7 +23,8 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 
 @DataJpaTest
 @Transactional
-@Import({ ComentarioService.class, EstudianteService.class, ReservaService.class })
+@Import({ ComentarioService.class, CalificacionesService.class, EstudianteService.class, ReservaService.class, DisponibilidadService.class, BloqueosPorCalendario.class, MejoresProfesoresService.class,
+        BandejaSalidaService.class, VersionesColecciones.class })
 class ComentarioServiceTest {
 
     @Autowired
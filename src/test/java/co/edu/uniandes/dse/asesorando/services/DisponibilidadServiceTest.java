@@ -0,0 +1,257 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.asesorando.dto.ReservaDTO;
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import jakarta.transaction.Transactional;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas del índice de disponibilidad de calendarios y profesores
+ *
+ * @author Daniel-VergaraM
+ */
+@DataJpaTest
+@Transactional
+@Import({ DisponibilidadService.class, BloqueosPorCalendario.class, ReservaService.class, ReservaCalendarioService.class,
+        BandejaSalidaService.class, MejoresProfesoresService.class })
+class DisponibilidadServiceTest {
+
+    private static final LocalDateTime LUNES = LocalDateTime.of(2030, 3, 4, 10, 0);
+
+    @Autowired
+    private DisponibilidadService disponibilidadService;
+
+    @Autowired
+    private ReservaService reservaService;
+
+    @Autowired
+    private ReservaCalendarioService reservaCalendarioService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    private EstudianteEntity estudiante;
+
+    private ProfesorEntity profesor;
+
+    private AsesoriaEntity asesoria;
+
+    private CalendarioEntity calendario;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.getEntityManager().createQuery("DELETE FROM ReservaEntity").executeUpdate();
+        disponibilidadService.reconstruir();
+
+        estudiante = factory.manufacturePojo(EstudianteEntity.class);
+        entityManager.persist(estudiante);
+
+        profesor = factory.manufacturePojo(ProfesorEntity.class);
+        entityManager.persist(profesor);
+
+        asesoria = nuevaAsesoria("90 minutos");
+
+        calendario = factory.manufacturePojo(CalendarioEntity.class);
+        calendario.setProfesor(null);
+        calendario.setReservas(new ArrayList<>());
+        entityManager.persist(calendario);
+    }
+
+    private AsesoriaEntity nuevaAsesoria(String duracion) {
+        AsesoriaEntity nueva = factory.manufacturePojo(AsesoriaEntity.class);
+        nueva.setDuracion(duracion);
+        nueva.setProfesor(profesor);
+        entityManager.persist(nueva);
+        return nueva;
+    }
+
+    private ReservaEntity crearReserva(LocalDateTime fecha, AsesoriaEntity asesoriaReserva)
+            throws EntityNotFoundException, IllegalOperationException {
+        ReservaDTO dto = new ReservaDTO();
+        dto.setFechaReserva(fecha);
+        dto.setEstudianteId(estudiante.getId());
+        dto.setAsesoriaId(asesoriaReserva.getId());
+        return reservaService.crearReserva(dto);
+    }
+
+    private ReservaEntity reservaEnCalendario(LocalDateTime fecha) {
+        ReservaEntity reserva = factory.manufacturePojo(ReservaEntity.class);
+        reserva.setId(null);
+        reserva.setFechaReserva(fecha);
+        reserva.setCancelada(false);
+        reserva.setEstudiante(null);
+        reserva.setAsesoria(null);
+        reserva.setCalendario(null);
+        reserva.setComentario(null);
+        entityManager.persist(reserva);
+        return reserva;
+    }
+
+    /**
+     * Dos reservas de asesorías del mismo profesor no pueden cruzarse
+     */
+    @Test
+    void reservaCruzadaMismoProfesorTest() throws EntityNotFoundException, IllegalOperationException {
+        crearReserva(LUNES, asesoria);
+        AsesoriaEntity otra = nuevaAsesoria("30");
+
+        assertThrows(IllegalOperationException.class, () -> crearReserva(LUNES.plusMinutes(60), otra));
+    }
+
+    /**
+     * Una reserva que empieza cuando termina la anterior no se cruza
+     */
+    @Test
+    void reservaContiguaTest() throws EntityNotFoundException, IllegalOperationException {
+        crearReserva(LUNES, asesoria);
+
+        ReservaEntity siguiente = crearReserva(LUNES.plusMinutes(90), nuevaAsesoria("90"));
+
+        assertNotNull(siguiente.getId());
+    }
+
+    /**
+     * Dos reservas a la misma hora en el mismo calendario se rechazan
+     */
+    @Test
+    void reservaCruzadaMismoCalendarioTest() throws EntityNotFoundException, IllegalOperationException {
+        ReservaEntity primera = reservaEnCalendario(LUNES);
+        ReservaEntity segunda = reservaEnCalendario(LUNES.plusMinutes(30));
+
+        reservaCalendarioService.asociarReservaACalendario(primera.getId(), calendario.getId());
+
+        assertFalse(disponibilidadService.estaDisponible(calendario.getId(), LUNES.plusMinutes(30),
+                LUNES.plusMinutes(45)));
+        assertThrows(IllegalOperationException.class,
+                () -> reservaCalendarioService.asociarReservaACalendario(segunda.getId(), calendario.getId()));
+    }
+
+    /**
+     * Mover una reserva dentro de su propio horario no choca consigo misma
+     */
+    @Test
+    void updateReservaNoChocaConsigoMismaTest() throws EntityNotFoundException, IllegalOperationException {
+        ReservaEntity reserva = crearReserva(LUNES, asesoria);
+
+        ReservaEntity actualizada = reservaService.updateReserva(reserva.getId(), LUNES.plusMinutes(30), estudiante,
+                asesoria);
+
+        assertEquals(LUNES.plusMinutes(30), actualizada.getFechaReserva());
+        crearReserva(LUNES.minusMinutes(60), nuevaAsesoria("30"));
+    }
+
+    /**
+     * Cancelar o eliminar una reserva libera su horario
+     */
+    @Test
+    void cancelarYEliminarLiberanHorarioTest() throws EntityNotFoundException, IllegalOperationException {
+        ReservaEntity cancelada = crearReserva(LUNES, asesoria);
+        reservaService.marcarComoCancelada(cancelada.getId());
+        ReservaEntity eliminada = crearReserva(LUNES, nuevaAsesoria("90"));
+        reservaService.eliminarReserva(eliminada.getId());
+
+        assertNotNull(crearReserva(LUNES, nuevaAsesoria("90")).getId());
+    }
+
+    /**
+     * Si la transacción se revierte, el horario que se había tomado queda libre
+     */
+    @Test
+    void rollbackLiberaHorarioTest() {
+        CalendarioEntity externo = new CalendarioEntity();
+        externo.setId(Long.MAX_VALUE);
+        ReservaEntity reserva = new ReservaEntity();
+        reserva.setFechaReserva(LUNES);
+        reserva.setCalendario(externo);
+
+        TransactionTemplate nueva = new TransactionTemplate(transactionManager);
+        nueva.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        nueva.executeWithoutResult(estado -> {
+            try {
+                disponibilidadService.reservar(reserva);
+            } catch (IllegalOperationException e) {
+                throw new IllegalStateException(e);
+            }
+            assertFalse(disponibilidadService.estaDisponible(externo.getId(), LUNES, LUNES.plusMinutes(1)));
+            estado.setRollbackOnly();
+        });
+
+        assertTrue(disponibilidadService.estaDisponible(externo.getId(), LUNES, LUNES.plusMinutes(1)));
+    }
+
+    /**
+     * Fuera de una transacción no se cambia el índice: una reserva sin id se
+     * quedaría ocupando su horario sin que nadie la confirme ni la quite
+     */
+    @Test
+    void sinTransaccionTest() {
+        CalendarioEntity externo = new CalendarioEntity();
+        externo.setId(Long.MAX_VALUE);
+        ReservaEntity reserva = new ReservaEntity();
+        reserva.setFechaReserva(LUNES);
+        reserva.setCalendario(externo);
+
+        // Otro hilo no ve la transacción de la prueba
+        CompletableFuture<Void> fuera = CompletableFuture.runAsync(() -> {
+            try {
+                disponibilidadService.reservar(reserva);
+            } catch (IllegalOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        ExecutionException error = assertThrows(ExecutionException.class, fuera::get);
+        assertInstanceOf(IllegalStateException.class, error.getCause());
+        assertTrue(disponibilidadService.estaDisponible(externo.getId(), LUNES, LUNES.plusMinutes(1)));
+    }
+
+    /**
+     * La duración se toma de los primeros dígitos de la asesoría
+     */
+    @Test
+    void duracionDeAsesoriaTest() {
+        AsesoriaEntity conMinutos = new AsesoriaEntity();
+        conMinutos.setDuracion("45 minutos");
+        AsesoriaEntity sinMinutos = new AsesoriaEntity();
+        sinMinutos.setDuracion("una hora");
+
+        assertEquals(Duration.ofMinutes(45), DisponibilidadService.duracionDe(conMinutos));
+        assertEquals(DisponibilidadService.DURACION_POR_DEFECTO, DisponibilidadService.duracionDe(sinMinutos));
+        assertEquals(DisponibilidadService.DURACION_POR_DEFECTO, DisponibilidadService.duracionDe(null));
+    }
+}
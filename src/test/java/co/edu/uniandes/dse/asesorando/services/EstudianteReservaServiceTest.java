@@ -16,6 +16,7 @@ import org.springframework.context.annotation.Import;
 import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
 import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
 import co.edu.uniandes.dse.asesorando.repositories.ReservaRepository;
 import jakarta.transaction.Transactional;
 import uk.co.jemos.podam.api.PodamFactory;
@@ -23,7 +24,8 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 
 @DataJpaTest
 @Transactional
-@Import({ EstudianteReservaService.class, EstudianteService.class, ReservaService.class })
+@Import({ EstudianteReservaService.class, EstudianteService.class, ReservaService.class, DisponibilidadService.class, BloqueosPorCalendario.class,
+        BandejaSalidaService.class, MejoresProfesoresService.class })
 class EstudianteReservaServiceTest {
 
     @Autowired
@@ -69,7 +71,7 @@ class EstudianteReservaServiceTest {
     }
 
     @Test
-    void testCrearReserva() throws EntityNotFoundException {
+    void testCrearReserva() throws EntityNotFoundException, IllegalOperationException {
         ReservaEntity nuevaReserva = factory.manufacturePojo(ReservaEntity.class);
         nuevaReserva.setId(null);
         nuevaReserva.setFechaReserva(LocalDateTime.now().plusDays(2));
@@ -117,7 +119,7 @@ class EstudianteReservaServiceTest {
     }
 
     @Test
-    void testActualizarReserva() throws EntityNotFoundException {
+    void testActualizarReserva() throws EntityNotFoundException, IllegalOperationException {
         ReservaEntity reservaActualizada = factory.manufacturePojo(ReservaEntity.class);
         reservaActualizada.setId(null);
         reservaActualizada.setFechaReserva(LocalDateTime.now().plusDays(5));
@@ -3,10 +3,12 @@ package co.edu.uniandes.dse.asesorando.services;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
 import jakarta.transaction.Transactional;
@@ -19,6 +21,7 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.repositories.UsuarioRepository.UsuarioListado;
 import uk.co.jemos.podam.api.PodamFactory;
 import uk.co.jemos.podam.api.PodamFactoryImpl;
 
@@ -108,6 +111,17 @@ class EstudianteServiceTest {
         assertNotEquals(list, listInDB);
     }
 
+    @Test
+    void testGetListadoEstudiantes() {
+        List<UsuarioListado> list = estudianteService.getListadoEstudiantes();
+
+        assertEquals(data.size(), list.size());
+        for (EstudianteEntity entity : data) {
+            assertTrue(list.stream().anyMatch(estudiante -> entity.getId().equals(estudiante.getId())
+                    && entity.getNombre().equals(estudiante.getNombre())));
+        }
+    }
+
     @Test
     void testUpdateEstudianteById() throws EntityNotFoundException {
         EstudianteEntity entity = factory.manufacturePojo(EstudianteEntity.class);
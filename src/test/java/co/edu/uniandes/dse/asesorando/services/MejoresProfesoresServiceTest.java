@@ -0,0 +1,208 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.entities.ResumenCalificaciones;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.services.Clasificacion.Entrada;
+import jakarta.transaction.Transactional;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de la clasificación de mejores profesores
+ *
+ * @author Daniel-VergaraM
+ */
+@DataJpaTest
+@Transactional
+@Import({ MejoresProfesoresService.class, CalificacionesService.class, VersionesColecciones.class })
+@TestPropertySource(properties = "asesorando.mejores.instantanea=")
+class MejoresProfesoresServiceTest {
+
+    @Autowired
+    private MejoresProfesoresService mejoresProfesoresService;
+
+    @Autowired
+    private CalificacionesService calificacionesService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    private String matematicas;
+
+    private String fisica;
+
+    private ProfesorEntity cinco;
+
+    private ProfesorEntity conAsesorias;
+
+    private ProfesorEntity sinAsesorias;
+
+    private ProfesorEntity sinCalificaciones;
+
+    private ProfesorEntity fisico;
+
+    @BeforeEach
+    void setUp() {
+        matematicas = "Matemáticas " + System.nanoTime();
+        fisica = "Física " + System.nanoTime();
+        TematicaEntity calculo = tematica(matematicas);
+        TematicaEntity mecanica = tematica(fisica);
+
+        cinco = profesor(new ResumenCalificaciones(1, 5, 0, 0, 0, 0, 1), "80000", calculo, mecanica);
+        // Mismo promedio; gana el que tiene más asesorias completadas
+        conAsesorias = profesor(new ResumenCalificaciones(2, 9, 0, 0, 0, 1, 1), "90000", calculo);
+        sinAsesorias = profesor(new ResumenCalificaciones(2, 9, 0, 0, 0, 1, 1), "10000", calculo);
+        sinCalificaciones = profesor(new ResumenCalificaciones(), "5000", calculo);
+        fisico = profesor(new ResumenCalificaciones(1, 4, 0, 0, 0, 1, 0), "50000", mecanica);
+        asesoria(conAsesorias, true);
+        asesoria(sinAsesorias, false);
+
+        entityManager.flush();
+        mejoresProfesoresService.reconstruir();
+    }
+
+    @Test
+    void mejoresPorAreaTest() throws IllegalOperationException {
+        assertEquals(List.of(cinco.getId(), conAsesorias.getId(), sinAsesorias.getId(), sinCalificaciones.getId()),
+                ids(mejoresProfesoresService.mejores(matematicas, null)));
+        assertEquals(List.of(cinco.getId(), fisico.getId()), ids(mejoresProfesoresService.mejores(fisica, 10)));
+        assertEquals(List.of(cinco.getId(), conAsesorias.getId()), ids(mejoresProfesoresService.mejores(matematicas, 2)));
+        assertTrue(mejoresProfesoresService.mejores("Sin profesores " + System.nanoTime(), 10).isEmpty());
+
+        Entrada primero = mejoresProfesoresService.mejores(matematicas, 1).get(0);
+        assertEquals(5.0, primero.promedio());
+        assertEquals(80000.0, primero.precio());
+        assertEquals(1, mejoresProfesoresService.mejores(matematicas, 2).get(1).asesoriasCompletadas());
+    }
+
+    @Test
+    void mejoresGeneralTest() throws IllegalOperationException {
+        List<Long> general = ids(mejoresProfesoresService.mejores(null, MejoresProfesoresService.K_MAXIMO));
+        assertTrue(general.indexOf(cinco.getId()) < general.indexOf(conAsesorias.getId()));
+        assertTrue(general.indexOf(conAsesorias.getId()) < general.indexOf(fisico.getId()));
+        assertTrue(general.indexOf(fisico.getId()) < general.indexOf(sinCalificaciones.getId()));
+    }
+
+    @Test
+    void mejoresInvalidoTest() {
+        assertThrows(IllegalOperationException.class, () -> mejoresProfesoresService.mejores(matematicas, 0));
+        assertThrows(IllegalOperationException.class,
+                () -> mejoresProfesoresService.mejores(matematicas, MejoresProfesoresService.K_MAXIMO + 1));
+    }
+
+    /**
+     * Una calificación cambia la clasificación cuando se confirma la
+     * transacción, y una revertida no la cambia
+     */
+    @Test
+    void actualizarAlConfirmarTest() throws IllegalOperationException {
+        TransactionTemplate nueva = new TransactionTemplate(transactionManager);
+        nueva.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        String area = "Química " + System.nanoTime();
+
+        ReservaEntity reserva = nueva.execute(estado -> {
+            ProfesorEntity profesor = profesor(new ResumenCalificaciones(), "20000", tematica(area));
+            ReservaEntity nuevaReserva = factory.manufacturePojo(ReservaEntity.class);
+            nuevaReserva.setAsesoria(asesoria(profesor, true));
+            return entityManager.persist(nuevaReserva);
+        });
+        Long profesorId = reserva.getAsesoria().getProfesor().getId();
+        assertTrue(mejoresProfesoresService.mejores(area, 10).isEmpty());
+
+        nueva.executeWithoutResult(estado -> calificacionesService.sumar(reserva, 3));
+        Entrada entrada = mejoresProfesoresService.mejores(area, 10).get(0);
+        assertEquals(profesorId, entrada.id());
+        assertEquals(3.0, entrada.promedio());
+        assertEquals(1, entrada.asesoriasCompletadas());
+
+        nueva.executeWithoutResult(estado -> {
+            calificacionesService.sumar(reserva, 5);
+            estado.setRollbackOnly();
+        });
+        assertEquals(3.0, mejoresProfesoresService.mejores(area, 10).get(0).promedio());
+
+        nueva.executeWithoutResult(estado -> {
+            ReservaEntity guardada = entityManager.find(ReservaEntity.class, reserva.getId());
+            AsesoriaEntity asesoria = guardada.getAsesoria();
+            ProfesorEntity profesor = asesoria.getProfesor();
+            List<TematicaEntity> tematicas = List.copyOf(profesor.getTematicas());
+            entityManager.remove(guardada);
+            entityManager.remove(asesoria);
+            profesor.getAsesorias().clear();
+            entityManager.remove(profesor);
+            tematicas.forEach(entityManager::remove);
+            mejoresProfesoresService.actualizar(profesorId);
+        });
+        assertTrue(mejoresProfesoresService.mejores(area, 10).isEmpty());
+    }
+
+    @Test
+    void instantaneaTest(@TempDir Path carpeta) throws IllegalOperationException {
+        Path archivo = carpeta.resolve("mejores.json");
+        mejoresProfesoresService.guardarInstantanea(archivo);
+
+        MejoresProfesoresService reiniciado = new MejoresProfesoresService("");
+        assertTrue(reiniciado.cargarInstantanea(archivo));
+        assertEquals(mejoresProfesoresService.mejores(matematicas, 10), reiniciado.mejores(matematicas, 10));
+        assertEquals(mejoresProfesoresService.mejores(fisica, 10), reiniciado.mejores(fisica, 10));
+
+        assertFalse(reiniciado.cargarInstantanea(carpeta.resolve("no-existe.json")));
+    }
+
+    private TematicaEntity tematica(String area) {
+        TematicaEntity tematica = factory.manufacturePojo(TematicaEntity.class);
+        tematica.setArea(area);
+        return entityManager.persist(tematica);
+    }
+
+    private ProfesorEntity profesor(ResumenCalificaciones calificaciones, String precioHora,
+            TematicaEntity... tematicas) {
+        ProfesorEntity profesor = factory.manufacturePojo(ProfesorEntity.class);
+        profesor.setCalificaciones(calificaciones);
+        profesor.setPrecioHora(precioHora);
+        profesor.setTematicas(new ArrayList<>(List.of(tematicas)));
+        return entityManager.persist(profesor);
+    }
+
+    private AsesoriaEntity asesoria(ProfesorEntity profesor, boolean completada) {
+        AsesoriaEntity asesoria = factory.manufacturePojo(AsesoriaEntity.class);
+        asesoria.setProfesor(profesor);
+        asesoria.setCompletada(completada);
+        profesor.getAsesorias().add(asesoria);
+        return entityManager.persist(asesoria);
+    }
+
+    private static List<Long> ids(List<Entrada> entradas) {
+        return entradas.stream().map(Entrada::id).toList();
+    }
+}
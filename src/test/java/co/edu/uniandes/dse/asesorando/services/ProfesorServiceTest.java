@@ -26,11 +26,14 @@ package co.edu.uniandes.dse.asesorando.services;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -39,12 +42,16 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
 
+import co.edu.uniandes.dse.asesorando.dto.BusquedaProfesorDTO;
 import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
 import co.edu.uniandes.dse.asesorando.entities.ProfesorPresencialEntity;
 import co.edu.uniandes.dse.asesorando.entities.ProfesorVirtualEntity;
 import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.repositories.ProfesorRepository.ProfesorListado;
 import jakarta.transaction.Transactional;
 import uk.co.jemos.podam.api.PodamFactory;
 import uk.co.jemos.podam.api.PodamFactoryImpl;
@@ -56,7 +63,8 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
  */
 @DataJpaTest
 @Transactional
-@Import(ProfesorService.class)
+@Import({ ProfesorService.class, ProfesoresCercanosService.class, BusquedaService.class,
+        MejoresProfesoresService.class })
 class ProfesorServiceTest {
 
     @Autowired
@@ -93,7 +101,7 @@ class ProfesorServiceTest {
     }
 
     @Test
-    void testCreateProfesorObject() throws EntityNotFoundException {
+    void testCreateProfesorObject() throws EntityNotFoundException, IllegalOperationException {
         ProfesorEntity entity = factory.manufacturePojo(ProfesorEntity.class);
         if (entity.getId() == null) {
             entity.setId(factory.manufacturePojo(Long.class));
@@ -112,7 +120,7 @@ class ProfesorServiceTest {
 
     @ParameterizedTest
     @ValueSource(strings = {"PROFESOR", "PROFESORVIRTUAL", "PROFESORPRESENCIAL", "RANDOM"})
-    void testCreateProfesorTipo(String tipo) throws EntityNotFoundException {
+    void testCreateProfesorTipo(String tipo) throws EntityNotFoundException, IllegalOperationException {
         ProfesorEntity p1 = factory.manufacturePojo(ProfesorEntity.class);
         ProfesorVirtualEntity p2 = factory.manufacturePojo(ProfesorVirtualEntity.class);
         ProfesorPresencialEntity p3 = factory.manufacturePojo(ProfesorPresencialEntity.class);
@@ -178,6 +186,45 @@ class ProfesorServiceTest {
         }
     }
 
+    /**
+     * El listado trae las columnas de la lista sin dejar profesores en el
+     * contexto de persistencia
+     */
+    @Test
+    void testGetListadoProfesores() {
+        ProfesorVirtualEntity virtual = factory.manufacturePojo(ProfesorVirtualEntity.class);
+        entityManager.persist(virtual);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<ProfesorListado> list = profesorService.getListadoProfesores();
+
+        assertEquals(data.size() + 1, list.size());
+        ProfesorListado listado = list.stream().filter(profesor -> profesor.getId().equals(virtual.getId()))
+                .findFirst().orElseThrow();
+        assertEquals(virtual.getNombre(), listado.getNombre());
+        assertEquals(virtual.getCorreo(), listado.getCorreo());
+        assertEquals(virtual.getPrecioHora(), listado.getPrecioHora());
+        assertEquals(virtual.getCalificaciones().getCantidad(), listado.getCalificaciones().getCantidad());
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void testGetListadoProfesoresPorTipo() throws EntityNotFoundException {
+        ProfesorVirtualEntity virtual = entityManager.persist(factory.manufacturePojo(ProfesorVirtualEntity.class));
+        ProfesorPresencialEntity presencial = entityManager.persist(
+                factory.manufacturePojo(ProfesorPresencialEntity.class));
+
+        List<ProfesorListado> virtuales = profesorService.getListadoProfesoresPorTipo(BASE_PROFESOR_VIRTUAL);
+        List<ProfesorListado> base = profesorService.getListadoProfesoresPorTipo(BASE_PROFESOR);
+
+        assertEquals(List.of(virtual.getId()), virtuales.stream().map(ProfesorListado::getId).toList());
+        assertEquals(BASE_PROFESOR_VIRTUAL, virtuales.get(0).getTipo());
+        assertEquals(data.size(), base.size());
+        assertTrue(base.stream().noneMatch(profesor -> presencial.getId().equals(profesor.getId())));
+        assertThrows(EntityNotFoundException.class, () -> profesorService.getListadoProfesoresPorTipo("RANDOM"));
+    }
+
     @Test
     void testGetProfesor() throws EntityNotFoundException {
         ProfesorEntity entity = factory.manufacturePojo(ProfesorEntity.class);
@@ -191,7 +238,7 @@ class ProfesorServiceTest {
     }
 
     @Test
-    void testUpdateProfesor() throws EntityNotFoundException {
+    void testUpdateProfesor() throws EntityNotFoundException, IllegalOperationException {
         ProfesorEntity entity = factory.manufacturePojo(ProfesorEntity.class);
         entityManager.persist(entity);
         ProfesorEntity result = profesorService.updateProfesor(entity.getId(), entity);
@@ -202,6 +249,40 @@ class ProfesorServiceTest {
         });
     }
 
+    @Test
+    void testPrecioNumerico() {
+        assertEquals(40000.0, ProfesorEntity.precioNumerico("40000"));
+        assertEquals(40000.0, ProfesorEntity.precioNumerico("$40.000"));
+        assertEquals(40000.0, ProfesorEntity.precioNumerico("$ 40,000"));
+        assertEquals(1250000.5, ProfesorEntity.precioNumerico("1.250.000,50"));
+        assertEquals(40000.5, ProfesorEntity.precioNumerico("40,000.5"));
+        assertEquals(40.5, ProfesorEntity.precioNumerico("40.50"));
+        assertNull(ProfesorEntity.precioNumerico("40.000.5"));
+        assertNull(ProfesorEntity.precioNumerico("40.000,000"));
+        assertNull(ProfesorEntity.precioNumerico("1.234,567.00"));
+        assertNull(ProfesorEntity.precioNumerico("cuarenta mil"));
+        assertNull(ProfesorEntity.precioNumerico(null));
+    }
+
+    @Test
+    void testPrecioInvalido() throws EntityNotFoundException, IllegalOperationException {
+        ProfesorEntity entity = factory.manufacturePojo(ProfesorEntity.class);
+        entity.setId(factory.manufacturePojo(Long.class));
+        entity.setPrecioHora("$40.000");
+        ProfesorEntity creado = profesorService.createProfesor(entity, BASE_PROFESOR);
+        entityManager.flush();
+        assertEquals(40000.0, creado.getPrecioHoraNumerico());
+
+        ProfesorEntity cambios = factory.manufacturePojo(ProfesorEntity.class);
+        cambios.setPrecioHora("40 mil");
+        assertThrows(IllegalOperationException.class, () -> profesorService.updateProfesor(creado.getId(), cambios));
+
+        ProfesorEntity otro = factory.manufacturePojo(ProfesorEntity.class);
+        otro.setId(factory.manufacturePojo(Long.class));
+        otro.setPrecioHora("40.000,000");
+        assertThrows(IllegalOperationException.class, () -> profesorService.createProfesor(otro, BASE_PROFESOR));
+    }
+
     @Test
     void testDeleteProfesor() throws EntityNotFoundException {
         ProfesorEntity entity = factory.manufacturePojo(ProfesorEntity.class);
@@ -254,6 +335,20 @@ class ProfesorServiceTest {
         });
     }
 
+    @Test
+    void testGetProfesoresPaginados() {
+        Slice<ProfesorEntity> primera = profesorService.getProfesores(0L, 2);
+        assertEquals(2, primera.getNumberOfElements());
+        assertTrue(primera.hasNext());
+        assertTrue(primera.getContent().get(0).getId() < primera.getContent().get(1).getId());
+
+        Long cursor = primera.getContent().get(1).getId();
+        Slice<ProfesorEntity> segunda = profesorService.getProfesores(cursor, 2);
+        assertEquals(1, segunda.getNumberOfElements());
+        assertFalse(segunda.hasNext());
+        assertTrue(segunda.getContent().get(0).getId() > cursor);
+    }
+
     @Test
     void testGetProfesorPorTematica() {
         ProfesorEntity entity = factory.manufacturePojo(ProfesorEntity.class);
@@ -291,4 +386,60 @@ class ProfesorServiceTest {
         }
 
     }
+
+    @Test
+    void testBuscarProfesores() throws EntityNotFoundException, IllegalOperationException {
+        TematicaEntity tematica = factory.manufacturePojo(TematicaEntity.class);
+        entityManager.persist(tematica);
+
+        ProfesorPresencialEntity barato = factory.manufacturePojo(ProfesorPresencialEntity.class);
+        barato.setPrecioHora("40000");
+        barato.getTematicas().add(tematica);
+        entityManager.persist(barato);
+
+        ProfesorVirtualEntity caro = factory.manufacturePojo(ProfesorVirtualEntity.class);
+        caro.setPrecioHora("90000");
+        caro.getTematicas().add(tematica);
+        entityManager.persist(caro);
+        entityManager.flush();
+
+        BusquedaProfesorDTO filtros = new BusquedaProfesorDTO();
+        filtros.setTematica(tematica.getTema());
+        filtros.setArea(tematica.getArea());
+        Slice<ProfesorEntity> conTematica = profesorService.buscarProfesores(filtros, 0L, 10);
+        assertEquals(2, conTematica.getNumberOfElements());
+
+        filtros.setPrecioMax(50000.0);
+        Slice<ProfesorEntity> baratos = profesorService.buscarProfesores(filtros, 0L, 10);
+        assertEquals(1, baratos.getNumberOfElements());
+        assertEquals(barato.getId(), baratos.getContent().get(0).getId());
+
+        filtros.setPrecioMax(null);
+        filtros.setModalidad("virtual");
+        Slice<ProfesorEntity> virtuales = profesorService.buscarProfesores(filtros, 0L, 10);
+        assertEquals(1, virtuales.getNumberOfElements());
+        assertEquals(caro.getId(), virtuales.getContent().get(0).getId());
+
+        filtros.setModalidad(null);
+        Slice<ProfesorEntity> primera = profesorService.buscarProfesores(filtros, 0L, 1);
+        assertTrue(primera.hasNext());
+        Slice<ProfesorEntity> segunda = profesorService.buscarProfesores(filtros, primera.getContent().get(0).getId(), 1);
+        assertFalse(segunda.hasNext());
+    }
+
+    @Test
+    void testBuscarProfesoresFiltrosInvalidos() {
+        BusquedaProfesorDTO modalidad = new BusquedaProfesorDTO();
+        modalidad.setModalidad("HIBRIDA");
+        assertThrows(IllegalOperationException.class, () -> profesorService.buscarProfesores(modalidad, 0L, 10));
+
+        BusquedaProfesorDTO precio = new BusquedaProfesorDTO();
+        precio.setPrecioMin(10.0);
+        precio.setPrecioMax(5.0);
+        assertThrows(IllegalOperationException.class, () -> profesorService.buscarProfesores(precio, 0L, 10));
+
+        BusquedaProfesorDTO tipo = new BusquedaProfesorDTO();
+        tipo.setTipo("RANDOM");
+        assertThrows(EntityNotFoundException.class, () -> profesorService.buscarProfesores(tipo, 0L, 10));
+    }
 }
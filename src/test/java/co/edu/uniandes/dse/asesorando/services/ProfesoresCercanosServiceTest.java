@@ -0,0 +1,286 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.asesorando.dto.BusquedaCercanosDTO;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorPresencialEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorVirtualEntity;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.services.RejillaGeografica.Cercano;
+import co.edu.uniandes.dse.asesorando.services.RejillaGeografica.Punto;
+import jakarta.transaction.Transactional;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de la búsqueda de profesores presenciales por cercanía
+ *
+ * @author Daniel-VergaraM
+ */
+@DataJpaTest
+@Transactional
+@Import({ ProfesoresCercanosService.class, ProfesorService.class, BusquedaService.class,
+        MejoresProfesoresService.class })
+class ProfesoresCercanosServiceTest {
+
+    // Plaza de Bolívar, Bogotá
+    private static final double LATITUD = 4.5981;
+
+    private static final double LONGITUD = -74.0758;
+
+    // Un grado de latitud son unos 111.2 km
+    private static final double GRADOS_POR_KM = 1 / 111.195;
+
+    @Autowired
+    private ProfesoresCercanosService profesoresCercanosService;
+
+    @Autowired
+    private ProfesorService profesorService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    private TematicaEntity matematicas;
+
+    private ProfesorPresencialEntity aUnKm;
+
+    private ProfesorPresencialEntity aCincoKm;
+
+    private ProfesorPresencialEntity aTreintaKm;
+
+    @BeforeEach
+    void setUp() {
+        matematicas = factory.manufacturePojo(TematicaEntity.class);
+        matematicas.setTema("Cálculo " + System.nanoTime());
+        matematicas.setArea("Matemáticas");
+        entityManager.persist(matematicas);
+
+        aUnKm = presencial(LATITUD + 1 * GRADOS_POR_KM, LONGITUD, "$20000");
+        aCincoKm = presencial(LATITUD - 5 * GRADOS_POR_KM, LONGITUD, "50000");
+        aCincoKm.getTematicas().add(matematicas);
+        aTreintaKm = presencial(LATITUD + 30 * GRADOS_POR_KM, LONGITUD, "$35.000");
+        aTreintaKm.getTematicas().add(matematicas);
+
+        ProfesorVirtualEntity virtual = factory.manufacturePojo(ProfesorVirtualEntity.class);
+        entityManager.persist(virtual);
+
+        entityManager.flush();
+        profesoresCercanosService.reconstruir();
+    }
+
+    private ProfesorPresencialEntity presencial(double latitud, double longitud, String precio) {
+        ProfesorPresencialEntity profesor = factory.manufacturePojo(ProfesorPresencialEntity.class);
+        profesor.setLatitud(latitud);
+        profesor.setLongitud(longitud);
+        profesor.setPrecioHora(precio);
+        entityManager.persist(profesor);
+        return profesor;
+    }
+
+    private static BusquedaCercanosDTO busqueda(Double radioKm, Integer k) {
+        BusquedaCercanosDTO busqueda = new BusquedaCercanosDTO();
+        busqueda.setLatitud(LATITUD);
+        busqueda.setLongitud(LONGITUD);
+        busqueda.setRadioKm(radioKm);
+        busqueda.setK(k);
+        return busqueda;
+    }
+
+    private static List<Long> ids(List<ProfesorCercano> cercanos) {
+        return cercanos.stream().map(cercano -> cercano.profesor().getId()).toList();
+    }
+
+    /**
+     * Con radio devuelve los profesores dentro de él, del más cercano al más
+     * lejano y con su distancia
+     */
+    @Test
+    void buscarPorRadioTest() throws IllegalOperationException {
+        List<ProfesorCercano> cercanos = profesoresCercanosService.buscar(busqueda(10.0, null));
+
+        assertEquals(List.of(aUnKm.getId(), aCincoKm.getId()), ids(cercanos));
+        assertEquals(1, cercanos.get(0).distanciaKm(), 0.01);
+        assertEquals(5, cercanos.get(1).distanciaKm(), 0.01);
+    }
+
+    /**
+     * Con k devuelve los k más cercanos, estén a la distancia que estén
+     */
+    @Test
+    void buscarMasCercanosTest() throws IllegalOperationException {
+        assertEquals(List.of(aUnKm.getId()), ids(profesoresCercanosService.buscar(busqueda(null, 1))));
+        assertEquals(List.of(aUnKm.getId(), aCincoKm.getId(), aTreintaKm.getId()),
+                ids(profesoresCercanosService.buscar(busqueda(null, 3))));
+        assertEquals(List.of(aUnKm.getId(), aCincoKm.getId()),
+                ids(profesoresCercanosService.buscar(busqueda(40.0, 2))));
+    }
+
+    /**
+     * La tematica y el rango de precio se combinan con la cercanía
+     */
+    @Test
+    void buscarConFiltrosTest() throws IllegalOperationException {
+        BusquedaCercanosDTO porTematica = busqueda(null, 5);
+        porTematica.setTematica(matematicas.getTema());
+        assertEquals(List.of(aCincoKm.getId(), aTreintaKm.getId()), ids(profesoresCercanosService.buscar(porTematica)));
+
+        BusquedaCercanosDTO porPrecio = busqueda(50.0, null);
+        porPrecio.setPrecioMin(30000.0);
+        porPrecio.setPrecioMax(40000.0);
+        assertEquals(List.of(aTreintaKm.getId()), ids(profesoresCercanosService.buscar(porPrecio)));
+
+        BusquedaCercanosDTO sinResultados = busqueda(null, 5);
+        sinResultados.setTematica("No existe " + System.nanoTime());
+        assertTrue(profesoresCercanosService.buscar(sinResultados).isEmpty());
+    }
+
+    /**
+     * Se rechazan búsquedas sin coordenadas, sin radio ni k o con valores
+     * fuera de rango
+     */
+    @Test
+    void buscarInvalidaTest() {
+        BusquedaCercanosDTO sinCoordenadas = busqueda(5.0, null);
+        sinCoordenadas.setLatitud(null);
+        BusquedaCercanosDTO latitudInvalida = busqueda(5.0, null);
+        latitudInvalida.setLatitud(91.0);
+        BusquedaCercanosDTO precioInvertido = busqueda(5.0, null);
+        precioInvertido.setPrecioMin(10.0);
+        precioInvertido.setPrecioMax(5.0);
+
+        assertThrows(IllegalOperationException.class, () -> profesoresCercanosService.buscar(sinCoordenadas));
+        assertThrows(IllegalOperationException.class, () -> profesoresCercanosService.buscar(latitudInvalida));
+        assertThrows(IllegalOperationException.class, () -> profesoresCercanosService.buscar(busqueda(null, null)));
+        assertThrows(IllegalOperationException.class, () -> profesoresCercanosService.buscar(busqueda(0.0, null)));
+        assertThrows(IllegalOperationException.class, () -> profesoresCercanosService.buscar(busqueda(null, 101)));
+        assertThrows(IllegalOperationException.class, () -> profesoresCercanosService.buscar(precioInvertido));
+    }
+
+    /**
+     * Los cambios de coordenadas hechos con ProfesorService llegan al índice
+     * cuando se confirma la transacción, no antes
+     */
+    @Test
+    void actualizarCoordenadasTest() throws IllegalOperationException {
+        TransactionTemplate nueva = new TransactionTemplate(transactionManager);
+        nueva.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        // Lejos de los profesores de setUp, que no están confirmados
+        double latitud = -33.4372;
+        double longitud = -70.6506;
+
+        ProfesorPresencialEntity profesor = nueva.execute(estado -> {
+            ProfesorPresencialEntity creado = factory.manufacturePojo(ProfesorPresencialEntity.class);
+            creado.setLatitud(latitud);
+            creado.setLongitud(longitud);
+            entityManager.persist(creado);
+            return creado;
+        });
+        BusquedaCercanosDTO enSantiago = busqueda(1.0, null);
+        enSantiago.setLatitud(latitud);
+        enSantiago.setLongitud(longitud);
+        assertTrue(profesoresCercanosService.buscar(enSantiago).isEmpty());
+
+        ProfesorPresencialEntity cambios = new ProfesorPresencialEntity();
+        cambios.setLatitud(latitud);
+        cambios.setLongitud(longitud);
+        cambios.setPrecioHora(profesor.getPrecioHora());
+        nueva.executeWithoutResult(estado -> actualizar(profesor.getId(), cambios));
+        assertEquals(List.of(profesor.getId()), ids(profesoresCercanosService.buscar(enSantiago)));
+
+        // Una actualización revertida no mueve al profesor
+        cambios.setLatitud(latitud + 1);
+        nueva.executeWithoutResult(estado -> {
+            actualizar(profesor.getId(), cambios);
+            estado.setRollbackOnly();
+        });
+        assertEquals(List.of(profesor.getId()), ids(profesoresCercanosService.buscar(enSantiago)));
+
+        nueva.executeWithoutResult(estado -> actualizar(profesor.getId(), cambios));
+        assertTrue(profesoresCercanosService.buscar(enSantiago).isEmpty());
+
+        nueva.executeWithoutResult(estado -> {
+            try {
+                profesorService.deleteProfesor(profesor.getId());
+            } catch (EntityNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        enSantiago.setRadioKm(500.0);
+        assertTrue(profesoresCercanosService.buscar(enSantiago).isEmpty());
+    }
+
+    private void actualizar(Long id, ProfesorEntity cambios) {
+        try {
+            profesorService.updateProfesor(id, cambios);
+        } catch (EntityNotFoundException | IllegalOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * La rejilla da lo mismo que recorrer todos los puntos, también cerca de
+     * los polos y del antimeridiano
+     */
+    @Test
+    void rejillaIgualARecorridoCompletoTest() {
+        Random aleatorio = new Random(42);
+        RejillaGeografica rejilla = new RejillaGeografica(0.5);
+        List<Punto> puntos = new ArrayList<>();
+        for (long id = 1; id <= 3000; id++) {
+            double latitud = id % 3 == 0 ? 85 + aleatorio.nextDouble() * 5 : aleatorio.nextDouble() * 40 - 20;
+            double longitud = id % 5 == 0 ? 179 + aleatorio.nextDouble() * 2 : aleatorio.nextDouble() * 60 - 30;
+            Punto punto = new Punto(id, latitud, longitud > 180 ? longitud - 360 : longitud, (double) (id % 100),
+                    Set.of(id % 7));
+            puntos.add(punto);
+            rejilla.poner(punto);
+        }
+        Predicate<Punto> filtro = punto -> punto.tematicas().contains(3L);
+        double[][] origenes = { { 0, 0 }, { 88, 100 }, { 10, 179.9 }, { -15, -179.5 }, { 89.99, 0 } };
+        for (double[] origen : origenes) {
+            for (double radio : new double[] { 10, 300, 3000 }) {
+                assertEquals(recorrido(puntos, origen, filtro, Double.MAX_VALUE).stream()
+                        .filter(cercano -> cercano.distanciaKm() <= radio).toList(),
+                        rejilla.enRadio(origen[0], origen[1], radio, filtro));
+            }
+            for (int k : new int[] { 1, 10, 200 }) {
+                assertEquals(recorrido(puntos, origen, filtro, k), rejilla.masCercanos(origen[0], origen[1], k, filtro));
+            }
+        }
+    }
+
+    private static List<Cercano> recorrido(List<Punto> puntos, double[] origen, Predicate<Punto> filtro, double k) {
+        return puntos.stream().filter(filtro)
+                .map(punto -> new Cercano(punto,
+                        RejillaGeografica.distanciaKm(origen[0], origen[1], punto.latitud(), punto.longitud())))
+                .sorted(Comparator.comparingDouble(Cercano::distanciaKm)
+                        .thenComparing(cercano -> cercano.punto().id()))
+                .limit((long) Math.min(k, Long.MAX_VALUE)).toList();
+    }
+}
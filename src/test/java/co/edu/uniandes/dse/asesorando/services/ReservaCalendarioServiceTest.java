@@ -28,7 +28,7 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 
 @DataJpaTest
 @Transactional
-@Import(ReservaCalendarioService.class)
+@Import({ ReservaCalendarioService.class, DisponibilidadService.class, BloqueosPorCalendario.class })
 class ReservaCalendarioServiceTest {
 
     @Autowired
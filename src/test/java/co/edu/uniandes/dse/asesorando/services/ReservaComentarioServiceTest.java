@@ -24,7 +24,8 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 
 @DataJpaTest
 @Transactional
-@Import(ReservaComentarioService.class)
+@Import({ ReservaComentarioService.class, DisponibilidadService.class, CalificacionesService.class,
+        MejoresProfesoresService.class, VersionesColecciones.class })
 class ReservaComentarioServiceTest {
 
     @Autowired
@@ -0,0 +1,237 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.asesorando.config.ReintentosConfig;
+import co.edu.uniandes.dse.asesorando.dto.ReservaDTO;
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
+import co.edu.uniandes.dse.asesorando.repositories.ReservaRepository;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de reservas hechas al mismo tiempo desde varios hilos. Cada llamada
+ * corre en su propia transacción, como en la aplicación.
+ *
+ * @author Daniel-VergaraM
+ */
+@DataJpaTest
+// @DataJpaTest abre una transacción por prueba; aquí se desactiva
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({ ReservaService.class, ReservaCalendarioService.class, DisponibilidadService.class,
+        BloqueosPorCalendario.class, ReintentosConfig.class, BandejaSalidaService.class,
+        MejoresProfesoresService.class })
+class ReservaConcurrenciaTest {
+
+    private static final int HILOS = 8;
+
+    private static final LocalDateTime INICIO = LocalDateTime.of(2031, 5, 5, 8, 0);
+
+    @Autowired
+    private ReservaService reservaService;
+
+    @Autowired
+    private ReservaCalendarioService reservaCalendarioService;
+
+    @Autowired
+    private BloqueosPorCalendario bloqueosPorCalendario;
+
+    @Autowired
+    private ReservaRepository reservaRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    private TransactionTemplate transaccion;
+
+    private EstudianteEntity estudiante;
+
+    private ProfesorEntity profesor;
+
+    private CalendarioEntity calendario;
+
+    @BeforeEach
+    void setUp() {
+        transaccion = new TransactionTemplate(transactionManager);
+        estudiante = factory.manufacturePojo(EstudianteEntity.class);
+        profesor = factory.manufacturePojo(ProfesorEntity.class);
+        calendario = factory.manufacturePojo(CalendarioEntity.class);
+        transaccion.executeWithoutResult(estado -> {
+            entityManager.persist(estudiante);
+            entityManager.persist(profesor);
+            entityManager.persist(calendario);
+        });
+    }
+
+    private AsesoriaEntity nuevaAsesoria() {
+        AsesoriaEntity asesoria = factory.manufacturePojo(AsesoriaEntity.class);
+        asesoria.setDuracion("60");
+        asesoria.setProfesor(profesor);
+        asesoria.setCalendario(calendario);
+        transaccion.executeWithoutResult(estado -> entityManager.persist(asesoria));
+        return asesoria;
+    }
+
+    private ReservaDTO nuevaReserva(AsesoriaEntity asesoria, LocalDateTime fecha) {
+        ReservaDTO dto = new ReservaDTO();
+        dto.setFechaReserva(fecha);
+        dto.setEstudianteId(estudiante.getId());
+        dto.setAsesoriaId(asesoria.getId());
+        return dto;
+    }
+
+    private <T> List<Future<T>> enParalelo(List<Callable<T>> tareas) throws InterruptedException {
+        ExecutorService hilos = Executors.newFixedThreadPool(tareas.size());
+        CountDownLatch salida = new CountDownLatch(1);
+        try {
+            List<Future<T>> resultados = new ArrayList<>();
+            for (Callable<T> tarea : tareas) {
+                resultados.add(hilos.submit(() -> {
+                    salida.await();
+                    return tarea.call();
+                }));
+            }
+            salida.countDown();
+            return resultados;
+        } finally {
+            hilos.shutdown();
+        }
+    }
+
+    /**
+     * Si otra transacción cambia la reserva después de leerla, la que la leyó
+     * primero no puede sobrescribirla
+     */
+    @Test
+    void actualizarReservaConVersionVencidaTest() throws Exception {
+        AsesoriaEntity asesoria = nuevaAsesoria();
+        ReservaEntity reserva = reservaService.crearReserva(nuevaReserva(asesoria, INICIO));
+        assertEquals(0L, reserva.getVersion());
+
+        TransactionTemplate otra = new TransactionTemplate(transactionManager);
+        otra.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> transaccion.executeWithoutResult(estado -> {
+            entityManager.find(ReservaEntity.class, reserva.getId()).setEstado("Completada");
+            otra.executeWithoutResult(
+                    estadoOtra -> entityManager.find(ReservaEntity.class, reserva.getId()).setCancelada(true));
+        }));
+
+        ReservaEntity guardada = transaccion.execute(estado -> entityManager.find(ReservaEntity.class, reserva.getId()));
+        assertEquals(1L, guardada.getVersion());
+        assertTrue(guardada.getCancelada());
+        assertEquals("noCompletada", guardada.getEstado());
+    }
+
+    /**
+     * Si varios estudiantes reservan la misma asesoría a la vez, solo uno lo
+     * consigue y los demás reciben IllegalOperationException
+     */
+    @Test
+    void reservasSimultaneasMismaAsesoriaTest() throws Exception {
+        AsesoriaEntity asesoria = nuevaAsesoria();
+        List<Callable<ReservaEntity>> tareas = new ArrayList<>();
+        for (int i = 0; i < HILOS; i++) {
+            LocalDateTime fecha = INICIO.plusDays(10 + i);
+            tareas.add(() -> reservaService.crearReserva(nuevaReserva(asesoria, fecha)));
+        }
+
+        int exitosas = 0;
+        for (Future<ReservaEntity> resultado : enParalelo(tareas)) {
+            try {
+                resultado.get();
+                exitosas++;
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalOperationException, e.getCause().toString());
+            }
+        }
+
+        assertEquals(1, exitosas);
+        assertEquals(Boolean.TRUE, transaccion.execute(estado -> reservaRepository.existsByAsesoriaId(asesoria.getId())));
+    }
+
+    /**
+     * Reservas simultáneas en horarios distintos del mismo calendario se
+     * confirman todas, una detrás de otra, sin choques de versión
+     */
+    @Test
+    void reservasSimultaneasMismoCalendarioTest() throws Exception {
+        List<Long> reservas = new ArrayList<>();
+        for (int i = 0; i < HILOS; i++) {
+            ReservaEntity reserva = factory.manufacturePojo(ReservaEntity.class);
+            reserva.setId(null);
+            reserva.setCancelada(false);
+            reserva.setFechaReserva(INICIO.plusDays(30).plusHours(i));
+            transaccion.executeWithoutResult(estado -> entityManager.persist(reserva));
+            reservas.add(reserva.getId());
+        }
+        Long versionInicial = calendario.getVersion();
+
+        List<Callable<ReservaEntity>> tareas = new ArrayList<>();
+        for (Long reservaId : reservas) {
+            tareas.add(() -> reservaCalendarioService.asociarReservaACalendario(reservaId, calendario.getId()));
+        }
+        for (Future<ReservaEntity> resultado : enParalelo(tareas)) {
+            assertEquals(calendario.getId(), resultado.get().getCalendario().getId());
+        }
+
+        CalendarioEntity guardado = transaccion.execute(estado -> entityManager.find(CalendarioEntity.class, calendario.getId()));
+        assertEquals(versionInicial + HILOS, guardado.getVersion());
+    }
+
+    /**
+     * El candado de un calendario se toma dentro de la transacción y se suelta
+     * al terminarla
+     */
+    @Test
+    void candadoSeSueltaAlTerminarTransaccionTest() {
+        Long calendarioId = calendario.getId();
+
+        transaccion.executeWithoutResult(estado -> {
+            bloqueosPorCalendario.bloquearHastaTerminar(calendarioId);
+            assertTrue(bloqueosPorCalendario.candadoDe(calendarioId).isHeldByCurrentThread());
+        });
+
+        assertFalse(bloqueosPorCalendario.candadoDe(calendarioId).isLocked());
+        assertSame(bloqueosPorCalendario.candadoDe(calendarioId), bloqueosPorCalendario.candadoDe(calendarioId));
+        assertEquals(0, Integer.bitCount(bloqueosPorCalendario.cantidad()) - 1);
+        assertThrows(IllegalStateException.class, () -> bloqueosPorCalendario.bloquearHastaTerminar(calendarioId));
+    }
+}
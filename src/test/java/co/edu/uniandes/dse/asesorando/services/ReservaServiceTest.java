@@ -1,10 +1,16 @@
 package co.edu.uniandes.dse.asesorando.services;
 
+import java.io.IOException;
+import java.io.StringWriter;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,8 +21,10 @@ import org.springframework.context.annotation.Import;
 import co.edu.uniandes.dse.asesorando.dto.ReservaDTO;
 import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
 import co.edu.uniandes.dse.asesorando.entities.EstudianteEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
 import co.edu.uniandes.dse.asesorando.entities.ReservaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.exceptions.IllegalOperationException;
 import co.edu.uniandes.dse.asesorando.repositories.ReservaRepository;
 import jakarta.transaction.Transactional;
 import uk.co.jemos.podam.api.PodamFactory;
@@ -24,7 +32,8 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
 
 @DataJpaTest
 @Transactional
-@Import(ReservaService.class)
+@Import({ ReservaService.class, DisponibilidadService.class, BloqueosPorCalendario.class, BandejaSalidaService.class,
+        MejoresProfesoresService.class })
 class ReservaServiceTest {
 
     @Autowired
@@ -53,7 +62,7 @@ class ReservaServiceTest {
     }
 
     @Test
-    void testCrearReserva() throws EntityNotFoundException {
+    void testCrearReserva() throws EntityNotFoundException, IllegalOperationException {
         LocalDateTime fecha = LocalDateTime.now();
 
         ReservaDTO dto = new ReservaDTO();
@@ -71,7 +80,7 @@ class ReservaServiceTest {
 
 
     @Test
-    void testListarReservas() throws EntityNotFoundException {
+    void testListarReservas() throws EntityNotFoundException, IllegalOperationException {
         LocalDateTime fecha = LocalDateTime.now();
 
         ReservaDTO dto = new ReservaDTO();
@@ -86,7 +95,7 @@ class ReservaServiceTest {
     }
 
     @Test
-    void testActualizarReserva() throws EntityNotFoundException {
+    void testActualizarReserva() throws EntityNotFoundException, IllegalOperationException {
         LocalDateTime fecha = LocalDateTime.now();
 
         ReservaDTO dto = new ReservaDTO();
@@ -112,7 +121,7 @@ class ReservaServiceTest {
     }
 
     @Test
-    void testEliminarReserva() throws EntityNotFoundException {
+    void testEliminarReserva() throws EntityNotFoundException, IllegalOperationException {
         LocalDateTime fecha = LocalDateTime.now();
 
         ReservaDTO dto = new ReservaDTO();
@@ -127,7 +136,7 @@ class ReservaServiceTest {
     }
 
     @Test
-    void testGetReserva_Exito() throws EntityNotFoundException {
+    void testGetReserva_Exito() throws EntityNotFoundException, IllegalOperationException {
         LocalDateTime fecha = LocalDateTime.now();
 
         ReservaDTO dto = new ReservaDTO();
@@ -160,7 +169,7 @@ class ReservaServiceTest {
     }
 
     @Test
-    void testActualizarReserva_Fallo_FechaNula() throws EntityNotFoundException {
+    void testActualizarReserva_Fallo_FechaNula() throws EntityNotFoundException, IllegalOperationException {
         LocalDateTime fecha = LocalDateTime.now();
 
         ReservaDTO dto = new ReservaDTO();
@@ -180,7 +189,7 @@ class ReservaServiceTest {
     }
 
     @Test
-    void testActualizarReserva_Fallo_EstudianteNulo() throws EntityNotFoundException {
+    void testActualizarReserva_Fallo_EstudianteNulo() throws EntityNotFoundException, IllegalOperationException {
         LocalDateTime fecha = LocalDateTime.now();
 
         ReservaDTO dto = new ReservaDTO();
@@ -197,7 +206,7 @@ class ReservaServiceTest {
     }
 
     @Test
-    void testActualizarReserva_Fallo_AsesoriaNula() throws EntityNotFoundException {
+    void testActualizarReserva_Fallo_AsesoriaNula() throws EntityNotFoundException, IllegalOperationException {
         LocalDateTime fecha = LocalDateTime.now();
 
         ReservaDTO dto = new ReservaDTO();
@@ -213,6 +222,28 @@ class ReservaServiceTest {
         assertThrows(EntityNotFoundException.class, () -> reservaService.updateReserva(reserva.getId(), LocalDateTime.now(), nuevoEstudiante, null));
     }
 
+    @Test
+    void testActualizarReserva_AsesoriaYaReservada() throws EntityNotFoundException, IllegalOperationException {
+        AsesoriaEntity otraAsesoria = nuevaAsesoria(null);
+        reservaService.crearReserva(reservaDTO(LocalDateTime.now(), estudiante.getId(), otraAsesoria.getId()));
+        ReservaEntity reserva = reservaService.crearReserva(
+                reservaDTO(LocalDateTime.now().plusDays(1), estudiante.getId(), asesoria.getId()));
+
+        assertThrows(IllegalOperationException.class, () -> reservaService.updateReserva(reserva.getId(),
+                LocalDateTime.now().plusDays(2), estudiante, otraAsesoria));
+    }
+
+    @Test
+    void testActualizarReserva_AsesoriaNoExistente() throws EntityNotFoundException, IllegalOperationException {
+        ReservaEntity reserva = reservaService.crearReserva(
+                reservaDTO(LocalDateTime.now(), estudiante.getId(), asesoria.getId()));
+        AsesoriaEntity inexistente = new AsesoriaEntity();
+        inexistente.setId(Long.MAX_VALUE);
+
+        assertThrows(EntityNotFoundException.class, () -> reservaService.updateReserva(reserva.getId(),
+                LocalDateTime.now().plusDays(1), estudiante, inexistente));
+    }
+
     @Test
     void testActualizarReserva_NoExistente() {
         EstudianteEntity nuevoEstudiante = factory.manufacturePojo(EstudianteEntity.class);
@@ -223,4 +254,151 @@ class ReservaServiceTest {
 
         assertThrows(EntityNotFoundException.class, () -> reservaService.updateReserva(Long.MAX_VALUE, LocalDateTime.now(), nuevoEstudiante, nuevaAsesoria));
     }
+
+    @Test
+    void testExportarReservasCsv() throws IllegalOperationException, IOException {
+        LocalDateTime inicio = LocalDateTime.of(2024, 3, 1, 8, 0);
+        ReservaEntity primera = reserva(inicio, "completada", estudiante);
+        ReservaEntity segunda = reserva(inicio.plusDays(1), "con, \"comillas\"", null);
+        reserva(inicio.plusDays(2), "completada", estudiante);
+        entityManager.flush();
+        entityManager.clear();
+
+        StringWriter csv = new StringWriter();
+        long escritas = reservaService.exportarReservas(inicio, inicio.plusDays(2), null, FormatoExportacion.CSV, csv);
+
+        assertEquals(2, escritas);
+        assertEquals("id,fechaReserva,cancelada,estado,estudianteId,asesoriaId\r\n"
+                + primera.getId() + ",2024-03-01T08:00:00,false,completada," + estudiante.getId() + ",\r\n"
+                + segunda.getId() + ",2024-03-02T08:00:00,false,\"con, \"\"comillas\"\"\",,\r\n", csv.toString());
+        // Las filas se leen sin cargar entidades en el contexto de persistencia
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void testExportarReservasNdjson() throws IllegalOperationException, IOException {
+        LocalDateTime inicio = LocalDateTime.of(2024, 3, 1, 8, 0);
+        ReservaEntity completada = reserva(inicio, "completada", estudiante);
+        reserva(inicio, "noCompletada", estudiante);
+
+        StringWriter ndjson = new StringWriter();
+        reservaService.exportarReservas(null, null, "completada", FormatoExportacion.NDJSON, ndjson);
+
+        assertEquals("{\"id\":" + completada.getId() + ",\"fechaReserva\":\"2024-03-01T08:00:00\",\"cancelada\":false,"
+                + "\"estado\":\"completada\",\"estudianteId\":" + estudiante.getId() + ",\"asesoriaId\":null}\n",
+                ndjson.toString());
+    }
+
+    @Test
+    void testExportarReservas_FechasInvalidas() {
+        LocalDateTime fecha = LocalDateTime.now();
+
+        assertThrows(IllegalOperationException.class, () -> reservaService.exportarReservas(fecha, fecha, null,
+                FormatoExportacion.CSV, new StringWriter()));
+        assertThrows(IllegalOperationException.class, () -> FormatoExportacion.de("xml"));
+    }
+
+    private ReservaEntity reserva(LocalDateTime fecha, String estado, EstudianteEntity estudianteReserva) {
+        ReservaEntity reserva = new ReservaEntity();
+        reserva.setFechaReserva(fecha);
+        reserva.setEstado(estado);
+        reserva.setEstudiante(estudianteReserva);
+        return entityManager.persist(reserva);
+    }
+
+    private ReservaDTO reservaDTO(LocalDateTime fecha, Long estudianteId, Long asesoriaId) {
+        ReservaDTO dto = new ReservaDTO();
+        dto.setFechaReserva(fecha);
+        dto.setEstudianteId(estudianteId);
+        dto.setAsesoriaId(asesoriaId);
+        return dto;
+    }
+
+    private AsesoriaEntity nuevaAsesoria(ProfesorEntity profesor) {
+        AsesoriaEntity nueva = factory.manufacturePojo(AsesoriaEntity.class);
+        nueva.setDuracion("60");
+        nueva.setProfesor(profesor);
+        entityManager.persist(nueva);
+        return nueva;
+    }
+
+    @Test
+    void testCrearReservasEnLote() throws IllegalOperationException {
+        LocalDateTime fecha = LocalDateTime.of(2032, 1, 12, 9, 0);
+        ProfesorEntity profesor = factory.manufacturePojo(ProfesorEntity.class);
+        entityManager.persist(profesor);
+        AsesoriaEntity primera = nuevaAsesoria(profesor);
+        AsesoriaEntity cruzada = nuevaAsesoria(profesor);
+        AsesoriaEntity otra = nuevaAsesoria(null);
+
+        List<ReservaDTO> lote = List.of(
+                reservaDTO(fecha, estudiante.getId(), primera.getId()),
+                reservaDTO(fecha, Long.MAX_VALUE, otra.getId()),
+                reservaDTO(fecha, estudiante.getId(), Long.MAX_VALUE),
+                reservaDTO(fecha.plusDays(1), estudiante.getId(), primera.getId()),
+                reservaDTO(fecha.plusMinutes(30), estudiante.getId(), cruzada.getId()),
+                reservaDTO(fecha, estudiante.getId(), otra.getId()),
+                reservaDTO(fecha, null, null));
+
+        ResultadoLote<ReservaEntity> resultado = reservaService.crearReservas(lote);
+
+        assertEquals(2, resultado.creados().size());
+        assertEquals(primera.getId(), resultado.creados().get(0).getAsesoria().getId());
+        assertEquals(otra.getId(), resultado.creados().get(1).getAsesoria().getId());
+        resultado.creados().forEach(reserva -> assertNotNull(reserva.getId()));
+        assertEquals(List.of(1, 2, 3, 4, 6), new ArrayList<>(resultado.errores().keySet()));
+        assertEquals("Estudiante no encontrado", resultado.errores().get(1));
+        assertEquals("Asesoria no encontrada", resultado.errores().get(2));
+        assertEquals("La asesoría ya está reservada", resultado.errores().get(3));
+        assertTrue(resultado.errores().get(4).contains("se cruza"));
+        assertEquals(2, reservaRepository.count());
+    }
+
+    @Test
+    void testCrearReservasEnLote_AsesoriaYaReservada() throws EntityNotFoundException, IllegalOperationException {
+        reservaService.crearReserva(reservaDTO(LocalDateTime.now(), estudiante.getId(), asesoria.getId()));
+
+        ResultadoLote<ReservaEntity> resultado = reservaService.crearReservas(
+                List.of(reservaDTO(LocalDateTime.now().plusDays(3), estudiante.getId(), asesoria.getId())));
+
+        assertTrue(resultado.creados().isEmpty());
+        assertEquals("La asesoría ya está reservada", resultado.errores().get(0));
+    }
+
+    @Test
+    void testCrearReservasEnLote_ConsultasFijas() throws IllegalOperationException {
+        List<ReservaDTO> lote = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            EstudianteEntity otroEstudiante = factory.manufacturePojo(EstudianteEntity.class);
+            entityManager.persist(otroEstudiante);
+            AsesoriaEntity otraAsesoria = nuevaAsesoria(null);
+            lote.add(reservaDTO(LocalDateTime.now().plusHours(i), otroEstudiante.getId(), otraAsesoria.getId()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+        Statistics estadisticas = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+
+        ResultadoLote<ReservaEntity> resultado = reservaService.crearReservas(lote);
+        entityManager.flush();
+
+        assertEquals(40, resultado.creados().size());
+        // estudiantes, asesorias y asesorias ya reservadas, sin importar el tamaño del lote
+        assertEquals(3, estadisticas.getQueryExecutionCount());
+        assertEquals(40, estadisticas.getEntityInsertCount());
+        // Los ids salen de la secuencia por bloques, así que los 40 INSERT van en lotes JDBC
+        assertTrue(estadisticas.getPrepareStatementCount() < 10,
+                "sentencias preparadas: " + estadisticas.getPrepareStatementCount());
+    }
+
+    @Test
+    void testCrearReservasEnLote_DemasiadoGrande() {
+        List<ReservaDTO> lote = new ArrayList<>();
+        for (int i = 0; i <= ReservaService.MAXIMO_POR_LOTE; i++) {
+            lote.add(new ReservaDTO());
+        }
+
+        assertThrows(IllegalOperationException.class, () -> reservaService.crearReservas(lote));
+    }
 }
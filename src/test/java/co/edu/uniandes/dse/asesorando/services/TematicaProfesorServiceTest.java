@@ -31,6 +31,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -38,6 +40,8 @@ import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
+import co.edu.uniandes.dse.asesorando.entities.AsesoriaEntity;
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
 import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
 import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
@@ -52,7 +56,7 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
  */
 @DataJpaTest
 @Transactional
-@Import(TematicaProfesorService.class)
+@Import({ TematicaProfesorService.class, ProfesoresCercanosService.class })
 class TematicaProfesorServiceTest {
 
     @Autowired
@@ -387,4 +391,41 @@ class TematicaProfesorServiceTest {
             service.getTematicaDeProfesor(factory.manufacturePojo(Long.class), profesor.getId());
         });
     }
+
+    @Test
+    void getProfesoresDeTematicaConsultasConstantesTest() throws EntityNotFoundException {
+        TematicaEntity tematica = tematicas.get(0);
+        for (int i = 0; i < 6; i++) {
+            ProfesorEntity profesor = factory.manufacturePojo(ProfesorEntity.class);
+            entityManager.persist(profesor);
+            CalendarioEntity calendario = factory.manufacturePojo(CalendarioEntity.class);
+            calendario.setProfesor(profesor);
+            entityManager.persist(calendario);
+            AsesoriaEntity asesoria = factory.manufacturePojo(AsesoriaEntity.class);
+            asesoria.setProfesor(profesor);
+            asesoria.setCalendario(calendario);
+            entityManager.persist(asesoria);
+            profesor.getTematicas().add(tematica);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics estadisticas = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        estadisticas.setStatisticsEnabled(true);
+        estadisticas.clear();
+
+        List<ProfesorEntity> result = service.getProfesoresDeTematica(tematica.getId());
+        for (ProfesorEntity profesor : result) {
+            assertEquals(1, profesor.getTematicas().size());
+            assertEquals(1, profesor.getAsesorias().size());
+            assertEquals(1, profesor.getCalendario().size());
+            assertNotNull(profesor.getAsesorias().get(0).getCalendario().getFechaInicio());
+        }
+        long consultas = estadisticas.getPrepareStatementCount();
+        estadisticas.setStatisticsEnabled(false);
+
+        assertEquals(6, result.size());
+        assertTrue(consultas <= 5, "Se ejecutaron " + consultas + " consultas");
+    }
 }
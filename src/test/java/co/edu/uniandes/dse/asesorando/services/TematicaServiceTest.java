@@ -36,6 +36,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Slice;
 
 import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
@@ -50,7 +51,7 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
  */
 @DataJpaTest
 @Transactional
-@Import(TematicaService.class)
+@Import({ TematicaService.class, BusquedaService.class })
 class TematicaServiceTest {
 
     @Autowired
@@ -163,4 +164,16 @@ class TematicaServiceTest {
             tematicaService.deleteTematica(entity.getId());
         });
     }
+
+    @Test
+    void testGetTematicasPaginadas() {
+        Slice<TematicaEntity> primera = tematicaService.getTematicas(0L, 2);
+        assertEquals(2, primera.getNumberOfElements());
+        assertEquals(true, primera.hasNext());
+
+        Long cursor = primera.getContent().get(1).getId();
+        Slice<TematicaEntity> segunda = tematicaService.getTematicas(cursor, 2);
+        assertEquals(1, segunda.getNumberOfElements());
+        assertEquals(false, segunda.hasNext());
+    }
 }
@@ -51,7 +51,7 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
  */
 @DataJpaTest
 @Transactional
-@Import(UsuarioAsesoriaService.class)
+@Import({ UsuarioAsesoriaService.class, MejoresProfesoresService.class })
 class UsuarioAsesoriaServiceTest {
 
     @Autowired
@@ -26,10 +26,12 @@ package co.edu.uniandes.dse.asesorando.services;
 import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -45,6 +47,7 @@ import co.edu.uniandes.dse.asesorando.entities.ProfesorPresencialEntity;
 import co.edu.uniandes.dse.asesorando.entities.ProfesorVirtualEntity;
 import co.edu.uniandes.dse.asesorando.entities.UsuarioEntity;
 import co.edu.uniandes.dse.asesorando.exceptions.EntityNotFoundException;
+import co.edu.uniandes.dse.asesorando.repositories.UsuarioRepository.UsuarioListado;
 import jakarta.transaction.Transactional;
 import uk.co.jemos.podam.api.PodamFactory;
 import uk.co.jemos.podam.api.PodamFactoryImpl;
@@ -56,7 +59,7 @@ import uk.co.jemos.podam.api.PodamFactoryImpl;
  */
 @DataJpaTest
 @Transactional
-@Import(UsuarioService.class)
+@Import({ UsuarioService.class, BusquedaService.class })
 class UsuarioServiceTest {
 
     @Autowired
@@ -122,6 +125,41 @@ class UsuarioServiceTest {
 
     }
 
+    @Test
+    void testGetListadoUsuarios() {
+        entityManager.flush();
+        entityManager.clear();
+
+        List<UsuarioListado> list = usuarioService.obtenerListadoUsuarios();
+
+        for (UsuarioEntity entity : data) {
+            UsuarioListado listado = list.stream().filter(usuario -> usuario.getId().equals(entity.getId()))
+                    .findFirst().orElseThrow();
+            assertEquals(entity.getNombre(), listado.getNombre());
+            assertEquals(entity.getTipo(), listado.getTipo());
+        }
+        assertEquals(0, entityManager.getEntityManager().unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void testGetListadoUsuariosPorTipo() {
+        UsuarioEntity estudiante = factory.manufacturePojo(UsuarioEntity.class);
+        estudiante.setTipo("ESTUDIANTE");
+        entityManager.persist(estudiante);
+        EstudianteEntity subclase = entityManager.persist(factory.manufacturePojo(EstudianteEntity.class));
+        UsuarioEntity profesor = factory.manufacturePojo(UsuarioEntity.class);
+        profesor.setTipo("PROFESOR");
+        entityManager.persist(profesor);
+
+        List<UsuarioListado> list = usuarioService.obtenerListadoUsuariosPorTipo(estudiante.getTipo());
+
+        assertTrue(list.stream().allMatch(usuario -> estudiante.getTipo().equals(usuario.getTipo())));
+        assertTrue(list.stream().anyMatch(usuario -> estudiante.getId().equals(usuario.getId())));
+        assertTrue(list.stream().anyMatch(usuario -> subclase.getId().equals(usuario.getId())));
+        assertTrue(list.stream().noneMatch(usuario -> profesor.getId().equals(usuario.getId())));
+        assertThrows(IllegalArgumentException.class, () -> usuarioService.obtenerListadoUsuariosPorTipo("RANDOM"));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"PROFESOR", "PROFESORVIRTUAL", "PROFESORPRESENCIAL", "ESTUDIANTE", "RANDOM"})
     void testGetUsuariosPorTipo(String tipo) {
@@ -0,0 +1,137 @@
+package co.edu.uniandes.dse.asesorando.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import co.edu.uniandes.dse.asesorando.entities.CalendarioEntity;
+import co.edu.uniandes.dse.asesorando.entities.ProfesorEntity;
+import co.edu.uniandes.dse.asesorando.entities.TematicaEntity;
+import co.edu.uniandes.dse.asesorando.repositories.VersionColeccionRepository;
+import jakarta.transaction.Transactional;
+import uk.co.jemos.podam.api.PodamFactory;
+import uk.co.jemos.podam.api.PodamFactoryImpl;
+
+/**
+ * Pruebas de los ETag por colección
+ *
+ * @author Daniel-VergaraM
+ */
+@DataJpaTest
+@Transactional
+@Import(VersionesColecciones.class)
+class VersionesColeccionesTest {
+
+    @Autowired
+    private VersionesColecciones versionesColecciones;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private VersionColeccionRepository versionColeccionRepository;
+
+    private final PodamFactory factory = new PodamFactoryImpl();
+
+    private TransactionTemplate nueva;
+
+    @BeforeEach
+    void setUp() {
+        nueva = new TransactionTemplate(transactionManager);
+        nueva.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        nueva.executeWithoutResult(estado -> versionesColecciones.inicializar());
+    }
+
+    /**
+     * El ETag cambia cuando se confirma un cambio, no antes ni si se revierte
+     */
+    @Test
+    void cambiaAlConfirmarTest() {
+        String inicial = versionesColecciones.etag(TematicaEntity.class);
+
+        TematicaEntity tematica = nueva.execute(estado -> {
+            TematicaEntity nuevaTematica = entityManager.persist(factory.manufacturePojo(TematicaEntity.class));
+            entityManager.flush();
+            assertEquals(inicial, versionesColecciones.etag(TematicaEntity.class));
+            return nuevaTematica;
+        });
+        String creada = versionesColecciones.etag(TematicaEntity.class);
+        assertNotEquals(inicial, creada);
+
+        nueva.executeWithoutResult(estado -> {
+            entityManager.find(TematicaEntity.class, tematica.getId()).setTema("Otro tema");
+            entityManager.flush();
+            estado.setRollbackOnly();
+        });
+        assertEquals(creada, versionesColecciones.etag(TematicaEntity.class));
+
+        nueva.executeWithoutResult(estado -> entityManager.remove(entityManager.find(TematicaEntity.class,
+                tematica.getId())));
+        assertNotEquals(creada, versionesColecciones.etag(TematicaEntity.class));
+    }
+
+    /**
+     * Un cambio a una colección no cambia el ETag de las demás
+     */
+    @Test
+    void porColeccionTest() {
+        String tematicas = versionesColecciones.etag(TematicaEntity.class);
+        String calendarios = versionesColecciones.etag(CalendarioEntity.class, ProfesorEntity.class);
+
+        ProfesorEntity profesor = nueva.execute(estado -> entityManager.persist(
+                factory.manufacturePojo(ProfesorEntity.class)));
+
+        assertEquals(tematicas, versionesColecciones.etag(TematicaEntity.class));
+        String conProfesor = versionesColecciones.etag(CalendarioEntity.class, ProfesorEntity.class);
+        assertNotEquals(calendarios, conProfesor);
+
+        // Las actualizaciones masivas se registran a mano
+        nueva.executeWithoutResult(estado -> {
+            entityManager.getEntityManager().createQuery("update ProfesorEntity p set p.nombre = 'Otro' where p.id = :id")
+                    .setParameter("id", profesor.getId()).executeUpdate();
+            versionesColecciones.cambio(ProfesorEntity.class);
+        });
+        assertNotEquals(conProfesor, versionesColecciones.etag(CalendarioEntity.class, ProfesorEntity.class));
+    }
+
+    /**
+     * Las versiones están en la base de datos, así que un cambio confirmado
+     * por otra instancia también cambia el ETag de esta
+     */
+    @Test
+    void otraInstanciaTest() {
+        String inicial = versionesColecciones.etag(TematicaEntity.class, ProfesorEntity.class);
+        assertNotNull(inicial);
+
+        // Lo que hace otra instancia al confirmar un cambio a las tematicas
+        nueva.executeWithoutResult(estado -> versionColeccionRepository.incrementar(List.of("TematicaEntity")));
+
+        assertNotEquals(inicial, versionesColecciones.etag(TematicaEntity.class, ProfesorEntity.class));
+    }
+
+    @Test
+    void cambioSinTransaccionTest() {
+        TransactionTemplate sinTransaccion = new TransactionTemplate(transactionManager,
+                new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_NOT_SUPPORTED));
+
+        assertThrows(IllegalStateException.class, () -> sinTransaccion
+                .executeWithoutResult(estado -> versionesColecciones.cambio(ProfesorEntity.class)));
+    }
+}